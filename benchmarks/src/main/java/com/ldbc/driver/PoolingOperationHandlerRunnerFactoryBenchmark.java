@@ -0,0 +1,75 @@
+package com.ldbc.driver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claiming an operation handler runner from the pool and releasing it back, against instantiating a new one.
+ * Scores are per claim & release.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class PoolingOperationHandlerRunnerFactoryBenchmark
+{
+    private OperationHandlerRunnerFactory poolingOperationHandlerRunnerFactory;
+    private OperationHandlerRunnerFactory instantiatingOperationHandlerRunnerFactory;
+
+    @Setup
+    public void setup()
+    {
+        poolingOperationHandlerRunnerFactory =
+                new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        instantiatingOperationHandlerRunnerFactory = new InstantiatingOperationHandlerRunnerFactory();
+    }
+
+    @TearDown
+    public void tearDown() throws OperationException
+    {
+        poolingOperationHandlerRunnerFactory.shutdown();
+        instantiatingOperationHandlerRunnerFactory.shutdown();
+    }
+
+    private static OperationHandlerRunnableContext claimAndRelease(
+            OperationHandlerRunnerFactory operationHandlerRunnerFactory ) throws OperationException
+    {
+        OperationHandlerRunnableContext operationHandlerRunner =
+                operationHandlerRunnerFactory.newOperationHandlerRunner();
+        operationHandlerRunner.cleanup();
+        return operationHandlerRunner;
+    }
+
+    @Benchmark
+    public OperationHandlerRunnableContext pooling() throws OperationException
+    {
+        return claimAndRelease( poolingOperationHandlerRunnerFactory );
+    }
+
+    @Benchmark
+    @Threads( 4 )
+    public OperationHandlerRunnableContext poolingConcurrently() throws OperationException
+    {
+        return claimAndRelease( poolingOperationHandlerRunnerFactory );
+    }
+
+    @Benchmark
+    public OperationHandlerRunnableContext instantiating() throws OperationException
+    {
+        return claimAndRelease( instantiatingOperationHandlerRunnerFactory );
+    }
+}
@@ -0,0 +1,104 @@
+package com.ldbc.driver.csv.charseeker;
+
+import com.ldbc.driver.workloads.ldbc.snb.interactive.SyntheticUpdateStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scanning and extracting fields of an in-memory update stream with BufferedCharSeeker.
+ * Scores are per stream, see ROW_COUNT.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class CharSeekerBenchmark
+{
+    public static final int ROW_COUNT = 100000;
+    private static final int[] COLUMN_DELIMITERS = new int[]{'|'};
+
+    @Param( {"4096", "1048576"} )
+    public int bufferSize;
+
+    private String updateStream;
+    private String longsStream;
+
+    @Setup
+    public void setup()
+    {
+        updateStream = SyntheticUpdateStream.csv( ROW_COUNT, 42 );
+        StringBuilder sb = new StringBuilder();
+        for ( long i = 0; i < ROW_COUNT; i++ )
+        {
+            sb.append( 1293840000000l + i ).append( '|' ).append( i * 31 ).append( '|' ).append( i % 8 ).append( '|' )
+                    .append( i * 4398046511l ).append( '|' ).append( i ).append( '\n' );
+        }
+        longsStream = sb.toString();
+    }
+
+    @Benchmark
+    public long seekAllFields() throws IOException
+    {
+        long fields = 0;
+        Mark mark = new Mark();
+        try ( CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( updateStream ) ),
+                bufferSize ) )
+        {
+            while ( charSeeker.seek( mark, COLUMN_DELIMITERS ) )
+            {
+                fields++;
+            }
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public long seekAndExtractStrings() throws IOException
+    {
+        long length = 0;
+        Mark mark = new Mark();
+        Extractors extractors = new Extractors( ';', ',' );
+        try ( CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( updateStream ) ),
+                bufferSize ) )
+        {
+            while ( charSeeker.seek( mark, COLUMN_DELIMITERS ) )
+            {
+                String value = charSeeker.extract( mark, extractors.string() ).value();
+                length += (null == value) ? 0 : value.length();
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long seekAndExtractLongs() throws IOException
+    {
+        long sum = 0;
+        Mark mark = new Mark();
+        Extractors extractors = new Extractors( ';', ',' );
+        try ( CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( longsStream ) ),
+                bufferSize ) )
+        {
+            while ( charSeeker.seek( mark, COLUMN_DELIMITERS ) )
+            {
+                sum += charSeeker.extract( mark, extractors.long_() ).longValue();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcUpdate2AddPostLike;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generator chains used to build workload streams: merging streams by time stamp, limiting, and mapping start times.
+ * Scores are per OPERATION_COUNT operations, spread over streamCount streams.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class GeneratorFactoryBenchmark
+{
+    public static final int OPERATION_COUNT = 1000000;
+    private static final long START_TIME_AS_MILLI = 1293840000000l;
+
+    @Param( {"2", "16", "64"} )
+    public int streamCount;
+
+    private GeneratorFactory gf;
+    private List<List<Operation>> streams;
+
+    @Setup
+    public void setup()
+    {
+        gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        streams = new ArrayList<>();
+        for ( int i = 0; i < streamCount; i++ )
+        {
+            streams.add( new ArrayList<Operation>() );
+        }
+        Random random = new Random( 42 );
+        for ( int i = 0; i < OPERATION_COUNT; i++ )
+        {
+            Operation operation = new LdbcUpdate2AddPostLike( i, i, new Date( START_TIME_AS_MILLI + i ) );
+            operation.setTimeStamp( START_TIME_AS_MILLI + i );
+            operation.setScheduledStartTimeAsMilli( START_TIME_AS_MILLI + i );
+            operation.setDependencyTimeStamp( 0 );
+            streams.get( random.nextInt( streamCount ) ).add( operation );
+        }
+    }
+
+    private Iterator<Operation>[] streamIterators()
+    {
+        Iterator<Operation>[] iterators = new Iterator[streams.size()];
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            iterators[i] = streams.get( i ).iterator();
+        }
+        return iterators;
+    }
+
+    @Benchmark
+    public void mergeSortOperationsByTimeStamp( Blackhole blackhole )
+    {
+        Iterator<Operation> operations = gf.mergeSortOperationsByTimeStamp( streamIterators() );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+
+    @Benchmark
+    public void mergeLimitTimeOffsetAndCompress( Blackhole blackhole )
+    {
+        // start time and ratio map operations onto their existing times, so every invocation sees the same input
+        Iterator<Operation> operations = gf.timeOffsetAndCompress(
+                gf.limit( gf.mergeSortOperationsByTimeStamp( streamIterators() ), OPERATION_COUNT / 2 ),
+                START_TIME_AS_MILLI,
+                1.0
+        );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Completion time service implementations: each operation submits its initiated time through its own writer, and
+ * completes the operation initiated inFlight operations earlier, then reads global completion time.
+ * Scores are per operation (one initiated & one completed time).
+ * <p/>
+ * For THREADED_QUEUED & DISRUPTOR times are applied by the service thread, submitting threads only block once the
+ * queue or ring buffer is full, so scores measure sustained submission rate rather than latency of applying a time.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class CompletionTimeServiceBenchmark
+{
+    public static final int WRITER_COUNT = 4;
+
+    @State( Scope.Benchmark )
+    public static class ServiceState
+    {
+        @Param( {"SYNCHRONIZED", "THREADED_QUEUED", "DISRUPTOR"} )
+        public CompletionTimeServiceType type;
+
+        @Param( {"64"} )
+        public int inFlight;
+
+        CompletionTimeService completionTimeService;
+        final List<LocalCompletionTimeWriter> writers = new ArrayList<>();
+        final AtomicInteger nextWriter = new AtomicInteger( 0 );
+
+        @Setup
+        public void setup() throws CompletionTimeException
+        {
+            completionTimeService = new CompletionTimeServiceAssistant().newCompletionTimeServiceFromPeerIds(
+                    type,
+                    new SystemTimeSource(),
+                    new HashSet<String>(),
+                    new ConcurrentErrorReporter() );
+            writers.clear();
+            nextWriter.set( 0 );
+            for ( int i = 0; i < WRITER_COUNT; i++ )
+            {
+                writers.add( completionTimeService.newLocalCompletionTimeWriter() );
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws CompletionTimeException
+        {
+            completionTimeService.shutdown();
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class WriterState
+    {
+        LocalCompletionTimeWriter writer;
+        long time;
+
+        @Setup
+        public void setup( ServiceState serviceState )
+        {
+            writer = serviceState.writers.get( serviceState.nextWriter.getAndIncrement() );
+            time = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads( WRITER_COUNT )
+    public long submitTimes( ServiceState serviceState, WriterState state ) throws CompletionTimeException
+    {
+        long time = state.time++;
+        state.writer.submitLocalInitiatedTime( time );
+        if ( time >= serviceState.inFlight )
+        {
+            state.writer.submitLocalCompletedTime( time - serviceState.inFlight );
+        }
+        return serviceState.completionTimeService.globalCompletionTimeAsMilli();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local completion time tracking: each operation submits its initiated time, and completes the operation initiated
+ * inFlight operations earlier, so there are always inFlight uncompleted operations.
+ * Scores are per operation (one initiated & one completed time).
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class LocalCompletionTimeBenchmark
+{
+    public static final int WRITER_COUNT = 4;
+
+    @State( Scope.Thread )
+    public static class SingleWriterState
+    {
+        @Param( {"1", "64", "1024"} )
+        public int inFlight;
+
+        LocalCompletionTimeStateManager localCompletionTimeStateManager;
+        long time;
+
+        @Setup
+        public void setup()
+        {
+            localCompletionTimeStateManager = new LocalCompletionTimeStateManager();
+            time = 0;
+        }
+    }
+
+    @State( Scope.Benchmark )
+    public static class MultiWriterState
+    {
+        @Param( {"1", "64", "1024"} )
+        public int inFlight;
+
+        MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeStateManager;
+        final List<LocalCompletionTimeWriter> writers = new ArrayList<>();
+        final AtomicInteger nextWriter = new AtomicInteger( 0 );
+
+        @Setup
+        public void setup() throws CompletionTimeException
+        {
+            localCompletionTimeStateManager = new MultiWriterLocalCompletionTimeConcurrentStateManager();
+            writers.clear();
+            nextWriter.set( 0 );
+            for ( int i = 0; i < WRITER_COUNT; i++ )
+            {
+                writers.add( localCompletionTimeStateManager.newLocalCompletionTimeWriter() );
+            }
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class WriterState
+    {
+        LocalCompletionTimeWriter writer;
+        long time;
+
+        @Setup
+        public void setup( MultiWriterState multiWriterState )
+        {
+            writer = multiWriterState.writers.get( multiWriterState.nextWriter.getAndIncrement() );
+            time = 0;
+        }
+    }
+
+    @Benchmark
+    public long singleWriter( SingleWriterState state ) throws CompletionTimeException
+    {
+        long time = state.time++;
+        state.localCompletionTimeStateManager.submitLocalInitiatedTime( time );
+        if ( time >= state.inFlight )
+        {
+            state.localCompletionTimeStateManager.submitLocalCompletedTime( time - state.inFlight );
+        }
+        return state.localCompletionTimeStateManager.localCompletionTimeAsMilli();
+    }
+
+    @Benchmark
+    @Threads( WRITER_COUNT )
+    public long multiWriter( MultiWriterState multiWriterState, WriterState state ) throws CompletionTimeException
+    {
+        long time = state.time++;
+        state.writer.submitLocalInitiatedTime( time );
+        if ( time >= multiWriterState.inFlight )
+        {
+            state.writer.submitLocalCompletedTime( time - multiWriterState.inFlight );
+        }
+        return multiWriterState.localCompletionTimeStateManager.localCompletionTimeAsMilli();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing operation results to DisruptorSbeMetricsService, from one and from many threads.
+ * Scores are per published result.
+ * <p/>
+ * On Java 9+ run with: -jvmArgsAppend "--add-exports java.base/sun.nio.ch=ALL-UNNAMED
+ * --add-opens java.base/sun.nio.ch=ALL-UNNAMED --add-opens java.base/java.nio=ALL-UNNAMED"
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class DisruptorSbeMetricsServiceBenchmark
+{
+    @State( Scope.Benchmark )
+    public static class MetricsServiceState
+    {
+        MetricsService metricsService;
+
+        @Setup( Level.Iteration )
+        public void setup() throws MetricsCollectionException
+        {
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+            operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+            operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+            metricsService = new DisruptorSbeMetricsService(
+                    new SystemTimeSource(),
+                    new ConcurrentErrorReporter(),
+                    TimeUnit.MICROSECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    null,
+                    operationTypeToClassMapping,
+                    new Log4jLoggingServiceFactory( false )
+            );
+        }
+
+        @TearDown( Level.Iteration )
+        public void tearDown() throws MetricsCollectionException
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class WriterState
+    {
+        MetricsService.MetricsServiceWriter writer;
+        long time = 0;
+
+        @Setup( Level.Iteration )
+        public void setup( MetricsServiceState metricsServiceState ) throws MetricsCollectionException
+        {
+            writer = metricsServiceState.metricsService.getWriter();
+        }
+    }
+
+    private static void submit( WriterState state ) throws MetricsCollectionException
+    {
+        long time = state.time++;
+        state.writer.submitOperationResult(
+                ((time & 1) == 0) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE,
+                time,
+                time,
+                1000 + (time & 1023),
+                0,
+                time
+        );
+    }
+
+    @Benchmark
+    public void submitOperationResult( MetricsServiceState metricsServiceState, WriterState state )
+            throws MetricsCollectionException
+    {
+        submit( state );
+    }
+
+    @Benchmark
+    @Threads( 4 )
+    public void submitOperationResultConcurrently( MetricsServiceState metricsServiceState, WriterState state )
+            throws MetricsCollectionException
+    {
+        submit( state );
+    }
+}
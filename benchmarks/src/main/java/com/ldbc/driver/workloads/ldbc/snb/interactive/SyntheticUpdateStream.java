@@ -0,0 +1,141 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.util.Random;
+
+/**
+ * Update stream in the CSV format of the data generator, with random (but deterministic) values, so benchmarks
+ * do not depend on generated data sets
+ */
+public class SyntheticUpdateStream
+{
+    private static final String[] BROWSERS = new String[]{"Firefox", "Chrome", "Safari", "Internet Explorer"};
+    private static final String[] WORDS = new String[]{"About", "Rupert", "Murdoch", "Peter", "Sellers", "Frank",
+            "Lloyd", "Wright", "Cool", "J", "John", "Maynard", "Keynes", "duh", "I", "see", "maybe", "thanks"};
+
+    /**
+     * @return rows of all update event types, in ascending scheduled start time, each row terminated by new line
+     */
+    public static String csv( int rowCount, long seed )
+    {
+        Random random = new Random( seed );
+        StringBuilder sb = new StringBuilder( rowCount * 128 );
+        long scheduledStartTime = 1293840000000l;
+        for ( int i = 0; i < rowCount; i++ )
+        {
+            scheduledStartTime += random.nextInt( 1000 );
+            long dependencyTime = scheduledStartTime - 1 - random.nextInt( 100000 );
+            long id = 1000000 + random.nextInt( 1000000 );
+            int eventType = 1 + (i % 8);
+            sb.append( scheduledStartTime ).append( '|' ).append( dependencyTime ).append( '|' ).append( eventType );
+            switch ( eventType )
+            {
+            case 1:
+                sb.append( '|' ).append( id )
+                        .append( '|' ).append( word( random ) )
+                        .append( '|' ).append( word( random ) )
+                        .append( '|' ).append( random.nextBoolean() ? "female" : "male" )
+                        .append( '|' ).append( 493886672439l + random.nextInt( 100000 ) )
+                        .append( '|' ).append( scheduledStartTime )
+                        .append( '|' ).append( ip( random ) )
+                        .append( '|' ).append( browser( random ) )
+                        .append( '|' ).append( random.nextInt( 1000 ) )
+                        .append( '|' ).append( "en;de" )
+                        .append( '|' ).append( "person" ).append( id ).append( "@yahoo.com;person" ).append( id )
+                        .append( "@zoho.com" )
+                        .append( '|' ).append( longs( random, 4 ) )
+                        .append( '|' ).append( random.nextInt( 10000 ) ).append( ',' ).append( 2009 )
+                        .append( '|' ).append( random.nextInt( 10000 ) ).append( ',' ).append( 2016 ).append( ';' )
+                        .append( random.nextInt( 10000 ) ).append( ',' ).append( 2011 );
+                break;
+            case 2:
+            case 3:
+            case 5:
+            case 8:
+                sb.append( '|' ).append( id )
+                        .append( '|' ).append( id + 1 + random.nextInt( 1000000 ) )
+                        .append( '|' ).append( scheduledStartTime );
+                break;
+            case 4:
+                sb.append( '|' ).append( id )
+                        .append( '|' ).append( "Album " ).append( random.nextInt( 10 ) ).append( " of " )
+                        .append( word( random ) )
+                        .append( '|' ).append( scheduledStartTime )
+                        .append( '|' ).append( random.nextInt( 1000000 ) )
+                        .append( '|' ).append( longs( random, 2 ) );
+                break;
+            case 6:
+            {
+                String content = content( random );
+                sb.append( '|' ).append( id )
+                        .append( '|' )
+                        .append( '|' ).append( scheduledStartTime )
+                        .append( '|' ).append( ip( random ) )
+                        .append( '|' ).append( browser( random ) )
+                        .append( '|' ).append( "tk" )
+                        .append( '|' ).append( content )
+                        .append( '|' ).append( content.length() )
+                        .append( '|' ).append( random.nextInt( 1000000 ) )
+                        .append( '|' ).append( random.nextInt( 1000000 ) )
+                        .append( '|' ).append( random.nextInt( 100 ) )
+                        .append( '|' ).append( longs( random, 5 ) );
+                break;
+            }
+            case 7:
+            {
+                String content = content( random );
+                sb.append( '|' ).append( id )
+                        .append( '|' ).append( scheduledStartTime )
+                        .append( '|' ).append( ip( random ) )
+                        .append( '|' ).append( browser( random ) )
+                        .append( '|' ).append( content )
+                        .append( '|' ).append( content.length() )
+                        .append( '|' ).append( random.nextInt( 1000000 ) )
+                        .append( '|' ).append( random.nextInt( 100 ) )
+                        .append( '|' ).append( random.nextInt( 1000000 ) )
+                        .append( '|' ).append( -1 )
+                        .append( '|' ).append( longs( random, 1 ) );
+                break;
+            }
+            }
+            sb.append( '\n' );
+        }
+        return sb.toString();
+    }
+
+    private static String word( Random random )
+    {
+        return WORDS[random.nextInt( WORDS.length )];
+    }
+
+    private static String browser( Random random )
+    {
+        return BROWSERS[random.nextInt( BROWSERS.length )];
+    }
+
+    private static String ip( Random random )
+    {
+        return random.nextInt( 256 ) + "." + random.nextInt( 256 ) + "." + random.nextInt( 256 ) + "." +
+               random.nextInt( 256 );
+    }
+
+    private static String content( Random random )
+    {
+        StringBuilder sb = new StringBuilder();
+        int wordCount = 1 + random.nextInt( 30 );
+        for ( int i = 0; i < wordCount; i++ )
+        {
+            sb.append( (i == 0) ? "" : " " ).append( word( random ) );
+        }
+        return sb.toString();
+    }
+
+    private static String longs( Random random, int count )
+    {
+        StringBuilder sb = new StringBuilder();
+        for ( int i = 0; i < count; i++ )
+        {
+            sb.append( (i == 0) ? "" : ";" ).append( random.nextInt( 10000 ) );
+        }
+        return sb.toString();
+    }
+}
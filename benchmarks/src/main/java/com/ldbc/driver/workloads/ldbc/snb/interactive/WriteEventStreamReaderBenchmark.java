@@ -0,0 +1,79 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding an in-memory update stream, of all update event types, into operations.
+ * Scores are per stream, see ROW_COUNT.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class WriteEventStreamReaderBenchmark
+{
+    public static final int ROW_COUNT = 100000;
+    private static final int BUFFER_SIZE = 1 * 1024 * 1024;
+
+    private String updateStream;
+
+    @Setup
+    public void setup()
+    {
+        updateStream = SyntheticUpdateStream.csv( ROW_COUNT, 42 );
+    }
+
+    @Benchmark
+    public void charSeeker( Blackhole blackhole ) throws IOException
+    {
+        try ( CharSeeker charSeeker = new BufferedCharSeeker( Readables.wrap( new StringReader( updateStream ) ),
+                BUFFER_SIZE ) )
+        {
+            Iterator<Operation> operations =
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+            while ( operations.hasNext() )
+            {
+                blackhole.consume( operations.next() );
+            }
+        }
+    }
+
+    @Benchmark
+    public void regex( Blackhole blackhole ) throws IOException
+    {
+        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(
+                new BufferedReader( new StringReader( updateStream ), BUFFER_SIZE ),
+                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING
+        );
+        Iterator<Operation> operations = WriteEventStreamReaderRegex.create( csvFileReader );
+        while ( operations.hasNext() )
+        {
+            blackhole.consume( operations.next() );
+        }
+        csvFileReader.close();
+    }
+}
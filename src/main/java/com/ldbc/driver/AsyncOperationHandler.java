@@ -0,0 +1,15 @@
+package com.ldbc.driver;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Operation handler for database clients that execute queries asynchronously.
+ * <p/>
+ * Implementations must not block while the operation executes. Before completing the returned handle the result must
+ * be reported via resultReporter, as with OperationHandler. Failing the returned handle marks the operation as failed.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+{
+    ListenableFuture<?> executeOperationAsync( OPERATION_TYPE operation, DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+}
@@ -0,0 +1,18 @@
+package com.ldbc.driver;
+
+import java.util.List;
+
+/**
+ * Operation handler for database clients that execute several operations in one call, e.g., in one transaction.
+ * <p/>
+ * Only used for operations of blocking streams, and only when batching is enabled, otherwise operations are executed
+ * one at a time by their OperationHandler or AsyncOperationHandler, which therefore must be registered too.
+ * <p/>
+ * The result of operations.get( i ) must be reported via resultReporters.get( i ). Throwing marks every operation of
+ * the batch as failed.
+ */
+public interface BatchOperationHandler<DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+{
+    void executeOperations( List<Operation> operations, DB_CONNECTION_STATE_TYPE dbConnectionState,
+            List<ResultReporter> resultReporters ) throws DbException;
+}
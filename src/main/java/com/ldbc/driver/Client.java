@@ -2,9 +2,11 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
+import com.ldbc.driver.client.CompileUpdateStreamsMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
 import com.ldbc.driver.client.PrintHelpMode;
+import com.ldbc.driver.client.ThroughputSearchMode;
 import com.ldbc.driver.client.ValidateDatabaseMode;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.ControlService;
@@ -142,6 +144,48 @@ public class Client
             }
             return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
         }
+        else if ( controlService.configuration().compileUpdateStreams() )
+        {
+            // Compile Update Streams
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new CompileUpdateStreamsMode( controlService );
+        }
+        else if ( controlService.configuration().throughputSearchProbes() > 0 )
+        {
+            // Search Maximum Throughput
+            DriverConfiguration configuration = controlService.configuration();
+            List<String> missingParams = new ArrayList<>();
+            if ( null == configuration.dbClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.DB_ARG );
+            }
+            if ( null == configuration.workloadClassName() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
+            }
+            if ( 0 == configuration.operationCount() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+            }
+            if ( null == configuration.resultDirPath() )
+            {
+                missingParams.add( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG );
+            }
+            if ( false == missingParams.isEmpty() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s", missingParams.toString() ) );
+            }
+            return new ThroughputSearchMode( controlService, new SystemTimeSource(), RANDOM_SEED );
+        }
         else
         {
             // Execute Workload
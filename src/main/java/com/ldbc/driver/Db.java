@@ -6,6 +6,7 @@ import com.ldbc.driver.util.ClassLoaderHelper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -19,6 +20,10 @@ public abstract class Db implements Closeable
     private DbConnectionState dbConnectionState = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
+    private Map<Class<? extends Operation>,AsyncOperationHandler> asyncOperationHandlers = new HashMap<>();
+    private AsyncOperationHandler[] asyncOperationHandlersArray = null;
+    private Map<Class<? extends Operation>,BatchOperationHandler> batchOperationHandlers = new HashMap<>();
+    private BatchOperationHandler[] batchOperationHandlersArray = null;
     private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
 
     synchronized public final void init(
@@ -36,8 +41,24 @@ public abstract class Db implements Closeable
         operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
-        operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
+        operationHandlersArray = toOperationHandlerArray(
+                operationTypeToClassMapping,
+                operationHandlers,
+                new OperationHandler[]{}
+        );
+        asyncOperationHandlersArray = toOperationHandlerArray(
+                operationTypeToClassMapping,
+                asyncOperationHandlers,
+                new AsyncOperationHandler[]{}
+        );
+        batchOperationHandlersArray = toOperationHandlerArray(
+                operationTypeToClassMapping,
+                batchOperationHandlers,
+                new BatchOperationHandler[]{}
+        );
         operationHandlers = null;
+        asyncOperationHandlers = null;
+        batchOperationHandlers = null;
         isInitialized = true;
     }
 
@@ -90,9 +111,9 @@ public abstract class Db implements Closeable
     public final <A extends Operation, H extends OperationHandler<A,?>> void registerOperationHandler(
             Class<A> operationType, Class<H> operationHandlerType ) throws DbException
     {
-        if ( operationHandlers.containsKey( operationType ) )
+        if ( operationHandlers.containsKey( operationType ) || asyncOperationHandlers.containsKey( operationType ) )
         {
-            throw new DbException( format( "Client already has handler registered for %s", operationType.getClass() ) );
+            throw new DbException( format( "Client already has handler registered for %s", operationType.getName() ) );
         }
         try
         {
@@ -110,11 +131,79 @@ public abstract class Db implements Closeable
         }
     }
 
+    /**
+     * Registers a handler that executes operations of the given type without blocking the calling thread.
+     * Executors that do not support asynchronous execution wait for the returned completion handle.
+     */
+    public final <A extends Operation, H extends AsyncOperationHandler<A,?>> void registerAsyncOperationHandler(
+            Class<A> operationType, Class<H> asyncOperationHandlerType ) throws DbException
+    {
+        if ( operationHandlers.containsKey( operationType ) || asyncOperationHandlers.containsKey( operationType ) )
+        {
+            throw new DbException( format( "Client already has handler registered for %s", operationType.getName() ) );
+        }
+        try
+        {
+            AsyncOperationHandler asyncOperationHandler =
+                    ClassLoaderHelper.loadAsyncOperationHandler( asyncOperationHandlerType );
+            asyncOperationHandlers.put( operationType, asyncOperationHandler );
+        }
+        catch ( OperationException e )
+        {
+            throw new DbException(
+                    format( "%s could not instantiate instance of %s",
+                            getClass().getSimpleName(),
+                            asyncOperationHandlerType.getSimpleName()
+                    ),
+                    e );
+        }
+    }
+
+    /**
+     * Registers a handler that executes several operations of blocking streams in one call, when batching is enabled.
+     * Operation types registered with the same handler class share one handler instance, so consecutive operations of
+     * any of those types can be executed in the same batch.
+     * A regular or asynchronous handler must also be registered for the operation type.
+     */
+    public final <A extends Operation, H extends BatchOperationHandler<?>> void registerBatchOperationHandler(
+            Class<A> operationType, Class<H> batchOperationHandlerType ) throws DbException
+    {
+        if ( batchOperationHandlers.containsKey( operationType ) )
+        {
+            throw new DbException(
+                    format( "Client already has batch handler registered for %s", operationType.getName() ) );
+        }
+        for ( BatchOperationHandler batchOperationHandler : batchOperationHandlers.values() )
+        {
+            if ( batchOperationHandler.getClass().equals( batchOperationHandlerType ) )
+            {
+                batchOperationHandlers.put( operationType, batchOperationHandler );
+                return;
+            }
+        }
+        try
+        {
+            BatchOperationHandler batchOperationHandler =
+                    ClassLoaderHelper.loadBatchOperationHandler( batchOperationHandlerType );
+            batchOperationHandlers.put( operationType, batchOperationHandler );
+        }
+        catch ( OperationException e )
+        {
+            throw new DbException(
+                    format( "%s could not instantiate instance of %s",
+                            getClass().getSimpleName(),
+                            batchOperationHandlerType.getSimpleName()
+                    ),
+                    e );
+        }
+    }
+
     public final OperationHandlerRunnableContext getOperationHandlerRunnableContext( Operation operation )
             throws DbException
     {
-        OperationHandler operationHandler = operationHandlersArray[operation.type()];
-        if ( null == operationHandler )
+        OperationHandler operationHandler = handlerFor( operationHandlersArray, operation.type() );
+        AsyncOperationHandler asyncOperationHandler = handlerFor( asyncOperationHandlersArray, operation.type() );
+        if ( null == operationHandler && null == asyncOperationHandler )
         {
             throw new DbException( format( "No handler registered for %s", operation.getClass() ) );
         }
@@ -123,6 +212,9 @@ public abstract class Db implements Closeable
             OperationHandlerRunnableContext operationHandlerRunnableContext =
                     operationHandlerRunnableContextFactory.newOperationHandlerRunner();
             operationHandlerRunnableContext.setOperationHandler( operationHandler );
+            operationHandlerRunnableContext.setAsyncOperationHandler( asyncOperationHandler );
+            operationHandlerRunnableContext.setBatchOperationHandler(
+                    handlerFor( batchOperationHandlersArray, operation.type() ) );
             operationHandlerRunnableContext.setDbConnectionState( dbConnectionState );
             return operationHandlerRunnableContext;
         }
@@ -132,13 +224,19 @@ public abstract class Db implements Closeable
         }
     }
 
-    private static OperationHandler[] toOperationHandlerArray(
+    private static <HANDLER_TYPE> HANDLER_TYPE handlerFor( HANDLER_TYPE[] handlers, int operationType )
+    {
+        return (operationType < handlers.length) ? handlers[operationType] : null;
+    }
+
+    private static <HANDLER_TYPE> HANDLER_TYPE[] toOperationHandlerArray(
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
-            Map<Class<? extends Operation>,OperationHandler> operationHandlers ) throws DbException
+            Map<Class<? extends Operation>,HANDLER_TYPE> operationHandlers,
+            HANDLER_TYPE[] emptyOperationHandlersArray ) throws DbException
     {
         if ( operationTypeToClassMapping.isEmpty() )
         {
-            return new OperationHandler[]{};
+            return emptyOperationHandlersArray;
         }
         else
         {
@@ -149,7 +247,7 @@ public abstract class Db implements Closeable
             }
 
             int maxOperationType = Ordering.<Integer>natural().max( operationTypeToClassMapping.keySet() );
-            OperationHandler[] operationHandlersArray = new OperationHandler[maxOperationType + 1];
+            HANDLER_TYPE[] operationHandlersArray = Arrays.copyOf( emptyOperationHandlersArray, maxOperationType + 1 );
             for ( int i = 0; i < operationHandlersArray.length; i++ )
             {
                 if ( operationTypeToClassMapping.containsKey( i ) )
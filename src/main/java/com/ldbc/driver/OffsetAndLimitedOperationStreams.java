@@ -0,0 +1,492 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.generator.Generator;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+import static java.lang.String.format;
+
+/**
+ * From among all streams, selects the operations from offset (inclusive) to offset + limit (exclusive), while the
+ * streams are being consumed, so every stream is read exactly once.
+ * <p/>
+ * Operations are positioned by merging stream heads by time stamp, ties go to the stream with lower index -- same
+ * as WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset. Child operations count towards offset and limit, using
+ * child operation generators that are not used during execution, so counting does not change what is executed.
+ * <p/>
+ * Streams that are SeekableOperationStreams (and have no child operation generator) skip most of the offset by
+ * seeking: to the last checkpoint before a time stamp up to which all skipped operations are certain to be among the
+ * first offset operations. Other streams are read up to that time stamp, as before, and the rest of the offset is
+ * skipped by merging.
+ * <p/>
+ * The merge is shared by all streams. When a stream needs its next operation the merge advances until that operation
+ * is selected, buffering operations it passes for other streams until they are read. Buffers therefore grow with how
+ * far apart (in time) the consumers of the different streams are, which is small when streams are consumed in
+ * scheduled start time order. Consumers that do not wait for scheduled start times (e.g., when ignoring them) may
+ * drift far apart, so by default buffers are unbounded. Optionally (see DriverConfiguration.maxBufferedOperations())
+ * they are bounded: once maxBufferedOperationCount operations are buffered for streams that are not being read,
+ * selection fails rather than exhausting memory.
+ */
+class OffsetAndLimitedOperationStreams
+{
+    private final List<Iterator<Operation>> streams;
+    private final List<ChildOperationGenerator> childOperationGenerators;
+    private final long offset;
+    private final long limit;
+    private final long maxBufferedOperationCount;
+    private final LoggingService loggingService;
+    private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+    // last operation retrieved (which has not yet been counted) from each stream
+    private final Operation[] streamHeads;
+    // count (with child operations) of each stream head, -1 if it has not been counted yet
+    private final long[] streamHeadCounts;
+    // operations (and their counts) that were read from each stream but were not skipped, to be read again
+    private final List<Deque<Operation>> pushedBackOperations;
+    private final List<Deque<Long>> pushedBackCounts;
+    // selected operations of each stream, which have not yet been read from that stream
+    private final List<Queue<Operation>> selectedOperations;
+    // number of operations in selectedOperations, of all streams
+    private long bufferedOperationCount = 0;
+    private long kSoFarRun = 0;
+    private boolean offsetSkipped = false;
+    private boolean selectionComplete = false;
+
+    OffsetAndLimitedOperationStreams(
+            List<Iterator<Operation>> streams,
+            List<ChildOperationGenerator> childOperationGenerators,
+            long offset,
+            long limit,
+            LoggingService loggingService )
+    {
+        this( streams, childOperationGenerators, offset, limit,
+                ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT, loggingService );
+    }
+
+    /**
+     * @param maxBufferedOperationCount most operations buffered for streams that are not being read, 0 for no limit
+     */
+    OffsetAndLimitedOperationStreams(
+            List<Iterator<Operation>> streams,
+            List<ChildOperationGenerator> childOperationGenerators,
+            long offset,
+            long limit,
+            long maxBufferedOperationCount,
+            LoggingService loggingService )
+    {
+        this.streams = streams;
+        this.childOperationGenerators = childOperationGenerators;
+        this.offset = offset;
+        this.limit = limit;
+        this.maxBufferedOperationCount = maxBufferedOperationCount;
+        this.loggingService = loggingService;
+        this.streamHeads = new Operation[streams.size()];
+        this.streamHeadCounts = new long[streams.size()];
+        this.selectedOperations = new ArrayList<>();
+        this.pushedBackOperations = new ArrayList<>();
+        this.pushedBackCounts = new ArrayList<>();
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            selectedOperations.add( new ArrayDeque<Operation>() );
+            pushedBackOperations.add( new ArrayDeque<Operation>() );
+            pushedBackCounts.add( new ArrayDeque<Long>() );
+        }
+    }
+
+    /**
+     * Advances past the first offset operations, from among all streams. Must be called before operations are read.
+     *
+     * @return time stamp of the first operation after offset, Long.MAX_VALUE if there is none or limit is 0
+     */
+    synchronized long skipOffsetAndRetrieveMinimumTimeStamp() throws WorkloadException
+    {
+        long kSoFarOffset = skipOffsetBySeeking();
+        if ( kSoFarOffset > 0 )
+        {
+            loggingService.info(
+                    format(
+                            "Skipped %s of %s by seeking - OFFSET",
+                            numberFormat.format( kSoFarOffset ),
+                            numberFormat.format( offset )
+                    )
+            );
+        }
+        while ( kSoFarOffset < offset )
+        {
+            int indexOfMin = indexOfMinStreamHead( null );
+            if ( -1 == indexOfMin )
+            {
+                // iterators are empty, nothing left to skip
+                break;
+            }
+            kSoFarOffset = kSoFarOffset + countWithChildOperations( indexOfMin );
+            streamHeads[indexOfMin] = null;
+
+            if ( kSoFarOffset % 1000000 == 0 )
+            {
+                loggingService.info(
+                        format(
+                                "Scanned %s of %s - OFFSET\r",
+                                numberFormat.format( kSoFarOffset ),
+                                numberFormat.format( offset )
+                        )
+                );
+            }
+        }
+        loggingService.info(
+                format(
+                        "Scanned %s of %s - OFFSET",
+                        numberFormat.format( kSoFarOffset ),
+                        numberFormat.format( offset )
+                )
+        );
+        offsetSkipped = true;
+
+        if ( limit <= 0 )
+        {
+            completeSelection();
+            return Long.MAX_VALUE;
+        }
+        int indexOfMin = indexOfMinStreamHead( null );
+        return (-1 == indexOfMin) ? Long.MAX_VALUE : streamHeads[indexOfMin].timeStamp();
+    }
+
+    Iterator<Operation> selectedOperationsFor( int streamIndex )
+    {
+        return new SelectedOperationsGenerator( streamIndex );
+    }
+
+    // advances the merge until an operation of the stream is selected, or none of its remaining operations can be,
+    // then moves all selected operations of the stream to the given queue
+    private synchronized void selectInto( int streamIndex, Queue<Operation> operations ) throws WorkloadException
+    {
+        if ( false == offsetSkipped )
+        {
+            throw new WorkloadException( "Offset must be skipped before operations are selected" );
+        }
+        Queue<Operation> selectedOperationsForStream = selectedOperations.get( streamIndex );
+        while ( selectedOperationsForStream.isEmpty() && false == selectionComplete )
+        {
+            if ( null == streamHeads[streamIndex] && false == hasNextInStream( streamIndex ) )
+            {
+                // stream is empty, no need to advance the merge (and buffer operations of other streams)
+                break;
+            }
+            if ( kSoFarRun >= limit )
+            {
+                completeSelection();
+                break;
+            }
+            int indexOfMin = indexOfMinStreamHead( null );
+            if ( -1 == indexOfMin )
+            {
+                // iterators are empty, nothing left to retrieve
+                completeSelection();
+                break;
+            }
+            if ( indexOfMin != streamIndex && maxBufferedOperationCount > 0 &&
+                 bufferedOperationCount >= maxBufferedOperationCount )
+            {
+                throw new WorkloadException(
+                        format( "Stream %s can not advance, %s operations are already buffered for other streams\n"
+                                + "Streams must be read concurrently, in (approximately) time stamp order, "
+                                + "or the limit raised (0 for no limit) with -%s",
+                                streamIndex,
+                                numberFormat.format( bufferedOperationCount ),
+                                ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_ARG ) );
+            }
+            selectedOperations.get( indexOfMin ).add( streamHeads[indexOfMin] );
+            bufferedOperationCount++;
+            if ( indexOfMin != streamIndex && bufferedOperationCount % 1000000 == 0 )
+            {
+                loggingService.info(
+                        format( "Buffered %s operations for streams that are not being read - RUN",
+                                numberFormat.format( bufferedOperationCount )
+                        )
+                );
+            }
+            kSoFarRun = kSoFarRun + countWithChildOperations( indexOfMin );
+            streamHeads[indexOfMin] = null;
+
+            if ( kSoFarRun % 1000000 == 0 )
+            {
+                loggingService.info(
+                        format( "Scanned %s of %s - RUN\r",
+                                numberFormat.format( kSoFarRun ),
+                                numberFormat.format( limit )
+                        )
+                );
+            }
+        }
+        bufferedOperationCount = bufferedOperationCount - selectedOperationsForStream.size();
+        operations.addAll( selectedOperationsForStream );
+        selectedOperationsForStream.clear();
+    }
+
+    private void completeSelection()
+    {
+        selectionComplete = true;
+        for ( int i = 0; i < streamHeads.length; i++ )
+        {
+            streamHeads[i] = null;
+        }
+        loggingService.info(
+                format(
+                        "Scanned %s of %s - RUN",
+                        numberFormat.format( kSoFarRun ),
+                        numberFormat.format( limit )
+                )
+        );
+    }
+
+    // skips operations that are certain to be among the first offset operations: seekable streams by seeking to
+    // the last checkpoint before some time stamp T, other streams by reading all their operations before T.
+    // T is the latest time stamp for which an upper bound of all operations before it (operations of other streams
+    // are counted as they are read, of seekable streams bounded by the first checkpoint at or after T) is <= offset.
+    // returns number of operations skipped
+    private long skipOffsetBySeeking() throws WorkloadException
+    {
+        boolean[] seekableStreams = new boolean[streams.size()];
+        List<SeekableOperationStream> seekableOperationStreams = new ArrayList<>();
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            if ( streams.get( i ) instanceof SeekableOperationStream && null == childOperationGenerators.get( i ) )
+            {
+                seekableStreams[i] = true;
+                seekableOperationStreams.add( (SeekableOperationStream) streams.get( i ) );
+            }
+        }
+        if ( seekableOperationStreams.isEmpty() || offset <= 0 )
+        {
+            return 0;
+        }
+
+        long readCount = 0;
+        long lastReadTimeStamp = Long.MIN_VALUE;
+        long skippedReadCount = 0;
+        long skipBeforeTimeStamp = Long.MIN_VALUE;
+        // operations read since skipBeforeTimeStamp was last advanced, which may not be skipped
+        List<Integer> unskippedStreamIndexes = new ArrayList<>();
+        List<Operation> unskippedOperations = new ArrayList<>();
+        List<Long> unskippedCounts = new ArrayList<>();
+        while ( true )
+        {
+            int indexOfMin = indexOfMinStreamHead( seekableStreams );
+            long timeStamp = (-1 == indexOfMin) ? Long.MAX_VALUE : streamHeads[indexOfMin].timeStamp();
+            if ( timeStamp > lastReadTimeStamp )
+            {
+                // all operations of other streams before time stamp have been read
+                if ( readCount + seekableOperationCountUpperBound( seekableOperationStreams, timeStamp ) > offset )
+                {
+                    break;
+                }
+                skippedReadCount = readCount;
+                skipBeforeTimeStamp = timeStamp;
+                unskippedStreamIndexes.clear();
+                unskippedOperations.clear();
+                unskippedCounts.clear();
+            }
+            if ( -1 == indexOfMin )
+            {
+                break;
+            }
+            long count = countWithChildOperations( indexOfMin );
+            unskippedStreamIndexes.add( indexOfMin );
+            unskippedOperations.add( streamHeads[indexOfMin] );
+            unskippedCounts.add( count );
+            readCount = readCount + count;
+            lastReadTimeStamp = timeStamp;
+            streamHeads[indexOfMin] = null;
+        }
+
+        // push back operations that were read after the time stamp to skip to, ahead of current stream heads
+        for ( int i = 0; i < unskippedOperations.size(); i++ )
+        {
+            int streamIndex = unskippedStreamIndexes.get( i );
+            pushedBackOperations.get( streamIndex ).add( unskippedOperations.get( i ) );
+            pushedBackCounts.get( streamIndex ).add( unskippedCounts.get( i ) );
+        }
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            if ( null != streamHeads[i] && false == pushedBackOperations.get( i ).isEmpty() )
+            {
+                pushedBackOperations.get( i ).add( streamHeads[i] );
+                pushedBackCounts.get( i ).add( streamHeadCounts[i] );
+                streamHeads[i] = null;
+            }
+        }
+
+        long skippedCount = skippedReadCount;
+        for ( SeekableOperationStream stream : seekableOperationStreams )
+        {
+            int checkpoint = lastCheckpointBefore( stream, skipBeforeTimeStamp );
+            if ( -1 != checkpoint && stream.checkpointOperationOffset( checkpoint ) > stream.operationOffset() )
+            {
+                skippedCount = skippedCount + stream.checkpointOperationOffset( checkpoint ) - stream.operationOffset();
+                stream.seekToCheckpoint( checkpoint );
+            }
+        }
+        return skippedCount;
+    }
+
+    // upper bound of the number of operations, from current offset, of seekable streams before time stamp
+    private static long seekableOperationCountUpperBound( List<SeekableOperationStream> streams, long timeStamp )
+    {
+        long count = 0;
+        for ( SeekableOperationStream stream : streams )
+        {
+            int checkpoint = lastCheckpointBefore( stream, timeStamp ) + 1;
+            long operationOffsetUpperBound = (checkpoint < stream.checkpointCount())
+                                             ? stream.checkpointOperationOffset( checkpoint )
+                                             : stream.operationCount();
+            count = count + Math.max( 0, operationOffsetUpperBound - stream.operationOffset() );
+        }
+        return count;
+    }
+
+    // returns -1 if there is no checkpoint before time stamp
+    private static int lastCheckpointBefore( SeekableOperationStream stream, long timeStamp )
+    {
+        int low = 0;
+        int high = stream.checkpointCount() - 1;
+        int lastCheckpointBefore = -1;
+        while ( low <= high )
+        {
+            int middle = (low + high) >>> 1;
+            if ( stream.checkpointTimeStamp( middle ) < timeStamp )
+            {
+                lastCheckpointBefore = middle;
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+        return lastCheckpointBefore;
+    }
+
+    private boolean hasNextInStream( int streamIndex )
+    {
+        return false == pushedBackOperations.get( streamIndex ).isEmpty() || streams.get( streamIndex ).hasNext();
+    }
+
+    private Operation nextFromStream( int streamIndex )
+    {
+        if ( pushedBackOperations.get( streamIndex ).isEmpty() )
+        {
+            streamHeadCounts[streamIndex] = -1;
+            return streams.get( streamIndex ).next();
+        }
+        else
+        {
+            streamHeadCounts[streamIndex] = pushedBackCounts.get( streamIndex ).poll();
+            return pushedBackOperations.get( streamIndex ).poll();
+        }
+    }
+
+    // returns -1 if all (not excluded) streams are empty
+    private int indexOfMinStreamHead( boolean[] excludedStreams ) throws WorkloadException
+    {
+        long minAsMilli = Long.MAX_VALUE;
+        int indexOfMin = -1;
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            if ( null != excludedStreams && excludedStreams[i] )
+            {
+                continue;
+            }
+            if ( null != streamHeads[i] || hasNextInStream( i ) )
+            {
+                if ( null == streamHeads[i] )
+                {
+                    streamHeads[i] = nextFromStream( i );
+                }
+
+                long streamHeadTimeStampAsMilli = streamHeads[i].timeStamp();
+
+                if ( -1 == streamHeadTimeStampAsMilli )
+                {
+                    throw new WorkloadException(
+                            format( "Operation must have time stamp\n%s", streamHeads[i] ) );
+                }
+
+                if ( -1 == streamHeads[i].dependencyTimeStamp() )
+                {
+                    throw new WorkloadException(
+                            format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
+                }
+
+                if ( streamHeadTimeStampAsMilli < minAsMilli )
+                {
+                    minAsMilli = streamHeadTimeStampAsMilli;
+                    indexOfMin = i;
+                }
+            }
+        }
+        return indexOfMin;
+    }
+
+    // counts head of stream, plus the child operations it would generate
+    private long countWithChildOperations( int streamIndex ) throws WorkloadException
+    {
+        if ( -1 != streamHeadCounts[streamIndex] )
+        {
+            // counted before it was pushed back, counting again would advance child operation generator again
+            return streamHeadCounts[streamIndex];
+        }
+        final Object result = null;
+        long count = 1;
+        Operation operation = streamHeads[streamIndex];
+        ChildOperationGenerator childOperationGenerator = childOperationGenerators.get( streamIndex );
+        if ( null != childOperationGenerator )
+        {
+            double state = childOperationGenerator.initialState();
+            while ( null != (operation = childOperationGenerator
+                    .nextOperation( state, operation, result, operation.scheduledStartTimeAsMilli(), 0l )) )
+            {
+                count = count + 1;
+                state = childOperationGenerator.updateState( state, operation.type() );
+            }
+        }
+        return count;
+    }
+
+    private class SelectedOperationsGenerator extends Generator<Operation>
+    {
+        private final int streamIndex;
+        // read from the selection in batches, to acquire the (shared) lock once per batch rather than per operation
+        private final Queue<Operation> operations = new ArrayDeque<>();
+
+        private SelectedOperationsGenerator( int streamIndex )
+        {
+            this.streamIndex = streamIndex;
+        }
+
+        @Override
+        protected Operation doNext() throws GeneratorException
+        {
+            if ( operations.isEmpty() )
+            {
+                try
+                {
+                    selectInto( streamIndex, operations );
+                }
+                catch ( WorkloadException e )
+                {
+                    throw new GeneratorException( format( "Error selecting operations of stream %s", streamIndex ),
+                            e );
+                }
+            }
+            return operations.poll();
+        }
+    }
+}
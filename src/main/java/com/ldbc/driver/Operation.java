@@ -2,16 +2,34 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.concurrent.TimeUnit;
+
 public abstract class Operation<RESULT_TYPE>
 {
     private static final TemporalUtil temporalutil = new TemporalUtil();
+    private static final long NANO_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
     private long scheduledStartTimeAsMilli = -1;
+    private long scheduledStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( -1 );
     private long timeStamp = -1;
     private long dependencyTimeStamp = -1;
 
     public final void setScheduledStartTimeAsMilli( long scheduledStartTimeAsMilli )
     {
         this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+        // saturates at Long.MIN_VALUE/Long.MAX_VALUE, which some tests use as "never"
+        this.scheduledStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( scheduledStartTimeAsMilli );
+    }
+
+    /**
+     * Sets scheduled start time with sub-millisecond precision.
+     * Millisecond scheduled start time is derived from it, rounded to the nearest millisecond.
+     *
+     * @param scheduledStartTimeAsNano scheduled start time, as nanoseconds since epoch
+     */
+    public final void setScheduledStartTimeAsNano( long scheduledStartTimeAsNano )
+    {
+        this.scheduledStartTimeAsNano = scheduledStartTimeAsNano;
+        this.scheduledStartTimeAsMilli = Math.round( scheduledStartTimeAsNano / (double) NANO_PER_MILLI );
     }
 
     public final void setDependencyTimeStamp( long dependencyTimeStamp )
@@ -24,6 +42,11 @@ public abstract class Operation<RESULT_TYPE>
         return scheduledStartTimeAsMilli;
     }
 
+    public final long scheduledStartTimeAsNano()
+    {
+        return scheduledStartTimeAsNano;
+    }
+
     public final long dependencyTimeStamp()
     {
         return dependencyTimeStamp;
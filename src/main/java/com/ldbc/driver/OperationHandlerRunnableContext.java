@@ -1,6 +1,9 @@
 package com.ldbc.driver;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
@@ -10,6 +13,9 @@ import com.ldbc.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
@@ -20,6 +26,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     // set by Db
     private DbConnectionState dbConnectionState = null;
     private OperationHandler operationHandler = null;
+    private AsyncOperationHandler asyncOperationHandler = null;
+    private BatchOperationHandler batchOperationHandler = null;
 
     // set by DependencyAndNonDependencyHandlersRetriever
     private TimeSource timeSource = null;
@@ -81,6 +89,16 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operationHandler = operationHandler;
     }
 
+    public final void setAsyncOperationHandler( AsyncOperationHandler asyncOperationHandler )
+    {
+        this.asyncOperationHandler = asyncOperationHandler;
+    }
+
+    public final void setBatchOperationHandler( BatchOperationHandler batchOperationHandler )
+    {
+        this.batchOperationHandler = batchOperationHandler;
+    }
+
     public final void setDbConnectionState( DbConnectionState dbConnectionState )
     {
         this.dbConnectionState = dbConnectionState;
@@ -101,6 +119,16 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         return operationHandler;
     }
 
+    public final AsyncOperationHandler asyncOperationHandler()
+    {
+        return asyncOperationHandler;
+    }
+
+    public final BatchOperationHandler batchOperationHandler()
+    {
+        return batchOperationHandler;
+    }
+
     public final LocalCompletionTimeWriter localCompletionTimeWriter()
     {
         return localCompletionTimeWriter;
@@ -144,35 +172,190 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             }
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+            if ( null != operationHandler )
+            {
+                operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+            }
+            else
+            {
+                // only an asynchronous handler was registered, wait for it to complete
+                asyncOperationHandler.executeOperationAsync( operation, dbConnectionState, resultReporter ).get();
+            }
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            submitCompletedOperation();
+        }
+        catch ( Throwable e )
+        {
+            reportErrorFor( e );
+        }
+    }
+
+    /**
+     * Waits for the scheduled start time, starts the operation via its AsyncOperationHandler and returns without
+     * waiting for the operation to complete.
+     * Local completion time and metrics are submitted by the thread that completes the handle returned by the
+     * handler, which then calls onCompletion.
+     * onCompletion is called exactly once, also when the operation was not started or failed.
+     */
+    public void runAsync( final Runnable onCompletion )
+    {
+        if ( false == initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            onCompletion.run();
+            return;
+        }
+        if ( null == asyncOperationHandler )
+        {
+            errorReporter.reportError( this, format( "No asynchronous handler registered\nOperation: %s", operation ) );
+            onCompletion.run();
+            return;
+        }
+        try
+        {
+            if ( false == spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                // Spinner result indicates operation should not be processed
+                onCompletion.run();
+                return;
             }
-            else
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            final ListenableFuture<?> completionHandle =
+                    asyncOperationHandler.executeOperationAsync( operation, dbConnectionState, resultReporter );
+            completionHandle.addListener(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                            resultReporter.setRunDurationAsNano(
+                                    endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+                            try
+                            {
+                                completionHandle.get();
+                                submitCompletedOperation();
+                            }
+                            catch ( Throwable e )
+                            {
+                                reportErrorFor( e );
+                            }
+                            finally
+                            {
+                                onCompletion.run();
+                            }
+                        }
+                    },
+                    MoreExecutors.directExecutor()
+            );
+        }
+        catch ( Throwable e )
+        {
+            reportErrorFor( e );
+            onCompletion.run();
+        }
+    }
+
+    /**
+     * Executes the operations of all contexts with one call to the BatchOperationHandler of the first context, once
+     * every operation has reached its scheduled start time and passed its before execute check.
+     * Operations the Spinner indicates should not be processed are left out of the batch.
+     * All operations of a batch share actual start time and run duration, but local completion time and metrics are
+     * submitted for every operation individually.
+     */
+    public static void runBatch( List<OperationHandlerRunnableContext> contexts )
+    {
+        List<OperationHandlerRunnableContext> dueContexts = new ArrayList<>( contexts.size() );
+        for ( OperationHandlerRunnableContext context : contexts )
+        {
+            if ( false == context.initialized )
             {
-                localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
+                context.errorReporter.reportError( context, "Handler was executed before being initialized" );
+            }
+            else if ( context.spinner.waitForScheduledStartTime( context.operation, context.beforeExecuteCheck ) )
+            {
+                dueContexts.add( context );
+            }
+        }
+        if ( dueContexts.isEmpty() )
+        {
+            return;
+        }
+        OperationHandlerRunnableContext firstContext = dueContexts.get( 0 );
+        List<Operation> operations = new ArrayList<>( dueContexts.size() );
+        List<ResultReporter> resultReporters = new ArrayList<>( dueContexts.size() );
+        long actualStartTimeAsMilli = firstContext.timeSource.nowAsMilli();
+        for ( OperationHandlerRunnableContext context : dueContexts )
+        {
+            context.resultReporter.setActualStartTimeAsMilli( actualStartTimeAsMilli );
+            operations.add( context.operation );
+            resultReporters.add( context.resultReporter );
+        }
+        try
+        {
+            long startOfLatencyMeasurementAsNano = firstContext.timeSource.nanoSnapshot();
+            firstContext.batchOperationHandler.executeOperations(
+                    operations,
+                    firstContext.dbConnectionState,
+                    resultReporters
+            );
+            long endOfLatencyMeasurementAsNano = firstContext.timeSource.nanoSnapshot();
+            for ( OperationHandlerRunnableContext context : dueContexts )
+            {
+                context.resultReporter.setRunDurationAsNano(
+                        endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
             }
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            for ( OperationHandlerRunnableContext context : dueContexts )
+            {
+                context.reportErrorFor( e );
+            }
+            return;
+        }
+        for ( OperationHandlerRunnableContext context : dueContexts )
+        {
+            try
+            {
+                context.submitCompletedOperation();
+            }
+            catch ( Throwable e )
+            {
+                context.reportErrorFor( e );
+            }
+        }
+    }
+
+    private void submitCompletedOperation() throws CompletionTimeException, MetricsCollectionException
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            localCompletionTimeWriter.submitLocalCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
         }
     }
 
+    private void reportErrorFor( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
+    }
 
     @Override
     public String toString()
@@ -183,6 +366,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                "    -> operation=" + operation + "\n" +
                "    -> beforeExecuteCheck=" + beforeExecuteCheck + "\n" +
                "    -> operationHandler=" + operationHandler + "\n" +
+               "    -> asyncOperationHandler=" + asyncOperationHandler + "\n" +
+               "    -> batchOperationHandler=" + batchOperationHandler + "\n" +
                "    -> initialized=" + initialized;
     }
 
@@ -0,0 +1,39 @@
+package com.ldbc.driver;
+
+import java.util.Iterator;
+
+/**
+ * Operation stream, in time stamp order, that can skip ahead to checkpoints without reading the operations before
+ * them, e.g., using an index of the file the stream is read from. Time stamps of checkpoints are known in advance.
+ * <p/>
+ * Used by WorkloadStreams to skip to the offset (e.g., past warmup) of a workload.
+ */
+public interface SeekableOperationStream extends Iterator<Operation>
+{
+    /**
+     * @return number of operations in the stream, from its start
+     */
+    long operationCount();
+
+    int checkpointCount();
+
+    /**
+     * @return number of operations before checkpoint, from start of the stream
+     */
+    long checkpointOperationOffset( int checkpoint );
+
+    /**
+     * @return time stamp of the operation at checkpoint
+     */
+    long checkpointTimeStamp( int checkpoint );
+
+    /**
+     * @return number of operations returned by next(), plus those skipped by seeking
+     */
+    long operationOffset();
+
+    /**
+     * Skips all operations before checkpoint, which must not be before operationOffset()
+     */
+    void seekToCheckpoint( int checkpoint ) throws WorkloadException;
+}
@@ -6,11 +6,13 @@ import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 import com.ldbc.driver.workloads.WorkloadFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -33,6 +35,25 @@ public class WorkloadStreams
             long newStartTimeAsMilli,
             double compressionRatio,
             GeneratorFactory gf ) throws WorkloadException
+    {
+        return timeOffsetAndCompressWorkloadStreams(
+                originalWorkloadStreams,
+                newStartTimeAsMilli,
+                compressionRatio,
+                null,
+                gf
+        );
+    }
+
+    /**
+     * @param loadProfile changes the compression ratio over the run, null to apply compressionRatio throughout
+     */
+    public static WorkloadStreams timeOffsetAndCompressWorkloadStreams(
+            WorkloadStreams originalWorkloadStreams,
+            long newStartTimeAsMilli,
+            double compressionRatio,
+            LoadProfile loadProfile,
+            GeneratorFactory gf ) throws WorkloadException
     {
         long minScheduledStartTimeAsMilli = Long.MAX_VALUE;
 
@@ -117,6 +138,22 @@ public class WorkloadStreams
             minScheduledStartTimeAsMilli = newStartTimeAsMilli;
         }
 
+        if ( null != loadProfile )
+        {
+            return timeOffsetAndProfileWorkloadStreams(
+                    originalWorkloadStreams,
+                    peekingAsyncDependencyOperationStream,
+                    peekingAsyncNonDependencyOperationStream,
+                    peekingBlockingDependencyOperationStreams,
+                    peekingBlockingNonDependencyOperationStreams,
+                    newStartTimeAsMilli,
+                    minScheduledStartTimeAsMilli,
+                    compressionRatio,
+                    loadProfile,
+                    gf
+            );
+        }
+
         /*
          * Find how far ahead of earliest scheduled start time each stream is when it starts
          */
@@ -224,6 +261,68 @@ public class WorkloadStreams
         return timeOffsetAndCompressedWorkloadStreams;
     }
 
+    // all streams are mapped relative to the same (earliest) start time, so operations keep their relative order
+    private static WorkloadStreams timeOffsetAndProfileWorkloadStreams(
+            WorkloadStreams originalWorkloadStreams,
+            Iterator<Operation> asyncDependencyOperationStream,
+            Iterator<Operation> asyncNonDependencyOperationStream,
+            List<? extends Iterator<Operation>> blockingDependencyOperationStreams,
+            List<? extends Iterator<Operation>> blockingNonDependencyOperationStreams,
+            long newStartTimeAsMilli,
+            long minScheduledStartTimeAsMilli,
+            double compressionRatio,
+            LoadProfile loadProfile,
+            GeneratorFactory gf )
+    {
+        WorkloadStreams timeOffsetAndProfiledWorkloadStreams = new WorkloadStreams();
+
+        timeOffsetAndProfiledWorkloadStreams.setAsynchronousStream(
+                originalWorkloadStreams.asynchronousStream().dependentOperationTypes(),
+                originalWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
+                gf.timeOffsetAndProfile(
+                        asyncDependencyOperationStream,
+                        newStartTimeAsMilli,
+                        minScheduledStartTimeAsMilli,
+                        compressionRatio,
+                        loadProfile
+                ),
+                gf.timeOffsetAndProfile(
+                        asyncNonDependencyOperationStream,
+                        newStartTimeAsMilli,
+                        minScheduledStartTimeAsMilli,
+                        compressionRatio,
+                        loadProfile
+                ),
+                originalWorkloadStreams.asynchronousStream().childOperationGenerator()
+        );
+
+        List<WorkloadStreamDefinition> blockingStreams = originalWorkloadStreams.blockingStreamDefinitions();
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            timeOffsetAndProfiledWorkloadStreams.addBlockingStream(
+                    blockingStreams.get( i ).dependentOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperationTypes(),
+                    gf.timeOffsetAndProfile(
+                            blockingDependencyOperationStreams.get( i ),
+                            newStartTimeAsMilli,
+                            minScheduledStartTimeAsMilli,
+                            compressionRatio,
+                            loadProfile
+                    ),
+                    gf.timeOffsetAndProfile(
+                            blockingNonDependencyOperationStreams.get( i ),
+                            newStartTimeAsMilli,
+                            minScheduledStartTimeAsMilli,
+                            compressionRatio,
+                            loadProfile
+                    ),
+                    blockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+
+        return timeOffsetAndProfiledWorkloadStreams;
+    }
+
     // returns (workload_streams, workload, minimum_timestamp)
     public static Tuple3<WorkloadStreams,Workload,Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
             DriverConfiguration configuration,
@@ -255,79 +354,60 @@ public class WorkloadStreams
             long limit,
             LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
     {
-        // ================================
-        // ====== Calculate Limits ========
-        // ================================
+        // child operation generators used to count child operations, they must not be those used during execution.
+        // they come from an instance of the workload that is retrieved first, as before, so the instance used during
+        // execution is created from the same random seeds. only its child operation generators are used, its streams
+        // are never read.
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        try ( Workload countingWorkload = workloadFactory.createWorkload() )
+        {
+            countingWorkload.init( configuration );
+            boolean hasDbConnected = false;
+            WorkloadStreams countingWorkloadStreams = countingWorkload.streams( gf, hasDbConnected );
+            childOperationGenerators.add( countingWorkloadStreams.asynchronousStream().childOperationGenerator() );
+            childOperationGenerators.add( countingWorkloadStreams.asynchronousStream().childOperationGenerator() );
+            for ( WorkloadStreamDefinition stream : countingWorkloadStreams.blockingStreamDefinitions() )
+            {
+                childOperationGenerators.add( stream.childOperationGenerator() );
+                childOperationGenerators.add( stream.childOperationGenerator() );
+            }
+            // workload closes the files it opened for its streams, close streams that hold resources of their own
+            closeStreams( countingWorkloadStreams );
+        }
 
         // get workload
         Workload workload = workloadFactory.createWorkload();
         workload.init( configuration );
         // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
         List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
         streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
         streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        for ( WorkloadStreamDefinition stream : unlimitedBlockingStreams )
         {
             streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-
             streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-        }
-
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
-        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
-        long[] startForStream = limitsAndMinimumsForStream._1();
-        long[] limitForStream = limitsAndMinimumsForStream._2();
-        long minimumTimeStamp = limitsAndMinimumsForStream._3();
-
-        workload.close();
-
-        // ================================
-        // ====== Create Limited Streams ==
-        // ================================
-
-        WorkloadStreams workloadStreams = new WorkloadStreams();
-
-        // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-
-        // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
-        List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
-
-        // advance to offsets
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
-        for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
-        {
-            gf.consume( unlimitedBlockingStreams.get( i ).dependencyOperations(), startForStream[i * 2 + 2] );
-            gf.consume( unlimitedBlockingStreams.get( i ).nonDependencyOperations(), startForStream[i * 2 + 3] );
         }
 
+        // limits of each stream are computed while streams are read, so every stream is read exactly once
+        OffsetAndLimitedOperationStreams offsetAndLimitedOperationStreams = new OffsetAndLimitedOperationStreams(
+                streams,
+                childOperationGenerators,
+                offset,
+                limit,
+                configuration.maxBufferedOperations(),
+                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() )
+        );
+        long minimumTimeStamp = offsetAndLimitedOperationStreams.skipOffsetAndRetrieveMinimumTimeStamp();
+
         // copy unbounded streams to new workload streams instance, from offsets, applying limits
+        WorkloadStreams workloadStreams = new WorkloadStreams();
         workloadStreams.setAsynchronousStream(
                 unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
                 unlimitedWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
-                gf.limit( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), limitForStream[0] ),
-                gf.limit( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), limitForStream[1] ),
+                offsetAndLimitedOperationStreams.selectedOperationsFor( 0 ),
+                offsetAndLimitedOperationStreams.selectedOperationsFor( 1 ),
                 unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator()
         );
         for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
@@ -335,8 +415,8 @@ public class WorkloadStreams
             workloadStreams.addBlockingStream(
                     unlimitedBlockingStreams.get( i ).dependentOperationTypes(),
                     unlimitedBlockingStreams.get( i ).dependencyOperationTypes(),
-                    gf.limit( unlimitedBlockingStreams.get( i ).dependencyOperations(), limitForStream[i * 2 + 2] ),
-                    gf.limit( unlimitedBlockingStreams.get( i ).nonDependencyOperations(), limitForStream[i * 2 + 3] ),
+                    offsetAndLimitedOperationStreams.selectedOperationsFor( i * 2 + 2 ),
+                    offsetAndLimitedOperationStreams.selectedOperationsFor( i * 2 + 3 ),
                     unlimitedBlockingStreams.get( i ).childOperationGenerator()
             );
         }
@@ -348,6 +428,25 @@ public class WorkloadStreams
         );
     }
 
+    private static void closeStreams( WorkloadStreams workloadStreams ) throws IOException
+    {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        for ( WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            streams.add( stream.nonDependencyOperations() );
+        }
+        for ( Iterator<Operation> stream : streams )
+        {
+            if ( stream instanceof Closeable )
+            {
+                ((Closeable) stream).close();
+            }
+        }
+    }
+
     // returns (start_per_stream, end_per_stream, minimum_timestamp)
     public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
             List<Iterator<Operation>> streams,
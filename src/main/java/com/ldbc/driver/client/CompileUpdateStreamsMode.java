@@ -0,0 +1,74 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.util.ClassLoaderHelper;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+public class CompileUpdateStreamsMode implements ClientMode<Long>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private LdbcSnbInteractiveWorkload workload = null;
+
+    public CompileUpdateStreamsMode( ControlService controlService ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        Workload loadedWorkload;
+        try
+        {
+            loadedWorkload = ClassLoaderHelper.loadWorkload( controlService.configuration().workloadClassName() );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading Workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        if ( false == loadedWorkload instanceof LdbcSnbInteractiveWorkload )
+        {
+            throw new ClientException( format( "Compiling update streams is only supported by: %s",
+                    LdbcSnbInteractiveWorkload.class.getName() ) );
+        }
+        workload = (LdbcSnbInteractiveWorkload) loadedWorkload;
+        try
+        {
+            workload.init( controlService.configuration() );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException( format( "Error initializing Workload: %s",
+                    workload.getClass().getName() ), e );
+        }
+        loggingService.info( format( "Loaded Workload: %s", workload.getClass().getName() ) );
+    }
+
+    @Override
+    public Long startExecutionAndAwaitCompletion() throws ClientException
+    {
+        loggingService.info( format( "Compiling update streams of: %s", workload.getClass().getSimpleName() ) );
+        try ( Workload w = workload )
+        {
+            long operationCount = workload.compileUpdateStreams( loggingService );
+            loggingService.info( format( "Compilation complete, %s operations compiled", operationCount ) );
+            return operationCount;
+        }
+        catch ( WorkloadException | IOException e )
+        {
+            throw new ClientException( "Error while compiling update streams", e );
+        }
+    }
+}
@@ -13,13 +13,14 @@ import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
-import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.TcpPeerCommunicator;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.HdrHistogramMetricsService;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
@@ -45,7 +46,7 @@ import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
-public class ExecuteWorkloadMode implements ClientMode<Object>
+public class ExecuteWorkloadMode implements ClientMode<WorkloadResultsSnapshot>
 {
     private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat( "###,###,###,###,###" );
     private final ControlService controlService;
@@ -54,18 +55,34 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private final long randomSeed;
     private final TemporalUtil temporalUtil;
     private final ResultsDirectory resultsDirectory;
+    private final boolean closeDatabase;
 
     private Workload workload = null;
     private Db database = null;
     private MetricsService metricsService = null;
     private CompletionTimeService completionTimeService = null;
+    private TcpPeerCommunicator peerCommunicator = null;
     private WorkloadRunner workloadRunner = null;
     private SimpleCsvFileWriter csvResultsLogFileWriter = null;
+    private ResultsLogValidationResult scheduleAuditResult = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
             TimeSource timeSource,
             long randomSeed ) throws ClientException
+    {
+        this( controlService, timeSource, randomSeed, null );
+    }
+
+    /**
+     * @param database initialized database connector to execute the workload against, it is not closed on completion
+     * (it remains owned by the caller), or null to load & initialize the one from configuration
+     */
+    public ExecuteWorkloadMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed,
+            Db database ) throws ClientException
     {
         this.controlService = controlService;
         this.timeSource = timeSource;
@@ -73,6 +90,16 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         this.randomSeed = randomSeed;
         this.temporalUtil = new TemporalUtil();
         this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+        this.database = database;
+        this.closeDatabase = null == database;
+    }
+
+    /**
+     * @return result of the schedule audit of the run phase, null if the audit was not performed
+     */
+    public ResultsLogValidationResult scheduleAuditResult()
+    {
+        return scheduleAuditResult;
     }
 
     /*
@@ -93,7 +120,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     }
 
     @Override
-    public Object startExecutionAndAwaitCompletion() throws ClientException
+    public WorkloadResultsSnapshot startExecutionAndAwaitCompletion() throws ClientException
     {
         if ( controlService.configuration().skipCount() > 0 )
         {
@@ -135,20 +162,23 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                              " --- Run Phase ---\n" +
                              " -----------------" );
         doInit( false );
-        doExecute( false );
+        WorkloadResultsSnapshot workloadResults = doExecute( false );
 
-        try
+        if ( closeDatabase )
         {
-            loggingService.info( "Shutting down database connector..." );
-            database.close();
-            loggingService.info( "Database connector shutdown successfully" );
-        }
-        catch ( IOException e )
-        {
-            throw new ClientException( "Error shutting down database", e );
+            try
+            {
+                loggingService.info( "Shutting down database connector..." );
+                database.close();
+                loggingService.info( "Database connector shutdown successfully" );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Error shutting down database", e );
+            }
         }
         loggingService.info( "Workload completed successfully" );
-        return null;
+        return workloadResults;
     }
 
     private void doInit( boolean warmup ) throws ClientException
@@ -224,6 +254,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
 
         loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
+        if ( null != controlService.configuration().loadProfile() )
+        {
+            loggingService.info( format( "Applying load profile: %s", controlService.configuration().loadProfile() ) );
+        }
         controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
         WorkloadStreams timeMappedWorkloadStreams;
         try
@@ -232,6 +266,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     workloadStreams,
                     controlService.workloadStartTimeAsMilli(),
                     controlService.configuration().timeCompressionRatio(),
+                    controlService.configuration().loadProfile(),
                     gf
             );
         }
@@ -268,7 +303,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
+            metricsService = new HdrHistogramMetricsService(
                     timeSource,
                     errorReporter,
                     controlService.configuration().timeUnit(),
@@ -290,7 +325,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedConcurrentCompletionTimeServiceFromPeerIds(
+                    completionTimeServiceAssistant.newCompletionTimeServiceFromPeerIds(
+                            controlService.configuration().completionTimeServiceType(),
                             timeSource,
                             controlService.configuration().peerIds(),
                             errorReporter
@@ -299,17 +335,50 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         catch ( CompletionTimeException e )
         {
             throw new ClientException(
-                    format( "Error while instantiating Completion Time Service with peer IDs %s",
+                    format( "Error while instantiating %s Completion Time Service with peer IDs %s",
+                            controlService.configuration().completionTimeServiceType().name(),
                             controlService.configuration().peerIds().toString() ), e );
         }
 
+        //  ===========================
+        //  ===  Peer Communication  ==
+        //  ===========================
+        peerCommunicator = null;
+        if ( false == controlService.configuration().peerIds().isEmpty() )
+        {
+            if ( null == controlService.configuration().peerAddress() )
+            {
+                throw new ClientException( "Peer address of this driver must be given when peer IDs are given" );
+            }
+            loggingService.info( format( "Listening for peers %s on %s",
+                    controlService.configuration().peerIds().toString(),
+                    controlService.configuration().peerAddress() ) );
+            try
+            {
+                // warmup & real run listen on the same address, session tells peers which of the two is running
+                peerCommunicator = new TcpPeerCommunicator(
+                        timeSource,
+                        controlService.configuration().peerAddress(),
+                        controlService.configuration().peerIds(),
+                        (warmup) ? 0 : 1,
+                        completionTimeService.localCompletionTimeReader(),
+                        completionTimeService,
+                        errorReporter
+                );
+            }
+            catch ( CompletionTimeException e )
+            {
+                throw new ClientException( "Error while instantiating peer communicator", e );
+            }
+            peerCommunicator.start();
+        }
+
         //  ========================
         //  ===  Workload Runner  ==
         //  ========================
         loggingService.info( format( "Instantiating %s", WorkloadRunner.class.getSimpleName() ) );
         try
         {
-            int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
             workloadRunner = new WorkloadRunner(
                     timeSource,
                     database,
@@ -321,8 +390,15 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxOutstandingOperations(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    controlService.configuration().executorQueueSize(),
+                    controlService.configuration().executorQueueType(),
+                    controlService.configuration().batchSize(),
+                    controlService.configuration().batchMaxWaitAsMilli(),
+                    controlService.configuration().executorPartitions() );
         }
         catch ( Exception e )
         {
@@ -357,15 +433,21 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp - 1 );
                 completionTimeServiceAssistant
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp );
+                long globalCompletionTimeWaitTimeoutDurationAsMilli = TimeUnit.SECONDS.toMillis( 5 );
+                if ( null != peerCommunicator )
+                {
+                    // GCT also depends on peers, which may take some time to start
+                    globalCompletionTimeWaitTimeoutDurationAsMilli =
+                            TcpPeerCommunicator.DEFAULT_CONNECT_TIMEOUT_AS_MILLI;
+                }
                 boolean globalCompletionTimeAdvancedToDesiredTime =
                         completionTimeServiceAssistant.waitForGlobalCompletionTime(
                                 timeSource,
                                 minimumTimeStamp - 1,
-                                TimeUnit.SECONDS.toMillis( 5 ),
+                                globalCompletionTimeWaitTimeoutDurationAsMilli,
                                 completionTimeService,
                                 errorReporter
                         );
-                long globalCompletionTimeWaitTimeoutDurationAsMilli = TimeUnit.SECONDS.toMillis( 5 );
                 if ( !globalCompletionTimeAdvancedToDesiredTime )
                 {
                     throw new ClientException(
@@ -389,7 +471,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
     }
 
-    private void doExecute( boolean warmup ) throws ClientException
+    private WorkloadResultsSnapshot doExecute( boolean warmup ) throws ClientException
     {
         try
         {
@@ -406,6 +488,19 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException( "Error running workload", e );
         }
 
+        if ( null != peerCommunicator )
+        {
+            loggingService.info( "Notifying peers that workload has completed..." );
+            try
+            {
+                peerCommunicator.finish();
+            }
+            catch ( CompletionTimeException e )
+            {
+                throw new ClientException( "Error while notifying peers that workload has completed", e );
+            }
+        }
+
         loggingService.info( "Shutting down completion time service..." );
         try
         {
@@ -484,6 +579,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                             resultsLogValidationTolerances
                     );
                     loggingService.info( validationResult.toString() );
+                    if ( false == warmup )
+                    {
+                        scheduleAuditResult = validationResult;
+                    }
                     Files.write(
                             resultsValidationFile.toPath(),
                             resultsLogValidationSummary.toJson().getBytes( StandardCharsets.UTF_8 )
@@ -495,5 +594,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Could not export workload metrics", e );
         }
+        return workloadResults;
     }
 }
@@ -25,6 +25,8 @@ public class ResultsDirectory
     public static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     public static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
+    public static final String THROUGHPUT_SEARCH_FILENAME_SUFFIX = "-throughput_search.json";
+    public static final String THROUGHPUT_SEARCH_PROBE_DIRECTORY_SUFFIX = "-throughput_search-probe_";
 
     private final DriverConfiguration configuration;
     private final File resultsDir;
@@ -208,6 +210,53 @@ public class ResultsDirectory
         }
     }
 
+    public File getOrCreateThroughputSearchFile() throws ClientException
+    {
+        File throughputSearchFile = getThroughputSearchFile();
+        if ( !throughputSearchFile.exists() )
+        {
+            try
+            {
+                com.ldbc.driver.util.FileUtils.createOrFail( throughputSearchFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating throughput search file: %s", throughputSearchFile.getAbsolutePath() ),
+                        e
+                );
+            }
+        }
+        return throughputSearchFile;
+    }
+
+    public File getThroughputSearchFile() throws ClientException
+    {
+        if ( null == resultsDir )
+        {
+            throw new ClientException( "Results directory is null" );
+        }
+        else
+        {
+            return new File( resultsDir, configuration.name() + THROUGHPUT_SEARCH_FILENAME_SUFFIX );
+        }
+    }
+
+    /**
+     * @return sub directory for the results of one throughput search probe, it is created when the probe runs
+     */
+    public File getThroughputSearchProbeDirectory( int probe ) throws ClientException
+    {
+        if ( null == resultsDir )
+        {
+            throw new ClientException( "Results directory is null" );
+        }
+        else
+        {
+            return new File( resultsDir, configuration.name() + THROUGHPUT_SEARCH_PROBE_DIRECTORY_SUFFIX + probe );
+        }
+    }
+
     public Set<File> files() throws ClientException
     {
         if ( null == resultsDir )
@@ -0,0 +1,236 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.LocalControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.util.ClassLoaderHelper;
+import com.ldbc.driver.validation.ResultsLogValidationResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the highest throughput a database connector can sustain, i.e., the lowest time compression ratio at
+ * which the workload still passes the schedule audit (see ResultsLogValidationTolerances of the workload).
+ * <p/>
+ * Every probe executes the workload (operation count operations) with ExecuteWorkloadMode, at the time compression
+ * ratio chosen by TimeCompressionRatioSearch. All probes use the same database connector instance, so data loaded by
+ * the connector and the warmed up JIT carry over from one probe to the next. Only the first probe executes the
+ * configured warmup.
+ * <p/>
+ * The database is not reset between probes, so probes must not execute the same operations: repeated updates would
+ * be duplicate writes (e.g., inserts of entities that already exist). Instead, every probe executes the next window of
+ * the workload, i.e., it skips the operations executed by earlier probes, as if probes were one continuous run.
+ * The workload must therefore provide (skip count + warmup count + probes * operation count) operations.
+ * <p/>
+ * Results of every probe are written to a sub directory of the results directory, the search summary to
+ * [name]-throughput_search.json.
+ */
+public class ThroughputSearchMode implements ClientMode<ThroughputSearchResult>
+{
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+    private final ResultsDirectory resultsDirectory;
+
+    private Db database = null;
+
+    public ThroughputSearchMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+        this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        if ( controlService.configuration().ignoreScheduledStartTimes() )
+        {
+            throw new ClientException(
+                    "Throughput search requires the schedule audit, which is not performed when scheduled start " +
+                    "times are ignored" );
+        }
+        if ( false == resultsDirectory.exists() )
+        {
+            throw new ClientException( "Throughput search requires a results directory, for the schedule audit" );
+        }
+
+        Workload workload;
+        try
+        {
+            workload = ClassLoaderHelper.loadWorkload( controlService.configuration().workloadClassName() );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading Workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+
+        try
+        {
+            database = ClassLoaderHelper.loadDb( controlService.configuration().dbClassName() );
+            database.init(
+                    controlService.configuration().asMap(),
+                    controlService.loggingServiceFactory().loggingServiceFor( database.getClass().getSimpleName() ),
+                    workload.operationTypeToClassMapping()
+            );
+        }
+        catch ( DbException e )
+        {
+            throw new ClientException(
+                    format( "Error loading DB class: %s", controlService.configuration().dbClassName() ), e );
+        }
+        loggingService.info( format( "Loaded DB: %s", database.getClass().getName() ) );
+
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public ThroughputSearchResult startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch(
+                configuration.timeCompressionRatio(),
+                configuration.throughputSearchProbes(),
+                TimeCompressionRatioSearch.DEFAULT_RESOLUTION
+        );
+        List<ThroughputSearchResult.Probe> probes = new ArrayList<>();
+        while ( search.hasNext() )
+        {
+            int probe = search.probeCount() + 1;
+            double timeCompressionRatio = search.next();
+            loggingService.info( format( "\n" +
+                                         " ------------------------------------------------\n" +
+                                         " --- Throughput Search Probe %s/%s (TCR %s) ---\n" +
+                                         " ------------------------------------------------",
+                    probe, configuration.throughputSearchProbes(), timeCompressionRatio ) );
+            ThroughputSearchResult.Probe probeResult = executeProbe( probe, timeCompressionRatio );
+            loggingService.info( probeResult.toString() );
+            probes.add( probeResult );
+            search.report( timeCompressionRatio, probeResult.passed() );
+        }
+
+        try
+        {
+            loggingService.info( "Shutting down database connector..." );
+            database.close();
+            loggingService.info( "Database connector shutdown successfully" );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error shutting down database", e );
+        }
+
+        ThroughputSearchResult throughputSearchResult = new ThroughputSearchResult( probes );
+        loggingService.info( throughputSearchResult.toString() );
+        File throughputSearchFile = resultsDirectory.getOrCreateThroughputSearchFile();
+        loggingService.info( format( "Exporting throughput search to: %s", throughputSearchFile.getAbsolutePath() ) );
+        try
+        {
+            Files.write(
+                    throughputSearchFile.toPath(),
+                    throughputSearchResult.toJson().getBytes( StandardCharsets.UTF_8 )
+            );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error writing throughput search file: %s", throughputSearchFile.getAbsolutePath() ), e );
+        }
+        return throughputSearchResult;
+    }
+
+    private ThroughputSearchResult.Probe executeProbe( int probe, double timeCompressionRatio )
+            throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        File probeResultsDir = resultsDirectory.getThroughputSearchProbeDirectory( probe );
+        Map<String,String> probeParams = new HashMap<>();
+        probeParams.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                Double.toString( timeCompressionRatio ) );
+        probeParams.put( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG, probeResultsDir.getAbsolutePath() );
+        probeParams.put( ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_PROBES_ARG, Integer.toString( 0 ) );
+        if ( probe > 1 )
+        {
+            // operations of warmup and earlier probes have been applied to the database already
+            long executedOperationCount = configuration.warmupCount() + (probe - 1) * configuration.operationCount();
+            probeParams.put( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 0 ) );
+            probeParams.put( ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG,
+                    Long.toString( configuration.skipCount() + executedOperationCount ) );
+        }
+        DriverConfiguration probeConfiguration;
+        try
+        {
+            probeConfiguration = configuration.applyArgs( probeParams );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error creating configuration for throughput search probe %s", probe ),
+                    e );
+        }
+
+        ControlService probeControlService = new LocalControlService(
+                controlService.workloadStartTimeAsMilli(),
+                probeConfiguration,
+                controlService.loggingServiceFactory(),
+                timeSource
+        );
+        ExecuteWorkloadMode executeWorkloadMode =
+                new ExecuteWorkloadMode( probeControlService, timeSource, randomSeed, database );
+        executeWorkloadMode.init();
+        WorkloadResultsSnapshot workloadResults = executeWorkloadMode.startExecutionAndAwaitCompletion();
+        ResultsLogValidationResult scheduleAuditResult = executeWorkloadMode.scheduleAuditResult();
+        probeControlService.shutdown();
+        try
+        {
+            // clears the runnable context pool, which holds references to services of the completed probe
+            database.reInit();
+        }
+        catch ( DbException e )
+        {
+            throw new ClientException(
+                    format( "Error reinitializing DB after throughput search probe %s: %s",
+                            probe, database.getClass().getName() ), e );
+        }
+
+        List<String> scheduleAuditErrors = new ArrayList<>();
+        for ( ResultsLogValidationResult.ValidationError error : scheduleAuditResult.errors() )
+        {
+            scheduleAuditErrors.add( error.errorType().name() + " : " + error.message() );
+        }
+        return new ThroughputSearchResult.Probe(
+                probe,
+                timeCompressionRatio,
+                scheduleAuditResult.isSuccessful(),
+                workloadResults.totalOperationCount(),
+                workloadResults.throughput(),
+                scheduleAuditErrors,
+                probeResultsDir.getAbsolutePath()
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.ldbc.driver.client;
+
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.util.DefaultPrettyPrinter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+public class ThroughputSearchResult
+{
+    public static class Probe
+    {
+        @JsonProperty( value = "probe" )
+        private int probe;
+
+        @JsonProperty( value = "time_compression_ratio" )
+        private double timeCompressionRatio;
+
+        @JsonProperty( value = "passed" )
+        private boolean passed;
+
+        @JsonProperty( value = "operation_count" )
+        private long operationCount;
+
+        @JsonProperty( value = "throughput" )
+        private double throughput;
+
+        @JsonProperty( value = "schedule_audit" )
+        private List<String> scheduleAuditErrors;
+
+        @JsonProperty( value = "results_dir" )
+        private String resultsDirPath;
+
+        private Probe()
+        {
+        }
+
+        Probe( int probe,
+                double timeCompressionRatio,
+                boolean passed,
+                long operationCount,
+                double throughput,
+                List<String> scheduleAuditErrors,
+                String resultsDirPath )
+        {
+            this.probe = probe;
+            this.timeCompressionRatio = timeCompressionRatio;
+            this.passed = passed;
+            this.operationCount = operationCount;
+            this.throughput = throughput;
+            this.scheduleAuditErrors = scheduleAuditErrors;
+            this.resultsDirPath = resultsDirPath;
+        }
+
+        public int probe()
+        {
+            return probe;
+        }
+
+        public double timeCompressionRatio()
+        {
+            return timeCompressionRatio;
+        }
+
+        public boolean passed()
+        {
+            return passed;
+        }
+
+        public long operationCount()
+        {
+            return operationCount;
+        }
+
+        public double throughput()
+        {
+            return throughput;
+        }
+
+        public List<String> scheduleAuditErrors()
+        {
+            return scheduleAuditErrors;
+        }
+
+        public String resultsDirPath()
+        {
+            return resultsDirPath;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format( "Probe %s: TCR %s, %s, Operations %s, Throughput %.2f (op/s)",
+                    probe,
+                    timeCompressionRatio,
+                    (passed) ? "PASSED" : "FAILED " + scheduleAuditErrors,
+                    operationCount,
+                    throughput );
+        }
+    }
+
+    @JsonProperty( value = "sustainable_time_compression_ratio" )
+    private Double sustainableTimeCompressionRatio;
+
+    @JsonProperty( value = "sustainable_throughput" )
+    private Double sustainableThroughput;
+
+    @JsonProperty( value = "probes" )
+    private List<Probe> probes;
+
+    private ThroughputSearchResult()
+    {
+    }
+
+    ThroughputSearchResult( List<Probe> probes )
+    {
+        this.probes = new ArrayList<>( probes );
+        for ( Probe probe : probes )
+        {
+            if ( probe.passed() && (null == sustainableTimeCompressionRatio ||
+                                    probe.timeCompressionRatio() < sustainableTimeCompressionRatio) )
+            {
+                sustainableTimeCompressionRatio = probe.timeCompressionRatio();
+                sustainableThroughput = probe.throughput();
+            }
+        }
+    }
+
+    /**
+     * @return lowest time compression ratio that passed the schedule audit, null if no probe passed
+     */
+    public Double sustainableTimeCompressionRatio()
+    {
+        return sustainableTimeCompressionRatio;
+    }
+
+    /**
+     * @return throughput (op/s) of the probe with the sustainable time compression ratio, null if no probe passed
+     */
+    public Double sustainableThroughput()
+    {
+        return sustainableThroughput;
+    }
+
+    public List<Probe> probes()
+    {
+        return probes;
+    }
+
+    public String toJson()
+    {
+        try
+        {
+            return new ObjectMapper().writer( new DefaultPrettyPrinter() ).writeValueAsString( this );
+        }
+        catch ( Exception e )
+        {
+            throw new RuntimeException( "Error serializing to JSON string", e );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        if ( null == sustainableTimeCompressionRatio )
+        {
+            sb.append( "No sustainable time compression ratio found -- every probe failed the schedule audit" );
+        }
+        else
+        {
+            sb.append( format( "Sustainable Time Compression Ratio: %s, Throughput: %.2f (op/s)",
+                    sustainableTimeCompressionRatio,
+                    sustainableThroughput ) );
+        }
+        for ( Probe probe : probes )
+        {
+            sb.append( "\n\t" ).append( probe.toString() );
+        }
+        return sb.toString();
+    }
+}
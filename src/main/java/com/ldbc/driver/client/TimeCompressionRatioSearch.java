@@ -0,0 +1,95 @@
+package com.ldbc.driver.client;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the lowest time compression ratio (i.e., highest throughput) at which a workload still passes,
+ * using a bounded number of probes.
+ * <p/>
+ * Ramp phase: until both a passing and a failing ratio are known, the ratio is halved after every pass and doubled
+ * after every failure, starting at the initial ratio.
+ * <p/>
+ * Bisection phase: afterwards the geometric mean of the lowest passing ratio and the highest failing ratio is probed,
+ * until the two are within resolution of each other or the probes are used up.
+ * <p/>
+ * Assumes that if a ratio passes all higher ratios (slower schedules) pass too.
+ */
+class TimeCompressionRatioSearch
+{
+    static final double DEFAULT_RESOLUTION = 0.05;
+
+    private final int maxProbeCount;
+    private final double resolution;
+    private double nextRatio;
+    private int probeCount = 0;
+    private Double lowestPassingRatio = null;
+    private Double highestFailingRatio = null;
+
+    TimeCompressionRatioSearch( double initialRatio, int maxProbeCount, double resolution )
+    {
+        if ( initialRatio <= 0 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Initial time compression ratio must be positive: %s", initialRatio ) );
+        }
+        this.nextRatio = initialRatio;
+        this.maxProbeCount = maxProbeCount;
+        this.resolution = resolution;
+    }
+
+    boolean hasNext()
+    {
+        if ( probeCount >= maxProbeCount )
+        {
+            return false;
+        }
+        if ( null == lowestPassingRatio || null == highestFailingRatio )
+        {
+            return true;
+        }
+        return lowestPassingRatio / highestFailingRatio > 1 + resolution;
+    }
+
+    double next()
+    {
+        return nextRatio;
+    }
+
+    void report( double ratio, boolean passed )
+    {
+        probeCount++;
+        if ( passed )
+        {
+            lowestPassingRatio = ratio;
+        }
+        else
+        {
+            highestFailingRatio = ratio;
+        }
+        if ( null == highestFailingRatio )
+        {
+            nextRatio = ratio / 2;
+        }
+        else if ( null == lowestPassingRatio )
+        {
+            nextRatio = ratio * 2;
+        }
+        else
+        {
+            nextRatio = Math.sqrt( lowestPassingRatio * highestFailingRatio );
+        }
+    }
+
+    /**
+     * @return lowest time compression ratio that passed, null if none did
+     */
+    Double lowestPassingRatio()
+    {
+        return lowestPassingRatio;
+    }
+
+    int probeCount()
+    {
+        return probeCount;
+    }
+}
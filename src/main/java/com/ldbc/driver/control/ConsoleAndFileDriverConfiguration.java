@@ -3,9 +3,18 @@ package com.ldbc.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
+import com.ldbc.driver.temporal.TemporalException;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
 import com.ldbc.driver.workloads.simple.db.SimpleDb;
 import org.apache.commons.cli.BasicParser;
@@ -158,6 +167,137 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String SPINNER_SLEEP_DURATION_DESCRIPTION =
             "sleep duration (ms) injected into busy wait loops (to reduce CPU consumption)";
 
+    public static final String SPINNER_WAIT_STRATEGY_ARG = "sws";
+    private static final String SPINNER_WAIT_STRATEGY_ARG_LONG = "spinner_wait_strategy";
+    public static final Spinner.WaitStrategy SPINNER_WAIT_STRATEGY_DEFAULT = Spinner.WaitStrategy.SLEEP;
+    public static final String SPINNER_WAIT_STRATEGY_DEFAULT_STRING = SPINNER_WAIT_STRATEGY_DEFAULT.name();
+    private static final String SPINNER_WAIT_STRATEGY_DESCRIPTION = format(
+            "strategy used to wait for scheduled start times. default:%s, valid:%s",
+            SPINNER_WAIT_STRATEGY_DEFAULT_STRING,
+            Arrays.toString( Spinner.WaitStrategy.values() ) );
+
+    public static final String OPERATION_EXECUTOR_ARG = "oe";
+    private static final String OPERATION_EXECUTOR_ARG_LONG = "operation_executor";
+    public static final OperationExecutorType OPERATION_EXECUTOR_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String OPERATION_EXECUTOR_DEFAULT_STRING = OPERATION_EXECUTOR_DEFAULT.name();
+    private static final String OPERATION_EXECUTOR_DESCRIPTION = format(
+            "executor used for operations of asynchronous streams. default:%s, valid:%s",
+            OPERATION_EXECUTOR_DEFAULT_STRING,
+            Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String MAX_OUTSTANDING_OPERATIONS_ARG = "mo";
+    private static final String MAX_OUTSTANDING_OPERATIONS_ARG_LONG = "max_outstanding_operations";
+    public static final int MAX_OUTSTANDING_OPERATIONS_DEFAULT = 1000;
+    public static final String MAX_OUTSTANDING_OPERATIONS_DEFAULT_STRING =
+            Integer.toString( MAX_OUTSTANDING_OPERATIONS_DEFAULT );
+    private static final String MAX_OUTSTANDING_OPERATIONS_DESCRIPTION = format(
+            "maximum number of operations in flight at any time, used by %s executor (default: %s)",
+            OperationExecutorType.ASYNC.name(),
+            MAX_OUTSTANDING_OPERATIONS_DEFAULT_STRING );
+
+    public static final String EXECUTOR_QUEUE_SIZE_ARG = "eqs";
+    private static final String EXECUTOR_QUEUE_SIZE_ARG_LONG = "executor_queue_size";
+    public static final int EXECUTOR_QUEUE_SIZE_DEFAULT = DefaultQueues.DEFAULT_BOUND_1000;
+    public static final String EXECUTOR_QUEUE_SIZE_DEFAULT_STRING = Integer.toString( EXECUTOR_QUEUE_SIZE_DEFAULT );
+    private static final String EXECUTOR_QUEUE_SIZE_DESCRIPTION = format(
+            "capacity of operation executor work queues (default: %s)",
+            EXECUTOR_QUEUE_SIZE_DEFAULT_STRING );
+
+    public static final String EXECUTOR_QUEUE_TYPE_ARG = "eqt";
+    private static final String EXECUTOR_QUEUE_TYPE_ARG_LONG = "executor_queue_type";
+    public static final DefaultQueues.BoundedQueueType EXECUTOR_QUEUE_TYPE_DEFAULT =
+            DefaultQueues.BoundedQueueType.LINKED;
+    public static final String EXECUTOR_QUEUE_TYPE_DEFAULT_STRING = EXECUTOR_QUEUE_TYPE_DEFAULT.name();
+    private static final String EXECUTOR_QUEUE_TYPE_DESCRIPTION = format(
+            "implementation of operation executor work queues. default:%s, valid:%s",
+            EXECUTOR_QUEUE_TYPE_DEFAULT_STRING,
+            Arrays.toString( DefaultQueues.BoundedQueueType.values() ) );
+
+    public static final String BATCH_SIZE_ARG = "bs";
+    private static final String BATCH_SIZE_ARG_LONG = "batch_size";
+    public static final int BATCH_SIZE_DEFAULT = 1;
+    public static final String BATCH_SIZE_DEFAULT_STRING = Integer.toString( BATCH_SIZE_DEFAULT );
+    private static final String BATCH_SIZE_DESCRIPTION = format(
+            "maximum number of blocking stream operations executed together by a batch handler, 1 disables " +
+            "batching (default: %s)",
+            BATCH_SIZE_DEFAULT_STRING );
+
+    public static final String BATCH_MAX_WAIT_ARG = "bw";
+    private static final String BATCH_MAX_WAIT_ARG_LONG = "batch_max_wait";
+    public static final long BATCH_MAX_WAIT_DEFAULT = 10;
+    public static final String BATCH_MAX_WAIT_DEFAULT_STRING = Long.toString( BATCH_MAX_WAIT_DEFAULT );
+    private static final String BATCH_MAX_WAIT_DESCRIPTION = format(
+            "maximum duration (ms) between scheduled start times of first and last operation of a batch " +
+            "(default: %s)",
+            BATCH_MAX_WAIT_DEFAULT_STRING );
+
+    public static final String EXECUTOR_PARTITIONS_ARG = "ep";
+    private static final String EXECUTOR_PARTITIONS_ARG_LONG = "executor_partitions";
+    public static final List<OperationExecutorPartition> EXECUTOR_PARTITIONS_DEFAULT = Lists.newArrayList();
+    public static final String EXECUTOR_PARTITIONS_DEFAULT_STRING =
+            serializeExecutorPartitionsToCommandline( EXECUTOR_PARTITIONS_DEFAULT );
+    private static final String EXECUTOR_PARTITIONS_DESCRIPTION =
+            "operation types that get their own worker threads & queue, instead of sharing the executor thread pool " +
+            "-- format Type1,Type2:threadCount:queueSize|Type3:threadCount:queueSize (default: none). " +
+            "only supported by THREAD_POOL & TIMING_WHEEL executors";
+
+    public static final String THROUGHPUT_SEARCH_PROBES_ARG = "tsp";
+    private static final String THROUGHPUT_SEARCH_PROBES_ARG_LONG = "throughput_search_probes";
+    public static final int THROUGHPUT_SEARCH_PROBES_DEFAULT = 0;
+    public static final String THROUGHPUT_SEARCH_PROBES_DEFAULT_STRING =
+            Integer.toString( THROUGHPUT_SEARCH_PROBES_DEFAULT );
+    private static final String THROUGHPUT_SEARCH_PROBES_DESCRIPTION = format(
+            "search for the lowest sustainable time compression ratio (highest throughput) with at most this many " +
+            "probe runs, starting at the configured ratio, 0 disables search (default: %s)",
+            THROUGHPUT_SEARCH_PROBES_DEFAULT_STRING );
+
+    public static final String LOAD_PROFILE_ARG = "lp";
+    private static final String LOAD_PROFILE_ARG_LONG = "load_profile";
+    public static final LoadProfile LOAD_PROFILE_DEFAULT = null;
+    public static final String LOAD_PROFILE_DEFAULT_STRING = serializeLoadProfileToCommandline( LOAD_PROFILE_DEFAULT );
+    private static final String LOAD_PROFILE_DESCRIPTION = format(
+            "changes time compression ratio over the run, factors are relative to time compression ratio & " +
+            "durations are seconds -- step:f1,f2,..:duration | ramp:from:to:duration | " +
+            "spike:base:spike:start:duration | sine:min:max:period (default: %s)",
+            "none" );
+
+    public static final String COMPILE_UPDATE_STREAMS_ARG = "cus";
+    private static final String COMPILE_UPDATE_STREAMS_ARG_LONG = "compile_update_streams";
+    public static final boolean COMPILE_UPDATE_STREAMS_DEFAULT = false;
+    public static final String COMPILE_UPDATE_STREAMS_DEFAULT_STRING =
+            Boolean.toString( COMPILE_UPDATE_STREAMS_DEFAULT );
+    private static final String COMPILE_UPDATE_STREAMS_DESCRIPTION =
+            "compile update streams of workload into binary format, read with update stream parser BINARY";
+
+    public static final String COMPLETION_TIME_SERVICE_ARG = "cts";
+    private static final String COMPLETION_TIME_SERVICE_ARG_LONG = "completion_time_service";
+    public static final CompletionTimeServiceType COMPLETION_TIME_SERVICE_DEFAULT =
+            CompletionTimeServiceType.THREADED_QUEUED;
+    public static final String COMPLETION_TIME_SERVICE_DEFAULT_STRING = COMPLETION_TIME_SERVICE_DEFAULT.name();
+    private static final String COMPLETION_TIME_SERVICE_DESCRIPTION = format(
+            "service that tracks completion time of operations. default:%s, valid:%s",
+            COMPLETION_TIME_SERVICE_DEFAULT_STRING,
+            Arrays.toString( CompletionTimeServiceType.values() ) );
+
+    public static final String PEER_ADDRESS_ARG = "pa";
+    private static final String PEER_ADDRESS_ARG_LONG = "peer_address";
+    public static final String PEER_ADDRESS_DEFAULT = null;
+    public static final String PEER_ADDRESS_DEFAULT_STRING = serializePeerAddressToCommandline( PEER_ADDRESS_DEFAULT );
+    private static final String PEER_ADDRESS_DESCRIPTION =
+            "address (host:port) this driver listens on for peers, and identifies itself by to peers. " +
+            "required when peer IDs are given, peer IDs are the addresses of the other drivers";
+
+    public static final String MAX_BUFFERED_OPERATIONS_ARG = "mbo";
+    private static final String MAX_BUFFERED_OPERATIONS_ARG_LONG = "max_buffered_operations";
+    public static final long MAX_BUFFERED_OPERATIONS_DEFAULT = 0;
+    public static final String MAX_BUFFERED_OPERATIONS_DEFAULT_STRING =
+            Long.toString( MAX_BUFFERED_OPERATIONS_DEFAULT );
+    private static final String MAX_BUFFERED_OPERATIONS_DESCRIPTION = format(
+            "operations are buffered for streams whose consumers lag behind the others, e.g., when ignoring " +
+            "scheduled start times. at most this many are buffered, then the run fails rather than running out of " +
+            "memory, 0 buffers without limit (default: %s)",
+            MAX_BUFFERED_OPERATIONS_DEFAULT_STRING );
+
     public static final String SKIP_COUNT_ARG = "sk";
     private static final String SKIP_COUNT_ARG_LONG = "skip";
     public static final long SKIP_COUNT_DEFAULT = 0;
@@ -214,6 +354,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( TIME_COMPRESSION_RATIO_ARG, TIME_COMPRESSION_RATIO_DEFAULT_STRING );
         defaultParamsMap.put( PEER_IDS_ARG, PEER_IDS_DEFAULT_STRING );
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        defaultParamsMap.put( SPINNER_WAIT_STRATEGY_ARG, SPINNER_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( OPERATION_EXECUTOR_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+        defaultParamsMap.put( MAX_OUTSTANDING_OPERATIONS_ARG, MAX_OUTSTANDING_OPERATIONS_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_QUEUE_SIZE_ARG, EXECUTOR_QUEUE_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_QUEUE_TYPE_ARG, EXECUTOR_QUEUE_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( BATCH_SIZE_ARG, BATCH_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( BATCH_MAX_WAIT_ARG, BATCH_MAX_WAIT_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_PARTITIONS_ARG, EXECUTOR_PARTITIONS_DEFAULT_STRING );
+        defaultParamsMap.put( THROUGHPUT_SEARCH_PROBES_ARG, THROUGHPUT_SEARCH_PROBES_DEFAULT_STRING );
+        defaultParamsMap.put( LOAD_PROFILE_ARG, LOAD_PROFILE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPILE_UPDATE_STREAMS_ARG, COMPILE_UPDATE_STREAMS_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_ARG, COMPLETION_TIME_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( PEER_ADDRESS_ARG, PEER_ADDRESS_DEFAULT_STRING );
+        defaultParamsMap.put( MAX_BUFFERED_OPERATIONS_ARG, MAX_BUFFERED_OPERATIONS_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
         return defaultParamsMap;
@@ -264,6 +418,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 assertValidTimeUnit( paramsMap.get( TIME_UNIT_ARG ) );
             }
 
+            if ( paramsMap.containsKey( SPINNER_WAIT_STRATEGY_ARG ) )
+            {
+                assertValidSpinnerWaitStrategy( paramsMap.get( SPINNER_WAIT_STRATEGY_ARG ) );
+            }
+
+            if ( paramsMap.containsKey( OPERATION_EXECUTOR_ARG ) )
+            {
+                assertValidOperationExecutorType( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            }
+            if ( paramsMap.containsKey( EXECUTOR_QUEUE_TYPE_ARG ) )
+            {
+                assertValidExecutorQueueType( paramsMap.get( EXECUTOR_QUEUE_TYPE_ARG ) );
+            }
+
             paramsMap = MapUtils.mergeMaps( paramsMap, defaultsAsMap(), false );
 
             String name = paramsMap.get( NAME_ARG );
@@ -286,6 +454,27 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     Boolean.parseBoolean( paramsMap.get( CALCULATE_WORKLOAD_STATISTICS_ARG ) );
             long spinnerSleepDurationAsMilli = Long.parseLong( paramsMap.get( SPINNER_SLEEP_DURATION_ARG ) );
             long skipCount = Long.parseLong( paramsMap.get( SKIP_COUNT_ARG ) );
+            Spinner.WaitStrategy spinnerWaitStrategy =
+                    Spinner.WaitStrategy.valueOf( paramsMap.get( SPINNER_WAIT_STRATEGY_ARG ) );
+            OperationExecutorType operationExecutorType =
+                    OperationExecutorType.valueOf( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            int maxOutstandingOperations = Integer.parseInt( paramsMap.get( MAX_OUTSTANDING_OPERATIONS_ARG ) );
+            int executorQueueSize = Integer.parseInt( paramsMap.get( EXECUTOR_QUEUE_SIZE_ARG ) );
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    DefaultQueues.BoundedQueueType.valueOf( paramsMap.get( EXECUTOR_QUEUE_TYPE_ARG ) );
+            int batchSize = Integer.parseInt( paramsMap.get( BATCH_SIZE_ARG ) );
+            long batchMaxWaitAsMilli = Long.parseLong( paramsMap.get( BATCH_MAX_WAIT_ARG ) );
+            List<OperationExecutorPartition> executorPartitions =
+                    parseExecutorPartitionsFromCommandline( paramsMap.get( EXECUTOR_PARTITIONS_ARG ) );
+            int throughputSearchProbes = Integer.parseInt( paramsMap.get( THROUGHPUT_SEARCH_PROBES_ARG ) );
+            LoadProfile loadProfile = parseLoadProfileFromCommandline( paramsMap.get( LOAD_PROFILE_ARG ) );
+            boolean compileUpdateStreams = Boolean.parseBoolean( paramsMap.get( COMPILE_UPDATE_STREAMS_ARG ) );
+            CompletionTimeServiceType completionTimeServiceType =
+                    CompletionTimeServiceType.valueOf( paramsMap.get( COMPLETION_TIME_SERVICE_ARG ) );
+            String peerAddress = parsePeerAddressFromCommandline( paramsMap.get( PEER_ADDRESS_ARG ) );
+            assertValidWorkloadPartitioning( paramsMap, peerIds, peerAddress );
+            assertValidExecutorPartitioning( operationExecutorType, executorPartitions );
+            long maxBufferedOperations = Long.parseLong( paramsMap.get( MAX_BUFFERED_OPERATIONS_ARG ) );
             long warmupCount = Long.parseLong( paramsMap.get( WARMUP_COUNT_ARG ) );
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
             boolean ignoreScheduledStartTimes =
@@ -309,7 +498,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
         }
         catch ( DriverConfigurationException e )
@@ -337,6 +540,103 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    private static void assertValidSpinnerWaitStrategy( String spinnerWaitStrategyString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            Spinner.WaitStrategy.valueOf( spinnerWaitStrategyString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s", Spinner.WaitStrategy.class.getSimpleName(),
+                            spinnerWaitStrategyString ) );
+        }
+    }
+
+    private static void assertValidOperationExecutorType( String operationExecutorTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            OperationExecutorType.valueOf( operationExecutorTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s", OperationExecutorType.class.getSimpleName(),
+                            operationExecutorTypeString ) );
+        }
+    }
+
+    private static void assertValidExecutorQueueType( String executorQueueTypeString )
+            throws DriverConfigurationException
+    {
+        try
+        {
+            DefaultQueues.BoundedQueueType.valueOf( executorQueueTypeString );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Unsupported %s value: %s", DefaultQueues.BoundedQueueType.class.getSimpleName(),
+                            executorQueueTypeString ) );
+        }
+    }
+
+    /**
+     * Only thread pool based executors can give operation types their own worker threads & queue, other executors would
+     * silently run without the requested isolation
+     */
+    private static void assertValidExecutorPartitioning( OperationExecutorType operationExecutorType,
+            List<OperationExecutorPartition> executorPartitions ) throws DriverConfigurationException
+    {
+        if ( false == executorPartitions.isEmpty() &&
+             (OperationExecutorType.ASYNC.equals( operationExecutorType ) ||
+              OperationExecutorType.VIRTUAL_THREAD.equals( operationExecutorType )) )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s (%s) are not supported by %s executor, use %s or %s",
+                            EXECUTOR_PARTITIONS_ARG, EXECUTOR_PARTITIONS_ARG_LONG, operationExecutorType,
+                            OperationExecutorType.THREAD_POOL, OperationExecutorType.TIMING_WHEEL ) );
+        }
+    }
+
+    /**
+     * Dependencies between operations of different partitions are only respected if driver instances exchange
+     * completion times, without peers every instance would only wait for its own operations
+     */
+    private static void assertValidWorkloadPartitioning( Map<String,String> paramsMap, Set<String> peerIds,
+            String peerAddress ) throws DriverConfigurationException
+    {
+        String partitionCountString = paramsMap.get( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT );
+        if ( null == partitionCountString )
+        {
+            return;
+        }
+        int partitionCount;
+        try
+        {
+            partitionCount = Integer.parseInt( partitionCountString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Invalid %s value: %s", LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT,
+                            partitionCountString ), e );
+        }
+        if ( partitionCount > 1 && peerIds.isEmpty() && null == peerAddress )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s is %s, but no peers are configured\n"
+                            + "Partitioned workloads require completion time exchange between driver instances, "
+                            + "provide %s (%s) and/or %s (%s)",
+                            LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, partitionCount,
+                            PEER_IDS_ARG, PEER_IDS_ARG_LONG, PEER_ADDRESS_ARG, PEER_ADDRESS_ARG_LONG ) );
+        }
+    }
+
     private static Map<String,String> parseArgs( String[] args, Options options )
             throws ParseException, DriverConfigurationException
     {
@@ -418,6 +718,76 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SPINNER_SLEEP_DURATION_ARG, cmd.getOptionValue( SPINNER_SLEEP_DURATION_ARG ) );
         }
 
+        if ( cmd.hasOption( SPINNER_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( SPINNER_WAIT_STRATEGY_ARG, cmd.getOptionValue( SPINNER_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( OPERATION_EXECUTOR_ARG ) )
+        {
+            cmdParams.put( OPERATION_EXECUTOR_ARG, cmd.getOptionValue( OPERATION_EXECUTOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( MAX_OUTSTANDING_OPERATIONS_ARG ) )
+        {
+            cmdParams.put( MAX_OUTSTANDING_OPERATIONS_ARG, cmd.getOptionValue( MAX_OUTSTANDING_OPERATIONS_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_QUEUE_SIZE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_QUEUE_SIZE_ARG, cmd.getOptionValue( EXECUTOR_QUEUE_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_QUEUE_TYPE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_QUEUE_TYPE_ARG, cmd.getOptionValue( EXECUTOR_QUEUE_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( BATCH_SIZE_ARG ) )
+        {
+            cmdParams.put( BATCH_SIZE_ARG, cmd.getOptionValue( BATCH_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( BATCH_MAX_WAIT_ARG ) )
+        {
+            cmdParams.put( BATCH_MAX_WAIT_ARG, cmd.getOptionValue( BATCH_MAX_WAIT_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_PARTITIONS_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_PARTITIONS_ARG, cmd.getOptionValue( EXECUTOR_PARTITIONS_ARG ) );
+        }
+
+        if ( cmd.hasOption( THROUGHPUT_SEARCH_PROBES_ARG ) )
+        {
+            cmdParams.put( THROUGHPUT_SEARCH_PROBES_ARG, cmd.getOptionValue( THROUGHPUT_SEARCH_PROBES_ARG ) );
+        }
+
+        if ( cmd.hasOption( LOAD_PROFILE_ARG ) )
+        {
+            cmdParams.put( LOAD_PROFILE_ARG, cmd.getOptionValue( LOAD_PROFILE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPILE_UPDATE_STREAMS_ARG ) )
+        {
+            cmdParams.put( COMPILE_UPDATE_STREAMS_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( PEER_ADDRESS_ARG ) )
+        {
+            cmdParams.put( PEER_ADDRESS_ARG, cmd.getOptionValue( PEER_ADDRESS_ARG ) );
+        }
+
+        if ( cmd.hasOption( MAX_BUFFERED_OPERATIONS_ARG ) )
+        {
+            cmdParams.put( MAX_BUFFERED_OPERATIONS_ARG, cmd.getOptionValue( MAX_BUFFERED_OPERATIONS_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             cmdParams.put( CREATE_VALIDATION_PARAMS_ARG, cmd.getOptionValue( CREATE_VALIDATION_PARAMS_ARG ) );
@@ -514,6 +884,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, DB_VALIDATION_FILE_PATH_ARG_LONG, DB_VALIDATION_FILE_PATH_ARG );
         paramsMap = replaceKey( paramsMap, CALCULATE_WORKLOAD_STATISTICS_ARG_LONG, CALCULATE_WORKLOAD_STATISTICS_ARG );
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
+        paramsMap = replaceKey( paramsMap, SPINNER_WAIT_STRATEGY_ARG_LONG, SPINNER_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_EXECUTOR_ARG_LONG, OPERATION_EXECUTOR_ARG );
+        paramsMap = replaceKey( paramsMap, MAX_OUTSTANDING_OPERATIONS_ARG_LONG, MAX_OUTSTANDING_OPERATIONS_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_QUEUE_SIZE_ARG_LONG, EXECUTOR_QUEUE_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_QUEUE_TYPE_ARG_LONG, EXECUTOR_QUEUE_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, BATCH_SIZE_ARG_LONG, BATCH_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, BATCH_MAX_WAIT_ARG_LONG, BATCH_MAX_WAIT_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_PARTITIONS_ARG_LONG, EXECUTOR_PARTITIONS_ARG );
+        paramsMap = replaceKey( paramsMap, THROUGHPUT_SEARCH_PROBES_ARG_LONG, THROUGHPUT_SEARCH_PROBES_ARG );
+        paramsMap = replaceKey( paramsMap, LOAD_PROFILE_ARG_LONG, LOAD_PROFILE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPILE_UPDATE_STREAMS_ARG_LONG, COMPILE_UPDATE_STREAMS_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_ARG_LONG, COMPLETION_TIME_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, PEER_ADDRESS_ARG_LONG, PEER_ADDRESS_ARG );
+        paramsMap = replaceKey( paramsMap, MAX_BUFFERED_OPERATIONS_ARG_LONG, MAX_BUFFERED_OPERATIONS_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
         return paramsMap;
@@ -616,6 +1000,75 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         SPINNER_SLEEP_DURATION_ARG_LONG ).create( SPINNER_SLEEP_DURATION_ARG );
         options.addOption( spinnerSleepDurationOption );
 
+        Option spinnerWaitStrategyOption = OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                .withDescription( SPINNER_WAIT_STRATEGY_DESCRIPTION ).withLongOpt(
+                        SPINNER_WAIT_STRATEGY_ARG_LONG ).create( SPINNER_WAIT_STRATEGY_ARG );
+        options.addOption( spinnerWaitStrategyOption );
+
+        Option operationExecutorTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( OPERATION_EXECUTOR_DESCRIPTION ).withLongOpt(
+                        OPERATION_EXECUTOR_ARG_LONG ).create( OPERATION_EXECUTOR_ARG );
+        options.addOption( operationExecutorTypeOption );
+
+        Option maxOutstandingOperationsOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( MAX_OUTSTANDING_OPERATIONS_DESCRIPTION ).withLongOpt(
+                        MAX_OUTSTANDING_OPERATIONS_ARG_LONG ).create( MAX_OUTSTANDING_OPERATIONS_ARG );
+        options.addOption( maxOutstandingOperationsOption );
+
+        Option executorQueueSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "size" )
+                .withDescription( EXECUTOR_QUEUE_SIZE_DESCRIPTION ).withLongOpt(
+                        EXECUTOR_QUEUE_SIZE_ARG_LONG ).create( EXECUTOR_QUEUE_SIZE_ARG );
+        options.addOption( executorQueueSizeOption );
+
+        Option executorQueueTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( EXECUTOR_QUEUE_TYPE_DESCRIPTION ).withLongOpt(
+                        EXECUTOR_QUEUE_TYPE_ARG_LONG ).create( EXECUTOR_QUEUE_TYPE_ARG );
+        options.addOption( executorQueueTypeOption );
+
+        Option batchSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "size" )
+                .withDescription( BATCH_SIZE_DESCRIPTION ).withLongOpt( BATCH_SIZE_ARG_LONG ).create( BATCH_SIZE_ARG );
+        options.addOption( batchSizeOption );
+
+        Option batchMaxWaitAsMilliOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( BATCH_MAX_WAIT_DESCRIPTION ).withLongOpt(
+                        BATCH_MAX_WAIT_ARG_LONG ).create( BATCH_MAX_WAIT_ARG );
+        options.addOption( batchMaxWaitAsMilliOption );
+
+        Option executorPartitionsOption = OptionBuilder.hasArgs( 1 ).withArgName( "partitions" )
+                .withDescription( EXECUTOR_PARTITIONS_DESCRIPTION ).withLongOpt(
+                        EXECUTOR_PARTITIONS_ARG_LONG ).create( EXECUTOR_PARTITIONS_ARG );
+        options.addOption( executorPartitionsOption );
+
+        Option throughputSearchProbesOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( THROUGHPUT_SEARCH_PROBES_DESCRIPTION ).withLongOpt(
+                        THROUGHPUT_SEARCH_PROBES_ARG_LONG ).create( THROUGHPUT_SEARCH_PROBES_ARG );
+        options.addOption( throughputSearchProbesOption );
+
+        Option loadProfileOption = OptionBuilder.hasArgs( 1 ).withArgName( "profile" )
+                .withDescription( LOAD_PROFILE_DESCRIPTION ).withLongOpt( LOAD_PROFILE_ARG_LONG )
+                .create( LOAD_PROFILE_ARG );
+        options.addOption( loadProfileOption );
+
+        Option compileUpdateStreamsOption =
+                OptionBuilder.withDescription( COMPILE_UPDATE_STREAMS_DESCRIPTION ).withLongOpt(
+                        COMPILE_UPDATE_STREAMS_ARG_LONG ).create( COMPILE_UPDATE_STREAMS_ARG );
+        options.addOption( compileUpdateStreamsOption );
+
+        Option completionTimeServiceTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( COMPLETION_TIME_SERVICE_DESCRIPTION ).withLongOpt(
+                        COMPLETION_TIME_SERVICE_ARG_LONG ).create( COMPLETION_TIME_SERVICE_ARG );
+        options.addOption( completionTimeServiceTypeOption );
+
+        Option peerAddressOption = OptionBuilder.hasArgs( 1 ).withArgName( "address" )
+                .withDescription( PEER_ADDRESS_DESCRIPTION ).withLongOpt( PEER_ADDRESS_ARG_LONG )
+                .create( PEER_ADDRESS_ARG );
+        options.addOption( peerAddressOption );
+
+        Option maxBufferedOperationsOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( MAX_BUFFERED_OPERATIONS_DESCRIPTION ).withLongOpt(
+                        MAX_BUFFERED_OPERATIONS_ARG_LONG ).create( MAX_BUFFERED_OPERATIONS_ARG );
+        options.addOption( maxBufferedOperationsOption );
+
         Option warmupCountOption =
                 OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( WARMUP_COUNT_DESCRIPTION )
                         .withLongOpt( WARMUP_COUNT_ARG_LONG ).create( WARMUP_COUNT_ARG );
@@ -685,6 +1138,88 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return commandLinePeerIdsString;
     }
 
+    static List<OperationExecutorPartition> parseExecutorPartitionsFromCommandline( String executorPartitionsString )
+            throws DriverConfigurationException
+    {
+        List<OperationExecutorPartition> executorPartitions = new ArrayList<>();
+        Set<String> partitionedOperationTypes = new HashSet<>();
+        for ( String executorPartitionString : executorPartitionsString.split( COMMANDLINE_SEPARATOR_REGEX_STRING ) )
+        {
+            if ( executorPartitionString.trim().isEmpty() )
+            {
+                continue;
+            }
+            OperationExecutorPartition executorPartition;
+            try
+            {
+                executorPartition = OperationExecutorPartition.fromCommandlineString( executorPartitionString );
+            }
+            catch ( OperationExecutorException e )
+            {
+                throw new DriverConfigurationException(
+                        format( "Invalid %s value: %s", EXECUTOR_PARTITIONS_ARG_LONG, executorPartitionsString ), e );
+            }
+            for ( String operationType : executorPartition.operationTypes() )
+            {
+                if ( false == partitionedOperationTypes.add( operationType ) )
+                {
+                    throw new DriverConfigurationException(
+                            format( "Operation type %s appears in more than one executor partition: %s",
+                                    operationType, executorPartitionsString ) );
+                }
+            }
+            executorPartitions.add( executorPartition );
+        }
+        return executorPartitions;
+    }
+
+    static LoadProfile parseLoadProfileFromCommandline( String loadProfileString )
+            throws DriverConfigurationException
+    {
+        if ( loadProfileString.trim().isEmpty() )
+        {
+            return null;
+        }
+        try
+        {
+            return LoadProfile.fromCommandlineString( loadProfileString );
+        }
+        catch ( TemporalException e )
+        {
+            throw new DriverConfigurationException(
+                    format( "Invalid %s value: %s", LOAD_PROFILE_ARG_LONG, loadProfileString ), e );
+        }
+    }
+
+    static String serializeLoadProfileToCommandline( LoadProfile loadProfile )
+    {
+        return (null == loadProfile) ? "" : loadProfile.toCommandlineString();
+    }
+
+    static String parsePeerAddressFromCommandline( String peerAddressString )
+    {
+        return (null == peerAddressString || peerAddressString.trim().isEmpty()) ? null : peerAddressString.trim();
+    }
+
+    static String serializePeerAddressToCommandline( String peerAddress )
+    {
+        return (null == peerAddress) ? "" : peerAddress;
+    }
+
+    static String serializeExecutorPartitionsToCommandline( List<OperationExecutorPartition> executorPartitions )
+    {
+        StringBuilder sb = new StringBuilder();
+        for ( int i = 0; i < executorPartitions.size(); i++ )
+        {
+            if ( i > 0 )
+            {
+                sb.append( COMMANDLINE_SEPARATOR_CHAR );
+            }
+            sb.append( executorPartitions.get( i ).toCommandlineString() );
+        }
+        return sb.toString();
+    }
+
     private static Set<String> coreConfigurationParameterKeys()
     {
         return Sets.newHashSet(
@@ -702,6 +1237,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 DB_VALIDATION_FILE_PATH_ARG,
                 CALCULATE_WORKLOAD_STATISTICS_ARG,
                 SPINNER_SLEEP_DURATION_ARG,
+                SPINNER_WAIT_STRATEGY_ARG,
+                OPERATION_EXECUTOR_ARG,
+                MAX_OUTSTANDING_OPERATIONS_ARG,
+                EXECUTOR_QUEUE_SIZE_ARG,
+                EXECUTOR_QUEUE_TYPE_ARG,
+                BATCH_SIZE_ARG,
+                BATCH_MAX_WAIT_ARG,
+                EXECUTOR_PARTITIONS_ARG,
+                THROUGHPUT_SEARCH_PROBES_ARG,
+                LOAD_PROFILE_ARG,
+                COMPILE_UPDATE_STREAMS_ARG,
+                COMPLETION_TIME_SERVICE_ARG,
+                PEER_ADDRESS_ARG,
+                MAX_BUFFERED_OPERATIONS_ARG,
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
@@ -748,6 +1297,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
     private final long skipCount;
+    private final Spinner.WaitStrategy spinnerWaitStrategy;
+    private final OperationExecutorType operationExecutorType;
+    private final int maxOutstandingOperations;
+    private final int executorQueueSize;
+    private final DefaultQueues.BoundedQueueType executorQueueType;
+    private final int batchSize;
+    private final long batchMaxWaitAsMilli;
+    private final List<OperationExecutorPartition> executorPartitions;
+    private final int throughputSearchProbes;
+    private final LoadProfile loadProfile;
+    private final boolean compileUpdateStreams;
+    private final CompletionTimeServiceType completionTimeServiceType;
+    private final String peerAddress;
+    private final long maxBufferedOperations;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             String name,
@@ -767,7 +1330,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            Spinner.WaitStrategy spinnerWaitStrategy,
+            OperationExecutorType operationExecutorType,
+            int maxOutstandingOperations,
+            int executorQueueSize,
+            DefaultQueues.BoundedQueueType executorQueueType,
+            int batchSize,
+            long batchMaxWaitAsMilli,
+            List<OperationExecutorPartition> executorPartitions,
+            int throughputSearchProbes,
+            LoadProfile loadProfile,
+            boolean compileUpdateStreams,
+            CompletionTimeServiceType completionTimeServiceType,
+            String peerAddress,
+            long maxBufferedOperations )
     {
         if ( null == paramsMap )
         {
@@ -792,6 +1369,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
+        this.spinnerWaitStrategy = spinnerWaitStrategy;
+        this.operationExecutorType = operationExecutorType;
+        this.maxOutstandingOperations = maxOutstandingOperations;
+        this.executorQueueSize = executorQueueSize;
+        this.executorQueueType = executorQueueType;
+        this.batchSize = batchSize;
+        this.batchMaxWaitAsMilli = batchMaxWaitAsMilli;
+        this.executorPartitions = executorPartitions;
+        this.throughputSearchProbes = throughputSearchProbes;
+        this.loadProfile = loadProfile;
+        this.compileUpdateStreams = compileUpdateStreams;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.peerAddress = peerAddress;
+        this.maxBufferedOperations = maxBufferedOperations;
 
         if ( null != name )
         {
@@ -829,6 +1420,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
+        paramsMap.put( SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategy.name() );
+        paramsMap.put( OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+        paramsMap.put( MAX_OUTSTANDING_OPERATIONS_ARG, Integer.toString( maxOutstandingOperations ) );
+        paramsMap.put( EXECUTOR_QUEUE_SIZE_ARG, Integer.toString( executorQueueSize ) );
+        paramsMap.put( EXECUTOR_QUEUE_TYPE_ARG, executorQueueType.name() );
+        paramsMap.put( BATCH_SIZE_ARG, Integer.toString( batchSize ) );
+        paramsMap.put( BATCH_MAX_WAIT_ARG, Long.toString( batchMaxWaitAsMilli ) );
+        paramsMap.put( EXECUTOR_PARTITIONS_ARG, serializeExecutorPartitionsToCommandline( executorPartitions ) );
+        paramsMap.put( THROUGHPUT_SEARCH_PROBES_ARG, Integer.toString( throughputSearchProbes ) );
+        paramsMap.put( LOAD_PROFILE_ARG, serializeLoadProfileToCommandline( loadProfile ) );
+        paramsMap.put( COMPILE_UPDATE_STREAMS_ARG, Boolean.toString( compileUpdateStreams ) );
+        paramsMap.put( COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() );
+        paramsMap.put( PEER_ADDRESS_ARG, serializePeerAddressToCommandline( peerAddress ) );
+        paramsMap.put( MAX_BUFFERED_OPERATIONS_ARG, Long.toString( maxBufferedOperations ) );
     }
 
     @Override
@@ -922,6 +1527,90 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return spinnerSleepDurationAsMilli;
     }
 
+    @Override
+    public Spinner.WaitStrategy spinnerWaitStrategy()
+    {
+        return spinnerWaitStrategy;
+    }
+
+    @Override
+    public OperationExecutorType operationExecutorType()
+    {
+        return operationExecutorType;
+    }
+
+    @Override
+    public int maxOutstandingOperations()
+    {
+        return maxOutstandingOperations;
+    }
+
+    @Override
+    public int executorQueueSize()
+    {
+        return executorQueueSize;
+    }
+
+    @Override
+    public DefaultQueues.BoundedQueueType executorQueueType()
+    {
+        return executorQueueType;
+    }
+
+    @Override
+    public int batchSize()
+    {
+        return batchSize;
+    }
+
+    @Override
+    public long batchMaxWaitAsMilli()
+    {
+        return batchMaxWaitAsMilli;
+    }
+
+    @Override
+    public List<OperationExecutorPartition> executorPartitions()
+    {
+        return executorPartitions;
+    }
+
+    @Override
+    public int throughputSearchProbes()
+    {
+        return throughputSearchProbes;
+    }
+
+    @Override
+    public LoadProfile loadProfile()
+    {
+        return loadProfile;
+    }
+
+    @Override
+    public boolean compileUpdateStreams()
+    {
+        return compileUpdateStreams;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public String peerAddress()
+    {
+        return peerAddress;
+    }
+
+    @Override
+    public long maxBufferedOperations()
+    {
+        return maxBufferedOperations;
+    }
+
     @Override
     public boolean shouldPrintHelpString()
     {
@@ -1071,6 +1760,56 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         long newSkipCount = (newParamsMapWithShortKeys.containsKey( SKIP_COUNT_ARG )) ?
                             Long.parseLong( newParamsMapWithShortKeys.get( SKIP_COUNT_ARG ) ) :
                             skipCount;
+        Spinner.WaitStrategy newSpinnerWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( SPINNER_WAIT_STRATEGY_ARG )) ?
+                Spinner.WaitStrategy.valueOf( newParamsMapWithShortKeys.get( SPINNER_WAIT_STRATEGY_ARG ) ) :
+                spinnerWaitStrategy;
+        OperationExecutorType newOperationExecutorType =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_EXECUTOR_ARG )) ?
+                OperationExecutorType.valueOf( newParamsMapWithShortKeys.get( OPERATION_EXECUTOR_ARG ) ) :
+                operationExecutorType;
+        int newMaxOutstandingOperations =
+                (newParamsMapWithShortKeys.containsKey( MAX_OUTSTANDING_OPERATIONS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( MAX_OUTSTANDING_OPERATIONS_ARG ) ) :
+                maxOutstandingOperations;
+        int newExecutorQueueSize = (newParamsMapWithShortKeys.containsKey( EXECUTOR_QUEUE_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( EXECUTOR_QUEUE_SIZE_ARG ) ) :
+                executorQueueSize;
+        DefaultQueues.BoundedQueueType newExecutorQueueType =
+                (newParamsMapWithShortKeys.containsKey( EXECUTOR_QUEUE_TYPE_ARG )) ?
+                DefaultQueues.BoundedQueueType.valueOf( newParamsMapWithShortKeys.get( EXECUTOR_QUEUE_TYPE_ARG ) ) :
+                executorQueueType;
+        int newBatchSize = (newParamsMapWithShortKeys.containsKey( BATCH_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( BATCH_SIZE_ARG ) ) :
+                batchSize;
+        long newBatchMaxWaitAsMilli = (newParamsMapWithShortKeys.containsKey( BATCH_MAX_WAIT_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( BATCH_MAX_WAIT_ARG ) ) :
+                batchMaxWaitAsMilli;
+        List<OperationExecutorPartition> newExecutorPartitions =
+                (newParamsMapWithShortKeys.containsKey( EXECUTOR_PARTITIONS_ARG )) ?
+                parseExecutorPartitionsFromCommandline( newParamsMapWithShortKeys.get( EXECUTOR_PARTITIONS_ARG ) ) :
+                executorPartitions;
+        int newThroughputSearchProbes = (newParamsMapWithShortKeys.containsKey( THROUGHPUT_SEARCH_PROBES_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( THROUGHPUT_SEARCH_PROBES_ARG ) ) :
+                throughputSearchProbes;
+        LoadProfile newLoadProfile = (newParamsMapWithShortKeys.containsKey( LOAD_PROFILE_ARG )) ?
+                parseLoadProfileFromCommandline( newParamsMapWithShortKeys.get( LOAD_PROFILE_ARG ) ) :
+                loadProfile;
+        boolean newCompileUpdateStreams = (newParamsMapWithShortKeys.containsKey( COMPILE_UPDATE_STREAMS_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( COMPILE_UPDATE_STREAMS_ARG ) ) :
+                compileUpdateStreams;
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_ARG )) ?
+                CompletionTimeServiceType.valueOf( newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_ARG ) ) :
+                completionTimeServiceType;
+        String newPeerAddress = (newParamsMapWithShortKeys.containsKey( PEER_ADDRESS_ARG )) ?
+                parsePeerAddressFromCommandline( newParamsMapWithShortKeys.get( PEER_ADDRESS_ARG ) ) :
+                peerAddress;
+        long newMaxBufferedOperations = (newParamsMapWithShortKeys.containsKey( MAX_BUFFERED_OPERATIONS_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( MAX_BUFFERED_OPERATIONS_ARG ) ) :
+                maxBufferedOperations;
+        assertValidWorkloadPartitioning( newOtherParams, newPeerIds, newPeerAddress );
+        assertValidExecutorPartitioning( newOperationExecutorType, newExecutorPartitions );
 
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
@@ -1091,7 +1830,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newSpinnerWaitStrategy,
+                newOperationExecutorType,
+                newMaxOutstandingOperations,
+                newExecutorQueueSize,
+                newExecutorQueueType,
+                newBatchSize,
+                newBatchMaxWaitAsMilli,
+                newExecutorPartitions,
+                newThroughputSearchProbes,
+                newLoadProfile,
+                newCompileUpdateStreams,
+                newCompletionTimeServiceType,
+                newPeerAddress,
+                newMaxBufferedOperations
         );
     }
 
@@ -1143,6 +1896,37 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         argsList.addAll(
                 Lists.newArrayList( "-" + SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SPINNER_WAIT_STRATEGY_ARG, spinnerWaitStrategy.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + OPERATION_EXECUTOR_ARG, operationExecutorType.name() ) );
+        argsList.addAll( Lists.newArrayList(
+                "-" + MAX_OUTSTANDING_OPERATIONS_ARG, Integer.toString( maxOutstandingOperations ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_QUEUE_SIZE_ARG, Integer.toString( executorQueueSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_QUEUE_TYPE_ARG, executorQueueType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + BATCH_SIZE_ARG, Integer.toString( batchSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + BATCH_MAX_WAIT_ARG, Long.toString( batchMaxWaitAsMilli ) ) );
+        if ( false == executorPartitions.isEmpty() )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_PARTITIONS_ARG,
+                    serializeExecutorPartitionsToCommandline( executorPartitions ) ) );
+        }
+        argsList.addAll(
+                Lists.newArrayList( "-" + THROUGHPUT_SEARCH_PROBES_ARG, Integer.toString( throughputSearchProbes ) ) );
+        if ( null != loadProfile )
+        {
+            argsList.addAll(
+                    Lists.newArrayList( "-" + LOAD_PROFILE_ARG, serializeLoadProfileToCommandline( loadProfile ) ) );
+        }
+        if ( compileUpdateStreams )
+        {
+            argsList.add( "-" + COMPILE_UPDATE_STREAMS_ARG );
+        }
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_ARG, completionTimeServiceType.name() ) );
+        if ( null != peerAddress )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + PEER_ADDRESS_ARG, peerAddress ) );
+        }
+        argsList.addAll(
+                Lists.newArrayList( "-" + MAX_BUFFERED_OPERATIONS_ARG, Long.toString( maxBufferedOperations ) ) );
         if ( printHelp )
         {
             argsList.add( "-" + HELP_ARG );
@@ -1294,6 +2078,135 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "\n" );
         sb.append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "=" ).append( spinnerSleepDurationAsMilli ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# strategy used to wait for scheduled start times of operations\n" );
+        sb.append( "# SLEEP = sleep for spinner wait duration (millisecond precision, low CPU consumption)\n" );
+        sb.append( "# HYBRID = park, yield, then spin (sub-millisecond precision, high CPU consumption)\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( Spinner.WaitStrategy.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SPINNER_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( SPINNER_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( spinnerWaitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# executor used for operations of asynchronous streams\n" );
+        sb.append( "# THREAD_POOL = queued on thread pool, worker threads wait for scheduled start times\n" );
+        sb.append( "# TIMING_WHEEL = wait in timing wheel, thread pool only receives operations that are due\n" );
+        sb.append( "# ASYNC = started via asynchronous handlers, without waiting for completion\n" );
+        sb.append( "# VIRTUAL_THREAD = one virtual thread per operation, requires Java 21 or newer\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( OperationExecutorType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_EXECUTOR_ARG ).append( "/--" )
+                .append( OPERATION_EXECUTOR_ARG_LONG ).append( "\n" );
+        sb.append( OPERATION_EXECUTOR_ARG_LONG ).append( "=" ).append( operationExecutorType.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum number of operations in flight at any time, used by ASYNC operation executor\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( MAX_OUTSTANDING_OPERATIONS_ARG ).append( "/--" )
+                .append( MAX_OUTSTANDING_OPERATIONS_ARG_LONG ).append( "\n" );
+        sb.append( MAX_OUTSTANDING_OPERATIONS_ARG_LONG ).append( "=" ).append( maxOutstandingOperations )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# capacity of operation executor work queues\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_QUEUE_SIZE_ARG ).append( "/--" )
+                .append( EXECUTOR_QUEUE_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_QUEUE_SIZE_ARG_LONG ).append( "=" ).append( executorQueueSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# implementation of operation executor work queues\n" );
+        sb.append( "# LINKED = linked blocking queue, guarded by locks\n" );
+        sb.append( "# RING = lock-free array-backed ring, no allocation per queued operation\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( DefaultQueues.BoundedQueueType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_QUEUE_TYPE_ARG ).append( "/--" )
+                .append( EXECUTOR_QUEUE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_QUEUE_TYPE_ARG_LONG ).append( "=" ).append( executorQueueType.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum number of blocking stream operations executed together by a batch handler\n" );
+        sb.append( "# 1 disables batching\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( BATCH_SIZE_ARG ).append( "/--" )
+                .append( BATCH_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( BATCH_SIZE_ARG_LONG ).append( "=" ).append( batchSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum duration (ms) between scheduled start times of first and last operation of a batch\n" );
+        sb.append( "# INT-64 (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( BATCH_MAX_WAIT_ARG ).append( "/--" )
+                .append( BATCH_MAX_WAIT_ARG_LONG ).append( "\n" );
+        sb.append( BATCH_MAX_WAIT_ARG_LONG ).append( "=" ).append( batchMaxWaitAsMilli ).append( "\n" );
+        sb.append( "\n" );
+        sb.append(
+                "# operation types that get their own worker threads & queue, instead of sharing the executor thread " +
+                "pool\n" );
+        sb.append( "# each partition has form: Type1,Type2:threadCount:queueSize -- partitions are separated by |\n" );
+        sb.append( "# operation types are simple class names, e.g. " +
+                   "LdbcQuery9,LdbcQuery14:4:100|LdbcShortQuery1PersonProfile:8:1000\n" );
+        sb.append( "# only supported by THREAD_POOL & TIMING_WHEEL executors\n" );
+        sb.append( "# STRING (empty = no partitions)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_PARTITIONS_ARG ).append( "/--" )
+                .append( EXECUTOR_PARTITIONS_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_PARTITIONS_ARG_LONG ).append( "=" )
+                .append( serializeExecutorPartitionsToCommandline( executorPartitions ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum number of probe runs used to search for the lowest time compression ratio " +
+                   "(highest throughput)\n" );
+        sb.append( "# at which the schedule audit still passes, search starts at the configured time compression " +
+                   "ratio\n" );
+        sb.append( "# every probe executes operation count operations, 0 disables search and executes the workload " +
+                   "once\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( THROUGHPUT_SEARCH_PROBES_ARG ).append( "/--" )
+                .append( THROUGHPUT_SEARCH_PROBES_ARG_LONG ).append( "\n" );
+        sb.append( THROUGHPUT_SEARCH_PROBES_ARG_LONG ).append( "=" )
+                .append( Integer.toString( throughputSearchProbes ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# changes the time compression ratio over the course of the run, e.g. to show latency as " +
+                   "throughput rises\n" );
+        sb.append( "# effective time compression ratio = time compression ratio * factor, durations are seconds of " +
+                   "run time\n" );
+        sb.append( "# step:f1,f2,...,fn:stepDuration -- each factor for stepDuration, then fn\n" );
+        sb.append( "# ramp:fromFactor:toFactor:duration -- linear change from fromFactor to toFactor, then " +
+                   "toFactor\n" );
+        sb.append( "# spike:baseFactor:spikeFactor:spikeStart:spikeDuration -- spikeFactor during spike, baseFactor " +
+                   "otherwise\n" );
+        sb.append( "# sine:minFactor:maxFactor:period -- oscillates between maxFactor and minFactor\n" );
+        sb.append( "# STRING (empty = fixed time compression ratio)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( LOAD_PROFILE_ARG ).append( "/--" )
+                .append( LOAD_PROFILE_ARG_LONG ).append( "\n" );
+        sb.append( LOAD_PROFILE_ARG_LONG ).append( "=" )
+                .append( serializeLoadProfileToCommandline( loadProfile ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# compile update streams of workload into binary format, rather than executing workload\n" );
+        sb.append( "# compiled update streams are read with update stream parser BINARY, " +
+                   "so they are not parsed at run time\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPILE_UPDATE_STREAMS_ARG ).append( "/--" )
+                .append( COMPILE_UPDATE_STREAMS_ARG_LONG ).append( "\n" );
+        sb.append( COMPILE_UPDATE_STREAMS_ARG_LONG ).append( "=" ).append( compileUpdateStreams ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# service that tracks completion time of operations\n" );
+        sb.append( "# SYNCHRONIZED = times are applied by submitting threads, while holding a lock\n" );
+        sb.append( "# THREADED_QUEUED = times are sent through a blocking queue to a service thread\n" );
+        sb.append( "# DISRUPTOR = times are written to pre-allocated ring buffer slots, " +
+                   "applied by a service thread in batches\n" );
+        sb.append( "# ENUM ([SYNCHRONIZED, THREADED_QUEUED, DISRUPTOR])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_ARG_LONG ).append( "=" ).append( completionTimeServiceType.name() )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# address (host:port) this driver listens on for peers, and identifies itself by to peers\n" );
+        sb.append( "# required when peer IDs are given, peer IDs are then the addresses of the other drivers\n" );
+        sb.append( "# STRING (e.g., localhost:9001)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PEER_ADDRESS_ARG ).append( "/--" )
+                .append( PEER_ADDRESS_ARG_LONG ).append( "\n" );
+        sb.append( PEER_ADDRESS_ARG_LONG ).append( "=" ).append( serializePeerAddressToCommandline( peerAddress ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# operations are buffered for streams whose consumers lag behind the others, e.g., when ignoring " +
+                   "scheduled start times\n" );
+        sb.append( "# at most this many are buffered, then the run fails rather than running out of memory\n" );
+        sb.append( "# 0 buffers without limit\n" );
+        sb.append( "# LONG (e.g., 1000000)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( MAX_BUFFERED_OPERATIONS_ARG ).append( "/--" )
+                .append( MAX_BUFFERED_OPERATIONS_ARG_LONG ).append( "\n" );
+        sb.append( MAX_BUFFERED_OPERATIONS_ARG_LONG ).append( "=" ).append( maxBufferedOperations ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# print help string - usage instructions\n" );
         sb.append( "# BOOLEAN\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( HELP_ARG ).append( "\n" );
@@ -1414,6 +2327,34 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Sleep Duration:" ) )
                 .append( TEMPORAL_UTIL.milliDurationToString( spinnerSleepDurationAsMilli ) ).append( " / " )
                 .append( spinnerSleepDurationAsMilli ).append( " (ms)\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Wait Strategy:" ) )
+                .append( spinnerWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Executor:" ) )
+                .append( operationExecutorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Max Outstanding Operations:" ) )
+                .append( maxOutstandingOperations ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Queue Size:" ) )
+                .append( executorQueueSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Queue Type:" ) )
+                .append( executorQueueType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Batch Size:" ) )
+                .append( batchSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Batch Max Wait (ms):" ) )
+                .append( batchMaxWaitAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Partitions:" ) )
+                .append( executorPartitions ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Throughput Search Probes:" ) )
+                .append( throughputSearchProbes ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Load Profile:" ) )
+                .append( loadProfile ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Compile Update Streams:" ) )
+                .append( compileUpdateStreams ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Peer Address:" ) )
+                .append( peerAddress ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Max Buffered Operations:" ) )
+                .append( maxBufferedOperations ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Print Help:" ) ).append( printHelp )
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
@@ -1503,6 +2444,63 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( spinnerWaitStrategy != that.spinnerWaitStrategy )
+        {
+            return false;
+        }
+        if ( operationExecutorType != that.operationExecutorType )
+        {
+            return false;
+        }
+        if ( maxOutstandingOperations != that.maxOutstandingOperations )
+        {
+            return false;
+        }
+        if ( executorQueueSize != that.executorQueueSize )
+        {
+            return false;
+        }
+        if ( executorQueueType != that.executorQueueType )
+        {
+            return false;
+        }
+        if ( batchSize != that.batchSize )
+        {
+            return false;
+        }
+        if ( batchMaxWaitAsMilli != that.batchMaxWaitAsMilli )
+        {
+            return false;
+        }
+        if ( executorPartitions != null ? !executorPartitions.equals( that.executorPartitions )
+                                        : that.executorPartitions != null )
+        {
+            return false;
+        }
+        if ( throughputSearchProbes != that.throughputSearchProbes )
+        {
+            return false;
+        }
+        if ( loadProfile != null ? !loadProfile.equals( that.loadProfile ) : that.loadProfile != null )
+        {
+            return false;
+        }
+        if ( compileUpdateStreams != that.compileUpdateStreams )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != that.completionTimeServiceType )
+        {
+            return false;
+        }
+        if ( peerAddress != null ? !peerAddress.equals( that.peerAddress ) : that.peerAddress != null )
+        {
+            return false;
+        }
+        if ( maxBufferedOperations != that.maxBufferedOperations )
+        {
+            return false;
+        }
         if ( statusDisplayIntervalAsSeconds != that.statusDisplayIntervalAsSeconds )
         {
             return false;
@@ -1547,6 +2545,20 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (databaseValidationFilePath != null ? databaseValidationFilePath.hashCode() : 0);
         result = 31 * result + (calculateWorkloadStatistics ? 1 : 0);
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
+        result = 31 * result + (spinnerWaitStrategy != null ? spinnerWaitStrategy.hashCode() : 0);
+        result = 31 * result + (operationExecutorType != null ? operationExecutorType.hashCode() : 0);
+        result = 31 * result + maxOutstandingOperations;
+        result = 31 * result + executorQueueSize;
+        result = 31 * result + (executorQueueType != null ? executorQueueType.hashCode() : 0);
+        result = 31 * result + batchSize;
+        result = 31 * result + (int) (batchMaxWaitAsMilli ^ (batchMaxWaitAsMilli >>> 32));
+        result = 31 * result + (executorPartitions != null ? executorPartitions.hashCode() : 0);
+        result = 31 * result + throughputSearchProbes;
+        result = 31 * result + (loadProfile != null ? loadProfile.hashCode() : 0);
+        result = 31 * result + (compileUpdateStreams ? 1 : 0);
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
+        result = 31 * result + (peerAddress != null ? peerAddress.hashCode() : 0);
+        result = 31 * result + (int) (maxBufferedOperations ^ (maxBufferedOperations >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
         return result;
@@ -1,5 +1,13 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
+
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +42,37 @@ public interface DriverConfiguration
 
     long spinnerSleepDurationAsMilli();
 
+    Spinner.WaitStrategy spinnerWaitStrategy();
+
+    OperationExecutorType operationExecutorType();
+
+    int maxOutstandingOperations();
+
+    int executorQueueSize();
+
+    DefaultQueues.BoundedQueueType executorQueueType();
+
+    int batchSize();
+
+    long batchMaxWaitAsMilli();
+
+    List<OperationExecutorPartition> executorPartitions();
+
+    int throughputSearchProbes();
+
+    LoadProfile loadProfile();
+
+    boolean compileUpdateStreams();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
+    String peerAddress();
+
+    /**
+     * @return most operations buffered for streams whose consumers lag behind the others, 0 for no limit
+     */
+    long maxBufferedOperations();
+
     boolean shouldPrintHelpString();
 
     String helpString();
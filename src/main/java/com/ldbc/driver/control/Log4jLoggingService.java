@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.SimpleSummaryWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.WorkloadMetricsFormatter;
@@ -9,6 +10,7 @@ import com.ldbc.driver.temporal.TemporalUtil;
 import org.apache.log4j.Logger;
 
 import java.text.DecimalFormat;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public class Log4jLoggingService implements LoggingService
@@ -60,7 +62,7 @@ public class Log4jLoggingService implements LoggingService
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
                                recentThroughputAndDuration.duration() );
-        logger.info( statusString );
+        logger.info( statusString + formatStartDelay( status ) + formatGctBlocked( status ) );
     }
 
     @Override
@@ -75,6 +77,54 @@ public class Log4jLoggingService implements LoggingService
         logger.info( "\n" + detailedWorkloadMetricsFormatter.format( workloadResultsSnapshot ) );
     }
 
+    /**
+     * Start delay is how far behind schedule operations started, when it grows the driver rather than the database
+     * is the bottleneck
+     */
+    private String formatStartDelay( WorkloadStatusSnapshot status )
+    {
+        ContinuousMetricSnapshot startDelayMetric = status.startDelayMetric();
+        if ( null == startDelayMetric || 0 == startDelayMetric.count() )
+        {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append( ", Start Delay " ).append( formatStartDelay( startDelayMetric ) );
+        if ( detailedStatus )
+        {
+            for ( Map.Entry<String,ContinuousMetricSnapshot> operationStartDelayMetric :
+                    status.operationStartDelayMetrics().entrySet() )
+            {
+                sb.append( "\n\t" ).append( operationStartDelayMetric.getKey() ).append( " Start Delay " )
+                        .append( formatStartDelay( operationStartDelayMetric.getValue() ) );
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Time dependent operations spent blocked, waiting for GCT to reach their dependency time stamp
+     */
+    private String formatGctBlocked( WorkloadStatusSnapshot status )
+    {
+        if ( 0 == status.gctBlockedCount() )
+        {
+            return "";
+        }
+        return ", GCT Blocked (Count/Total) [" +
+               OPERATION_COUNT_FORMATTER.format( status.gctBlockedCount() ) + " / " +
+               temporalUtil.nanoDurationToString( status.gctBlockedDurationAsNano() ) + "]";
+    }
+
+    private String formatStartDelay( ContinuousMetricSnapshot startDelayMetric )
+    {
+        return "(Mean/99th/Max) [" +
+               THROUGHPUT_FORMATTER.format( startDelayMetric.mean() ) + " / " +
+               OPERATION_COUNT_FORMATTER.format( startDelayMetric.percentile99() ) + " / " +
+               OPERATION_COUNT_FORMATTER.format( startDelayMetric.max() ) + " " +
+               temporalUtil.abbreviatedTimeUnit( startDelayMetric.unit() ) + "]";
+    }
+
     private String formatWithoutGct( long operationCount, long runDurationAsMilli,
             long durationSinceLastMeasurementAsMilli, double throughput, double recentThroughput,
             long recentDurationAsMilli )
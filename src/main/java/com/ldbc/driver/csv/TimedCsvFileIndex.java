@@ -0,0 +1,345 @@
+package com.ldbc.driver.csv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Sidecar index of a CSV file in which every row is one event and the first column is its time stamp, in time stamp
+ * order, e.g., an update stream.
+ * <p/>
+ * Contains row count, first & last time stamp, and a checkpoint every checkpointInterval rows: time stamp and byte
+ * offset of that row. Readers can open the file at the byte offset of a checkpoint to skip all rows before it,
+ * without parsing them.
+ * <p/>
+ * As the CSV readers do, the file is considered finished at its first empty row.
+ */
+public class TimedCsvFileIndex
+{
+    public static final String INDEX_FILE_SUFFIX = ".index";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10000;
+    private static final int MAGIC = 0x1DBC1DE5;
+    private static final int VERSION = 1;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 8 + 8 + 8 + 4;
+    private static final int CHECKPOINT_SIZE = 8 + 8;
+
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private final int checkpointInterval;
+    private final long rowCount;
+    private final long firstTimeStamp;
+    private final long lastTimeStamp;
+    private final long[] checkpointTimeStamps;
+    private final long[] checkpointByteOffsets;
+
+    public static File indexFileFor( File csvFile )
+    {
+        return new File( csvFile.getParentFile(), csvFile.getName() + INDEX_FILE_SUFFIX );
+    }
+
+    /**
+     * Reads index of csv file from its sidecar file. If there is none, or it is out of date, truncated, or otherwise
+     * unreadable, the index is created and written to the sidecar file, if possible -- otherwise it is only kept in
+     * memory.
+     */
+    public static TimedCsvFileIndex loadOrCreate( File csvFile, int checkpointInterval, char columnDelimiter )
+            throws IOException
+    {
+        File indexFile = indexFileFor( csvFile );
+        if ( indexFile.exists() )
+        {
+            TimedCsvFileIndex index;
+            try
+            {
+                index = read( indexFile );
+            }
+            catch ( IOException e )
+            {
+                // e.g., sidecar file was truncated, treat it as out of date
+                index = null;
+            }
+            if ( null != index && index.isIndexOf( csvFile ) && index.checkpointInterval() == checkpointInterval )
+            {
+                return index;
+            }
+        }
+        TimedCsvFileIndex index = create( csvFile, checkpointInterval, columnDelimiter );
+        if ( indexFile.getParentFile().canWrite() && (false == indexFile.exists() || indexFile.canWrite()) )
+        {
+            index.write( indexFile );
+        }
+        return index;
+    }
+
+    public static TimedCsvFileIndex create( File csvFile, int checkpointInterval, char columnDelimiter )
+            throws IOException
+    {
+        if ( checkpointInterval < 1 )
+        {
+            throw new IllegalArgumentException( format( "Checkpoint interval must be positive: %s",
+                    checkpointInterval ) );
+        }
+        long sourceLength = csvFile.length();
+        long sourceLastModified = csvFile.lastModified();
+        long[] checkpointTimeStamps = new long[16];
+        long[] checkpointByteOffsets = new long[16];
+        int checkpointCount = 0;
+        long rowCount = 0;
+        long firstTimeStamp = -1;
+        long lastTimeStamp = -1;
+
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        long byteOffset = 0;
+        long rowByteOffset = 0;
+        boolean atRowStart = true;
+        boolean inTimeStamp = false;
+        long timeStamp = 0;
+        boolean finished = false;
+        try ( InputStream inputStream = new FileInputStream( csvFile ) )
+        {
+            int bytesRead;
+            while ( false == finished && -1 != (bytesRead = inputStream.read( buffer )) )
+            {
+                for ( int i = 0; i < bytesRead; i++, byteOffset++ )
+                {
+                    byte b = buffer[i];
+                    if ( atRowStart )
+                    {
+                        if ( '\n' == b || '\r' == b )
+                        {
+                            // empty row, file is finished
+                            finished = true;
+                            break;
+                        }
+                        atRowStart = false;
+                        inTimeStamp = true;
+                        timeStamp = 0;
+                        rowByteOffset = byteOffset;
+                    }
+                    if ( inTimeStamp )
+                    {
+                        if ( b >= '0' && b <= '9' )
+                        {
+                            timeStamp = timeStamp * 10 + (b - '0');
+                            continue;
+                        }
+                        else if ( columnDelimiter != b && '\n' != b && '\r' != b )
+                        {
+                            throw new IOException( format( "Invalid time stamp in row %s of %s",
+                                    rowCount, csvFile.getAbsolutePath() ) );
+                        }
+                        inTimeStamp = false;
+                        if ( rowCount % checkpointInterval == 0 )
+                        {
+                            if ( checkpointCount == checkpointTimeStamps.length )
+                            {
+                                checkpointTimeStamps = Arrays.copyOf( checkpointTimeStamps, checkpointCount * 2 );
+                                checkpointByteOffsets = Arrays.copyOf( checkpointByteOffsets, checkpointCount * 2 );
+                            }
+                            checkpointTimeStamps[checkpointCount] = timeStamp;
+                            checkpointByteOffsets[checkpointCount] = rowByteOffset;
+                            checkpointCount++;
+                        }
+                        if ( -1 == firstTimeStamp )
+                        {
+                            firstTimeStamp = timeStamp;
+                        }
+                        lastTimeStamp = timeStamp;
+                        rowCount++;
+                    }
+                    if ( '\n' == b )
+                    {
+                        atRowStart = true;
+                    }
+                }
+            }
+        }
+        if ( inTimeStamp )
+        {
+            // last row has no delimiter after its time stamp
+            throw new IOException( format( "Incomplete last row in %s", csvFile.getAbsolutePath() ) );
+        }
+
+        return new TimedCsvFileIndex(
+                sourceLength,
+                sourceLastModified,
+                checkpointInterval,
+                rowCount,
+                firstTimeStamp,
+                lastTimeStamp,
+                Arrays.copyOf( checkpointTimeStamps, checkpointCount ),
+                Arrays.copyOf( checkpointByteOffsets, checkpointCount )
+        );
+    }
+
+    public static TimedCsvFileIndex read( File indexFile ) throws IOException
+    {
+        try ( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( indexFile ) ) ) )
+        {
+            if ( MAGIC != in.readInt() || VERSION != in.readInt() )
+            {
+                throw new IOException( format( "Not a valid index file: %s", indexFile.getAbsolutePath() ) );
+            }
+            long sourceLength = in.readLong();
+            long sourceLastModified = in.readLong();
+            int checkpointInterval = in.readInt();
+            long rowCount = in.readLong();
+            long firstTimeStamp = in.readLong();
+            long lastTimeStamp = in.readLong();
+            int checkpointCount = in.readInt();
+            if ( checkpointCount < 0 || HEADER_SIZE + (long) checkpointCount * CHECKPOINT_SIZE != indexFile.length() )
+            {
+                throw new IOException( format( "Index file is truncated or corrupt: %s", indexFile.getAbsolutePath() ) );
+            }
+            long[] checkpointTimeStamps = new long[checkpointCount];
+            long[] checkpointByteOffsets = new long[checkpointCount];
+            for ( int i = 0; i < checkpointCount; i++ )
+            {
+                checkpointTimeStamps[i] = in.readLong();
+                checkpointByteOffsets[i] = in.readLong();
+            }
+            return new TimedCsvFileIndex(
+                    sourceLength,
+                    sourceLastModified,
+                    checkpointInterval,
+                    rowCount,
+                    firstTimeStamp,
+                    lastTimeStamp,
+                    checkpointTimeStamps,
+                    checkpointByteOffsets
+            );
+        }
+    }
+
+    private TimedCsvFileIndex(
+            long sourceLength,
+            long sourceLastModified,
+            int checkpointInterval,
+            long rowCount,
+            long firstTimeStamp,
+            long lastTimeStamp,
+            long[] checkpointTimeStamps,
+            long[] checkpointByteOffsets )
+    {
+        this.sourceLength = sourceLength;
+        this.sourceLastModified = sourceLastModified;
+        this.checkpointInterval = checkpointInterval;
+        this.rowCount = rowCount;
+        this.firstTimeStamp = firstTimeStamp;
+        this.lastTimeStamp = lastTimeStamp;
+        this.checkpointTimeStamps = checkpointTimeStamps;
+        this.checkpointByteOffsets = checkpointByteOffsets;
+    }
+
+    /**
+     * Index is written to a temporary file first, then moved to index file, so readers -- e.g., other drivers using the
+     * same dataset directory -- never see a partially written index file
+     */
+    public void write( File indexFile ) throws IOException
+    {
+        File temporaryFile =
+                File.createTempFile( indexFile.getName(), ".tmp", indexFile.getAbsoluteFile().getParentFile() );
+        try
+        {
+            writeTo( temporaryFile );
+            Files.move( temporaryFile.toPath(), indexFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+        }
+        finally
+        {
+            // only still exists if writing or moving failed
+            Files.deleteIfExists( temporaryFile.toPath() );
+        }
+    }
+
+    private void writeTo( File file ) throws IOException
+    {
+        try ( DataOutputStream out =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( sourceLength );
+            out.writeLong( sourceLastModified );
+            out.writeInt( checkpointInterval );
+            out.writeLong( rowCount );
+            out.writeLong( firstTimeStamp );
+            out.writeLong( lastTimeStamp );
+            out.writeInt( checkpointTimeStamps.length );
+            for ( int i = 0; i < checkpointTimeStamps.length; i++ )
+            {
+                out.writeLong( checkpointTimeStamps[i] );
+                out.writeLong( checkpointByteOffsets[i] );
+            }
+        }
+    }
+
+    /**
+     * @return true if csv file has not changed (size & modification time) since index was created
+     */
+    public boolean isIndexOf( File csvFile )
+    {
+        return csvFile.length() == sourceLength && csvFile.lastModified() == sourceLastModified;
+    }
+
+    public int checkpointInterval()
+    {
+        return checkpointInterval;
+    }
+
+    public long rowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * @return time stamp of first row, -1 if file is empty
+     */
+    public long firstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+    /**
+     * @return time stamp of last row, -1 if file is empty
+     */
+    public long lastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+    public int checkpointCount()
+    {
+        return checkpointTimeStamps.length;
+    }
+
+    /**
+     * @return number of rows before checkpoint
+     */
+    public long checkpointRowOffset( int checkpoint )
+    {
+        return (long) checkpoint * checkpointInterval;
+    }
+
+    public long checkpointTimeStamp( int checkpoint )
+    {
+        return checkpointTimeStamps[checkpoint];
+    }
+
+    public long checkpointByteOffset( int checkpoint )
+    {
+        return checkpointByteOffsets[checkpoint];
+    }
+}
@@ -0,0 +1,140 @@
+package com.ldbc.driver.csv.charseeker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link CharReadable} of a UTF-8 encoded file, read through a memory-mapped file.
+ * <p/>
+ * Bytes are decoded straight from the mapping into the buffer passed to {@link #read(char[], int, int)}, skipping
+ * the intermediate byte & char buffers of {@link java.io.InputStreamReader}. ASCII, which is most of the update
+ * stream & parameter files, is copied one byte per char, other characters are decoded as UTF-8. As with
+ * {@link java.io.InputStreamReader}, malformed input is replaced with U+FFFD.
+ * <p/>
+ * Files larger than the mapping size are mapped one region at a time.
+ */
+public class MappedFileReadable implements CharReadable {
+    public static final int DEFAULT_MAPPING_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int mappingSize;
+    private MappedByteBuffer mapping;
+    private long mappingStart;
+    // second char of a supplementary character that did not fit in the previous read
+    private int pendingLowSurrogate = -1;
+
+    public MappedFileReadable(File file, long startPosition) throws IOException {
+        this(file, startPosition, DEFAULT_MAPPING_SIZE);
+    }
+
+    public MappedFileReadable(File file, long startPosition, int mappingSize) throws IOException {
+        if (mappingSize < MAX_SEQUENCE_LENGTH) {
+            throw new IllegalArgumentException("Mapping size must be at least " + MAX_SEQUENCE_LENGTH);
+        }
+        this.file = new RandomAccessFile(file, "r");
+        this.channel = this.file.getChannel();
+        this.fileSize = channel.size();
+        this.mappingSize = mappingSize;
+        map(Math.min(startPosition, fileSize));
+    }
+
+    private void map(long start) throws IOException {
+        mappingStart = start;
+        mapping = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(mappingSize, fileSize - start));
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        int out = offset;
+        int end = offset + length;
+        if (pendingLowSurrogate != -1 && out < end) {
+            buffer[out++] = (char) pendingLowSurrogate;
+            pendingLowSurrogate = -1;
+        }
+        while (out < end) {
+            if (!mapping.hasRemaining() && mappingStart + mapping.limit() < fileSize) {
+                map(mappingStart + mapping.position());
+            }
+            int position = mapping.position();
+            int limit = mapping.limit();
+            if (position == limit) {
+                break;
+            }
+            // ASCII
+            byte b = 0;
+            while (out < end && position < limit && (b = mapping.get(position)) >= 0) {
+                buffer[out++] = (char) b;
+                position++;
+            }
+            if (out == end || position == limit) {
+                mapping.position(position);
+                continue;
+            }
+            // multi-byte sequence
+            int sequenceLength;
+            int codePoint;
+            if ((b & 0xE0) == 0xC0) {
+                sequenceLength = 2;
+                codePoint = b & 0x1F;
+            } else if ((b & 0xF0) == 0xE0) {
+                sequenceLength = 3;
+                codePoint = b & 0x0F;
+            } else if ((b & 0xF8) == 0xF0) {
+                sequenceLength = 4;
+                codePoint = b & 0x07;
+            } else {
+                buffer[out++] = REPLACEMENT;
+                mapping.position(position + 1);
+                continue;
+            }
+            if (position + sequenceLength > limit && mappingStart + limit < fileSize) {
+                // sequence continues in next mapping
+                mapping.position(position);
+                map(mappingStart + position);
+                continue;
+            }
+            int i = 1;
+            for (; i < sequenceLength && position + i < limit; i++) {
+                byte continuation = mapping.get(position + i);
+                if ((continuation & 0xC0) != 0x80) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (continuation & 0x3F);
+            }
+            if (i < sequenceLength) {
+                // truncated sequence, replace the bytes read so far
+                buffer[out++] = REPLACEMENT;
+                mapping.position(position + i);
+                continue;
+            }
+            mapping.position(position + sequenceLength);
+            if (Character.isBmpCodePoint(codePoint)) {
+                buffer[out++] = (char) codePoint;
+            } else if (Character.isValidCodePoint(codePoint)) {
+                buffer[out++] = Character.highSurrogate(codePoint);
+                if (out < end) {
+                    buffer[out++] = Character.lowSurrogate(codePoint);
+                } else {
+                    pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            } else {
+                buffer[out++] = REPLACEMENT;
+            }
+        }
+        int read = out - offset;
+        return (read == 0 && length > 0) ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // mapping is released when it is garbage collected
+        file.close();
+    }
+}
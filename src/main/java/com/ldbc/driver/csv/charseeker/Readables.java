@@ -153,6 +153,21 @@ public class Readables {
         return FROM_FILE.apply(file);
     }
 
+    /**
+     * Reads UTF-8 encoded file through a memory-mapped file, see {@link MappedFileReadable}.
+     * Unlike {@link #file(File)}, compressed files are not supported.
+     */
+    public static CharReadable mappedFile(File file) throws IOException {
+        return new MappedFileReadable(file, 0);
+    }
+
+    /**
+     * As {@link #mappedFile(File)}, starting at byte position of file, which must be the start of a character
+     */
+    public static CharReadable mappedFile(File file, long startPosition) throws IOException {
+        return new MappedFileReadable(file, startPosition);
+    }
+
     public static CharReadable multipleFiles(File... files) {
         return new MultiReadable(iterator(files, FROM_FILE));
     }
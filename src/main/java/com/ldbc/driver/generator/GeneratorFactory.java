@@ -4,6 +4,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.util.Function0;
 import com.ldbc.driver.util.Function1;
 import com.ldbc.driver.util.Function2;
@@ -521,17 +522,12 @@ public class GeneratorFactory
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
         return mergeSort(
-                new Comparator<Operation>()
+                new OrderedMultiGenerator.KeyFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long keyOf( Operation operation )
                     {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.scheduledStartTimeAsMilli();
                     }
                 },
                 generators
@@ -547,17 +543,12 @@ public class GeneratorFactory
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
         return mergeSort(
-                new Comparator<Operation>()
+                new OrderedMultiGenerator.KeyFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long keyOf( Operation operation )
                     {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.timeStamp();
                     }
                 },
                 generators
@@ -603,6 +594,36 @@ public class GeneratorFactory
         return Iterators.mergeSorted( Lists.newArrayList( generators ), comparator );
     }
 
+    /**
+     * Returned generator will merge all input generators into one, sorting on key of elements, ascending.
+     * Keys are compared as primitives, so this is cheaper than sorting with a comparator.
+     *
+     * @param keyFunction
+     * @param generators
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> mergeSort( OrderedMultiGenerator.KeyFunction<T> keyFunction, Iterator<T>... generators )
+    {
+        return new OrderedMultiGenerator<>( keyFunction, 1, generators );
+    }
+
+    /**
+     * Returned generator will merge all input generators into one, sorting on key of elements, ascending,
+     * and looking ahead a bounded distance in case nearby elements of any one input generator are out of order
+     *
+     * @param keyFunction
+     * @param lookAheadDistance
+     * @param generators
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> mergeSort( OrderedMultiGenerator.KeyFunction<T> keyFunction, int lookAheadDistance,
+            Iterator<T>... generators )
+    {
+        return new OrderedMultiGenerator<>( keyFunction, lookAheadDistance, generators );
+    }
+
     /**
      * Returned generator will merge all input generators into one, using provided comparator for sorting,
      * and looking ahead a bounded distance in case nearby elements of any one input generator are out of order
@@ -718,6 +739,24 @@ public class GeneratorFactory
         return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
     }
 
+    /**
+     * Offset start times of operations in stream such that workload start time is now scheduled at new start time.
+     * Compress/expand duration between start times by a ratio that changes over the run, see LoadProfile.
+     *
+     * @param generator
+     * @param newStartTimeAsMilli
+     * @param workloadStartTimeAsMilli earliest start time across all streams of the workload
+     * @param compressionRatio ratio the factors of the load profile are relative to
+     * @param loadProfile
+     * @return
+     */
+    public Iterator<Operation> timeOffsetAndProfile( Iterator<Operation> generator, long newStartTimeAsMilli,
+            long workloadStartTimeAsMilli, double compressionRatio, LoadProfile loadProfile )
+    {
+        return new LoadProfileTimeMappingOperationGenerator( generator, newStartTimeAsMilli, workloadStartTimeAsMilli,
+                compressionRatio, loadProfile );
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
@@ -753,6 +792,29 @@ public class GeneratorFactory
         return new LimitGenerator<T>( generator, limit );
     }
 
+    /**
+     * Splits generator into partitionCount disjoint partitions, returns the items of partition partitionId,
+     * i.e., every partitionCount-th item, starting from item partitionId (zero-based).
+     * Together the partitions return every item of generator exactly once, and in the same order.
+     *
+     * @param generator
+     * @param partitionId
+     * @param partitionCount
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> partition( Iterator<T> generator, int partitionId, int partitionCount )
+    {
+        if ( partitionId < 0 || partitionId >= partitionCount )
+        {
+            throw new GeneratorException(
+                    format( "Partition ID must be in interval [0,%s) but was: %s", partitionCount, partitionId ) );
+        }
+        return (1 == partitionCount)
+               ? generator
+               : new PartitionGenerator<T>( generator, partitionId, partitionCount );
+    }
+
     /**
      * next() returns single item from set of items. Each item has equal probability of being chosen.
      *
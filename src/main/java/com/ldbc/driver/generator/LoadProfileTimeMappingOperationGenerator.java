@@ -0,0 +1,47 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.temporal.LoadProfile;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Like TimeMappingOperationGenerator, but the time compression ratio changes over the run according to a load
+ * profile. Start times are mapped relative to the workload start time (not the first operation of this stream), so
+ * all streams mapped with the same workload start time & profile keep their relative order.
+ */
+public class LoadProfileTimeMappingOperationGenerator extends Generator<Operation>
+{
+    private final Iterator<Operation> operations;
+    private final long newStartTimeAsNano;
+    private final long workloadStartTimeAsMilli;
+    private final double timeCompressionRatio;
+    private final LoadProfile loadProfile;
+
+    LoadProfileTimeMappingOperationGenerator(
+            Iterator<Operation> operations,
+            long newStartTimeAsMilli,
+            long workloadStartTimeAsMilli,
+            double timeCompressionRatio,
+            LoadProfile loadProfile )
+    {
+        this.operations = operations;
+        this.newStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( newStartTimeAsMilli );
+        this.workloadStartTimeAsMilli = workloadStartTimeAsMilli;
+        this.timeCompressionRatio = timeCompressionRatio;
+        this.loadProfile = loadProfile;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException
+    {
+        if ( false == operations.hasNext() )
+        { return null; }
+        Operation nextOperation = operations.next();
+        long workloadOffsetAsMilli = nextOperation.scheduledStartTimeAsMilli() - workloadStartTimeAsMilli;
+        nextOperation.setScheduledStartTimeAsNano(
+                newStartTimeAsNano + loadProfile.runOffsetAsNano( workloadOffsetAsMilli, timeCompressionRatio ) );
+        return nextOperation;
+    }
+}
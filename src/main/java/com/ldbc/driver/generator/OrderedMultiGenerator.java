@@ -5,58 +5,153 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Merges generators, each of which is (nearly, see lookahead distance) ordered, into one ordered generator.
+ * <p/>
+ * Generator heads are merged with a tournament (loser) tree, so each element costs O(log k) comparisons for k
+ * generators. When created with a {@link KeyFunction} the key of each head is cached, and comparisons are of
+ * primitive longs rather than calls to a comparator.
+ * <p/>
+ * Equal elements are returned in generator order, i.e., from the generator that was passed first.
+ */
 public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
-    private final List<GeneratorHead<GENERATE_TYPE>> generatorHeads;
+    /**
+     * Ordering key of elements, elements are returned by ascending key
+     */
+    public interface KeyFunction<T> {
+        long keyOf(T element);
+    }
+
+    private final GeneratorHead<GENERATE_TYPE>[] generatorHeads;
     private final Comparator<GENERATE_TYPE> comparator;
+    private final KeyFunction<GENERATE_TYPE> keyFunction;
+    // keys of generator heads, only used when there is a key function
+    private final long[] headKeys;
+    private final boolean[] exhausted;
+    // tree[0] is index of generator with minimum head, tree[1..k-1] are indexes of generators that lost at that node
+    private final int[] tree;
 
     public OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
+        this(comparator, null, lookAheadDistance, generators);
+    }
+
+    public OrderedMultiGenerator(KeyFunction<GENERATE_TYPE> keyFunction, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
+        this(null, keyFunction, lookAheadDistance, generators);
+    }
+
+    private OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, KeyFunction<GENERATE_TYPE> keyFunction, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
         this.comparator = comparator;
+        this.keyFunction = keyFunction;
         if (1 == lookAheadDistance) {
             this.generatorHeads = buildSimpleGeneratorHeads(generators);
-        } else {
+        } else if (null == keyFunction) {
             this.generatorHeads = buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
+        } else {
+            this.generatorHeads = buildKeyedLookAheadGeneratorHeads(keyFunction, lookAheadDistance, generators);
+        }
+        this.headKeys = new long[generators.length];
+        this.exhausted = new boolean[generators.length];
+        for (int i = 0; i < generatorHeads.length; i++) {
+            updateHead(i);
         }
+        this.tree = new int[Math.max(1, generators.length)];
+        buildTree();
     }
 
-    private static <T1> List<GeneratorHead<T1>> buildSimpleGeneratorHeads(Iterator<T1>... generators) {
-        List<GeneratorHead<T1>> heads = new ArrayList<>();
-        for (Iterator<T1> generator : generators) {
-            heads.add(new SimpleGeneratorHead<>(generator));
+    private static <T1> GeneratorHead<T1>[] buildSimpleGeneratorHeads(Iterator<T1>... generators) {
+        GeneratorHead<T1>[] heads = new GeneratorHead[generators.length];
+        for (int i = 0; i < generators.length; i++) {
+            heads[i] = new SimpleGeneratorHead<>(generators[i]);
         }
         return heads;
     }
 
-    private static <T1> List<GeneratorHead<T1>> buildLookAheadGeneratorHeads(Comparator<T1> comparator, int distance, Iterator<T1>... generators) {
-        List<GeneratorHead<T1>> heads = new ArrayList<>();
-        for (Iterator<T1> generator : generators) {
-            heads.add(new LookaheadGeneratorHead<>(generator, comparator, distance));
+    private static <T1> GeneratorHead<T1>[] buildLookAheadGeneratorHeads(Comparator<T1> comparator, int distance, Iterator<T1>... generators) {
+        GeneratorHead<T1>[] heads = new GeneratorHead[generators.length];
+        for (int i = 0; i < generators.length; i++) {
+            heads[i] = new LookaheadGeneratorHead<>(generators[i], comparator, distance);
         }
         return heads;
     }
 
-    @Override
-    protected GENERATE_TYPE doNext() throws GeneratorException {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = getMinGeneratorHead();
-        return (null == minGeneratorHead) ? null : minGeneratorHead.removeHead();
+    private static <T1> GeneratorHead<T1>[] buildKeyedLookAheadGeneratorHeads(KeyFunction<T1> keyFunction, int distance, Iterator<T1>... generators) {
+        GeneratorHead<T1>[] heads = new GeneratorHead[generators.length];
+        for (int i = 0; i < generators.length; i++) {
+            heads[i] = new KeyedLookaheadGeneratorHead<>(generators[i], keyFunction, distance);
+        }
+        return heads;
     }
 
-    private GeneratorHead<GENERATE_TYPE> getMinGeneratorHead() {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = null;
+    private void updateHead(int generatorIndex) {
+        GENERATE_TYPE head = generatorHeads[generatorIndex].inspectHead();
+        exhausted[generatorIndex] = (null == head);
+        if (null != keyFunction && null != head) {
+            headKeys[generatorIndex] = keyFunction.keyOf(head);
+        }
+    }
 
-        // Get generator head with lowest head element (removing empty ones encountered first)
-        for (int i = 0; i < generatorHeads.size(); i++) {
-            GeneratorHead<GENERATE_TYPE> generatorHead = generatorHeads.get(i);
-            if (null == generatorHead) continue;
-            if (null == generatorHead.inspectHead()) {
-                generatorHeads.set(i, null);
-                continue;
+    // leaf of generator i is node k + i, children of node n are nodes 2n & 2n + 1
+    private void buildTree() {
+        int k = generatorHeads.length;
+        if (k <= 1) {
+            tree[0] = 0;
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int node = 2 * k - 1; node >= k; node--) {
+            winners[node] = node - k;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
             }
-            if (null == minGeneratorHead || comparator.compare(generatorHead.inspectHead(), minGeneratorHead.inspectHead()) < 0) {
-                minGeneratorHead = generatorHead;
+        }
+        tree[0] = winners[1];
+    }
+
+    // replays matches on path from leaf of generator to root, after head of that generator changed
+    private void replay(int generatorIndex) {
+        int winner = generatorIndex;
+        for (int node = (generatorIndex + generatorHeads.length) / 2; node >= 1; node = node / 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
             }
         }
+        tree[0] = winner;
+    }
 
-        return minGeneratorHead;
+    /**
+     * @return true if head of generator a comes before head of generator b, ties are won by lower generator index
+     */
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) return false;
+        if (exhausted[b]) return true;
+        if (null != keyFunction) {
+            long keyA = headKeys[a];
+            long keyB = headKeys[b];
+            return keyA < keyB || (keyA == keyB && a < b);
+        }
+        int comparison = comparator.compare(generatorHeads[a].inspectHead(), generatorHeads[b].inspectHead());
+        return comparison < 0 || (0 == comparison && a < b);
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException {
+        if (0 == generatorHeads.length) return null;
+        int minGeneratorIndex = tree[0];
+        if (exhausted[minGeneratorIndex]) return null;
+        GENERATE_TYPE next = generatorHeads[minGeneratorIndex].removeHead();
+        updateHead(minGeneratorIndex);
+        replay(minGeneratorIndex);
+        return next;
     }
 
     private static interface GeneratorHead<T1> {
@@ -145,4 +240,106 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
             }
         }
     }
+
+    /**
+     * Lookahead buffer kept as binary min-heap on (key, arrival sequence), so equal keys leave in arrival order
+     */
+    private static class KeyedLookaheadGeneratorHead<T1> implements GeneratorHead<T1> {
+        private final Iterator<T1> generator;
+        private final KeyFunction<T1> keyFunction;
+        private final Object[] elements;
+        private final long[] keys;
+        private final long[] sequences;
+        private int size = 0;
+        private long sequence = 0;
+        private T1 head;
+
+        public KeyedLookaheadGeneratorHead(Iterator<T1> generator, KeyFunction<T1> keyFunction, int lookaheadDistance) {
+            this.generator = generator;
+            this.keyFunction = keyFunction;
+            this.elements = new Object[lookaheadDistance];
+            this.keys = new long[lookaheadDistance];
+            this.sequences = new long[lookaheadDistance];
+            fillLookaheadBuffer();
+            this.head = removeMinFromLookaheadBuffer();
+        }
+
+        @Override
+        public T1 removeHead() {
+            T1 oldHead = head;
+            fillLookaheadBuffer();
+            head = removeMinFromLookaheadBuffer();
+            return oldHead;
+        }
+
+        @Override
+        public T1 inspectHead() {
+            return head;
+        }
+
+        private void fillLookaheadBuffer() {
+            while (size < elements.length && generator.hasNext()) {
+                T1 element = generator.next();
+                int index = size++;
+                elements[index] = element;
+                keys[index] = keyFunction.keyOf(element);
+                sequences[index] = sequence++;
+                siftUp(index);
+            }
+        }
+
+        private T1 removeMinFromLookaheadBuffer() {
+            if (0 == size) {
+                return null;
+            }
+            T1 min = (T1) elements[0];
+            size--;
+            move(size, 0);
+            elements[size] = null;
+            siftDown(0);
+            return min;
+        }
+
+        private boolean less(int a, int b) {
+            return keys[a] < keys[b] || (keys[a] == keys[b] && sequences[a] < sequences[b]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (false == less(index, parent)) break;
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && less(left, smallest)) smallest = left;
+                if (right < size && less(right, smallest)) smallest = right;
+                if (smallest == index) break;
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void move(int from, int to) {
+            elements[to] = elements[from];
+            keys[to] = keys[from];
+            sequences[to] = sequences[from];
+        }
+
+        private void swap(int a, int b) {
+            Object element = elements[a];
+            long key = keys[a];
+            long sequenceOfA = sequences[a];
+            move(b, a);
+            elements[b] = element;
+            keys[b] = key;
+            sequences[b] = sequenceOfA;
+        }
+    }
 }
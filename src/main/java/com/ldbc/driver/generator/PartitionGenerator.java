@@ -0,0 +1,39 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Returns every partitionCount-th item of the wrapped generator, starting from the item at index partitionId.
+ * <p/>
+ * Generators with the same partitionCount and distinct partitionIds in [0,partitionCount) divide the wrapped items
+ * between them: every item is returned by exactly one of them, each in its original order.
+ */
+public class PartitionGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    private final Iterator<GENERATE_TYPE> generator;
+    private final int partitionId;
+    private final int partitionCount;
+    private boolean first = true;
+
+    PartitionGenerator( Iterator<GENERATE_TYPE> generator, int partitionId, int partitionCount )
+    {
+        this.generator = generator;
+        this.partitionId = partitionId;
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        // skip items belonging to other partitions: those before the first item of this partition,
+        // then those between consecutive items of this partition
+        int skip = (first) ? partitionId : partitionCount - 1;
+        first = false;
+        for ( int i = 0; i < skip; i++ )
+        {
+            if ( false == generator.hasNext() ) return null;
+            generator.next();
+        }
+        return ( generator.hasNext() ) ? generator.next() : null;
+    }
+}
@@ -4,15 +4,20 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.util.Function1;
 
 import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
 public class TimeMappingOperationGenerator extends Generator<Operation>
 {
+    private static final long NANO_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
     private final Iterator<Operation> operations;
     private final long newStartTimeAsMilli;
     private final Double timeCompressionRatio;
 
     private Function1<Long,Long,RuntimeException> timeOffsetAsMilliFun = null;
-    private Function1<Long,Long,RuntimeException> startTimeAsMilliCompressionFun = null;
+    // maps offset start time (milliseconds) to offset & compressed start time (nanoseconds), so sub-millisecond
+    // intervals between compressed operations are not lost to rounding
+    private Function1<Long,Long,RuntimeException> startTimeAsMilliToNanoCompressionFun = null;
 
     TimeMappingOperationGenerator(
             Iterator<Operation> operations,
@@ -50,19 +55,19 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
             // Create time compression function
             if ( null == timeCompressionRatio )
             {
-                startTimeAsMilliCompressionFun = new IdentityTimeFun();
+                startTimeAsMilliToNanoCompressionFun = new IdentityTimeFun();
             }
             else
             {
-                startTimeAsMilliCompressionFun = new TimeCompressionFun(
+                startTimeAsMilliToNanoCompressionFun = new TimeCompressionFun(
                         timeCompressionRatio,
                         timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() )
                 );
             }
         }
         long offsetStartTimeAsMilli = timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() );
-        long offsetAndCompressedStartTimeAsMilli = startTimeAsMilliCompressionFun.apply( offsetStartTimeAsMilli );
-        nextOperation.setScheduledStartTimeAsMilli( offsetAndCompressedStartTimeAsMilli );
+        long offsetAndCompressedStartTimeAsNano = startTimeAsMilliToNanoCompressionFun.apply( offsetStartTimeAsMilli );
+        nextOperation.setScheduledStartTimeAsNano( offsetAndCompressedStartTimeAsNano );
         return nextOperation;
     }
 
@@ -71,7 +76,7 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
         @Override
         public Long apply( Long timeAsMilli )
         {
-            return timeAsMilli;
+            return TimeUnit.MILLISECONDS.toNanos( timeAsMilli );
         }
     }
 
@@ -122,9 +127,9 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
         public Long apply( Long timeAsMilli )
         {
             long durationFromOriginalStartTimeAsMilli = timeAsMilli - firstTimeAsMilli;
-            long compressedDurationFromOriginalStartTimeAsMilli =
-                    Math.round( durationFromOriginalStartTimeAsMilli * timeCompressionRatio );
-            return firstTimeAsMilli + compressedDurationFromOriginalStartTimeAsMilli;
+            long compressedDurationFromOriginalStartTimeAsNano = Math.round(
+                    durationFromOriginalStartTimeAsMilli * timeCompressionRatio * NANO_PER_MILLI );
+            return TimeUnit.MILLISECONDS.toNanos( firstTimeAsMilli ) + compressedDurationFromOriginalStartTimeAsNano;
         }
     }
 
@@ -8,6 +8,18 @@ import java.util.concurrent.LinkedTransferQueue;
 
 public class DefaultQueues
 {
+    public enum BoundedQueueType
+    {
+        /**
+         * java.util.concurrent.LinkedBlockingQueue, guarded by locks, allocates one node per element
+         */
+        LINKED,
+        /**
+         * RingBufferBlockingQueue, lock-free array-backed ring, no allocation per element
+         */
+        RING
+    }
+
     public static <T> Queue<T> newNonBlocking()
     {
         return new ConcurrentLinkedQueue<>();
@@ -30,6 +42,17 @@ public class DefaultQueues
         return new AlwaysBlockingLinkedBlockingQueue<>( capacity );
     }
 
+    public static <T> BlockingQueue<T> newAlwaysBlockingBounded( BoundedQueueType queueType, int capacity )
+    {
+        switch ( queueType )
+        {
+        case RING:
+            return new AlwaysBlockingRingBufferBlockingQueue<>( capacity );
+        default:
+            return new AlwaysBlockingLinkedBlockingQueue<>( capacity );
+        }
+    }
+
     /*
     turn offer() & add() into blocking calls (unless interrupted)
     */
@@ -70,4 +93,41 @@ public class DefaultQueues
             return false;
         }
     }
+
+    /*
+    turn offer() & add() into blocking calls (unless interrupted)
+    */
+    private static class AlwaysBlockingRingBufferBlockingQueue<E> extends RingBufferBlockingQueue<E>
+    {
+        public AlwaysBlockingRingBufferBlockingQueue( int maxSize )
+        {
+            super( maxSize );
+        }
+
+        @Override
+        public boolean offer( E e )
+        {
+            // lock-free attempt first, only fall back to waiting when the ring is full
+            if ( super.offer( e ) )
+            {
+                return true;
+            }
+            try
+            {
+                put( e );
+                return true;
+            }
+            catch ( InterruptedException ie )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public boolean add( E e )
+        {
+            return offer( e );
+        }
+    }
 }
@@ -0,0 +1,413 @@
+package com.ldbc.driver.runtime;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded, array-backed, multi-producer multi-consumer queue that does not take locks on offer() or poll().
+ * <p/>
+ * Every slot carries a sequence number, producers and consumers claim positions with a single compare-and-set and
+ * publish the slot by advancing its sequence, the same scheme used by the Disruptor ring buffer.
+ * <p/>
+ * Blocking calls spin, then yield, then park. Parked threads are woken by the thread that makes progress possible,
+ * parking is also time limited, so a missed wake up only costs latency, never liveness.
+ * <p/>
+ * Iterators are weakly consistent: they traverse a snapshot of the elements that were between head and tail when
+ * the iterator was created, never throw ConcurrentModificationException, and may return elements that have been
+ * consumed since. Removal via iterator, and therefore remove(Object), is not supported.
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E>
+{
+    private static final int SPIN_LIMIT = 100;
+    private static final int YIELD_LIMIT = SPIN_LIMIT + 100;
+    private static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    private final int capacity;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong( 0 );
+    private final AtomicLong dequeuePosition = new AtomicLong( 0 );
+    private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> waitingConsumers = new ConcurrentLinkedQueue<>();
+
+    public RingBufferBlockingQueue( int capacity )
+    {
+        if ( capacity < 1 )
+        {
+            throw new IllegalArgumentException( format( "Capacity must be positive: %s", capacity ) );
+        }
+        this.capacity = capacity;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray( capacity );
+        for ( int i = 0; i < capacity; i++ )
+        {
+            sequences.set( i, freeSequence( i ) );
+        }
+    }
+
+    @Override
+    public boolean offer( E e )
+    {
+        return offerNow( e );
+    }
+
+    @Override
+    public E poll()
+    {
+        return pollNow();
+    }
+
+    private boolean offerNow( E e )
+    {
+        if ( null == e )
+        {
+            throw new NullPointerException();
+        }
+        long position = enqueuePosition.get();
+        while ( true )
+        {
+            int index = index( position );
+            long difference = sequences.get( index ) - freeSequence( position );
+            if ( 0 == difference )
+            {
+                if ( enqueuePosition.compareAndSet( position, position + 1 ) )
+                {
+                    elements[index] = e;
+                    sequences.set( index, publishedSequence( position ) );
+                    wakeOne( waitingConsumers );
+                    return true;
+                }
+                position = enqueuePosition.get();
+            }
+            else if ( difference < 0 )
+            {
+                // slot still holds the element from one rotation ago, queue is full
+                return false;
+            }
+            else
+            {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    private E pollNow()
+    {
+        long position = dequeuePosition.get();
+        while ( true )
+        {
+            int index = index( position );
+            long difference = sequences.get( index ) - publishedSequence( position );
+            if ( 0 == difference )
+            {
+                if ( dequeuePosition.compareAndSet( position, position + 1 ) )
+                {
+                    E e = (E) elements[index];
+                    elements[index] = null;
+                    sequences.set( index, freeSequence( position + capacity ) );
+                    wakeOne( waitingProducers );
+                    return e;
+                }
+                position = dequeuePosition.get();
+            }
+            else if ( difference < 0 )
+            {
+                // slot has not been published yet, queue is empty
+                return null;
+            }
+            else
+            {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    @Override
+    public void put( E e ) throws InterruptedException
+    {
+        awaitOffer( e, false, 0 );
+    }
+
+    @Override
+    public boolean offer( E e, long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        return awaitOffer( e, true, unit.toNanos( timeout ) );
+    }
+
+    private boolean awaitOffer( E e, boolean timed, long timeoutAsNano ) throws InterruptedException
+    {
+        if ( offerNow( e ) )
+        {
+            return true;
+        }
+        long deadlineAsNano = System.nanoTime() + timeoutAsNano;
+        Thread currentThread = Thread.currentThread();
+        int idleCount = 0;
+        while ( true )
+        {
+            if ( Thread.interrupted() )
+            {
+                throw new InterruptedException();
+            }
+            long remainingAsNano = (timed) ? deadlineAsNano - System.nanoTime() : MAX_PARK_DURATION_AS_NANO;
+            if ( remainingAsNano <= 0 )
+            {
+                return false;
+            }
+            if ( idleCount < YIELD_LIMIT )
+            {
+                backOff( idleCount++ );
+                if ( offerNow( e ) )
+                {
+                    return true;
+                }
+                continue;
+            }
+            waitingProducers.add( currentThread );
+            // re-check after registering, a consumer that took an element before registration did not see us
+            if ( offerNow( e ) )
+            {
+                waitingProducers.remove( currentThread );
+                wakeOneIf( waitingProducers, remainingCapacity() > 0 );
+                return true;
+            }
+            LockSupport.parkNanos( this, Math.min( remainingAsNano, MAX_PARK_DURATION_AS_NANO ) );
+            waitingProducers.remove( currentThread );
+            if ( offerNow( e ) )
+            {
+                wakeOneIf( waitingProducers, remainingCapacity() > 0 );
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException
+    {
+        return awaitPoll( false, 0 );
+    }
+
+    @Override
+    public E poll( long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        return awaitPoll( true, unit.toNanos( timeout ) );
+    }
+
+    private E awaitPoll( boolean timed, long timeoutAsNano ) throws InterruptedException
+    {
+        E e = pollNow();
+        if ( null != e )
+        {
+            return e;
+        }
+        long deadlineAsNano = System.nanoTime() + timeoutAsNano;
+        Thread currentThread = Thread.currentThread();
+        int idleCount = 0;
+        while ( true )
+        {
+            if ( Thread.interrupted() )
+            {
+                throw new InterruptedException();
+            }
+            long remainingAsNano = (timed) ? deadlineAsNano - System.nanoTime() : MAX_PARK_DURATION_AS_NANO;
+            if ( remainingAsNano <= 0 )
+            {
+                return null;
+            }
+            if ( idleCount < YIELD_LIMIT )
+            {
+                backOff( idleCount++ );
+                if ( null != (e = pollNow()) )
+                {
+                    return e;
+                }
+                continue;
+            }
+            waitingConsumers.add( currentThread );
+            // re-check after registering, a producer that added an element before registration did not see us
+            if ( null != (e = pollNow()) )
+            {
+                waitingConsumers.remove( currentThread );
+                wakeOneIf( waitingConsumers, false == isEmpty() );
+                return e;
+            }
+            LockSupport.parkNanos( this, Math.min( remainingAsNano, MAX_PARK_DURATION_AS_NANO ) );
+            waitingConsumers.remove( currentThread );
+            if ( null != (e = pollNow()) )
+            {
+                wakeOneIf( waitingConsumers, false == isEmpty() );
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public E peek()
+    {
+        long position = dequeuePosition.get();
+        int index = index( position );
+        return (sequences.get( index ) == publishedSequence( position )) ? (E) elements[index] : null;
+    }
+
+    @Override
+    public int size()
+    {
+        // read dequeue position first, so the difference can never be negative
+        long dequeued = dequeuePosition.get();
+        long enqueued = enqueuePosition.get();
+        return (int) Math.max( 0, Math.min( capacity, enqueued - dequeued ) );
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return 0 == size();
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo( Collection<? super E> c )
+    {
+        return drainTo( c, Integer.MAX_VALUE );
+    }
+
+    @Override
+    public int drainTo( Collection<? super E> c, int maxElements )
+    {
+        if ( this == c )
+        {
+            throw new IllegalArgumentException( "Can not drain queue to itself" );
+        }
+        int drained = 0;
+        E e;
+        while ( drained < maxElements && null != (e = pollNow()) )
+        {
+            c.add( e );
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new SnapshotIterator<>( snapshot() );
+    }
+
+    private List<E> snapshot()
+    {
+        List<E> snapshot = new ArrayList<>();
+        long position = dequeuePosition.get();
+        long endPosition = enqueuePosition.get();
+        for ( ; position < endPosition; position++ )
+        {
+            int index = index( position );
+            long publishedSequence = publishedSequence( position );
+            if ( sequences.get( index ) != publishedSequence )
+            {
+                // already consumed, or claimed but not yet published
+                continue;
+            }
+            E e = (E) elements[index];
+            // re-check, slot may have been consumed (and even refilled) while the element was being read
+            if ( null != e && sequences.get( index ) == publishedSequence )
+            {
+                snapshot.add( e );
+            }
+        }
+        return snapshot;
+    }
+
+    private int index( long position )
+    {
+        return (int) (position % capacity);
+    }
+
+    /*
+    even sequence: slot is free for the producer of position, odd sequence: slot holds the element of position
+    (plain position & position + 1, as in the Disruptor, would be ambiguous for a capacity of one)
+    */
+    private static long freeSequence( long position )
+    {
+        return position * 2;
+    }
+
+    private static long publishedSequence( long position )
+    {
+        return position * 2 + 1;
+    }
+
+    private static void backOff( int idleCount )
+    {
+        if ( idleCount >= SPIN_LIMIT )
+        {
+            Thread.yield();
+        }
+    }
+
+    private static void wakeOneIf( Queue<Thread> waitingThreads, boolean condition )
+    {
+        if ( condition )
+        {
+            wakeOne( waitingThreads );
+        }
+    }
+
+    private static void wakeOne( Queue<Thread> waitingThreads )
+    {
+        if ( false == waitingThreads.isEmpty() )
+        {
+            Thread waitingThread = waitingThreads.poll();
+            if ( null != waitingThread )
+            {
+                LockSupport.unpark( waitingThread );
+            }
+        }
+    }
+
+    private static class SnapshotIterator<E> implements Iterator<E>
+    {
+        private final Iterator<E> snapshotIterator;
+
+        private SnapshotIterator( List<E> snapshot )
+        {
+            this.snapshotIterator = snapshot.iterator();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return snapshotIterator.hasNext();
+        }
+
+        @Override
+        public E next()
+        {
+            return snapshotIterator.next();
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException( format( "%s does not support removal via iterator",
+                    RingBufferBlockingQueue.class.getSimpleName() ) );
+        }
+    }
+}
@@ -3,16 +3,24 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.AsyncOperationExecutor;
+import com.ldbc.driver.runtime.executor.BatchingSameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
+import com.ldbc.driver.runtime.executor.PartitionedOperationExecutor;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.TimingWheelOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
@@ -49,8 +57,16 @@ public class WorkloadRunner
             int threadCount,
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
+            Spinner.WaitStrategy spinnerWaitStrategy,
+            OperationExecutorType operationExecutorType,
+            int maxOutstandingOperations,
             boolean ignoreScheduleStartTimes,
-            int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+            int operationHandlerExecutorsBoundedQueueSize,
+            DefaultQueues.BoundedQueueType operationHandlerExecutorsBoundedQueueType,
+            int batchSize,
+            long batchMaxWaitAsMilli,
+            List<OperationExecutorPartition> operationHandlerExecutorPartitions )
+            throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -63,8 +79,15 @@ public class WorkloadRunner
                 threadCount,
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                operationHandlerExecutorsBoundedQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                operationHandlerExecutorPartitions
         );
     }
 
@@ -93,8 +116,16 @@ public class WorkloadRunner
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                Spinner.WaitStrategy spinnerWaitStrategy,
+                OperationExecutorType operationExecutorType,
+                int maxOutstandingOperations,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                DefaultQueues.BoundedQueueType operationHandlerExecutorsBoundedQueueType,
+                int batchSize,
+                long batchMaxWaitAsMilli,
+                List<OperationExecutorPartition> operationHandlerExecutorPartitions )
+                throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -107,8 +138,15 @@ public class WorkloadRunner
                     threadCount,
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    operationHandlerExecutorsBoundedQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    operationHandlerExecutorPartitions
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -273,6 +311,7 @@ public class WorkloadRunner
         private final Spinner spinner;
         private WorkloadStatusThread workloadStatusThread;
         private final ConcurrentErrorReporter errorReporter;
+        private final LoggingService loggingService;
         private final OperationExecutor executorForAsynchronous;
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
@@ -296,28 +335,33 @@ public class WorkloadRunner
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                Spinner.WaitStrategy spinnerWaitStrategy,
+                OperationExecutorType operationExecutorType,
+                int maxOutstandingOperations,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                DefaultQueues.BoundedQueueType operationHandlerExecutorsBoundedQueueType,
+                int batchSize,
+                long batchMaxWaitAsMilli,
+                List<OperationExecutorPartition> operationHandlerExecutorPartitions )
+                throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            this.spinner = new Spinner(
+                    timeSource,
+                    spinnerSleepDurationAsMilli,
+                    ignoreScheduleStartTimes,
+                    spinnerWaitStrategy
+            );
 
-            if ( statusDisplayIntervalAsSeconds > 0 )
-            {
-                this.workloadStatusThread = new WorkloadStatusThread(
-                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
-                        metricsService.getWriter(),
-                        errorReporter,
-                        completionTimeService,
-                        loggingServiceFactory
-                );
-            }
             // only create a local completion time writer for an executor if it contains at least one READ_WRITE
             // operation
             // otherwise it will cause completion time to stall
             WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
+            PartitionedOperationExecutor partitionedExecutorForAsynchronous = null;
             LocalCompletionTimeWriter localCompletionTimeWriterForAsynchronous;
             try
             {
@@ -329,19 +373,119 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create local completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    localCompletionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            if ( OperationExecutorType.ASYNC.equals( operationExecutorType ) )
+            {
+                this.executorForAsynchronous = new AsyncOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        operationHandlerExecutorsBoundedQueueType,
+                        maxOutstandingOperations,
+                        db,
+                        asynchronousStream,
+                        localCompletionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+            }
+            else if ( OperationExecutorType.VIRTUAL_THREAD.equals( operationExecutorType ) )
+            {
+                try
+                {
+                    this.executorForAsynchronous = new VirtualThreadOperationExecutor(
+                            operationHandlerExecutorsBoundedQueueSize,
+                            db,
+                            asynchronousStream,
+                            localCompletionTimeWriterForAsynchronous,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            asynchronousStream.childOperationGenerator()
+                    );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new WorkloadException( "Error while attempting to create virtual thread executor", e );
+                }
+            }
+            else
+            {
+                OperationExecutor threadPoolExecutorForAsynchronous;
+                if ( operationHandlerExecutorPartitions.isEmpty() )
+                {
+                    threadPoolExecutorForAsynchronous = new ThreadPoolOperationExecutor(
+                            threadCount,
+                            operationHandlerExecutorsBoundedQueueSize,
+                            operationHandlerExecutorsBoundedQueueType,
+                            db,
+                            asynchronousStream,
+                            localCompletionTimeWriterForAsynchronous,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            asynchronousStream.childOperationGenerator()
+                    );
+                }
+                else
+                {
+                    try
+                    {
+                        partitionedExecutorForAsynchronous = new PartitionedOperationExecutor(
+                                operationHandlerExecutorPartitions,
+                                threadCount,
+                                operationHandlerExecutorsBoundedQueueSize,
+                                operationHandlerExecutorsBoundedQueueType,
+                                db,
+                                asynchronousStream,
+                                localCompletionTimeWriterForAsynchronous,
+                                completionTimeService,
+                                spinner,
+                                timeSource,
+                                errorReporter,
+                                metricsService,
+                                asynchronousStream.childOperationGenerator()
+                        );
+                    }
+                    catch ( OperationExecutorException e )
+                    {
+                        throw new WorkloadException( "Error while attempting to create partitioned executor", e );
+                    }
+                    threadPoolExecutorForAsynchronous = partitionedExecutorForAsynchronous;
+                }
+                // when scheduled start times are ignored every operation is due immediately, timing wheel is pointless
+                if ( OperationExecutorType.TIMING_WHEEL.equals( operationExecutorType ) &&
+                     false == ignoreScheduleStartTimes )
+                {
+                    this.executorForAsynchronous = new TimingWheelOperationExecutor(
+                            threadPoolExecutorForAsynchronous,
+                            operationHandlerExecutorsBoundedQueueSize,
+                            timeSource,
+                            errorReporter
+                    );
+                }
+                else
+                {
+                    this.executorForAsynchronous = threadPoolExecutorForAsynchronous;
+                }
+            }
+            if ( statusDisplayIntervalAsSeconds > 0 )
+            {
+                this.workloadStatusThread = new WorkloadStatusThread(
+                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
+                        metricsService.getWriter(),
+                        errorReporter,
+                        completionTimeService,
+                        loggingServiceFactory,
+                        partitionedExecutorForAsynchronous
+                );
+            }
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
@@ -365,17 +509,37 @@ public class WorkloadRunner
                 {
                     throw new WorkloadException( "Error while attempting to create local completion time writer", e );
                 }
-                OperationExecutor executorForBlocking = new SameThreadOperationExecutor(
-                        db,
-                        blockingStream,
-                        localCompletionTimeWriterForBlocking,
-                        completionTimeService,
-                        spinner,
-                        timeSource,
-                        errorReporter,
-                        metricsService,
-                        blockingStream.childOperationGenerator()
-                );
+                OperationExecutor executorForBlocking;
+                if ( batchSize > 1 )
+                {
+                    executorForBlocking = new BatchingSameThreadOperationExecutor(
+                            batchSize,
+                            batchMaxWaitAsMilli,
+                            db,
+                            blockingStream,
+                            localCompletionTimeWriterForBlocking,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            blockingStream.childOperationGenerator()
+                    );
+                }
+                else
+                {
+                    executorForBlocking = new SameThreadOperationExecutor(
+                            db,
+                            blockingStream,
+                            localCompletionTimeWriterForBlocking,
+                            completionTimeService,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            blockingStream.childOperationGenerator()
+                    );
+                }
                 this.executorsForBlocking.add( executorForBlocking );
                 this.blockingStreamExecutorServices.add(
                         new OperationStreamExecutorService(
@@ -508,6 +672,15 @@ public class WorkloadRunner
                 // but for now it does not matter as the process will terminate anyway
                 // (though when running test suite it can result in many running threads, making the tests much slower)
                 executorForAsynchronous.shutdown( shutdownWait );
+                if ( executorForAsynchronous instanceof VirtualThreadOperationExecutor &&
+                     ((VirtualThreadOperationExecutor) executorForAsynchronous).isPinningMeasured() )
+                {
+                    VirtualThreadOperationExecutor virtualThreadExecutor =
+                            (VirtualThreadOperationExecutor) executorForAsynchronous;
+                    loggingService.info( format( "Virtual threads were pinned to their carrier %s times, for %s ms",
+                            virtualThreadExecutor.pinnedCount(),
+                            TimeUnit.NANOSECONDS.toMillis( virtualThreadExecutor.pinnedDurationAsNano() ) ) );
+                }
             }
             catch ( OperationExecutorException e )
             {
@@ -4,6 +4,7 @@ import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.control.RecentThroughputAndDuration;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.executor.PartitionedOperationExecutor;
 import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.runtime.scheduling.Spinner;
@@ -19,6 +20,7 @@ class WorkloadStatusThread extends Thread
     private final ConcurrentErrorReporter errorReporter;
     private final CompletionTimeService completionTimeService;
     private final LoggingService loggingService;
+    private final PartitionedOperationExecutor partitionedOperationExecutor;
     private AtomicBoolean continueRunning = new AtomicBoolean( true );
 
     WorkloadStatusThread(
@@ -26,7 +28,8 @@ class WorkloadStatusThread extends Thread
             MetricsServiceWriter metricsServiceWriter,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
-            LoggingServiceFactory loggingServiceFactory )
+            LoggingServiceFactory loggingServiceFactory,
+            PartitionedOperationExecutor partitionedOperationExecutor )
     {
         super( WorkloadStatusThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.statusUpdateIntervalAsMilli = statusUpdateIntervalAsMilli;
@@ -34,6 +37,8 @@ class WorkloadStatusThread extends Thread
         this.errorReporter = errorReporter;
         this.completionTimeService = completionTimeService;
         this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        // null when operations are not executed by a partitioned executor
+        this.partitionedOperationExecutor = partitionedOperationExecutor;
     }
 
     @Override
@@ -65,6 +70,10 @@ class WorkloadStatusThread extends Thread
                         settableRecentThroughputAndDuration,
                         completionTimeService.globalCompletionTimeAsMilli()
                 );
+                if ( null != partitionedOperationExecutor )
+                {
+                    loggingService.info( partitionedOperationExecutor.partitionStatusString() );
+                }
 
                 Spinner.powerNap( statusUpdateIntervalAsMilli );
             }
@@ -5,7 +5,7 @@ import java.util.concurrent.Future;
 
 public interface CompletionTimeService extends
         ExternalCompletionTimeWriter,
-        GlobalCompletionTimeReader {
+        GlobalCompletionTimeWaiter {
 
     LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException;
 
@@ -13,5 +13,11 @@ public interface CompletionTimeService extends
 
     List<LocalCompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
+    /**
+     * @return reader of local completion time, i.e., ignoring peers, which is what is sent to peers.
+     * It may be read from any thread.
+     */
+    LocalCompletionTimeReader localCompletionTimeReader();
+
     void shutdown() throws CompletionTimeException;
 }
\ No newline at end of file
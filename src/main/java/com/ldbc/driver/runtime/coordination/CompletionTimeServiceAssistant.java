@@ -1,12 +1,13 @@
 package com.ldbc.driver.runtime.coordination;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
-import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.List;
 import java.util.Set;
 
+import static java.lang.String.format;
+
 public class CompletionTimeServiceAssistant
 {
     public void writeInitiatedAndCompletedTimesToAllWriters( CompletionTimeService completionTimeService,
@@ -39,7 +40,9 @@ public class CompletionTimeServiceAssistant
             {
                 throw new CompletionTimeException( "Encountered error while waiting for GCT" );
             }
-            Spinner.powerNap( sleepDurationAsMilli );
+            // wakes as soon as GCT advances far enough, or after sleep duration, to check for errors & timeout
+            completionTimeService.waitForGlobalCompletionTime( globalCompletionTimeToWaitForAsMilli,
+                    Math.min( sleepDurationAsMilli, Math.max( 0, timeoutTimeAsMilli - timeSource.nowAsMilli() ) ) );
         }
         return false;
     }
@@ -57,4 +60,32 @@ public class CompletionTimeServiceAssistant
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, peerIds, errorReporter );
     }
+
+    public DisruptorCompletionTimeService newDisruptorCompletionTimeServiceFromPeerIds(
+            TimeSource timeSource,
+            Set<String> peerIds,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        return new DisruptorCompletionTimeService( timeSource, peerIds, errorReporter );
+    }
+
+    public CompletionTimeService newCompletionTimeServiceFromPeerIds(
+            CompletionTimeServiceType completionTimeServiceType,
+            TimeSource timeSource,
+            Set<String> peerIds,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        switch ( completionTimeServiceType )
+        {
+        case SYNCHRONIZED:
+            return newSynchronizedConcurrentCompletionTimeServiceFromPeerIds( peerIds );
+        case THREADED_QUEUED:
+            return newThreadedQueuedConcurrentCompletionTimeServiceFromPeerIds( timeSource, peerIds, errorReporter );
+        case DISRUPTOR:
+            return newDisruptorCompletionTimeServiceFromPeerIds( timeSource, peerIds, errorReporter );
+        default:
+            throw new CompletionTimeException(
+                    format( "Unsupported completion time service type: %s", completionTimeServiceType ) );
+        }
+    }
 }
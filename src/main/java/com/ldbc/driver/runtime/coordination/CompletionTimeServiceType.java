@@ -0,0 +1,18 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Selects how initiated & completed times are communicated to the completion time service.
+ * <p/>
+ * SYNCHRONIZED = times are applied by the submitting thread, while holding the lock of the service.
+ * <p/>
+ * THREADED_QUEUED = times are sent as event objects, through a blocking queue, to a dedicated service thread.
+ * <p/>
+ * DISRUPTOR = times are written to pre-allocated slots of a ring buffer, which are applied by a dedicated service
+ * thread, that recomputes global completion time once per batch of events rather than once per event.
+ */
+public enum CompletionTimeServiceType
+{
+    SYNCHRONIZED,
+    THREADED_QUEUED,
+    DISRUPTOR
+}
@@ -0,0 +1,492 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.DisruptorExceptionHandler;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service that, like ThreadedQueuedCompletionTimeService, applies all initiated, completed & peer
+ * times on one service thread, but receives them through a ring buffer rather than a blocking queue.
+ * <p/>
+ * Ring buffer slots are allocated once, when the service is created, and times are written to their primitive fields,
+ * so submitting a time allocates nothing. The service thread consumes all slots that have been published since it
+ * last ran as one batch, and recomputes global completion time once per batch rather than once per time.
+ * <p/>
+ * Local completion time writers are created by the calling thread, rather than by the service thread.
+ */
+public class DisruptorCompletionTimeService implements CompletionTimeService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+    // must be power of 2
+    private static final int RING_BUFFER_SIZE = 16384;
+
+    private final TimeSource timeSource;
+    private final AtomicLong sharedGctReference = new AtomicLong( -1 );
+    private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters = new GlobalCompletionTimeWaiters();
+    private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
+    private final MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeConcurrentStateManager;
+    private final CompletionTimeEventHandler eventHandler;
+    private final ExecutorService executor;
+    private final Disruptor<CompletionTimeSlot> disruptor;
+    private final RingBuffer<CompletionTimeSlot> ringBuffer;
+    private final List<LocalCompletionTimeWriter> writers = new ArrayList<>();
+
+    DisruptorCompletionTimeService( TimeSource timeSource,
+            Set<String> peerIds,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        this.timeSource = timeSource;
+        this.localCompletionTimeConcurrentStateManager = new MultiWriterLocalCompletionTimeConcurrentStateManager();
+        ExternalCompletionTimeStateManager externalCompletionTimeStateManager =
+                new ExternalCompletionTimeStateManager( peerIds );
+        ExternalCompletionTimeReader externalCompletionTimeReader =
+                (peerIds.isEmpty())
+                // prevents GCT from blocking in the case when there are no peers (because ECT would not advance)
+                ? new LocalCompletionTimeReaderToExternalCompletionTimeReader(
+                        localCompletionTimeConcurrentStateManager )
+                : externalCompletionTimeStateManager;
+        // LCT is only written through writers of localCompletionTimeConcurrentStateManager, one per writing thread,
+        // for the same reasons as in ThreadedQueuedConcurrentCompletionTimeServiceThread
+        GlobalCompletionTimeStateManager globalCompletionTimeStateManager = new GlobalCompletionTimeStateManager(
+                localCompletionTimeConcurrentStateManager,
+                null,
+                externalCompletionTimeReader,
+                externalCompletionTimeStateManager
+        );
+        this.sharedGctReference.set( globalCompletionTimeStateManager.globalCompletionTimeAsMilli() );
+
+        this.executor = Executors.newSingleThreadExecutor( new ThreadFactory()
+        {
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable, DisruptorCompletionTimeService.class.getSimpleName() );
+                // never keep the JVM alive, e.g., if the service is not shut down after a failed run
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+        this.disruptor = new Disruptor<>(
+                new CompletionTimeSlotFactory(),
+                RING_BUFFER_SIZE,
+                // Executor that will be used to construct new threads for consumers
+                executor,
+                ProducerType.MULTI,
+                new BlockingWaitStrategy()
+        );
+        this.eventHandler = new CompletionTimeEventHandler(
+                errorReporter,
+                globalCompletionTimeStateManager,
+                sharedGctReference,
+                globalCompletionTimeWaiters );
+        disruptor.handleEventsWith( eventHandler );
+        DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        disruptor.handleExceptionsWith( exceptionHandler );
+        this.ringBuffer = disruptor.start();
+        // halting the event processor before its thread runs has no effect, the thread would then never terminate,
+        // so shutdown() must not be called before the event handler has started
+        try
+        {
+            if ( false == eventHandler.awaitStart( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI ) )
+            {
+                disruptor.halt();
+                executor.shutdownNow();
+                throw new CompletionTimeException( "Service thread took too long to start" );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            disruptor.halt();
+            executor.shutdownNow();
+            throw new CompletionTimeException( "Interrupted while waiting for service thread to start", e );
+        }
+    }
+
+    @Override
+    public long globalCompletionTimeAsMilli()
+    {
+        return sharedGctReference.get();
+    }
+
+    @Override
+    public boolean waitForGlobalCompletionTime( long globalCompletionTimeAsMilli, long timeoutAsMilli )
+    {
+        return globalCompletionTimeWaiters.await( globalCompletionTimeAsMilli, timeoutAsMilli );
+    }
+
+    /**
+     * IMPORTANT: like the underlying MultiWriterLocalCompletionTimeConcurrentStateManager, it is not safe to call
+     * after times have been submitted
+     */
+    @Override
+    synchronized public LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException
+    {
+        if ( sharedIsShuttingDownReference.get() )
+        {
+            throw new CompletionTimeException( "Can not create completion time writer after calling shutdown" );
+        }
+        MultiWriterLocalCompletionTimeConcurrentStateManagerWriter localCompletionTimeWriter =
+                (MultiWriterLocalCompletionTimeConcurrentStateManagerWriter)
+                        localCompletionTimeConcurrentStateManager.newLocalCompletionTimeWriter();
+        eventHandler.addLocalCompletionTimeWriter( localCompletionTimeWriter );
+        LocalCompletionTimeWriter writer = new DisruptorLocalCompletionTimeWriter(
+                localCompletionTimeWriter.id(),
+                sharedIsShuttingDownReference,
+                ringBuffer );
+        writers.add( writer );
+        return writer;
+    }
+
+    @Override
+    public Future<Long> globalCompletionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        ThreadedQueuedCompletionTimeService.GlobalCompletionTimeFuture future =
+                new ThreadedQueuedCompletionTimeService.GlobalCompletionTimeFuture( timeSource );
+        long sequence = ringBuffer.next();
+        try
+        {
+            CompletionTimeSlot slot = ringBuffer.get( sequence );
+            slot.type = CompletionTimeSlot.READ_GCT_FUTURE;
+            slot.globalCompletionTimeFuture = future;
+        }
+        finally
+        {
+            ringBuffer.publish( sequence );
+        }
+        return future;
+    }
+
+    @Override
+    public List<LocalCompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return writers;
+    }
+
+    @Override
+    public LocalCompletionTimeReader localCompletionTimeReader()
+    {
+        return localCompletionTimeConcurrentStateManager;
+    }
+
+    @Override
+    public void submitPeerCompletionTime( String peerId, long timeAsMilli ) throws CompletionTimeException
+    {
+        long sequence = ringBuffer.next();
+        try
+        {
+            CompletionTimeSlot slot = ringBuffer.get( sequence );
+            slot.type = CompletionTimeSlot.WRITE_EXTERNAL_COMPLETION_TIME;
+            slot.peerId = peerId;
+            slot.timeAsMilli = timeAsMilli;
+        }
+        finally
+        {
+            ringBuffer.publish( sequence );
+        }
+    }
+
+    @Override
+    synchronized public void shutdown() throws CompletionTimeException
+    {
+        if ( sharedIsShuttingDownReference.get() )
+        {
+            return;
+        }
+        sharedIsShuttingDownReference.set( true );
+
+        try
+        {
+            // waits until all published times have been applied
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            throw new CompletionTimeException( "Service took too long to shutdown", e );
+        }
+        executor.shutdown();
+        try
+        {
+            if ( false == executor.awaitTermination( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+            {
+                throw new CompletionTimeException( "Service thread took too long to terminate" );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new CompletionTimeException( "Interrupted while waiting for service thread to terminate", e );
+        }
+        if ( eventHandler.errorEncountered() )
+        {
+            throw new CompletionTimeException( "Error encountered while shutting down" );
+        }
+    }
+
+    public static class DisruptorLocalCompletionTimeWriter implements LocalCompletionTimeWriter
+    {
+        private final int writerId;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        private final RingBuffer<CompletionTimeSlot> ringBuffer;
+
+        DisruptorLocalCompletionTimeWriter( int writerId,
+                AtomicBoolean sharedIsShuttingDownReference,
+                RingBuffer<CompletionTimeSlot> ringBuffer )
+        {
+            this.writerId = writerId;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.ringBuffer = ringBuffer;
+        }
+
+        @Override
+        public void submitLocalInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            publish( CompletionTimeSlot.WRITE_LOCAL_INITIATED_TIME, timeAsMilli );
+        }
+
+        @Override
+        public void submitLocalCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            publish( CompletionTimeSlot.WRITE_LOCAL_COMPLETED_TIME, timeAsMilli );
+        }
+
+        private void publish( int type, long timeAsMilli )
+        {
+            long sequence = ringBuffer.next();
+            try
+            {
+                CompletionTimeSlot slot = ringBuffer.get( sequence );
+                slot.type = type;
+                slot.writerId = writerId;
+                slot.timeAsMilli = timeAsMilli;
+            }
+            finally
+            {
+                ringBuffer.publish( sequence );
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return "DisruptorLocalCompletionTimeWriter{" +
+                   "writerId=" + writerId +
+                   '}';
+        }
+    }
+
+    /**
+     * Pre-allocated ring buffer slot, fields are overwritten every time the slot is reused
+     */
+    static class CompletionTimeSlot
+    {
+        static final int WRITE_LOCAL_INITIATED_TIME = 1;
+        static final int WRITE_LOCAL_COMPLETED_TIME = 2;
+        static final int WRITE_EXTERNAL_COMPLETION_TIME = 3;
+        static final int READ_GCT_FUTURE = 4;
+
+        private int type;
+        private int writerId;
+        private long timeAsMilli;
+        private String peerId;
+        private ThreadedQueuedCompletionTimeService.GlobalCompletionTimeFuture globalCompletionTimeFuture;
+
+        @Override
+        public String toString()
+        {
+            return "CompletionTimeSlot{" +
+                   "type=" + type +
+                   ", writerId=" + writerId +
+                   ", timeAsMilli=" + timeAsMilli +
+                   ", peerId='" + peerId + '\'' +
+                   '}';
+        }
+    }
+
+    private static class CompletionTimeSlotFactory implements EventFactory<CompletionTimeSlot>
+    {
+        @Override
+        public CompletionTimeSlot newInstance()
+        {
+            return new CompletionTimeSlot();
+        }
+    }
+
+    private static class CompletionTimeEventHandler implements EventHandler<CompletionTimeSlot>, LifecycleAware
+    {
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private final CountDownLatch started = new CountDownLatch( 1 );
+        private final ConcurrentErrorReporter errorReporter;
+        private final GlobalCompletionTimeStateManager globalCompletionTimeStateManager;
+        private final AtomicLong globalCompletionTimeSharedReference;
+        private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters;
+        // indexed by writer id, written by threads creating writers, read by service thread
+        private volatile LocalCompletionTimeWriter[] localCompletionTimeWriters = new LocalCompletionTimeWriter[0];
+        private volatile boolean errorEncountered = false;
+        // true if times have been applied since global completion time was last recomputed
+        private boolean globalCompletionTimeStale = false;
+
+        private CompletionTimeEventHandler( ConcurrentErrorReporter errorReporter,
+                GlobalCompletionTimeStateManager globalCompletionTimeStateManager,
+                AtomicLong globalCompletionTimeSharedReference,
+                GlobalCompletionTimeWaiters globalCompletionTimeWaiters )
+        {
+            this.errorReporter = errorReporter;
+            this.globalCompletionTimeStateManager = globalCompletionTimeStateManager;
+            this.globalCompletionTimeSharedReference = globalCompletionTimeSharedReference;
+            this.globalCompletionTimeWaiters = globalCompletionTimeWaiters;
+        }
+
+        // callers are synchronized by the service
+        private void addLocalCompletionTimeWriter( MultiWriterLocalCompletionTimeConcurrentStateManagerWriter writer )
+        {
+            LocalCompletionTimeWriter[] newLocalCompletionTimeWriters =
+                    Arrays.copyOf( localCompletionTimeWriters, writer.id() + 1 );
+            newLocalCompletionTimeWriters[writer.id()] = writer;
+            localCompletionTimeWriters = newLocalCompletionTimeWriters;
+        }
+
+        private boolean errorEncountered()
+        {
+            return errorEncountered;
+        }
+
+        private boolean awaitStart( long timeoutAsMilli ) throws InterruptedException
+        {
+            return started.await( timeoutAsMilli, TimeUnit.MILLISECONDS );
+        }
+
+        @Override
+        public void onStart()
+        {
+            started.countDown();
+        }
+
+        @Override
+        public void onShutdown()
+        {
+        }
+
+        @Override
+        public void onEvent( CompletionTimeSlot slot, long sequence, boolean endOfBatch ) throws Exception
+        {
+            if ( errorEncountered )
+            {
+                return;
+            }
+            try
+            {
+                switch ( slot.type )
+                {
+                case CompletionTimeSlot.WRITE_LOCAL_INITIATED_TIME:
+                {
+                    localCompletionTimeWriters[slot.writerId].submitLocalInitiatedTime( slot.timeAsMilli );
+                    globalCompletionTimeStale = true;
+                    break;
+                }
+                case CompletionTimeSlot.WRITE_LOCAL_COMPLETED_TIME:
+                {
+                    localCompletionTimeWriters[slot.writerId].submitLocalCompletedTime( slot.timeAsMilli );
+                    globalCompletionTimeStale = true;
+                    break;
+                }
+                case CompletionTimeSlot.WRITE_EXTERNAL_COMPLETION_TIME:
+                {
+                    globalCompletionTimeStateManager.submitPeerCompletionTime( slot.peerId, slot.timeAsMilli );
+                    slot.peerId = null;
+                    globalCompletionTimeStale = true;
+                    break;
+                }
+                case CompletionTimeSlot.READ_GCT_FUTURE:
+                {
+                    // future must reflect all times published before it
+                    updateGlobalCompletionTime();
+                    slot.globalCompletionTimeFuture.set( globalCompletionTimeSharedReference.get() );
+                    slot.globalCompletionTimeFuture = null;
+                    break;
+                }
+                default:
+                {
+                    errorEncountered = true;
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered unexpected event type: %s", slot.type ) );
+                    return;
+                }
+                }
+                if ( endOfBatch )
+                {
+                    updateGlobalCompletionTime();
+                }
+            }
+            catch ( CompletionTimeException e )
+            {
+                errorEncountered = true;
+                errorReporter.reportError(
+                        this,
+                        format( "Encountered completion time related error\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private void updateGlobalCompletionTime() throws CompletionTimeException
+        {
+            if ( false == globalCompletionTimeStale )
+            {
+                return;
+            }
+            globalCompletionTimeStale = false;
+            long newGlobalCompletionTimeAsMilli = globalCompletionTimeStateManager.globalCompletionTimeAsMilli();
+            if ( -1 == newGlobalCompletionTimeAsMilli )
+            {
+                // Either Completion Time has not been received from one or more peers, or no local Completion Time
+                // has been received
+                return;
+            }
+            long prevGlobalCompletionTimeAsMilli = globalCompletionTimeSharedReference.get();
+            if ( -1 != prevGlobalCompletionTimeAsMilli &&
+                 newGlobalCompletionTimeAsMilli < prevGlobalCompletionTimeAsMilli )
+            {
+                errorReporter.reportError(
+                        this,
+                        format( "New GCT %s / %s smaller than previous GCT %s / %s",
+                                temporalUtil.milliTimeToDateTimeString( newGlobalCompletionTimeAsMilli ),
+                                newGlobalCompletionTimeAsMilli,
+                                temporalUtil.milliTimeToDateTimeString( prevGlobalCompletionTimeAsMilli ),
+                                prevGlobalCompletionTimeAsMilli ) );
+            }
+            else
+            {
+                globalCompletionTimeSharedReference.set( newGlobalCompletionTimeAsMilli );
+                globalCompletionTimeWaiters.advance( newGlobalCompletionTimeAsMilli );
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ldbc.driver.runtime.coordination;
+
+public interface GlobalCompletionTimeWaiter extends GlobalCompletionTimeReader {
+    /**
+     * Blocks until GCT is greater than or equal to the given time, or until the timeout expires.
+     * Waiters are woken when GCT advances, rather than polling it.
+     *
+     * @return true if GCT reached the given time, false if the timeout expired first
+     */
+    boolean waitForGlobalCompletionTime(long globalCompletionTimeAsMilli, long timeoutAsMilli)
+            throws CompletionTimeException;
+}
@@ -0,0 +1,155 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads waiting for GCT to reach some time, ordered by that time.
+ * <p/>
+ * Completion time services call advance() whenever GCT advances, which wakes exactly those waiters whose time has
+ * been reached. When the lowest time waited for is above GCT, advance() returns without taking the lock.
+ */
+public class GlobalCompletionTimeWaiters
+{
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final AtomicLong globalCompletionTimeAsMilli = new AtomicLong( -1 );
+    // lowest time waited for, Long.MAX_VALUE if there are no waiters
+    private volatile long lowestWaitedForTimeAsMilli = Long.MAX_VALUE;
+
+    public long globalCompletionTimeAsMilli()
+    {
+        return globalCompletionTimeAsMilli.get();
+    }
+
+    /**
+     * Sets GCT and wakes the threads waiting for GCT to reach it. GCT never decreases, lower times are ignored.
+     */
+    public void advance( long newGlobalCompletionTimeAsMilli )
+    {
+        long previousGlobalCompletionTimeAsMilli;
+        do
+        {
+            previousGlobalCompletionTimeAsMilli = globalCompletionTimeAsMilli.get();
+            if ( newGlobalCompletionTimeAsMilli <= previousGlobalCompletionTimeAsMilli )
+            {
+                return;
+            }
+        }
+        while ( false == globalCompletionTimeAsMilli.compareAndSet(
+                previousGlobalCompletionTimeAsMilli, newGlobalCompletionTimeAsMilli ) );
+        // GCT is written before waiters are read, and waiters are written before GCT is read (in await),
+        // so either the waiter sees the new GCT or it is woken here
+        if ( newGlobalCompletionTimeAsMilli < lowestWaitedForTimeAsMilli )
+        {
+            return;
+        }
+        synchronized ( waiters )
+        {
+            while ( false == waiters.isEmpty() &&
+                    waiters.peek().timeAsMilli <= newGlobalCompletionTimeAsMilli )
+            {
+                LockSupport.unpark( waiters.poll().thread );
+            }
+            updateLowestWaitedForTime();
+        }
+    }
+
+    /**
+     * @return true if GCT reached the given time, false if the timeout expired or the thread was interrupted first
+     */
+    public boolean await( long timeAsMilli, long timeoutAsMilli )
+    {
+        try
+        {
+            return await( timeAsMilli, timeoutAsMilli, null );
+        }
+        catch ( CompletionTimeException e )
+        {
+            // GCT is not read when there is no reader
+            throw new IllegalStateException( "Unexpected error", e );
+        }
+    }
+
+    /**
+     * For services that only compute GCT when it is read, and only advance waiters when they know of any.
+     * Once registered as waiter, GCT is read from the given reader, which must advance these waiters.
+     * Times submitted after that are then guaranteed to see the waiter, times submitted before are included in the
+     * GCT that was read.
+     *
+     * @return true if GCT reached the given time, false if the timeout expired or the thread was interrupted first
+     */
+    public boolean await( long timeAsMilli, long timeoutAsMilli, GlobalCompletionTimeReader reader )
+            throws CompletionTimeException
+    {
+        if ( globalCompletionTimeAsMilli.get() >= timeAsMilli )
+        {
+            return true;
+        }
+        long timeoutTimeAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeoutAsMilli );
+        Waiter waiter = new Waiter( Thread.currentThread(), timeAsMilli );
+        synchronized ( waiters )
+        {
+            waiters.add( waiter );
+            updateLowestWaitedForTime();
+        }
+        try
+        {
+            if ( null != reader )
+            {
+                reader.globalCompletionTimeAsMilli();
+            }
+            long remainingAsNano;
+            while ( globalCompletionTimeAsMilli.get() < timeAsMilli &&
+                    (remainingAsNano = timeoutTimeAsNano - System.nanoTime()) > 0 &&
+                    false == Thread.currentThread().isInterrupted() )
+            {
+                LockSupport.parkNanos( this, remainingAsNano );
+            }
+        }
+        finally
+        {
+            synchronized ( waiters )
+            {
+                // already removed, if it was woken by advance()
+                if ( waiters.remove( waiter ) )
+                {
+                    updateLowestWaitedForTime();
+                }
+            }
+        }
+        return globalCompletionTimeAsMilli.get() >= timeAsMilli;
+    }
+
+    /**
+     * Writers that do not advance waiters after every submitted time must check this AFTER publishing the time
+     */
+    public boolean hasWaiters()
+    {
+        return Long.MAX_VALUE != lowestWaitedForTimeAsMilli;
+    }
+
+    private void updateLowestWaitedForTime()
+    {
+        lowestWaitedForTimeAsMilli = (waiters.isEmpty()) ? Long.MAX_VALUE : waiters.peek().timeAsMilli;
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final Thread thread;
+        private final long timeAsMilli;
+
+        private Waiter( Thread thread, long timeAsMilli )
+        {
+            this.thread = thread;
+            this.timeAsMilli = timeAsMilli;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            return Long.compare( timeAsMilli, other.timeAsMilli );
+        }
+    }
+}
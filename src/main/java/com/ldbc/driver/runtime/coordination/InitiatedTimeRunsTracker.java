@@ -0,0 +1,182 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import static java.lang.String.format;
+
+/**
+ * Tracks initiated & completed times for local completion time, on primitive arrays.
+ * <p/>
+ * As initiated times are submitted in ascending order they are kept as runs in a ring buffer, ascending by time, each
+ * run being a distinct initiated time and the number of its operations that are yet to complete. Runs at the head of
+ * the ring that have fully completed are dropped, as soon as a later run exists, and the time of the last dropped run
+ * is the completion time: every operation initiated at or before it has completed, and it precedes the lowest
+ * uncompleted initiated time.
+ * <p/>
+ * Submitting initiated times, and completing operations of the lowest run, is amortized O(1) and allocates nothing
+ * (other than when the ring grows). Completing operations of other runs finds the run by binary search.
+ * <p/>
+ * Equivalent to LocalInitiatedTimeTracker & LocalCompletedTimeTracker as combined by LocalCompletionTimeStateManager.
+ * It is NOT thread-safe.
+ */
+class InitiatedTimeRunsTracker
+{
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private long[] times = new long[INITIAL_CAPACITY];
+    private int[] uncompletedCounts = new int[INITIAL_CAPACITY];
+    // capacity is always a power of 2, so index of run i is (head + i) & mask
+    private int mask = INITIAL_CAPACITY - 1;
+    private int head = 0;
+    private int size = 0;
+    private long highestInitiatedTimeAsMilli = -1;
+    private long completionTimeAsMilli = -1;
+    private int uncompletedInitiatedTimes = 0;
+
+    void addInitiatedTime( long initiatedTimeAsMilli ) throws CompletionTimeException
+    {
+        if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+        {
+            String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                    + "  Submitted: %s (%s ms)\n"
+                                    + "  Previous: %s (%s ms)",
+                    temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                    temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                    highestInitiatedTimeAsMilli
+            );
+            throw new CompletionTimeException( errMsg );
+        }
+        if ( size > 0 && times[(head + size - 1) & mask] == initiatedTimeAsMilli )
+        {
+            uncompletedCounts[(head + size - 1) & mask]++;
+        }
+        else
+        {
+            if ( size == times.length )
+            {
+                grow();
+            }
+            int index = (head + size) & mask;
+            times[index] = initiatedTimeAsMilli;
+            uncompletedCounts[index] = 1;
+            size++;
+        }
+        highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+        uncompletedInitiatedTimes++;
+        dropCompletedRuns();
+    }
+
+    void addCompletedTime( long initiatedTimeAsMilli ) throws CompletionTimeException
+    {
+        int index = indexOfRun( initiatedTimeAsMilli );
+        if ( -1 == index || 0 == uncompletedCounts[index] )
+        {
+            throw new CompletionTimeException( format(
+                    "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                    initiatedTimeAsMilli ) );
+        }
+        uncompletedCounts[index]--;
+        uncompletedInitiatedTimes--;
+        dropCompletedRuns();
+    }
+
+    /**
+     * @return lowest initiated time of uncompleted operations, highest initiated time if all have completed, -1 if
+     * no time has been initiated
+     */
+    long lastKnownLowestInitiatedTimeAsMilli()
+    {
+        if ( 0 == size )
+        {
+            return -1;
+        }
+        return (0 == uncompletedCounts[head]) ? highestInitiatedTimeAsMilli : times[head];
+    }
+
+    /**
+     * @return highest initiated time that is lower than the lowest uncompleted initiated time, -1 if none
+     */
+    long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    long highestInitiatedTimeAsMilli()
+    {
+        return highestInitiatedTimeAsMilli;
+    }
+
+    int uncompletedInitiatedTimes()
+    {
+        return uncompletedInitiatedTimes;
+    }
+
+    // last run is kept even once completed, it is not lower than lowest initiated time until a later run exists
+    private void dropCompletedRuns()
+    {
+        while ( size > 1 && 0 == uncompletedCounts[head] )
+        {
+            completionTimeAsMilli = times[head];
+            head = (head + 1) & mask;
+            size--;
+        }
+    }
+
+    private int indexOfRun( long timeAsMilli )
+    {
+        // most operations complete in roughly the order they were initiated
+        if ( size > 0 && times[head] == timeAsMilli )
+        {
+            return head;
+        }
+        int low = 0;
+        int high = size - 1;
+        while ( low <= high )
+        {
+            int middle = (low + high) >>> 1;
+            long middleTime = times[(head + middle) & mask];
+            if ( middleTime < timeAsMilli )
+            {
+                low = middle + 1;
+            }
+            else if ( middleTime > timeAsMilli )
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return (head + middle) & mask;
+            }
+        }
+        return -1;
+    }
+
+    private void grow()
+    {
+        int capacity = times.length * 2;
+        long[] newTimes = new long[capacity];
+        int[] newUncompletedCounts = new int[capacity];
+        for ( int i = 0; i < size; i++ )
+        {
+            newTimes[i] = times[(head + i) & mask];
+            newUncompletedCounts[i] = uncompletedCounts[(head + i) & mask];
+        }
+        times = newTimes;
+        uncompletedCounts = newUncompletedCounts;
+        mask = capacity - 1;
+        head = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "InitiatedTimeRunsTracker{" +
+               "runs=" + size +
+               ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli() +
+               ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+               ", completionTimeAsMilli=" + completionTimeAsMilli +
+               ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+               '}';
+    }
+}
@@ -22,16 +22,12 @@ import static java.lang.String.format;
  * <p/>
  * But not exactly, as Completion Time is ALWAYS lower than min(Initiated Events).
  * <p/>
- * This class performs the logic of tracking completion time. It is NOT thread-safe.
+ * This class performs the logic of tracking completion time, using {@link InitiatedTimeRunsTracker}.
+ * It is NOT thread-safe.
  */
 public class LocalCompletionTimeStateManager implements LocalCompletionTimeReaderWriter
 {
-    private long localCompletionTimeAsMilli = -1;
-    private final LocalInitiatedTimeTracker localInitiatedTimeTracker =
-            LocalInitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final LocalCompletedTimeTracker localCompletedTimeTracker =
-            LocalCompletedTimeTrackerImpl.createUsingTreeMultiSet();
-    private long lastKnownLowestInitiatedTimeAsMilli = -1;
+    private final InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
 
     LocalCompletionTimeStateManager()
     {
@@ -40,13 +36,13 @@ public class LocalCompletionTimeStateManager implements LocalCompletionTimeReade
     @Override
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
     {
-        return lastKnownLowestInitiatedTimeAsMilli;
+        return tracker.lastKnownLowestInitiatedTimeAsMilli();
     }
 
     @Override
     public long localCompletionTimeAsMilli()
     {
-        return localCompletionTimeAsMilli;
+        return tracker.completionTimeAsMilli();
     }
 
     /**
@@ -58,9 +54,7 @@ public class LocalCompletionTimeStateManager implements LocalCompletionTimeReade
     @Override
     public void submitLocalInitiatedTime( long timeAsMilli ) throws CompletionTimeException
     {
-        lastKnownLowestInitiatedTimeAsMilli =
-                localInitiatedTimeTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli );
-        updateCompletionTime();
+        tracker.addInitiatedTime( timeAsMilli );
     }
 
     /**
@@ -72,18 +66,7 @@ public class LocalCompletionTimeStateManager implements LocalCompletionTimeReade
     @Override
     public void submitLocalCompletedTime( long timeAsMilli ) throws CompletionTimeException
     {
-        lastKnownLowestInitiatedTimeAsMilli =
-                localInitiatedTimeTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli );
-        localCompletedTimeTracker.addCompletedTimeAsMilli( timeAsMilli );
-        updateCompletionTime();
-    }
-
-    private void updateCompletionTime()
-    {
-        long highestSafeCompletedTimeAsMilli = localCompletedTimeTracker
-                .removeTimesLowerThanAndReturnHighestRemoved( lastKnownLowestInitiatedTimeAsMilli );
-        if ( -1 != highestSafeCompletedTimeAsMilli )
-        { localCompletionTimeAsMilli = highestSafeCompletedTimeAsMilli; }
+        tracker.addCompletedTime( timeAsMilli );
     }
 
     interface LocalCompletedTimeTracker
@@ -1,9 +1,8 @@
 package com.ldbc.driver.runtime.coordination;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.lmax.disruptor.Sequence;
 
-import static java.lang.String.format;
+import java.util.Arrays;
 
 /**
  * Completion time is the point in time AT which there are no uncompleted events.
@@ -15,22 +14,19 @@ import static java.lang.String.format;
  * <p/>
  * This class performs the logic of tracking local completion time.
  * It can be written to by multiple threads in a thread-safe manner.
+ * <p/>
+ * Each writer tracks its own times and publishes its initiated & completion times to padded volatile slots.
+ * There is no lock shared by writers, local initiated & completion times are computed from the published times of
+ * all writers when they are read. As the published times of every writer only ever increase, a reader that sees
+ * stale times computes a lower, still safe, completion time.
  */
 public class MultiWriterLocalCompletionTimeConcurrentStateManager implements LocalCompletionTimeReader
 {
-
-    private enum Event
-    {
-        READ_LAST_KNOWN_LIT,
-        READ_LCT,
-        WRITE_LIT,
-        WRITE_LCT,
-        ADD_WRITER
-    }
-
-    private final List<LocalCompletionTimeReaderWriter> localCompletionTimeReaderWriters = new ArrayList<>();
-    private long localCompletionTimeAsMilli = -1;
-    private long localInitiationTimeAsMilli = -1;
+    private volatile MultiWriterLocalCompletionTimeConcurrentStateManagerWriter[] writers =
+            new MultiWriterLocalCompletionTimeConcurrentStateManagerWriter[0];
+    // highest times computed by any reader, so concurrent readers never see times go backwards
+    private final Sequence localCompletionTimeAsMilli = new Sequence( -1 );
+    private final Sequence localInitiationTimeAsMilli = new Sequence( -1 );
 
     MultiWriterLocalCompletionTimeConcurrentStateManager()
     {
@@ -39,23 +35,15 @@ public class MultiWriterLocalCompletionTimeConcurrentStateManager implements Loc
     @Override
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_LAST_KNOWN_LIT, -1, -1 );
+        updateCompletionTime();
+        return localInitiationTimeAsMilli.get();
     }
 
     @Override
     public long localCompletionTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_LCT, -1, -1 );
-    }
-
-    void submitLocalInitiatedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
-    {
-        processEvent( Event.WRITE_LIT, writerId, scheduledStartTimeAsMilli );
-    }
-
-    void submitLocalCompletedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
-    {
-        processEvent( Event.WRITE_LCT, writerId, scheduledStartTimeAsMilli );
+        updateCompletionTime();
+        return localCompletionTimeAsMilli.get();
     }
 
     /**
@@ -64,110 +52,66 @@ public class MultiWriterLocalCompletionTimeConcurrentStateManager implements Loc
      * @return new writer
      * @throws CompletionTimeException
      */
-    LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException
+    synchronized LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException
     {
-        return (LocalCompletionTimeWriter) processEvent( Event.ADD_WRITER, -1, -1 );
+        MultiWriterLocalCompletionTimeConcurrentStateManagerWriter writer =
+                new MultiWriterLocalCompletionTimeConcurrentStateManagerWriter( writers.length );
+        MultiWriterLocalCompletionTimeConcurrentStateManagerWriter[] newWriters =
+                Arrays.copyOf( writers, writers.length + 1 );
+        newWriters[writer.id()] = writer;
+        writers = newWriters;
+        return writer;
     }
 
-    synchronized private Object processEvent( Event event, int writerId, long scheduledStartTimeAsMilli )
-            throws CompletionTimeException
-    {
-        switch ( event )
-        {
-        case READ_LAST_KNOWN_LIT:
-        {
-            return localInitiationTimeAsMilli;
-        }
-        case READ_LCT:
-        {
-            return localCompletionTimeAsMilli;
-        }
-        case WRITE_LIT:
-        {
-            LocalCompletionTimeWriter localCompletionTimeWriter = localCompletionTimeReaderWriters.get( writerId );
-            if ( null == localCompletionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            localCompletionTimeWriter.submitLocalInitiatedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case WRITE_LCT:
-        {
-            LocalCompletionTimeWriter localCompletionTimeWriter = localCompletionTimeReaderWriters.get( writerId );
-            if ( null == localCompletionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            localCompletionTimeWriter.submitLocalCompletedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case ADD_WRITER:
-        {
-            int nextWriterId = localCompletionTimeReaderWriters.size();
-            LocalCompletionTimeReaderWriter localCompletionTimeReaderWriter = new LocalCompletionTimeStateManager();
-            LocalCompletionTimeWriter localCompletionTimeWriter =
-                    new MultiWriterLocalCompletionTimeConcurrentStateManagerWriter( nextWriterId, this );
-            localCompletionTimeReaderWriters.add( localCompletionTimeReaderWriter );
-            return localCompletionTimeWriter;
-        }
-        default:
-        {
-            throw new CompletionTimeException( "This should never happen" );
-        }
-        }
-    }
-
-    private void updateCompletionTime() throws CompletionTimeException
+    private void updateCompletionTime()
     {
+        MultiWriterLocalCompletionTimeConcurrentStateManagerWriter[] writers = this.writers;
         long tempLocalInitiationTimeAsMilli = -1;
-        for ( int i = 0; i < localCompletionTimeReaderWriters.size(); i++ )
+        for ( int i = 0; i < writers.length; i++ )
         {
-            LocalCompletionTimeReader reader = localCompletionTimeReaderWriters.get( i );
-            long readerLocalInitiationTimeAsMilli = reader.lastKnownLowestInitiatedTimeAsMilli();
-            if ( -1 == readerLocalInitiationTimeAsMilli )
+            long writerLocalInitiationTimeAsMilli = writers[i].lastKnownLowestInitiatedTimeAsMilli();
+            if ( -1 == writerLocalInitiationTimeAsMilli )
             {
                 // if any initiation times are null, local initiation time and local completion time are undefined
                 return;
             }
             else if ( -1 == tempLocalInitiationTimeAsMilli ||
-                      readerLocalInitiationTimeAsMilli < tempLocalInitiationTimeAsMilli )
-            {
-                tempLocalInitiationTimeAsMilli = readerLocalInitiationTimeAsMilli;
-            }
-            else
+                      writerLocalInitiationTimeAsMilli < tempLocalInitiationTimeAsMilli )
             {
-                // reader has initiation time, but it is greater than minimum initiation time
+                tempLocalInitiationTimeAsMilli = writerLocalInitiationTimeAsMilli;
             }
         }
 
-        localInitiationTimeAsMilli = tempLocalInitiationTimeAsMilli;
+        advance( localInitiationTimeAsMilli, tempLocalInitiationTimeAsMilli );
 
-        long tempLocalCompletionTimeAsMilli = localCompletionTimeAsMilli;
-        for ( int i = 0; i < localCompletionTimeReaderWriters.size(); i++ )
+        // completion times are read after initiation times, so they may be newer. any that are lower than the
+        // (possibly older) initiation time are still safe, as no time lower than that initiation time is uncompleted
+        long tempLocalCompletionTimeAsMilli = -1;
+        for ( int i = 0; i < writers.length; i++ )
         {
-            LocalCompletionTimeReader reader = localCompletionTimeReaderWriters.get( i );
-            long readerLocalCompletionTimeAsMilli = reader.localCompletionTimeAsMilli();
-            if ( -1 == readerLocalCompletionTimeAsMilli )
+            long writerLocalCompletionTimeAsMilli = writers[i].localCompletionTimeAsMilli();
+            if ( -1 != writerLocalCompletionTimeAsMilli &&
+                 writerLocalCompletionTimeAsMilli < tempLocalInitiationTimeAsMilli &&
+                 writerLocalCompletionTimeAsMilli > tempLocalCompletionTimeAsMilli )
             {
-                // reader has non-null initiation time and null completion time
-                // if at least one reader has non-null completion time it is still possible that local completion
-                // time is non-null
-                // initiation time already tells us that no more times will arrive BELOW that time
-                // continue checking completion times of other readers
+                tempLocalCompletionTimeAsMilli = writerLocalCompletionTimeAsMilli;
             }
-            else if ( readerLocalCompletionTimeAsMilli < tempLocalInitiationTimeAsMilli )
-            {
-                if ( -1 == tempLocalCompletionTimeAsMilli ||
-                     readerLocalCompletionTimeAsMilli > tempLocalCompletionTimeAsMilli )
-                {
-                    tempLocalCompletionTimeAsMilli = readerLocalCompletionTimeAsMilli;
-                }
-            }
-            else
+        }
+
+        advance( localCompletionTimeAsMilli, tempLocalCompletionTimeAsMilli );
+    }
+
+    private static void advance( Sequence timeAsMilli, long newTimeAsMilli )
+    {
+        long currentTimeAsMilli;
+        do
+        {
+            currentTimeAsMilli = timeAsMilli.get();
+            if ( newTimeAsMilli <= currentTimeAsMilli )
             {
-                // completion time must be lower than initiation time
-                // continue checking completion times of other readers
+                return;
             }
         }
-        localCompletionTimeAsMilli = tempLocalCompletionTimeAsMilli;
+        while ( false == timeAsMilli.compareAndSet( currentTimeAsMilli, newTimeAsMilli ) );
     }
 }
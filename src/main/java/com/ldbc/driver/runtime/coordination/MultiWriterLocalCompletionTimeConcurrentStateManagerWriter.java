@@ -1,23 +1,55 @@
 package com.ldbc.driver.runtime.coordination;
 
+import com.lmax.disruptor.Sequence;
+
+/**
+ * Tracks the times of one writer, and publishes its local initiated & completion times for
+ * MultiWriterLocalCompletionTimeConcurrentStateManager to read.
+ * <p/>
+ * A writer belongs to one executor, initiated times are submitted by that executor and completed times by the threads
+ * that execute its operations, so times are tracked under a lock held only by submitters to this writer.
+ */
 public class MultiWriterLocalCompletionTimeConcurrentStateManagerWriter implements LocalCompletionTimeWriter {
     private final int id;
-    private final MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeStateManager;
+    private final LocalCompletionTimeStateManager localCompletionTimeStateManager =
+            new LocalCompletionTimeStateManager();
+    private final Sequence lastKnownLowestInitiatedTimeAsMilli = new Sequence(-1);
+    private final Sequence localCompletionTimeAsMilli = new Sequence(-1);
 
-    MultiWriterLocalCompletionTimeConcurrentStateManagerWriter(int id,
-                                                               MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeStateManager) {
+    MultiWriterLocalCompletionTimeConcurrentStateManagerWriter(int id) {
         this.id = id;
-        this.localCompletionTimeStateManager = localCompletionTimeStateManager;
     }
 
     @Override
     public void submitLocalInitiatedTime(long timeAsMilli) throws CompletionTimeException {
-        localCompletionTimeStateManager.submitLocalInitiatedTime(id, timeAsMilli);
+        synchronized (localCompletionTimeStateManager) {
+            localCompletionTimeStateManager.submitLocalInitiatedTime(timeAsMilli);
+            publish();
+        }
     }
 
     @Override
     public void submitLocalCompletedTime(long timeAsMilli) throws CompletionTimeException {
-        localCompletionTimeStateManager.submitLocalCompletedTime(id, timeAsMilli);
+        synchronized (localCompletionTimeStateManager) {
+            localCompletionTimeStateManager.submitLocalCompletedTime(timeAsMilli);
+            publish();
+        }
+    }
+
+    // volatile writes, so a submitter that next checks for GCT waiters can not miss a waiter that reads these times
+    private void publish() throws CompletionTimeException {
+        localCompletionTimeAsMilli.setVolatile(
+                localCompletionTimeStateManager.localCompletionTimeAsMilli());
+        lastKnownLowestInitiatedTimeAsMilli.setVolatile(
+                localCompletionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli());
+    }
+
+    long lastKnownLowestInitiatedTimeAsMilli() {
+        return lastKnownLowestInitiatedTimeAsMilli.get();
+    }
+
+    long localCompletionTimeAsMilli() {
+        return localCompletionTimeAsMilli.get();
     }
 
     int id() {
@@ -0,0 +1,143 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.base.Charsets;
+
+import java.nio.ByteBuffer;
+
+import static java.lang.String.format;
+
+/**
+ * Binary frames exchanged between peers, every frame starts with a one byte frame type:
+ * <p/>
+ * HELLO: type, magic (int), session (int), peer ID length (short), peer ID (UTF-8 bytes)
+ * - first frame on every connection, identifies the sending peer and the run (session) it belongs to
+ * <p/>
+ * COMPLETION_TIME: type, local completion time of sending peer (long)
+ * <p/>
+ * HEARTBEAT: type
+ * - sent when local completion time has not changed for a heartbeat period
+ * <p/>
+ * FINISHED: type
+ * - sending peer has completed all of its operations, it sends nothing more
+ */
+class PeerFrames
+{
+    static final byte HELLO = 1;
+    static final byte COMPLETION_TIME = 2;
+    static final byte HEARTBEAT = 3;
+    static final byte FINISHED = 4;
+
+    static final int MAGIC = 0x4C444243;
+    static final int MAX_PEER_ID_LENGTH = 1024;
+    static final int MAX_FRAME_LENGTH = 1 + 4 + 4 + 2 + MAX_PEER_ID_LENGTH;
+
+    interface FrameHandler
+    {
+        void onHello( String peerId, int session ) throws CompletionTimeException;
+
+        void onCompletionTime( long timeAsMilli ) throws CompletionTimeException;
+
+        void onHeartbeat() throws CompletionTimeException;
+
+        void onFinished() throws CompletionTimeException;
+    }
+
+    static void writeHello( ByteBuffer buffer, String peerId, int session ) throws CompletionTimeException
+    {
+        byte[] peerIdBytes = peerId.getBytes( Charsets.UTF_8 );
+        if ( peerIdBytes.length > MAX_PEER_ID_LENGTH )
+        {
+            throw new CompletionTimeException(
+                    format( "Peer ID is longer than %s bytes: %s", MAX_PEER_ID_LENGTH, peerId ) );
+        }
+        buffer.put( HELLO );
+        buffer.putInt( MAGIC );
+        buffer.putInt( session );
+        buffer.putShort( (short) peerIdBytes.length );
+        buffer.put( peerIdBytes );
+    }
+
+    static void writeCompletionTime( ByteBuffer buffer, long timeAsMilli )
+    {
+        buffer.put( COMPLETION_TIME );
+        buffer.putLong( timeAsMilli );
+    }
+
+    static void writeHeartbeat( ByteBuffer buffer )
+    {
+        buffer.put( HEARTBEAT );
+    }
+
+    static void writeFinished( ByteBuffer buffer )
+    {
+        buffer.put( FINISHED );
+    }
+
+    /**
+     * Reads all complete frames from buffer (in read mode), leaves position at start of first incomplete frame
+     */
+    static void readFrames( ByteBuffer buffer, FrameHandler handler ) throws CompletionTimeException
+    {
+        while ( buffer.hasRemaining() )
+        {
+            int frameStart = buffer.position();
+            byte type = buffer.get();
+            switch ( type )
+            {
+            case HELLO:
+            {
+                if ( buffer.remaining() < 4 + 4 + 2 )
+                {
+                    buffer.position( frameStart );
+                    return;
+                }
+                int magic = buffer.getInt();
+                if ( MAGIC != magic )
+                {
+                    throw new CompletionTimeException( format( "Peer frame has unexpected magic number: %s", magic ) );
+                }
+                int session = buffer.getInt();
+                int peerIdLength = buffer.getShort() & 0xFFFF;
+                if ( peerIdLength > MAX_PEER_ID_LENGTH )
+                {
+                    throw new CompletionTimeException( format( "Peer ID is longer than %s bytes: %s",
+                            MAX_PEER_ID_LENGTH, peerIdLength ) );
+                }
+                if ( buffer.remaining() < peerIdLength )
+                {
+                    buffer.position( frameStart );
+                    return;
+                }
+                byte[] peerIdBytes = new byte[peerIdLength];
+                buffer.get( peerIdBytes );
+                handler.onHello( new String( peerIdBytes, Charsets.UTF_8 ), session );
+                break;
+            }
+            case COMPLETION_TIME:
+            {
+                if ( buffer.remaining() < 8 )
+                {
+                    buffer.position( frameStart );
+                    return;
+                }
+                handler.onCompletionTime( buffer.getLong() );
+                break;
+            }
+            case HEARTBEAT:
+            {
+                handler.onHeartbeat();
+                break;
+            }
+            case FINISHED:
+            {
+                handler.onFinished();
+                break;
+            }
+            default:
+            {
+                throw new CompletionTimeException( format( "Unknown peer frame type: %s", type ) );
+            }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     private final GlobalCompletionTimeStateManager globalCompletionTimeStateManager;
     private final MultiWriterLocalCompletionTimeConcurrentStateManager localCompletionTimeConcurrentStateManager;
     private final List<LocalCompletionTimeWriter> localCompletionTimeWriters;
+    private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters = new GlobalCompletionTimeWaiters();
 
     private enum Event {
         READ_GLOBAL_COMPLETION_TIME,
@@ -66,6 +67,18 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (long) processEvent(Event.READ_GLOBAL_COMPLETION_TIME, null, -1);
     }
 
+    @Override
+    public boolean waitForGlobalCompletionTime(long globalCompletionTimeAsMilli, long timeoutAsMilli)
+            throws CompletionTimeException {
+        // GCT is only computed when read, reading it after registering as waiter advances waiters to current GCT
+        return globalCompletionTimeWaiters.await(globalCompletionTimeAsMilli, timeoutAsMilli, this);
+    }
+
+    @Override
+    public LocalCompletionTimeReader localCompletionTimeReader() {
+        return localCompletionTimeConcurrentStateManager;
+    }
+
     @Override
     public LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException {
         return (LocalCompletionTimeWriter) processEvent(Event.CREATE_NEW_LOCAL_COMPLETION_TIME_WRITER, null, -1);
@@ -84,17 +97,22 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         synchronized (globalCompletionTimeStateManager) {
             switch (event) {
                 case READ_GLOBAL_COMPLETION_TIME: {
-                    return globalCompletionTimeStateManager.globalCompletionTimeAsMilli();
+                    long globalCompletionTimeAsMilli = globalCompletionTimeStateManager.globalCompletionTimeAsMilli();
+                    globalCompletionTimeWaiters.advance(globalCompletionTimeAsMilli);
+                    return globalCompletionTimeAsMilli;
                 }
                 case READ_FUTURE_GLOBAL_COMPLETION_TIME: {
                     return new GlobalCompletionTimeAsMilliFuture(globalCompletionTimeStateManager.globalCompletionTimeAsMilli());
                 }
                 case WRITE_EXTERNAL_COMPLETION_TIME: {
                     globalCompletionTimeStateManager.submitPeerCompletionTime(peerId, timeAsMilli);
+                    globalCompletionTimeWaiters.advance(globalCompletionTimeStateManager.globalCompletionTimeAsMilli());
                     return null;
                 }
                 case CREATE_NEW_LOCAL_COMPLETION_TIME_WRITER: {
-                    LocalCompletionTimeWriter localCompletionTimeWriter = localCompletionTimeConcurrentStateManager.newLocalCompletionTimeWriter();
+                    LocalCompletionTimeWriter localCompletionTimeWriter =
+                            new GlobalCompletionTimeWaitersAdvancingWriter(
+                                    localCompletionTimeConcurrentStateManager.newLocalCompletionTimeWriter());
                     localCompletionTimeWriters.add(localCompletionTimeWriter);
                     return localCompletionTimeWriter;
                 }
@@ -108,6 +126,38 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
+    /**
+     * Submitted times may advance GCT, which is only computed when read, so it is read when there are waiters to wake
+     */
+    private class GlobalCompletionTimeWaitersAdvancingWriter implements LocalCompletionTimeWriter {
+        private final LocalCompletionTimeWriter writer;
+
+        private GlobalCompletionTimeWaitersAdvancingWriter(LocalCompletionTimeWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void submitLocalInitiatedTime(long timeAsMilli) throws CompletionTimeException {
+            writer.submitLocalInitiatedTime(timeAsMilli);
+            if (globalCompletionTimeWaiters.hasWaiters()) {
+                globalCompletionTimeAsMilli();
+            }
+        }
+
+        @Override
+        public void submitLocalCompletedTime(long timeAsMilli) throws CompletionTimeException {
+            writer.submitLocalCompletedTime(timeAsMilli);
+            if (globalCompletionTimeWaiters.hasWaiters()) {
+                globalCompletionTimeAsMilli();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return writer.toString();
+        }
+    }
+
     private static class GlobalCompletionTimeAsMilliFuture implements Future<Long> {
         private final long globalCompletionTimeValueAsMilli;
 
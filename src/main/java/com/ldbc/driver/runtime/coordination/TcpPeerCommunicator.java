@@ -0,0 +1,620 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Exchanges local completion times with peers, i.e., other driver processes that execute partitions of the same
+ * workload, over TCP. Frames are described in PeerFrames.
+ * <p/>
+ * Every peer is identified by the address it listens on, host:port. Each driver listens on its own address, connects
+ * to the address of every peer, and sends its local completion time on that connection whenever it changes, or a
+ * heartbeat if it has not changed for a heartbeat period. Completion times received from peers are submitted as
+ * external completion times.
+ * <p/>
+ * Failure detection: an error is reported if a peer does not connect within the connect timeout, or if nothing is
+ * received from a connected peer within the failure timeout. A peer that sends FINISHED has completed all of its
+ * operations, its completion time is from then on considered to be unbounded, and it is no longer monitored.
+ * <p/>
+ * All sockets are non-blocking and are served by this one thread. Connections are tagged with a session, so peers only
+ * exchange completion times with peers that are executing the same run (e.g., warmup or measured run).
+ */
+public class TcpPeerCommunicator extends Thread
+{
+    public static final long DEFAULT_SEND_INTERVAL_AS_MILLI = 10;
+    public static final long DEFAULT_HEARTBEAT_PERIOD_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
+    public static final long DEFAULT_FAILURE_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+    public static final long DEFAULT_CONNECT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 60 );
+    private static final long RECONNECT_INTERVAL_AS_MILLI = 100;
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+    private static final int BUFFER_SIZE = 4 * PeerFrames.MAX_FRAME_LENGTH;
+
+    private final TimeSource timeSource;
+    private final String myId;
+    private final int session;
+    private final LocalCompletionTimeReader localCompletionTimeReader;
+    private final ExternalCompletionTimeWriter externalCompletionTimeWriter;
+    private final ConcurrentErrorReporter errorReporter;
+    private final long sendIntervalAsMilli;
+    private final long heartbeatPeriodAsMilli;
+    private final long failureTimeoutAsMilli;
+    private final long connectTimeoutAsMilli;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Map<String,OutboundPeer> outboundPeers = new HashMap<>();
+    private final Map<String,InboundPeer> inboundPeers = new HashMap<>();
+    private final ByteBuffer discardBuffer = ByteBuffer.allocate( 64 );
+    private final AtomicBoolean finishRequested = new AtomicBoolean( false );
+    private final AtomicBoolean shutdownRequested = new AtomicBoolean( false );
+    private final CountDownLatch terminated = new CountDownLatch( 1 );
+    private volatile boolean finishNotified = false;
+    private long startTimeAsMilli;
+    private long finishStartTimeAsMilli = -1;
+    private long nowAsMilli;
+
+    public TcpPeerCommunicator( TimeSource timeSource,
+            String myId,
+            Set<String> peerIds,
+            int session,
+            LocalCompletionTimeReader localCompletionTimeReader,
+            ExternalCompletionTimeWriter externalCompletionTimeWriter,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        this(
+                timeSource,
+                myId,
+                peerIds,
+                session,
+                localCompletionTimeReader,
+                externalCompletionTimeWriter,
+                errorReporter,
+                DEFAULT_SEND_INTERVAL_AS_MILLI,
+                DEFAULT_HEARTBEAT_PERIOD_AS_MILLI,
+                DEFAULT_FAILURE_TIMEOUT_AS_MILLI,
+                DEFAULT_CONNECT_TIMEOUT_AS_MILLI
+        );
+    }
+
+    public TcpPeerCommunicator( TimeSource timeSource,
+            String myId,
+            Set<String> peerIds,
+            int session,
+            LocalCompletionTimeReader localCompletionTimeReader,
+            ExternalCompletionTimeWriter externalCompletionTimeWriter,
+            ConcurrentErrorReporter errorReporter,
+            long sendIntervalAsMilli,
+            long heartbeatPeriodAsMilli,
+            long failureTimeoutAsMilli,
+            long connectTimeoutAsMilli ) throws CompletionTimeException
+    {
+        super( TcpPeerCommunicator.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        setDaemon( true );
+        if ( peerIds.contains( myId ) )
+        {
+            throw new CompletionTimeException( format( "Peer IDs %s must not contain own ID: %s", peerIds, myId ) );
+        }
+        this.timeSource = timeSource;
+        this.myId = myId;
+        this.session = session;
+        this.localCompletionTimeReader = localCompletionTimeReader;
+        this.externalCompletionTimeWriter = externalCompletionTimeWriter;
+        this.errorReporter = errorReporter;
+        this.sendIntervalAsMilli = sendIntervalAsMilli;
+        this.heartbeatPeriodAsMilli = heartbeatPeriodAsMilli;
+        this.failureTimeoutAsMilli = failureTimeoutAsMilli;
+        this.connectTimeoutAsMilli = connectTimeoutAsMilli;
+        for ( String peerId : peerIds )
+        {
+            outboundPeers.put( peerId, new OutboundPeer( peerId, parsePeerAddress( peerId ) ) );
+            inboundPeers.put( peerId, new InboundPeer() );
+        }
+        InetSocketAddress myAddress = parsePeerAddress( myId );
+        try
+        {
+            this.selector = Selector.open();
+            this.serverChannel = ServerSocketChannel.open();
+            // previous run, e.g., warmup, may have listened on same address
+            serverChannel.setOption( StandardSocketOptions.SO_REUSEADDR, true );
+            serverChannel.bind( myAddress );
+            serverChannel.configureBlocking( false );
+            serverChannel.register( selector, SelectionKey.OP_ACCEPT );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Could not listen for peers on %s", myId ), e );
+        }
+    }
+
+    /**
+     * @param peerAddress host:port
+     */
+    public static InetSocketAddress parsePeerAddress( String peerAddress ) throws CompletionTimeException
+    {
+        int separatorIndex = (null == peerAddress) ? -1 : peerAddress.lastIndexOf( ':' );
+        if ( separatorIndex <= 0 )
+        {
+            throw new CompletionTimeException( format( "Peer address must be of form host:port: %s", peerAddress ) );
+        }
+        try
+        {
+            int port = Integer.parseInt( peerAddress.substring( separatorIndex + 1 ) );
+            return new InetSocketAddress( peerAddress.substring( 0, separatorIndex ), port );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new CompletionTimeException( format( "Invalid peer address: %s", peerAddress ), e );
+        }
+    }
+
+    /**
+     * Tells all peers that this driver has completed all of its operations, then stops communicating.
+     * Waits, up to the connect timeout, for peers that are not yet connected.
+     */
+    public void finish() throws CompletionTimeException
+    {
+        finishRequested.set( true );
+        selector.wakeup();
+        awaitTermination( connectTimeoutAsMilli + SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        if ( false == finishNotified )
+        {
+            throw new CompletionTimeException( "Could not notify all peers that operations have completed" );
+        }
+    }
+
+    /**
+     * Stops communicating without telling peers, who will consider this driver to have failed
+     */
+    public void shutdown() throws CompletionTimeException
+    {
+        shutdownRequested.set( true );
+        selector.wakeup();
+        awaitTermination( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+    }
+
+    private void awaitTermination( long timeoutAsMilli ) throws CompletionTimeException
+    {
+        try
+        {
+            if ( false == terminated.await( timeoutAsMilli, TimeUnit.MILLISECONDS ) )
+            {
+                throw new CompletionTimeException( "Peer communicator took too long to terminate" );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new CompletionTimeException( "Interrupted while waiting for peer communicator to terminate", e );
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        startTimeAsMilli = timeSource.nowAsMilli();
+        try
+        {
+            while ( false == shutdownRequested.get() && false == errorReporter.errorEncountered() )
+            {
+                nowAsMilli = timeSource.nowAsMilli();
+                connectOutboundPeers();
+                if ( finishRequested.get() )
+                {
+                    if ( -1 == finishStartTimeAsMilli )
+                    {
+                        finishStartTimeAsMilli = nowAsMilli;
+                    }
+                    if ( notifyFinished() )
+                    {
+                        finishNotified = true;
+                        break;
+                    }
+                    if ( nowAsMilli - finishStartTimeAsMilli > connectTimeoutAsMilli )
+                    {
+                        break;
+                    }
+                }
+                else
+                {
+                    sendCompletionTimes();
+                    detectFailures();
+                }
+                selector.select( sendIntervalAsMilli );
+                nowAsMilli = timeSource.nowAsMilli();
+                processSelectedKeys();
+            }
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError(
+                    this,
+                    format( "Encountered error while communicating with peers\n%s",
+                            ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        finally
+        {
+            closeAll();
+            terminated.countDown();
+        }
+    }
+
+    private void connectOutboundPeers() throws IOException, CompletionTimeException
+    {
+        for ( OutboundPeer outboundPeer : outboundPeers.values() )
+        {
+            if ( null != outboundPeer.channel || nowAsMilli < outboundPeer.nextConnectAttemptAsMilli ||
+                 inboundPeers.get( outboundPeer.peerId ).finished )
+            {
+                continue;
+            }
+            SocketChannel channel = SocketChannel.open();
+            channel.configureBlocking( false );
+            channel.setOption( StandardSocketOptions.TCP_NODELAY, true );
+            outboundPeer.channel = channel;
+            try
+            {
+                if ( channel.connect( outboundPeer.address ) )
+                {
+                    onOutboundConnected( outboundPeer );
+                }
+                else
+                {
+                    channel.register( selector, SelectionKey.OP_CONNECT, outboundPeer );
+                }
+            }
+            catch ( IOException e )
+            {
+                // peer is not listening yet
+                disconnect( outboundPeer );
+            }
+        }
+    }
+
+    private void onOutboundConnected( OutboundPeer outboundPeer ) throws IOException, CompletionTimeException
+    {
+        outboundPeer.channel.register( selector, SelectionKey.OP_READ, outboundPeer );
+        outboundPeer.connected = true;
+        outboundPeer.pending.clear();
+        PeerFrames.writeHello( outboundPeer.pending, myId, session );
+        outboundPeer.lastSentCompletionTimeAsMilli = -1;
+        outboundPeer.lastSentAsMilli = nowAsMilli;
+        flush( outboundPeer );
+    }
+
+    private void sendCompletionTimes() throws CompletionTimeException
+    {
+        long localCompletionTimeAsMilli = localCompletionTimeReader.localCompletionTimeAsMilli();
+        for ( OutboundPeer outboundPeer : outboundPeers.values() )
+        {
+            if ( false == outboundPeer.connected )
+            {
+                continue;
+            }
+            // only one frame in flight, peer only needs most recent completion time
+            if ( 0 == outboundPeer.pending.position() )
+            {
+                if ( -1 != localCompletionTimeAsMilli &&
+                     localCompletionTimeAsMilli != outboundPeer.lastSentCompletionTimeAsMilli )
+                {
+                    PeerFrames.writeCompletionTime( outboundPeer.pending, localCompletionTimeAsMilli );
+                    outboundPeer.lastSentCompletionTimeAsMilli = localCompletionTimeAsMilli;
+                    outboundPeer.lastSentAsMilli = nowAsMilli;
+                }
+                else if ( nowAsMilli - outboundPeer.lastSentAsMilli >= heartbeatPeriodAsMilli )
+                {
+                    PeerFrames.writeHeartbeat( outboundPeer.pending );
+                    outboundPeer.lastSentAsMilli = nowAsMilli;
+                }
+            }
+            flush( outboundPeer );
+        }
+    }
+
+    /**
+     * @return true when every peer has been sent FINISHED, or has itself finished
+     */
+    private boolean notifyFinished()
+    {
+        boolean allNotified = true;
+        for ( OutboundPeer outboundPeer : outboundPeers.values() )
+        {
+            if ( inboundPeers.get( outboundPeer.peerId ).finished )
+            {
+                continue;
+            }
+            if ( outboundPeer.connected && false == outboundPeer.finishedSent )
+            {
+                PeerFrames.writeFinished( outboundPeer.pending );
+                outboundPeer.finishedSent = true;
+            }
+            if ( outboundPeer.connected )
+            {
+                flush( outboundPeer );
+            }
+            if ( false == outboundPeer.connected || 0 != outboundPeer.pending.position() )
+            {
+                allNotified = false;
+            }
+        }
+        return allNotified;
+    }
+
+    private void detectFailures() throws CompletionTimeException
+    {
+        for ( Map.Entry<String,InboundPeer> entry : inboundPeers.entrySet() )
+        {
+            InboundPeer inboundPeer = entry.getValue();
+            if ( inboundPeer.finished )
+            {
+                continue;
+            }
+            if ( -1 == inboundPeer.lastReceivedAsMilli )
+            {
+                if ( nowAsMilli - startTimeAsMilli > connectTimeoutAsMilli )
+                {
+                    throw new CompletionTimeException(
+                            format( "Peer %s did not connect within %s ms", entry.getKey(), connectTimeoutAsMilli ) );
+                }
+            }
+            else if ( nowAsMilli - inboundPeer.lastReceivedAsMilli > failureTimeoutAsMilli )
+            {
+                throw new CompletionTimeException(
+                        format( "Nothing received from peer %s for %s ms, peer is assumed to have failed%s",
+                                entry.getKey(),
+                                nowAsMilli - inboundPeer.lastReceivedAsMilli,
+                                (inboundPeer.connected) ? "" : " (connection was lost)" ) );
+            }
+        }
+    }
+
+    private void processSelectedKeys() throws IOException, CompletionTimeException
+    {
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while ( selectedKeys.hasNext() )
+        {
+            SelectionKey key = selectedKeys.next();
+            selectedKeys.remove();
+            if ( false == key.isValid() )
+            {
+                continue;
+            }
+            if ( key.isAcceptable() )
+            {
+                SocketChannel channel = serverChannel.accept();
+                if ( null != channel )
+                {
+                    channel.configureBlocking( false );
+                    channel.setOption( StandardSocketOptions.TCP_NODELAY, true );
+                    channel.register( selector, SelectionKey.OP_READ, new InboundConnection( channel ) );
+                }
+            }
+            else if ( key.attachment() instanceof OutboundPeer )
+            {
+                OutboundPeer outboundPeer = (OutboundPeer) key.attachment();
+                try
+                {
+                    if ( key.isConnectable() )
+                    {
+                        outboundPeer.channel.finishConnect();
+                        onOutboundConnected( outboundPeer );
+                    }
+                    else if ( key.isReadable() )
+                    {
+                        // peers never write to connections they accepted, reading only detects when they close
+                        discardBuffer.clear();
+                        if ( -1 == outboundPeer.channel.read( discardBuffer ) )
+                        {
+                            disconnect( outboundPeer );
+                        }
+                    }
+                }
+                catch ( IOException e )
+                {
+                    disconnect( outboundPeer );
+                }
+            }
+            else if ( key.isReadable() )
+            {
+                ((InboundConnection) key.attachment()).read();
+            }
+        }
+    }
+
+    private void flush( OutboundPeer outboundPeer )
+    {
+        outboundPeer.pending.flip();
+        try
+        {
+            outboundPeer.channel.write( outboundPeer.pending );
+            outboundPeer.pending.compact();
+        }
+        catch ( IOException e )
+        {
+            // failure is detected by peer, which stops receiving from this driver, here it is only reconnected
+            disconnect( outboundPeer );
+        }
+    }
+
+    private void disconnect( OutboundPeer outboundPeer )
+    {
+        closeQuietly( outboundPeer.channel );
+        outboundPeer.channel = null;
+        outboundPeer.connected = false;
+        outboundPeer.finishedSent = false;
+        outboundPeer.pending.clear();
+        outboundPeer.nextConnectAttemptAsMilli = nowAsMilli + RECONNECT_INTERVAL_AS_MILLI;
+    }
+
+    private void closeAll()
+    {
+        for ( SelectionKey key : selector.keys() )
+        {
+            closeQuietly( key.channel() );
+        }
+        closeQuietly( serverChannel );
+        closeQuietly( selector );
+    }
+
+    private static void closeQuietly( Closeable closeable )
+    {
+        if ( null == closeable )
+        {
+            return;
+        }
+        try
+        {
+            closeable.close();
+        }
+        catch ( IOException e )
+        {
+            // nothing more can be done
+        }
+    }
+
+    private static class OutboundPeer
+    {
+        private final String peerId;
+        private final InetSocketAddress address;
+        // in write mode, holds frames not yet written to channel
+        private final ByteBuffer pending = ByteBuffer.allocate( BUFFER_SIZE );
+        private SocketChannel channel = null;
+        private boolean connected = false;
+        private boolean finishedSent = false;
+        private long nextConnectAttemptAsMilli = 0;
+        private long lastSentCompletionTimeAsMilli = -1;
+        private long lastSentAsMilli = -1;
+
+        private OutboundPeer( String peerId, InetSocketAddress address )
+        {
+            this.peerId = peerId;
+            this.address = address;
+        }
+    }
+
+    private static class InboundPeer
+    {
+        private long lastReceivedAsMilli = -1;
+        private boolean connected = false;
+        private boolean finished = false;
+    }
+
+    private class InboundConnection implements PeerFrames.FrameHandler
+    {
+        private final SocketChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate( BUFFER_SIZE );
+        private String peerId = null;
+        private InboundPeer inboundPeer = null;
+        private boolean rejected = false;
+
+        private InboundConnection( SocketChannel channel )
+        {
+            this.channel = channel;
+        }
+
+        private void read() throws CompletionTimeException
+        {
+            int bytesRead;
+            try
+            {
+                bytesRead = channel.read( buffer );
+            }
+            catch ( IOException e )
+            {
+                bytesRead = -1;
+            }
+            if ( bytesRead > 0 )
+            {
+                buffer.flip();
+                PeerFrames.readFrames( buffer, this );
+                buffer.compact();
+            }
+            if ( -1 == bytesRead || rejected )
+            {
+                closeQuietly( channel );
+                if ( null != inboundPeer )
+                {
+                    inboundPeer.connected = false;
+                }
+            }
+        }
+
+        @Override
+        public void onHello( String peerId, int session ) throws CompletionTimeException
+        {
+            if ( TcpPeerCommunicator.this.session != session )
+            {
+                // peer is executing another run, it will reconnect
+                rejected = true;
+                return;
+            }
+            InboundPeer inboundPeer = inboundPeers.get( peerId );
+            if ( null == inboundPeer )
+            {
+                throw new CompletionTimeException(
+                        format( "Connection from unrecognized peer %s, known peers: %s", peerId,
+                                inboundPeers.keySet() ) );
+            }
+            this.peerId = peerId;
+            this.inboundPeer = inboundPeer;
+            inboundPeer.connected = true;
+            inboundPeer.lastReceivedAsMilli = nowAsMilli;
+        }
+
+        @Override
+        public void onCompletionTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( accept() )
+            {
+                externalCompletionTimeWriter.submitPeerCompletionTime( peerId, timeAsMilli );
+            }
+        }
+
+        @Override
+        public void onHeartbeat() throws CompletionTimeException
+        {
+            accept();
+        }
+
+        @Override
+        public void onFinished() throws CompletionTimeException
+        {
+            if ( accept() )
+            {
+                inboundPeer.finished = true;
+                // peer has no uncompleted operations, and will initiate no more
+                externalCompletionTimeWriter.submitPeerCompletionTime( peerId, Long.MAX_VALUE );
+            }
+        }
+
+        private boolean accept() throws CompletionTimeException
+        {
+            if ( rejected )
+            {
+                return false;
+            }
+            if ( null == inboundPeer )
+            {
+                throw new CompletionTimeException( "Peer sent frame before identifying itself" );
+            }
+            inboundPeer.lastReceivedAsMilli = nowAsMilli;
+            return false == inboundPeer.finished;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final TimeSource timeSource;
     private final QueueEventSubmitter<CompletionTimeEvent> queueEventSubmitter;
     private final AtomicLong sharedGctReference;
+    private final GlobalCompletionTimeWaiters globalCompletionTimeWaiters = new GlobalCompletionTimeWaiters();
     private final AtomicLong sharedWriteEventCountReference;
     private final ThreadedQueuedConcurrentCompletionTimeServiceThread
             threadedQueuedConcurrentCompletionTimeServiceThread;
@@ -49,7 +50,8 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
                 completionTimeEventQueue,
                 errorReporter,
                 peerIds,
-                sharedGctReference );
+                sharedGctReference,
+                globalCompletionTimeWaiters );
         threadedQueuedConcurrentCompletionTimeServiceThread.start();
     }
 
@@ -59,6 +61,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedGctReference.get();
     }
 
+    @Override
+    public boolean waitForGlobalCompletionTime( long globalCompletionTimeAsMilli, long timeoutAsMilli )
+    {
+        return globalCompletionTimeWaiters.await( globalCompletionTimeAsMilli, timeoutAsMilli );
+    }
+
     @Override
     public LocalCompletionTimeWriter newLocalCompletionTimeWriter() throws CompletionTimeException
     {
@@ -114,6 +122,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return writers;
     }
 
+    @Override
+    public LocalCompletionTimeReader localCompletionTimeReader()
+    {
+        return threadedQueuedConcurrentCompletionTimeServiceThread.localCompletionTimeReader();
+    }
+
     @Override
     synchronized public void submitPeerCompletionTime( String peerId, long timeAsMilli ) throws CompletionTimeException
     {
@@ -237,7 +251,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         private final AtomicBoolean done = new AtomicBoolean( false );
         private final AtomicLong globalCompletionTimeReference = new AtomicLong( -1 );
 
-        private GlobalCompletionTimeFuture( TimeSource timeSource )
+        GlobalCompletionTimeFuture( TimeSource timeSource )
         {
             this.timeSource = timeSource;
         }
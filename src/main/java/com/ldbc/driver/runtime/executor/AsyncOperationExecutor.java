@@ -0,0 +1,340 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Starts operations via their AsyncOperationHandler and does not wait for them to complete, so a few threads can
+ * keep many operations in flight. Worker threads only wait for scheduled start times.
+ * <p/>
+ * At most maxOutstandingOperations operations are in flight at any time, beyond that worker threads block before
+ * starting the next operation.
+ * <p/>
+ * Operations without an asynchronous handler are executed synchronously by worker threads. Completions arrive on
+ * threads of the database client, which are never blocked: child operations are handed to a separate pool with an
+ * unbounded queue, so they neither wait for space in the bounded work queue nor queue behind operations that are
+ * waiting for their scheduled start time.
+ */
+public class AsyncOperationExecutor implements OperationExecutor
+{
+    private final ExecutorService threadPoolExecutorService;
+    // null when there is no child operation generator
+    private final ExecutorService childOperationExecutorService;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final Semaphore outstandingOperations;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+    private final ConcurrentErrorReporter errorReporter;
+
+    public AsyncOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            int maxOutstandingOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                DefaultQueues.BoundedQueueType.LINKED,
+                maxOutstandingOperations,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    public AsyncOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            DefaultQueues.BoundedQueueType boundedQueueType,
+            int maxOutstandingOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.outstandingOperations = new Semaphore( maxOutstandingOperations );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        this.threadPoolExecutorService = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                DefaultQueues.<Runnable>newAlwaysBlockingBounded( boundedQueueType, boundedQueueSize ),
+                threadFactory( "thread" )
+        );
+        this.childOperationExecutorService = (null == childOperationGenerator)
+                                             ? null
+                                             : new ThreadPoolExecutor(
+                                                     threadCount,
+                                                     threadCount,
+                                                     0,
+                                                     TimeUnit.MILLISECONDS,
+                                                     new LinkedBlockingQueue<Runnable>(),
+                                                     threadFactory( "child-thread" )
+                                             );
+    }
+
+    private static ThreadFactory threadFactory( final String threadName )
+    {
+        return new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread newThread = new Thread(
+                        runnable,
+                        AsyncOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-" + threadName + "(" + count++ + ")"
+                );
+                return newThread;
+            }
+        };
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        try
+        {
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            threadPoolExecutorService.execute( new StartOperationRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            // operation was never started, so it will never complete
+            uncompletedHandlers.decrementAndGet();
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cleanup();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e
+            );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+            threadPoolExecutorService.shutdown();
+            boolean allHandlersStarted =
+                    threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // operations started asynchronously may still be in flight after worker threads have terminated
+            while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+            {
+                Spinner.powerNap( 10 );
+            }
+            if ( null != childOperationExecutorService )
+            {
+                childOperationExecutorService.shutdown();
+            }
+            if ( false == allHandlersStarted || uncompletedHandlers.get() > 0 )
+            {
+                int notStartedCount = threadPoolExecutorService.shutdownNow().size();
+                if ( null != childOperationExecutorService )
+                {
+                    notStartedCount += childOperationExecutorService.shutdownNow().size();
+                }
+                String errMsg = format(
+                        "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
+                        "but not yet started\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        notStartedCount,
+                        uncompletedHandlers.get() - notStartedCount );
+                throw new OperationExecutorException( errMsg );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private class StartOperationRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private StartOperationRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            outstandingOperations.acquireUninterruptibly();
+            OperationCompletedRunnable onCompletion =
+                    new OperationCompletedRunnable( operationHandlerRunnableContext );
+            if ( null == operationHandlerRunnableContext.asyncOperationHandler() )
+            {
+                operationHandlerRunnableContext.run();
+                onCompletion.run();
+            }
+            else
+            {
+                operationHandlerRunnableContext.runAsync( onCompletion );
+            }
+        }
+    }
+
+    private class OperationCompletedRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private OperationCompletedRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            // release before child operations are queued, so worker threads waiting for permits can make progress
+            outstandingOperations.release();
+            if ( null == childOperationGenerator )
+            {
+                complete();
+            }
+            else
+            {
+                // do not execute child operations on the thread of the database client that completed the parent,
+                // the queue of the child operation pool is unbounded so this never blocks
+                try
+                {
+                    childOperationExecutorService.execute(
+                            new Runnable()
+                            {
+                                @Override
+                                public void run()
+                                {
+                                    executeChildOperations();
+                                    complete();
+                                }
+                            }
+                    );
+                }
+                catch ( RejectedExecutionException e )
+                {
+                    errorReporter.reportError( this,
+                            format( "Child operations could not be executed, executor has been shutdown\n%s",
+                                    operationHandlerRunnableContext.operation() ) );
+                    complete();
+                }
+            }
+        }
+
+        private void executeChildOperations()
+        {
+            try
+            {
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private void complete()
+        {
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanup();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executes operations on the calling thread, like SameThreadOperationExecutor, but coalesces consecutive operations
+ * that have the same BatchOperationHandler into one batch (group commit).
+ * <p/>
+ * An operation joins the current batch when:
+ * (1) the batch has fewer than maxBatchSize operations,
+ * (2) it is scheduled at most maxBatchWaitAsMilli after the first operation of the batch,
+ * (3) its dependency time stamp is lower than the time stamp of the first operation of the batch, otherwise it could
+ * wait for completion of operations in its own batch.
+ * Otherwise the batch is executed first. A batch is executed once the last of its operations is due, so the first
+ * operation waits at most maxBatchWaitAsMilli longer than it would without batching.
+ * <p/>
+ * Operations without BatchOperationHandler are executed one at a time. Operations still buffered when the stream ends
+ * are executed by flush().
+ */
+public class BatchingSameThreadOperationExecutor implements OperationExecutor
+{
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final int maxBatchSize;
+    private final long maxBatchWaitAsMilli;
+    private final List<OperationHandlerRunnableContext> batch;
+
+    public BatchingSameThreadOperationExecutor( int maxBatchSize,
+            long maxBatchWaitAsMilli,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWaitAsMilli = maxBatchWaitAsMilli;
+        this.batch = new ArrayList<>( maxBatchSize );
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.childOperationGenerator = childOperationGenerator;
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        OperationHandlerRunnableContext operationHandlerRunnableContext;
+        try
+        {
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s", operation ),
+                    e
+            );
+        }
+        if ( false == batch.isEmpty() && false == canJoinBatch( operationHandlerRunnableContext ) )
+        {
+            boolean flushed = false;
+            try
+            {
+                flush();
+                flushed = true;
+            }
+            finally
+            {
+                if ( false == flushed )
+                {
+                    // operation is neither executed nor buffered, so it will never complete
+                    uncompletedHandlers.decrementAndGet();
+                    operationHandlerRunnableContext.cleanup();
+                }
+            }
+        }
+        if ( null == operationHandlerRunnableContext.batchOperationHandler() )
+        {
+            executeOne( operationHandlerRunnableContext );
+        }
+        else
+        {
+            batch.add( operationHandlerRunnableContext );
+            if ( batch.size() >= maxBatchSize )
+            {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Executes buffered operations, must be called once no more operations will be executed
+     */
+    @Override
+    public final void flush() throws OperationExecutorException
+    {
+        if ( batch.isEmpty() )
+        {
+            return;
+        }
+        try
+        {
+            OperationHandlerRunnableContext.runBatch( batch );
+            for ( OperationHandlerRunnableContext operationHandlerRunnableContext : batch )
+            {
+                executeChildOperations( operationHandlerRunnableContext );
+            }
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error executing batch\nFirst Operation: %s\nBatch Size: %s",
+                            batch.get( 0 ).operation(),
+                            batch.size() ),
+                    e
+            );
+        }
+        finally
+        {
+            for ( OperationHandlerRunnableContext operationHandlerRunnableContext : batch )
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+            }
+            batch.clear();
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private boolean canJoinBatch( OperationHandlerRunnableContext operationHandlerRunnableContext )
+    {
+        OperationHandlerRunnableContext firstInBatch = batch.get( 0 );
+        Operation operation = operationHandlerRunnableContext.operation();
+        return operationHandlerRunnableContext.batchOperationHandler() == firstInBatch.batchOperationHandler() &&
+               operation.scheduledStartTimeAsMilli() - firstInBatch.operation().scheduledStartTimeAsMilli() <=
+               maxBatchWaitAsMilli &&
+               operation.dependencyTimeStamp() < firstInBatch.operation().timeStamp();
+    }
+
+    private void executeOne( OperationHandlerRunnableContext operationHandlerRunnableContext )
+            throws OperationExecutorException
+    {
+        try
+        {
+            operationHandlerRunnableContext.run();
+            executeChildOperations( operationHandlerRunnableContext );
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error executing handler\n" +
+                            "Operation: %s\n" +
+                            "Handler Context:%s",
+                            operationHandlerRunnableContext.operation(),
+                            operationHandlerRunnableContext ),
+                    e
+            );
+        }
+        finally
+        {
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanup();
+        }
+    }
+
+    private void executeChildOperations( OperationHandlerRunnableContext operationHandlerRunnableContext )
+            throws Exception
+    {
+        childOperationExecutor.execute(
+                childOperationGenerator,
+                operationHandlerRunnableContext.operation(),
+                operationHandlerRunnableContext.resultReporter().result(),
+                operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                operationHandlerRunnableContextRetriever
+        );
+    }
+}
@@ -17,5 +17,13 @@ public interface OperationExecutor {
      */
     public void shutdown(long waitAsMilli) throws OperationExecutorException;
 
+    /**
+     * Executes operations the executor may still be holding back, e.g., to combine them into a batch.
+     * Called once by the thread that calls execute(), after the last operation of the stream has been executed.
+     *
+     * @throws OperationExecutorException
+     */
+    public void flush() throws OperationExecutorException;
+
     public long uncompletedOperationHandlerCount();
 }
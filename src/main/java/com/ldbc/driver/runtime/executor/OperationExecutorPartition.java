@@ -0,0 +1,137 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.base.Joiner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Group of operation types that is executed by its own worker pool & work queue, so slow operation types can not
+ * starve the others of threads (bulkhead).
+ * <p/>
+ * Command line form: Type1,Type2:threadCount:queueSize
+ * <p/>
+ * Operation types are identified by the simple name of their class, e.g. LdbcQuery9.
+ */
+public class OperationExecutorPartition
+{
+    private static final String TYPE_SEPARATOR = ",";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private final List<String> operationTypes;
+    private final int threadCount;
+    private final int queueSize;
+
+    public static OperationExecutorPartition fromCommandlineString( String partitionString )
+            throws OperationExecutorException
+    {
+        String[] fields = partitionString.trim().split( FIELD_SEPARATOR );
+        if ( 3 != fields.length )
+        {
+            throw new OperationExecutorException(
+                    format( "Executor partition must have form Type1%sType2%sthreadCount%squeueSize, found: %s",
+                            TYPE_SEPARATOR, FIELD_SEPARATOR, FIELD_SEPARATOR, partitionString ) );
+        }
+        List<String> operationTypes = new ArrayList<>();
+        for ( String operationType : fields[0].split( TYPE_SEPARATOR ) )
+        {
+            if ( false == operationType.trim().isEmpty() )
+            {
+                operationTypes.add( operationType.trim() );
+            }
+        }
+        int threadCount;
+        int queueSize;
+        try
+        {
+            threadCount = Integer.parseInt( fields[1].trim() );
+            queueSize = Integer.parseInt( fields[2].trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Executor partition thread count and queue size must be integers, found: %s",
+                            partitionString ), e );
+        }
+        return new OperationExecutorPartition( operationTypes, threadCount, queueSize );
+    }
+
+    public OperationExecutorPartition( List<String> operationTypes, int threadCount, int queueSize )
+            throws OperationExecutorException
+    {
+        if ( operationTypes.isEmpty() )
+        {
+            throw new OperationExecutorException( "Executor partition must contain at least one operation type" );
+        }
+        if ( threadCount < 1 || queueSize < 1 )
+        {
+            throw new OperationExecutorException(
+                    format( "Executor partition thread count and queue size must be positive\n" +
+                            "Operation Types: %s\nThread Count: %s\nQueue Size: %s",
+                            operationTypes, threadCount, queueSize ) );
+        }
+        this.operationTypes = Collections.unmodifiableList( new ArrayList<>( operationTypes ) );
+        this.threadCount = threadCount;
+        this.queueSize = queueSize;
+    }
+
+    public List<String> operationTypes()
+    {
+        return operationTypes;
+    }
+
+    public int threadCount()
+    {
+        return threadCount;
+    }
+
+    public int queueSize()
+    {
+        return queueSize;
+    }
+
+    public String name()
+    {
+        return Joiner.on( TYPE_SEPARATOR ).join( operationTypes );
+    }
+
+    public String toCommandlineString()
+    {
+        return name() + FIELD_SEPARATOR + threadCount + FIELD_SEPARATOR + queueSize;
+    }
+
+    @Override
+    public String toString()
+    {
+        return toCommandlineString();
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+
+        OperationExecutorPartition that = (OperationExecutorPartition) o;
+
+        if ( threadCount != that.threadCount )
+        { return false; }
+        if ( queueSize != that.queueSize )
+        { return false; }
+        return operationTypes.equals( that.operationTypes );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = operationTypes.hashCode();
+        result = 31 * result + threadCount;
+        result = 31 * result + queueSize;
+        return result;
+    }
+}
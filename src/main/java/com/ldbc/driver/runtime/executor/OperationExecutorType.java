@@ -0,0 +1,22 @@
+package com.ldbc.driver.runtime.executor;
+
+/**
+ * Selects how operations of asynchronous streams are handed to the database.
+ * <p/>
+ * THREAD_POOL = operations are queued on a thread pool as soon as they are retrieved, worker threads wait for
+ * scheduled start times.
+ * <p/>
+ * TIMING_WHEEL = operations wait in a timing wheel, the thread pool only receives them once they are due.
+ * <p/>
+ * ASYNC = operations with an AsyncOperationHandler are started without waiting for them to complete, the number of
+ * operations in flight is limited by a configurable maximum.
+ * <p/>
+ * VIRTUAL_THREAD = every operation is executed on its own virtual thread, requires Java 21 or newer.
+ */
+public enum OperationExecutorType
+{
+    THREAD_POOL,
+    TIMING_WHEEL,
+    ASYNC,
+    VIRTUAL_THREAD
+}
@@ -54,7 +54,7 @@ class OperationHandlerRunnableContextRetriever
         this.metricsService = metricsService;
         this.dependentOperationTypes = streamDefinition.dependentOperationTypes();
         this.dependencyOperationTypes = streamDefinition.dependencyOperationTypes();
-        this.gctDependencyCheck = new GctDependencyCheck( globalCompletionTimeReader, errorReporter );
+        this.gctDependencyCheck = new GctDependencyCheck( globalCompletionTimeReader, metricsService, errorReporter );
     }
 
     public OperationHandlerRunnableContext getInitializedHandlerFor( Operation operation )
@@ -47,6 +47,11 @@ class OperationStreamExecutorServiceThread extends Thread
                 // --- BLOCKING CALL (when bounded queue is full) ---
                 operationExecutor.execute( operation );
             }
+            // operations may be buffered until the next operation arrives, there will be no next operation
+            if ( !forcedTerminate.get() )
+            {
+                operationExecutor.flush();
+            }
         }
         catch ( Throwable e )
         {
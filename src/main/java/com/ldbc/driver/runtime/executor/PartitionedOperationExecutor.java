@@ -0,0 +1,231 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Routes every operation to the thread pool of the partition its type belongs to, operations of types that are not
+ * in any partition go to the default thread pool.
+ * <p/>
+ * Each partition has its own worker threads and work queue, so a burst of slow operations (e.g. complex reads) can
+ * only exhaust the threads of its own partition, it can not starve the operations (and the child operations they
+ * start) of other partitions.
+ * <p/>
+ * Local completion time is shared by all partitions, the same as for a single thread pool.
+ * <p/>
+ * Replaces the single thread pool of THREAD_POOL & TIMING_WHEEL executor types when executor partitions are configured.
+ */
+public class PartitionedOperationExecutor implements OperationExecutor
+{
+    private static final String DEFAULT_PARTITION_NAME = "default";
+
+    private final List<PartitionExecutor> partitionExecutors = new ArrayList<>();
+    private final PartitionExecutor defaultPartitionExecutor;
+    private final Map<String,PartitionExecutor> partitionExecutorsByOperationType = new HashMap<>();
+    private final Map<Class<? extends Operation>,PartitionExecutor> partitionExecutorsByOperationClass =
+            new ConcurrentHashMap<>();
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+
+    public PartitionedOperationExecutor( List<OperationExecutorPartition> partitions,
+            int defaultThreadCount,
+            int defaultBoundedQueueSize,
+            DefaultQueues.BoundedQueueType boundedQueueType,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        for ( OperationExecutorPartition partition : partitions )
+        {
+            PartitionExecutor partitionExecutor = new PartitionExecutor(
+                    partition.name(),
+                    partition.queueSize(),
+                    new ThreadPoolOperationExecutor(
+                            partition.threadCount(),
+                            partition.queueSize(),
+                            boundedQueueType,
+                            db,
+                            streamDefinition,
+                            localCompletionTimeWriter,
+                            globalCompletionTimeReader,
+                            spinner,
+                            timeSource,
+                            errorReporter,
+                            metricsService,
+                            childOperationGenerator
+                    )
+            );
+            partitionExecutors.add( partitionExecutor );
+            for ( String operationType : partition.operationTypes() )
+            {
+                if ( partitionExecutorsByOperationType.containsKey( operationType ) )
+                {
+                    shutdownPartitionExecutors( 0 );
+                    throw new OperationExecutorException(
+                            format( "Operation type %s is assigned to more than one executor partition: %s",
+                                    operationType, partitions ) );
+                }
+                partitionExecutorsByOperationType.put( operationType, partitionExecutor );
+            }
+        }
+        this.defaultPartitionExecutor = new PartitionExecutor(
+                DEFAULT_PARTITION_NAME,
+                defaultBoundedQueueSize,
+                new ThreadPoolOperationExecutor(
+                        defaultThreadCount,
+                        defaultBoundedQueueSize,
+                        boundedQueueType,
+                        db,
+                        streamDefinition,
+                        localCompletionTimeWriter,
+                        globalCompletionTimeReader,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        childOperationGenerator
+                )
+        );
+        partitionExecutors.add( defaultPartitionExecutor );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        partitionExecutorFor( operation.getClass() ).executor.execute( operation );
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            shutdownPartitionExecutors( waitAsMilli );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        long uncompletedOperationHandlerCount = 0;
+        for ( PartitionExecutor partitionExecutor : partitionExecutors )
+        {
+            uncompletedOperationHandlerCount += partitionExecutor.executor.uncompletedOperationHandlerCount();
+        }
+        return uncompletedOperationHandlerCount;
+    }
+
+    /**
+     * @return one line per partition: queue depth & worker thread utilization, at the time of the call
+     */
+    public String partitionStatusString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "Executor Partitions" );
+        for ( PartitionExecutor partitionExecutor : partitionExecutors )
+        {
+            ThreadPoolOperationExecutor executor = partitionExecutor.executor;
+            int activeThreadCount = executor.activeThreadCount();
+            int threadCount = executor.threadCount();
+            sb.append( "\n\t" ).append( partitionExecutor.name )
+                    .append( format( ": Queued %s/%s, Busy Threads %s/%s (%.0f%%), Uncompleted %s",
+                            executor.queuedOperationHandlerCount(),
+                            partitionExecutor.queueSize,
+                            activeThreadCount,
+                            threadCount,
+                            100d * activeThreadCount / threadCount,
+                            executor.uncompletedOperationHandlerCount() ) );
+        }
+        return sb.toString();
+    }
+
+    private PartitionExecutor partitionExecutorFor( Class<? extends Operation> operationClass )
+    {
+        PartitionExecutor partitionExecutor = partitionExecutorsByOperationClass.get( operationClass );
+        if ( null == partitionExecutor )
+        {
+            partitionExecutor = partitionExecutorsByOperationType.get( operationClass.getSimpleName() );
+            if ( null == partitionExecutor )
+            {
+                partitionExecutor = defaultPartitionExecutor;
+            }
+            partitionExecutorsByOperationClass.put( operationClass, partitionExecutor );
+        }
+        return partitionExecutor;
+    }
+
+    private void shutdownPartitionExecutors( long waitAsMilli ) throws OperationExecutorException
+    {
+        // every partition must be shutdown, even if shutting down an earlier one failed
+        OperationExecutorException firstException = null;
+        for ( PartitionExecutor partitionExecutor : partitionExecutors )
+        {
+            try
+            {
+                partitionExecutor.executor.shutdown( waitAsMilli );
+            }
+            catch ( OperationExecutorException e )
+            {
+                if ( null == firstException )
+                {
+                    firstException = new OperationExecutorException(
+                            format( "Error shutting down executor partition: %s", partitionExecutor.name ), e );
+                }
+            }
+        }
+        if ( null != firstException )
+        {
+            throw firstException;
+        }
+    }
+
+    private static class PartitionExecutor
+    {
+        private final String name;
+        private final int queueSize;
+        private final ThreadPoolOperationExecutor executor;
+
+        private PartitionExecutor( String name, int queueSize, ThreadPoolOperationExecutor executor )
+        {
+            this.name = name;
+            this.queueSize = queueSize;
+            this.executor = executor;
+        }
+    }
+}
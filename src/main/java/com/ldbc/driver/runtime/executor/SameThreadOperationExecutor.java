@@ -89,6 +89,11 @@ public class SameThreadOperationExecutor implements OperationExecutor
     {
     }
 
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
     @Override
     public long uncompletedOperationHandlerCount()
     {
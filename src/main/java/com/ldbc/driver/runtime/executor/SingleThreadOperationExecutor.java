@@ -125,6 +125,11 @@ public class SingleThreadOperationExecutor implements OperationExecutor
         shutdown.set( true );
     }
 
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
     @Override
     public long uncompletedOperationHandlerCount()
     {
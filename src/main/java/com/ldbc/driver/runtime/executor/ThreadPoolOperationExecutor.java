@@ -15,7 +15,6 @@ import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -26,7 +25,7 @@ import static java.lang.String.format;
 
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
-    private final ExecutorService threadPoolExecutorService;
+    private final ThreadPoolExecutorWithAfterExecute threadPoolExecutorService;
     private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
@@ -42,6 +41,35 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                DefaultQueues.BoundedQueueType.LINKED,
+                db,
+                streamDefinition,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            DefaultQueues.BoundedQueueType boundedQueueType,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
     {
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -74,6 +102,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 threadFactory,
                 uncompletedHandlers,
                 boundedQueueSize,
+                boundedQueueType,
                 childOperationGenerator,
                 operationHandlerRunnableContextRetriever,
                 errorReporter
@@ -138,12 +167,38 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
     }
 
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
     @Override
     public long uncompletedOperationHandlerCount()
     {
         return uncompletedHandlers.get();
     }
 
+    /**
+     * @return number of operation handlers waiting in the work queue for a worker thread
+     */
+    public int queuedOperationHandlerCount()
+    {
+        return threadPoolExecutorService.getQueue().size();
+    }
+
+    /**
+     * @return approximate number of worker threads currently executing an operation handler
+     */
+    public int activeThreadCount()
+    {
+        return threadPoolExecutorService.getActiveCount();
+    }
+
+    public int threadCount()
+    {
+        return threadPoolExecutorService.getMaximumPoolSize();
+    }
+
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
     {
         private final ChildOperationGenerator childOperationGenerator;
@@ -155,6 +210,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 ThreadFactory threadFactory,
                 AtomicLong uncompletedHandlers,
                 int boundedQueueSize,
+                DefaultQueues.BoundedQueueType boundedQueueType,
                 ChildOperationGenerator childOperationGenerator,
                 OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
                 ConcurrentErrorReporter errorReporter )
@@ -163,7 +219,8 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             int maximumPoolSize = threadCount;
             long keepAliveTime = 0;
             TimeUnit unit = TimeUnit.MILLISECONDS;
-            BlockingQueue<Runnable> workQueue = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
+            BlockingQueue<Runnable> workQueue =
+                    DefaultQueues.newAlwaysBlockingBounded( boundedQueueType, boundedQueueSize );
             return new ThreadPoolExecutorWithAfterExecute(
                     corePoolSize,
                     maximumPoolSize,
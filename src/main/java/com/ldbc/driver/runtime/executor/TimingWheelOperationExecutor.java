@@ -0,0 +1,334 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Holds operations in a hashed timing wheel and submits each of them to the delegate executor only once its
+ * scheduled start time has arrived.
+ * <p/>
+ * A single dispatcher thread advances the wheel one tick at a time, so worker threads of the delegate never sleep
+ * waiting for operations that are not yet due, and the size of the delegate thread pool can be chosen according to
+ * the concurrency of the database rather than according to how far ahead of time operations are submitted.
+ * <p/>
+ * At most boundedQueueSize operations may wait in the wheel at any time, beyond that execute() blocks.
+ */
+public class TimingWheelOperationExecutor implements OperationExecutor
+{
+    public static final long DEFAULT_TICK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+    public static final int DEFAULT_WHEEL_SIZE = 1024;
+
+    private final OperationExecutor delegate;
+    private final Queue<Operation> incomingOperations;
+    private final Semaphore wheelCapacity;
+    private final AtomicLong operationsInWheel = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimingWheelDispatcherThread dispatcherThread;
+
+    public TimingWheelOperationExecutor( OperationExecutor delegate,
+            int boundedQueueSize,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this( delegate, boundedQueueSize, timeSource, errorReporter, DEFAULT_TICK_DURATION_AS_NANO,
+                DEFAULT_WHEEL_SIZE );
+    }
+
+    public TimingWheelOperationExecutor( OperationExecutor delegate,
+            int boundedQueueSize,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            long tickDurationAsNano,
+            int wheelSize )
+    {
+        if ( tickDurationAsNano <= 0 )
+        {
+            throw new IllegalArgumentException( format( "Tick duration must be positive: %s", tickDurationAsNano ) );
+        }
+        if ( wheelSize <= 0 || Integer.bitCount( wheelSize ) != 1 )
+        {
+            throw new IllegalArgumentException( format( "Wheel size must be a power of two: %s", wheelSize ) );
+        }
+        this.delegate = delegate;
+        this.incomingOperations = DefaultQueues.newNonBlocking();
+        this.wheelCapacity = new Semaphore( boundedQueueSize );
+        this.dispatcherThread = new TimingWheelDispatcherThread(
+                delegate,
+                incomingOperations,
+                wheelCapacity,
+                operationsInWheel,
+                shutdown,
+                timeSource,
+                errorReporter,
+                tickDurationAsNano,
+                wheelSize
+        );
+        this.dispatcherThread.setDaemon( true );
+        this.dispatcherThread.start();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            wheelCapacity.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting for space in timing wheel\nOperation: %s", operation ),
+                    e
+            );
+        }
+        operationsInWheel.incrementAndGet();
+        incomingOperations.add( operation );
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        try
+        {
+            dispatcherThread.join( waitAsMilli );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for dispatcher thread to stop", e );
+        }
+        long operationsStillInWheel = operationsInWheel.get();
+        delegate.shutdown( waitAsMilli );
+        if ( operationsStillInWheel > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n" +
+                            "%s operations were waiting in timing wheel but not yet dispatched",
+                            getClass().getSimpleName(),
+                            operationsStillInWheel )
+            );
+        }
+    }
+
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        // read wheel count first: operations are passed to delegate before they are removed from the wheel count
+        long inWheel = operationsInWheel.get();
+        return inWheel + delegate.uncompletedOperationHandlerCount();
+    }
+
+    private static class TimingWheelDispatcherThread extends Thread
+    {
+        private static final Comparator<Operation> SCHEDULED_START_TIME_COMPARATOR = new Comparator<Operation>()
+        {
+            @Override
+            public int compare( Operation operation1, Operation operation2 )
+            {
+                return Long.compare( operation1.scheduledStartTimeAsNano(), operation2.scheduledStartTimeAsNano() );
+            }
+        };
+
+        private final OperationExecutor delegate;
+        private final Queue<Operation> incomingOperations;
+        private final Semaphore wheelCapacity;
+        private final AtomicLong operationsInWheel;
+        private final AtomicBoolean shutdown;
+        private final TimeSource timeSource;
+        private final ConcurrentErrorReporter errorReporter;
+        private final long tickDurationAsNano;
+        private final int wheelMask;
+        private final List<Operation>[] buckets;
+        private final long wheelStartTimeAsNano;
+        private long lastProcessedTick;
+
+        @SuppressWarnings( "unchecked" )
+        private TimingWheelDispatcherThread( OperationExecutor delegate,
+                Queue<Operation> incomingOperations,
+                Semaphore wheelCapacity,
+                AtomicLong operationsInWheel,
+                AtomicBoolean shutdown,
+                TimeSource timeSource,
+                ConcurrentErrorReporter errorReporter,
+                long tickDurationAsNano,
+                int wheelSize )
+        {
+            super( TimingWheelOperationExecutor.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.delegate = delegate;
+            this.incomingOperations = incomingOperations;
+            this.wheelCapacity = wheelCapacity;
+            this.operationsInWheel = operationsInWheel;
+            this.shutdown = shutdown;
+            this.timeSource = timeSource;
+            this.errorReporter = errorReporter;
+            this.tickDurationAsNano = tickDurationAsNano;
+            this.wheelMask = wheelSize - 1;
+            this.buckets = new List[wheelSize];
+            for ( int i = 0; i < wheelSize; i++ )
+            {
+                buckets[i] = new ArrayList<>();
+            }
+            this.wheelStartTimeAsNano = timeSource.nowAsNano();
+            this.lastProcessedTick = -1;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                // on shutdown, keep dispatching until every operation has left the wheel
+                while ( false == shutdown.get() || operationsInWheel.get() > 0 )
+                {
+                    long nextTickEndTimeAsNano = tickEndTimeAsNano( lastProcessedTick + 1 );
+                    long remainingAsNano = nextTickEndTimeAsNano - timeSource.nowAsNano();
+                    if ( remainingAsNano > 0 )
+                    {
+                        LockSupport.parkNanos( remainingAsNano );
+                        continue;
+                    }
+                    long currentTick = tickOf( timeSource.nowAsNano() ) - 1;
+                    transferIncomingOperations();
+                    if ( currentTick - lastProcessedTick >= buckets.length )
+                    {
+                        // clock moved more than a full rotation since last tick, every bucket may contain due work
+                        dispatchDueFromAllBuckets( tickEndTimeAsNano( currentTick ) );
+                    }
+                    else
+                    {
+                        for ( long tick = lastProcessedTick + 1; tick <= currentTick; tick++ )
+                        {
+                            dispatchDue( buckets[(int) (tick & wheelMask)], tickEndTimeAsNano( tick ) );
+                        }
+                    }
+                    lastProcessedTick = currentTick;
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Encountered unexpected error in timing wheel dispatcher\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private long tickOf( long timeAsNano )
+        {
+            long sinceStartAsNano = timeAsNano - wheelStartTimeAsNano;
+            return (sinceStartAsNano < 0) ? -1 : sinceStartAsNano / tickDurationAsNano;
+        }
+
+        private long tickEndTimeAsNano( long tick )
+        {
+            return wheelStartTimeAsNano + (tick + 1) * tickDurationAsNano;
+        }
+
+        private void transferIncomingOperations() throws OperationExecutorException
+        {
+            Operation operation;
+            while ( null != (operation = incomingOperations.poll()) )
+            {
+                long tick = tickOf( operation.scheduledStartTimeAsNano() );
+                if ( tick <= lastProcessedTick )
+                {
+                    // bucket for this tick has already been processed, operation is already late
+                    dispatch( operation );
+                }
+                else
+                {
+                    buckets[(int) (tick & wheelMask)].add( operation );
+                }
+            }
+        }
+
+        // preserves submission order of operations that remain in the bucket, which belong to later rotations
+        private void dispatchDue( List<Operation> bucket, long dueBeforeAsNano ) throws OperationExecutorException
+        {
+            int size = bucket.size();
+            if ( 0 == size )
+            {
+                return;
+            }
+            int remaining = 0;
+            for ( int i = 0; i < size; i++ )
+            {
+                Operation operation = bucket.get( i );
+                if ( operation.scheduledStartTimeAsNano() < dueBeforeAsNano )
+                {
+                    dispatch( operation );
+                }
+                else
+                {
+                    bucket.set( remaining++, operation );
+                }
+            }
+            bucket.subList( remaining, size ).clear();
+        }
+
+        // due operations may be spread over all buckets, sort them to dispatch in scheduled start time order
+        private void dispatchDueFromAllBuckets( long dueBeforeAsNano ) throws OperationExecutorException
+        {
+            List<Operation> dueOperations = new ArrayList<>();
+            for ( List<Operation> bucket : buckets )
+            {
+                Iterator<Operation> bucketOperations = bucket.iterator();
+                while ( bucketOperations.hasNext() )
+                {
+                    Operation operation = bucketOperations.next();
+                    if ( operation.scheduledStartTimeAsNano() < dueBeforeAsNano )
+                    {
+                        dueOperations.add( operation );
+                        bucketOperations.remove();
+                    }
+                }
+            }
+            Collections.sort( dueOperations, SCHEDULED_START_TIME_COMPARATOR );
+            for ( Operation operation : dueOperations )
+            {
+                dispatch( operation );
+            }
+        }
+
+        private void dispatch( Operation operation ) throws OperationExecutorException
+        {
+            try
+            {
+                delegate.execute( operation );
+            }
+            finally
+            {
+                operationsInWheel.decrementAndGet();
+                wheelCapacity.release();
+            }
+        }
+    }
+}
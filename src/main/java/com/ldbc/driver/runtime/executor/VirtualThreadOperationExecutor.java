@@ -0,0 +1,242 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Runs every operation handler on its own virtual thread, so blocking handlers do not need a sized thread pool.
+ * <p/>
+ * The driver is compiled for older Java versions, virtual threads are therefore created via reflection and this
+ * executor can only be constructed when running on Java 21 or newer, see isSupported().
+ * <p/>
+ * At most boundedQueueSize handlers, waiting for their scheduled start time or executing, exist at any time.
+ * Setup cost per operation shows up in start time delay (actual start time - scheduled start time) of the recorded
+ * metrics. Pinning of threads to their carrier, e.g., by handlers blocking inside synchronized blocks, is measured
+ * through JDK Flight Recorder while the executor runs, see pinnedCount().
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private final ThreadFactory virtualThreadFactory;
+    private final Semaphore liveHandlers;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+    private final ConcurrentErrorReporter errorReporter;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    public static boolean isSupported()
+    {
+        try
+        {
+            newVirtualThreadFactory();
+            return true;
+        }
+        catch ( OperationExecutorException e )
+        {
+            return false;
+        }
+    }
+
+    public VirtualThreadOperationExecutor( int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            LocalCompletionTimeWriter localCompletionTimeWriter,
+            GlobalCompletionTimeReader globalCompletionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator ) throws OperationExecutorException
+    {
+        this.virtualThreadFactory = newVirtualThreadFactory();
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                localCompletionTimeWriter,
+                globalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.liveHandlers = new Semaphore( boundedQueueSize );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        this.pinningMonitor = VirtualThreadPinningMonitor.start();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            liveHandlers.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting for running handlers to complete\nOperation: %s", operation ),
+                    e
+            );
+        }
+        // only counted once a permit is held, otherwise shutdown() would wait for handlers that never started
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            virtualThreadFactory.newThread( new HandlerRunnable( operationHandlerRunnableContext ) ).start();
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            liveHandlers.release();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e
+            );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        long endTimeAsMilli = System.currentTimeMillis() + waitAsMilli;
+        while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < endTimeAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+        pinningMonitor.stop();
+        if ( uncompletedHandlers.get() > 0 )
+        {
+            throw new OperationExecutorException(
+                    format( "%s shutdown before all handlers could complete\n%s handlers were still running",
+                            getClass().getSimpleName(),
+                            uncompletedHandlers.get() )
+            );
+        }
+    }
+
+    @Override
+    public void flush() throws OperationExecutorException
+    {
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    /**
+     * @return false if JDK Flight Recorder is not available, then pinning is not measured
+     */
+    public boolean isPinningMeasured()
+    {
+        return pinningMonitor.isMeasured();
+    }
+
+    /**
+     * @return number of times a handler thread was pinned to its carrier thread while blocked, final after shutdown
+     */
+    public long pinnedCount()
+    {
+        return pinningMonitor.count();
+    }
+
+    /**
+     * @return total time handler threads were pinned to their carrier threads while blocked, final after shutdown
+     */
+    public long pinnedDurationAsNano()
+    {
+        return pinningMonitor.durationAsNano();
+    }
+
+    private static ThreadFactory newVirtualThreadFactory() throws OperationExecutorException
+    {
+        try
+        {
+            Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+            Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+            Method nameMethod = builderClass.getMethod( "name", String.class, long.class );
+            builder = nameMethod.invoke( builder, VirtualThreadOperationExecutor.class.getSimpleName() + "-", 0l );
+            return (ThreadFactory) builderClass.getMethod( "factory" ).invoke( builder );
+        }
+        catch ( Exception e )
+        {
+            throw new OperationExecutorException(
+                    format( "Virtual threads are not supported by this JVM (%s), Java 21 or newer is required",
+                            System.getProperty( "java.version" ) ),
+                    e
+            );
+        }
+    }
+
+    private class HandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private HandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                liveHandlers.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ldbc.driver.runtime.executor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts pinning of virtual threads to their carrier thread, e.g., by handlers that block inside synchronized blocks,
+ * by consuming jdk.VirtualThreadPinned events of a JDK Flight Recorder stream.
+ * <p/>
+ * As for virtual threads, the driver is compiled for older Java versions, so the stream is created via reflection.
+ * When Flight Recorder is not available pinning is not measured, see isMeasured().
+ */
+class VirtualThreadPinningMonitor
+{
+    static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final AtomicLong count = new AtomicLong( 0 );
+    private final AtomicLong durationAsNano = new AtomicLong( 0 );
+    private final Object recordingStream;
+
+    static VirtualThreadPinningMonitor start()
+    {
+        return new VirtualThreadPinningMonitor( VIRTUAL_THREAD_PINNED_EVENT );
+    }
+
+    VirtualThreadPinningMonitor( String eventName )
+    {
+        Object recordingStream;
+        try
+        {
+            Class<?> recordingStreamClass = Class.forName( "jdk.jfr.consumer.RecordingStream" );
+            Class<?> consumerClass = Class.forName( "java.util.function.Consumer" );
+            final Method getDuration = Class.forName( "jdk.jfr.consumer.RecordedEvent" ).getMethod( "getDuration" );
+            final Method toNanos = Class.forName( "java.time.Duration" ).getMethod( "toNanos" );
+            recordingStream = recordingStreamClass.getConstructor().newInstance();
+            Object eventSettings = recordingStreamClass.getMethod( "enable", String.class )
+                    .invoke( recordingStream, eventName );
+            // every pinning, not only those longer than the default threshold of the event
+            Class.forName( "jdk.jfr.EventSettings" ).getMethod( "with", String.class, String.class )
+                    .invoke( eventSettings, "threshold", "0 ms" );
+            Object eventConsumer = Proxy.newProxyInstance(
+                    VirtualThreadPinningMonitor.class.getClassLoader(),
+                    new Class<?>[]{consumerClass},
+                    new InvocationHandler()
+                    {
+                        @Override
+                        public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable
+                        {
+                            if ( "accept".equals( method.getName() ) )
+                            {
+                                count.incrementAndGet();
+                                durationAsNano.addAndGet( (Long) toNanos.invoke( getDuration.invoke( args[0] ) ) );
+                                return null;
+                            }
+                            else if ( "equals".equals( method.getName() ) )
+                            {
+                                return proxy == args[0];
+                            }
+                            else if ( "hashCode".equals( method.getName() ) )
+                            {
+                                return System.identityHashCode( proxy );
+                            }
+                            return VirtualThreadPinningMonitor.class.getSimpleName();
+                        }
+                    }
+            );
+            recordingStreamClass.getMethod( "onEvent", String.class, consumerClass )
+                    .invoke( recordingStream, eventName, eventConsumer );
+            recordingStreamClass.getMethod( "startAsync" ).invoke( recordingStream );
+        }
+        catch ( Exception e )
+        {
+            recordingStream = null;
+        }
+        this.recordingStream = recordingStream;
+    }
+
+    /**
+     * @return false if Flight Recorder is not available, then pinning count and duration are always 0
+     */
+    boolean isMeasured()
+    {
+        return null != recordingStream;
+    }
+
+    long count()
+    {
+        return count.get();
+    }
+
+    long durationAsNano()
+    {
+        return durationAsNano.get();
+    }
+
+    /**
+     * Stops the stream, on Java 20 or newer once all recorded events have been consumed
+     */
+    void stop()
+    {
+        if ( null == recordingStream )
+        {
+            return;
+        }
+        try
+        {
+            recordingStream.getClass().getMethod( "stop" ).invoke( recordingStream );
+        }
+        catch ( Exception e )
+        {
+            // stop() does not exist before Java 20, close() alone may drop events that were not consumed yet
+        }
+        try
+        {
+            recordingStream.getClass().getMethod( "close" ).invoke( recordingStream );
+        }
+        catch ( Exception e )
+        {
+            // nothing more can be done, stream is released when it is garbage collected
+        }
+    }
+}
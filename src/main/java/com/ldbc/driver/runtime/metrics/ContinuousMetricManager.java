@@ -29,6 +29,10 @@ public class ContinuousMetricManager {
         histogram.recordValue(value);
     }
 
+    public void addMeasurements(Histogram measurements) {
+        histogram.add(measurements);
+    }
+
     public ContinuousMetricSnapshot snapshot() {
         return new ContinuousMetricSnapshot(name, unit, count(), mean(), min(), max(), percentile50(), percentile90(), percentile95(), percentile99());
     }
@@ -51,6 +51,11 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         this.metricsEvent = new MetricsEvent();
     }
 
+    GctBlockedMetricsManager gctBlockedMetricsManager()
+    {
+        return metricsManager.gctBlockedMetricsManager();
+    }
+
     AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshot()
     {
         return statusSnapshotReference;
@@ -98,7 +103,8 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                         Long.toString( originalStartTime )
                 );
             }
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measure( scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano,
+                    operationType );
             processedEventCount++;
             break;
         }
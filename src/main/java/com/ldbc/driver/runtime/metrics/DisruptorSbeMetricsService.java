@@ -235,6 +235,16 @@ public class DisruptorSbeMetricsService implements MetricsService
                     actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
         }
 
+
+        @Override
+        public void submitGctBlocked( long blockedDurationAsNano ) throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            eventHandler.gctBlockedMetricsManager().measure( blockedDurationAsNano );
+        }
         @Override
         public WorkloadStatusSnapshot status() throws MetricsCollectionException
         {
@@ -0,0 +1,69 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes submitted operation results to the results log, without computing metrics
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<DirectBuffer>
+{
+    private final ConcurrentErrorReporter errorReporter;
+    private final SimpleCsvFileWriter csvResultsLogWriter;
+    private final TimeUnit unit;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+    private volatile long processedEventCount = 0L;
+
+    DisruptorSbeResultsLogEventHandler( ConcurrentErrorReporter errorReporter,
+            SimpleCsvFileWriter csvResultsLogWriter,
+            TimeUnit unit,
+            String[] operationNames )
+    {
+        this.errorReporter = errorReporter;
+        this.csvResultsLogWriter = csvResultsLogWriter;
+        this.unit = unit;
+        this.operationNames = operationNames;
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+
+        if ( DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType() )
+        {
+            csvResultsLogWriter.writeRow(
+                    operationNames[metricsEvent.operationType()],
+                    Long.toString( metricsEvent.scheduledStartTimeAsMilli() ),
+                    Long.toString( metricsEvent.actualStartTimeAsMilli() ),
+                    Long.toString( unit.convert( metricsEvent.runDurationAsNano(), TimeUnit.NANOSECONDS ) ),
+                    Integer.toString( metricsEvent.resultCode() ),
+                    Long.toString( metricsEvent.originalStartTime() )
+            );
+            processedEventCount++;
+        }
+        else
+        {
+            errorReporter.reportError( this, format( "Encountered unexpected event: %s", event.toString() ) );
+        }
+    }
+}
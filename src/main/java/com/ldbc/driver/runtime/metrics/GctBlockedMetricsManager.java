@@ -0,0 +1,46 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often, and for how long, operations were blocked waiting for GCT to reach their dependency time stamp.
+ * <p/>
+ * Each measurement is one blocked operation, however often it re-checked GCT while it was blocked.
+ * Measurements are submitted directly by the threads that were blocked, unlike operation results they are not
+ * passed through the event queue of the metrics service, so this class is thread-safe.
+ */
+public class GctBlockedMetricsManager
+{
+    private final AtomicLong count = new AtomicLong( 0 );
+    private final AtomicLong durationAsNano = new AtomicLong( 0 );
+    private final AtomicLong maxDurationAsNano = new AtomicLong( 0 );
+
+    public void measure( long blockedDurationAsNano )
+    {
+        count.incrementAndGet();
+        durationAsNano.addAndGet( blockedDurationAsNano );
+        long previousMaxDurationAsNano;
+        while ( blockedDurationAsNano > (previousMaxDurationAsNano = maxDurationAsNano.get()) )
+        {
+            if ( maxDurationAsNano.compareAndSet( previousMaxDurationAsNano, blockedDurationAsNano ) )
+            {
+                break;
+            }
+        }
+    }
+
+    public long count()
+    {
+        return count.get();
+    }
+
+    public long durationAsNano()
+    {
+        return durationAsNano.get();
+    }
+
+    public long maxDurationAsNano()
+    {
+        return maxDurationAsNano.get();
+    }
+}
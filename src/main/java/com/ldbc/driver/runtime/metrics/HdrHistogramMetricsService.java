@@ -0,0 +1,530 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventTranslatorVararg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE;
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MetricsCollectionEventFactory;
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
+import static java.lang.String.format;
+
+/**
+ * Operation results are recorded by the threads that submit them, into HdrHistogram single-writer recorders, rather
+ * than being handed to one metrics consumer thread.
+ * <p/>
+ * Recorders are grouped into stripes, one recorder per metric per operation type, created on first use. A thread
+ * claims the stripe selected by its thread id for the duration of one submission, and only probes the next stripes
+ * when another thread holds that one, so every recorder has a single writer at any time. There are at least twice
+ * as many stripes as processors, and pooled operation handlers and virtual threads share them rather than each
+ * creating recorders of their own.
+ * <p/>
+ * A reporter thread periodically merges the interval histograms of all recorders into the workload metrics, status()
+ * and results() merge whatever was recorded since. The results log, when enabled, is still written by the single
+ * consumer of a disruptor ring buffer.
+ */
+public class HdrHistogramMetricsService implements MetricsService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+    private static final long REPORTING_INTERVAL_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
+    // precision of recorders, auto-resizing histograms of 3 significant digits start at 16KB each
+    private static final int RECORDER_SIGNIFICANT_DIGITS = 3;
+
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimeSource timeSource;
+    private final ConcurrentErrorReporter errorReporter;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final String[] operationNames;
+    private final RecorderStripe[] recorderStripes;
+    private final int recorderStripeMask;
+    private final MetricsManager metricsManager;
+    private final ReporterThread reporterThread;
+    private final LoggingService loggingService;
+    private final ConcurrentLinkedQueue<HdrHistogramMetricsServiceWriter> metricsServiceWriters;
+
+    // results log, null when disabled
+    private final AtomicLong initiatedEvents = new AtomicLong( 0 );
+    private final ExecutorService executor;
+    private final Disruptor<DirectBuffer> disruptor;
+    private final RingBuffer<DirectBuffer> ringBuffer;
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
+
+    public HdrHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            SimpleCsvFileWriter csvResultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this.timeSource = timeSource;
+        this.errorReporter = errorReporter;
+        this.unit = timeUnit;
+        this.highestExpectedRuntimeDurationAsNano = maxRuntimeDurationAsNano;
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.metricsManager = new MetricsManager(
+                timeSource,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.metricsServiceWriters = new ConcurrentLinkedQueue<>();
+
+        int recorderStripeCount = Integer.highestOneBit( Runtime.getRuntime().availableProcessors() ) * 4;
+        this.recorderStripes = new RecorderStripe[recorderStripeCount];
+        for ( int i = 0; i < recorderStripes.length; i++ )
+        {
+            recorderStripes[i] = new RecorderStripe( operationNames.length );
+        }
+        this.recorderStripeMask = recorderStripeCount - 1;
+
+        if ( null == csvResultsLogWriter )
+        {
+            this.executor = null;
+            this.disruptor = null;
+            this.ringBuffer = null;
+            this.resultsLogEventHandler = null;
+        }
+        else
+        {
+            // Specify the size of the ring buffer, must be power of 2
+            int bufferSize = 1024;
+            this.executor = Executors.newSingleThreadExecutor();
+            this.disruptor = new Disruptor<>(
+                    new MetricsCollectionEventFactory(),
+                    bufferSize,
+                    executor,
+                    ProducerType.MULTI,
+                    new BlockingWaitStrategy()
+            );
+            this.resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
+                    errorReporter,
+                    csvResultsLogWriter,
+                    timeUnit,
+                    operationNames
+            );
+            disruptor.handleEventsWith( resultsLogEventHandler );
+            DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+            disruptor.handleExceptionsFor( resultsLogEventHandler ).with( exceptionHandler );
+            disruptor.handleExceptionsWith( exceptionHandler );
+            this.ringBuffer = disruptor.start();
+        }
+
+        this.reporterThread = new ReporterThread();
+        reporterThread.start();
+    }
+
+    @Override
+    public void shutdown() throws MetricsCollectionException
+    {
+        if ( false == shutdown.compareAndSet( false, true ) )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+
+        reporterThread.interrupt();
+        try
+        {
+            reporterThread.join( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for metrics reporter to shutdown", e );
+        }
+
+        if ( null != disruptor )
+        {
+            shutdownResultsLog();
+        }
+
+        // includes results submitted after the last interval of the reporter
+        collect();
+
+        AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
+        for ( HdrHistogramMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
+        {
+            metricsServiceWriter.setAlreadyShutdownPolicy( alreadyShutdownPolicy );
+        }
+    }
+
+    private void shutdownResultsLog() throws MetricsCollectionException
+    {
+        long startTimeMs = timeSource.nowAsMilli();
+        boolean shutdownSuccessful = false;
+        while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
+        {
+            if ( resultsLogEventHandler.processedEventCount() >= initiatedEvents.get() )
+            {
+                shutdownSuccessful = true;
+                break;
+            }
+            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+        }
+        if ( false == shutdownSuccessful )
+        {
+            String errMsg = format( "%s timed out waiting for results log to be written\n" +
+                                    "%s/%s operation results written",
+                    getClass().getSimpleName(),
+                    resultsLogEventHandler.processedEventCount(),
+                    initiatedEvents.get()
+            );
+            throw new MetricsCollectionException( errMsg );
+        }
+
+        try
+        {
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            String errMsg = format( "%s timed out waiting for %s to shutdown",
+                    getClass().getSimpleName(),
+                    disruptor.getClass().getSimpleName()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+
+        try
+        {
+            executor.shutdown();
+            if ( false == executor.awaitTermination( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+            {
+                throw new MetricsCollectionException(
+                        format( "%s timed out waiting for results log executor to terminate",
+                                getClass().getSimpleName() ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for results log executor to terminate",
+                    e );
+        }
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        HdrHistogramMetricsServiceWriter metricsServiceWriter = new HdrHistogramMetricsServiceWriter();
+        metricsServiceWriters.add( metricsServiceWriter );
+        return metricsServiceWriter;
+    }
+
+    private void record( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano ) throws MetricsCollectionException
+    {
+        if ( operationType < 0 || operationType >= operationNames.length || null == operationNames[operationType] )
+        {
+            throw new MetricsCollectionException( format( "Unknown operation type: %s", operationType ) );
+        }
+        // operations that start ahead of schedule (e.g. when scheduled start times are ignored) did not wait
+        long startDelayAsNano =
+                Math.max( 0, actualStartTimeAsMilli - scheduledStartTimeAsMilli ) * MetricsManager.ONE_MS_AS_NS;
+        long operationFinishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+
+        RecorderStripe recorderStripe = claimRecorderStripe();
+        try
+        {
+            OperationTypeRecorders recorders = recorderStripe.recordersFor( operationType );
+            recorders.runDurations.recordValue( toUnit( runDurationAsNano, operationType ) );
+            recorders.latencies.recordValue( toUnit( startDelayAsNano + runDurationAsNano, operationType ) );
+            recorders.startDelays.recordValue( toUnit( startDelayAsNano, operationType ) );
+            if ( actualStartTimeAsMilli < recorderStripe.startTimeAsMilli )
+            {
+                recorderStripe.startTimeAsMilli = actualStartTimeAsMilli;
+            }
+            if ( operationFinishTimeAsMilli > recorderStripe.latestFinishTimeAsMilli )
+            {
+                recorderStripe.latestFinishTimeAsMilli = operationFinishTimeAsMilli;
+            }
+        }
+        finally
+        {
+            recorderStripe.release();
+        }
+    }
+
+    private RecorderStripe claimRecorderStripe()
+    {
+        int recorderStripeIndex = (int) Thread.currentThread().getId();
+        while ( true )
+        {
+            RecorderStripe recorderStripe = recorderStripes[recorderStripeIndex & recorderStripeMask];
+            if ( recorderStripe.tryClaim() )
+            {
+                return recorderStripe;
+            }
+            recorderStripeIndex++;
+        }
+    }
+
+    private long toUnit( long durationAsNano, int operationType )
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
+        {
+            loggingService.info( format(
+                    "Error recording %s - reported value exceeds maximum allowed. Time reported as maximum.\n"
+                    + "Reported: %s %s\n"
+                    + "Maximum: %s %s",
+                    operationNames[operationType],
+                    durationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    highestExpectedRuntimeDurationAsNano,
+                    TimeUnit.NANOSECONDS.name()
+            ) );
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
+        }
+        return unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
+    }
+
+    /**
+     * Merges everything recorded since the previous call into the workload metrics
+     */
+    synchronized private void collect()
+    {
+        for ( RecorderStripe recorderStripe : recorderStripes )
+        {
+            for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+            {
+                OperationTypeRecorders recorders = recorderStripe.operationTypeRecorders.get( operationType );
+                if ( null != recorders )
+                {
+                    recorders.collectIntervalHistograms();
+                    metricsManager.measure(
+                            operationType,
+                            recorders.runDurationsInterval,
+                            recorders.latenciesInterval,
+                            recorders.startDelaysInterval
+                    );
+                }
+            }
+            metricsManager.measureStartAndFinishTimes(
+                    recorderStripe.startTimeAsMilli,
+                    recorderStripe.latestFinishTimeAsMilli
+            );
+        }
+    }
+
+    synchronized private WorkloadStatusSnapshot status()
+    {
+        collect();
+        return metricsManager.status();
+    }
+
+    synchronized private WorkloadResultsSnapshot results()
+    {
+        collect();
+        return metricsManager.snapshot();
+    }
+
+    private class HdrHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final SubmitOperationResultTranslator submitOperationResultTranslator =
+                new SubmitOperationResultTranslator( new MetricsEvent() );
+        private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
+
+        private void setAlreadyShutdownPolicy( AlreadyShutdownPolicy alreadyShutdownPolicy )
+        {
+            this.alreadyShutdownPolicy = alreadyShutdownPolicy;
+        }
+
+        @Override
+        public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            record( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano );
+            if ( null != ringBuffer )
+            {
+                initiatedEvents.incrementAndGet();
+                ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            }
+        }
+
+
+        @Override
+        public void submitGctBlocked( long blockedDurationAsNano ) throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            metricsManager.gctBlockedMetricsManager().measure( blockedDurationAsNano );
+        }
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            return HdrHistogramMetricsService.this.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            return HdrHistogramMetricsService.this.results();
+        }
+    }
+
+    private class ReporterThread extends Thread
+    {
+        ReporterThread()
+        {
+            super( HdrHistogramMetricsService.class.getSimpleName() + "-" + ReporterThread.class.getSimpleName() );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( false == shutdown.get() )
+                {
+                    Thread.sleep( REPORTING_INTERVAL_AS_MILLI );
+                    collect();
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                // metrics service is shutting down, it collects the last interval itself
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error encountered while merging metrics\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+    }
+
+    private static class RecorderStripe
+    {
+        private final AtomicBoolean claimed = new AtomicBoolean( false );
+        private final AtomicReferenceArray<OperationTypeRecorders> operationTypeRecorders;
+        private volatile long startTimeAsMilli = Long.MAX_VALUE;
+        private volatile long latestFinishTimeAsMilli = Long.MIN_VALUE;
+
+        private RecorderStripe( int operationTypeCount )
+        {
+            this.operationTypeRecorders = new AtomicReferenceArray<>( operationTypeCount );
+        }
+
+        private boolean tryClaim()
+        {
+            return false == claimed.get() && claimed.compareAndSet( false, true );
+        }
+
+        private void release()
+        {
+            claimed.set( false );
+        }
+
+        // must only be called while claimed
+        private OperationTypeRecorders recordersFor( int operationType )
+        {
+            OperationTypeRecorders recorders = operationTypeRecorders.get( operationType );
+            if ( null == recorders )
+            {
+                recorders = new OperationTypeRecorders();
+                operationTypeRecorders.set( operationType, recorders );
+            }
+            return recorders;
+        }
+    }
+
+    private static class OperationTypeRecorders
+    {
+        private final SingleWriterRecorder runDurations = new SingleWriterRecorder( RECORDER_SIGNIFICANT_DIGITS );
+        private final SingleWriterRecorder latencies = new SingleWriterRecorder( RECORDER_SIGNIFICANT_DIGITS );
+        private final SingleWriterRecorder startDelays = new SingleWriterRecorder( RECORDER_SIGNIFICANT_DIGITS );
+        // only accessed while collecting, recycled between intervals
+        private Histogram runDurationsInterval = null;
+        private Histogram latenciesInterval = null;
+        private Histogram startDelaysInterval = null;
+
+        private void collectIntervalHistograms()
+        {
+            runDurationsInterval = runDurations.getIntervalHistogram( runDurationsInterval );
+            latenciesInterval = latencies.getIntervalHistogram( latenciesInterval );
+            startDelaysInterval = startDelays.getIntervalHistogram( startDelaysInterval );
+        }
+    }
+
+    private static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
+    {
+        private final MetricsEvent metricsEvent;
+
+        private SubmitOperationResultTranslator( MetricsEvent metricsEvent )
+        {
+            this.metricsEvent = metricsEvent;
+        }
+
+        @Override
+        public void translateTo( DirectBuffer event, long l, Object... fields )
+        {
+            metricsEvent.wrapForEncode( event, MESSAGE_HEADER_SIZE )
+                    .eventType( SUBMIT_OPERATION_RESULT )
+                    .operationType( (int) fields[0] )
+                    .scheduledStartTimeAsMilli( (long) fields[1] )
+                    .actualStartTimeAsMilli( (long) fields[2] )
+                    .runDurationAsNano( (long) fields[3] )
+                    .resultCode( (int) fields[4] )
+                    .originalStartTime( (long) fields[5] );
+        }
+    }
+
+    private static class AlreadyShutdownPolicy
+    {
+        void apply() throws MetricsCollectionException
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.google.common.collect.Ordering;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.Histogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -20,6 +22,9 @@ public class MetricsManager
     private long startTimeAsMilli;
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
+    private final ContinuousMetricManager startDelayMetric;
+    private final GctBlockedMetricsManager gctBlockedMetricsManager = new GctBlockedMetricsManager();
+    private final long highestExpectedRuntimeDurationAsNano;
 
     public static void export(
             WorkloadResultsSnapshot workloadResults,
@@ -128,6 +133,14 @@ public class MetricsManager
                 loggingServiceFactory
         );
 
+        this.startDelayMetric = new ContinuousMetricManager(
+                "Start Delay",
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+
         this.startTimeAsMilli = Long.MAX_VALUE;
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
         this.timeSource = timeSource;
@@ -136,8 +149,8 @@ public class MetricsManager
 
     final static long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos( 1 );
 
-    void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
-            throws MetricsCollectionException
+    void measure( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli, long runDurationAsNano,
+            int operationType ) throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -150,7 +163,32 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        // operations that start ahead of schedule (e.g. when scheduled start times are ignored) did not wait
+        long startDelayAsNano = Math.max( 0, actualStartTimeAsMilli - scheduledStartTimeAsMilli ) * ONE_MS_AS_NS;
+        operationTypeMetricsManagers[operationType].measure( runDurationAsNano, startDelayAsNano );
+        startDelayMetric.addMeasurement( unit.convert(
+                Math.min( startDelayAsNano, highestExpectedRuntimeDurationAsNano ), TimeUnit.NANOSECONDS ) );
+    }
+
+    /**
+     * Merges measurements that were recorded elsewhere, see OperationTypeMetricsManager.measure(Histogram, ...)
+     */
+    void measure( int operationType, Histogram runDurations, Histogram latencies, Histogram startDelays )
+    {
+        operationTypeMetricsManagers[operationType].measure( runDurations, latencies, startDelays );
+        startDelayMetric.addMeasurements( startDelays );
+    }
+
+    void measureStartAndFinishTimes( long startTimeAsMilli, long latestFinishTimeAsMilli )
+    {
+        if ( startTimeAsMilli < this.startTimeAsMilli )
+        {
+            this.startTimeAsMilli = startTimeAsMilli;
+        }
+        if ( latestFinishTimeAsMilli > this.latestFinishTimeAsMilli )
+        {
+            this.latestFinishTimeAsMilli = latestFinishTimeAsMilli;
+        }
     }
 
     private long totalOperationCount()
@@ -182,9 +220,20 @@ public class MetricsManager
                 (startTimeAsMilli == Long.MAX_VALUE) ? -1 : startTimeAsMilli,
                 (latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : latestFinishTimeAsMilli,
                 totalOperationCount(),
+                gctBlockedMetricsManager.count(),
+                gctBlockedMetricsManager.durationAsNano(),
+                gctBlockedMetricsManager.maxDurationAsNano(),
                 unit );
     }
 
+    /**
+     * Thread-safe, GCT blocked measurements may be submitted to it directly, by any thread
+     */
+    GctBlockedMetricsManager gctBlockedMetricsManager()
+    {
+        return gctBlockedMetricsManager;
+    }
+
     WorkloadStatusSnapshot status()
     {
         long nowAsMilli = timeSource.nowAsMilli();
@@ -198,7 +247,11 @@ public class MetricsManager
                     runDurationAsMilli,
                     operationCount,
                     durationSinceLastMeasurementAsMilli,
-                    operationsPerSecond );
+                    operationsPerSecond,
+                    startDelayMetric.snapshot(),
+                    operationStartDelayMetrics(),
+                    gctBlockedMetricsManager.count(),
+                    gctBlockedMetricsManager.durationAsNano() );
         }
         else
         {
@@ -213,7 +266,27 @@ public class MetricsManager
                     runDurationAsMilli,
                     operationCount,
                     durationSinceLastMeasurementAsMilli,
-                    operationsPerSecond );
+                    operationsPerSecond,
+                    startDelayMetric.snapshot(),
+                    operationStartDelayMetrics(),
+                    gctBlockedMetricsManager.count(),
+                    gctBlockedMetricsManager.durationAsNano() );
+        }
+    }
+
+    private Map<String,ContinuousMetricSnapshot> operationStartDelayMetrics()
+    {
+        Map<String,ContinuousMetricSnapshot> operationStartDelayMetrics = new TreeMap<>();
+        for ( OperationTypeMetricsManager operationTypeMetricsManager : operationTypeMetricsManagers )
+        {
+            if ( null != operationTypeMetricsManager && operationTypeMetricsManager.count() > 0 )
+            {
+                operationStartDelayMetrics.put(
+                        operationTypeMetricsManager.name(),
+                        operationTypeMetricsManager.startDelaySnapshot()
+                );
+            }
         }
+        return operationStartDelayMetrics;
     }
 }
@@ -16,6 +16,14 @@ public interface MetricsService
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException;
 
+        /**
+         * Records one operation that was blocked waiting for GCT to reach its dependency time stamp.
+         * Unlike other methods, may be called concurrently by multiple threads.
+         *
+         * @param blockedDurationAsNano from when the operation was first found to be blocked, until it was not
+         */
+        void submitGctBlocked(long blockedDurationAsNano) throws MetricsCollectionException;
+
         WorkloadStatusSnapshot status() throws MetricsCollectionException;
 
         WorkloadResultsSnapshot results() throws MetricsCollectionException;
@@ -13,6 +13,12 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    // from scheduled start time to completion, includes time spent waiting when the driver falls behind schedule
+    @JsonProperty("latency")
+    private ContinuousMetricSnapshot latencyMetric;
+    // from scheduled start time to actual start time, how far behind schedule the driver is
+    @JsonProperty("start_delay")
+    private ContinuousMetricSnapshot startDelayMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -20,11 +26,15 @@ public class OperationMetricsSnapshot {
     public OperationMetricsSnapshot(String name,
                                     TimeUnit durationUnit,
                                     long count,
-                                    ContinuousMetricSnapshot rutTimeMetric) {
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot latencyMetric,
+                                    ContinuousMetricSnapshot startDelayMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.latencyMetric = latencyMetric;
+        this.startDelayMetric = startDelayMetric;
     }
 
     public String name() {
@@ -43,6 +53,14 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    public ContinuousMetricSnapshot latencyMetric() {
+        return latencyMetric;
+    }
+
+    public ContinuousMetricSnapshot startDelayMetric() {
+        return startDelayMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +73,10 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (latencyMetric != null ? !latencyMetric.equals(that.latencyMetric) : that.latencyMetric != null)
+            return false;
+        if (startDelayMetric != null ? !startDelayMetric.equals(that.startDelayMetric) : that.startDelayMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +87,8 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (latencyMetric != null ? latencyMetric.hashCode() : 0);
+        result = 31 * result + (startDelayMetric != null ? startDelayMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +99,8 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", latencyMetric=" + latencyMetric +
+                ", startDelayMetric=" + startDelayMetric +
                 '}';
     }
 }
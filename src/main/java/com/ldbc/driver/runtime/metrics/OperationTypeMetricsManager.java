@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.Histogram;
 
 import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
@@ -12,9 +13,13 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_LATENCY = "Latency";
+    private static final String METRIC_START_DELAY = "Start Delay";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager latencyMetric;
+    private final ContinuousMetricManager startDelayMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -36,46 +41,93 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.latencyMetric = new ContinuousMetricManager(
+                METRIC_LATENCY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
+        this.startDelayMetric = new ContinuousMetricManager(
+                METRIC_START_DELAY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
     }
 
-    void measure( long runDurationAsNano ) throws MetricsCollectionException
+    /**
+     * Latency, from scheduled start time to completion, is start delay + run duration. Unlike run duration it
+     * includes the time an operation waited because the driver fell behind schedule (coordinated omission).
+     *
+     * @param runDurationAsNano duration from actual start time to completion
+     * @param startDelayAsNano duration from scheduled start time to actual start time, zero if started on time
+     * @throws MetricsCollectionException
+     */
+    void measure( long runDurationAsNano, long startDelayAsNano ) throws MetricsCollectionException
     {
         //
         // Measure operation runtime
         //
-        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        record( runTimeMetric, METRIC_RUNTIME, runDurationAsNano );
+        //
+        // Measure operation start delay
+        //
+        record( startDelayMetric, METRIC_START_DELAY, startDelayAsNano );
+        //
+        // Measure operation latency
+        //
+        record( latencyMetric, METRIC_LATENCY, startDelayAsNano + runDurationAsNano );
+    }
+
+    /**
+     * Adds measurements that were recorded elsewhere, already converted to the unit of this manager and limited to
+     * its highest expected duration, e.g., interval histograms of worker threads
+     */
+    void measure( Histogram runDurations, Histogram latencies, Histogram startDelays )
+    {
+        runTimeMetric.addMeasurements( runDurations );
+        latencyMetric.addMeasurements( latencies );
+        startDelayMetric.addMeasurements( startDelays );
+    }
+
+    private void record( ContinuousMetricManager metric, String metricName, long durationAsNano )
+            throws MetricsCollectionException
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
-                    "Error recording runtime - reported value exceeds maximum allowed. Time " +
+                    "Error recording %s - reported value exceeds maximum allowed. Time " +
                     "reported as maximum.\n"
                     + "Reported: %s %s / %s\n"
                     + "For: %s\n"
                     + "Maximum: %s %s / %s",
-                    runDurationAsNano,
+                    metricName.toLowerCase(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
                     name,
                     highestExpectedRuntimeDurationAsNano,
                     TimeUnit.NANOSECONDS.name(),
                     temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
             );
             loggingService.info( errMsg );
-            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        long durationInAppropriateUnit = unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
 
         try
         {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            metric.addMeasurement( durationInAppropriateUnit );
         }
         catch ( Throwable e )
         {
             String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metricName.toLowerCase(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
+                    durationInAppropriateUnit,
                     unit.name(),
                     name,
                     highestExpectedRuntimeDurationAsNano,
@@ -89,7 +141,13 @@ public class OperationTypeMetricsManager
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot(),
+                latencyMetric.snapshot(), startDelayMetric.snapshot() );
+    }
+
+    ContinuousMetricSnapshot startDelaySnapshot()
+    {
+        return startDelayMetric.snapshot();
     }
 
     public String name()
@@ -0,0 +1,171 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.util.ClassLoaderHelper;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Computes workload metrics from the results logs of one or more driver instances, e.g., of every partition of a
+ * partitioned workload, as if all operations had been executed by a single driver.
+ * Unlike the metrics of each instance, which are summaries, results logs contain every operation, so merging them
+ * gives exact percentiles.
+ */
+public class ResultsLogMerger
+{
+    private static final String EXECUTION_DURATION_COLUMN_PREFIX = "execution_duration_";
+
+    /**
+     * Usage: ResultsLogMerger [workload class name] [merged results json file] [results log file]...
+     */
+    public static void main( String[] args ) throws IOException, MetricsCollectionException, WorkloadException
+    {
+        if ( args.length < 3 )
+        {
+            System.out.println( format( "Usage: %s [workload class name] [merged results json file] " +
+                                        "[results log file]...", ResultsLogMerger.class.getSimpleName() ) );
+            System.exit( 1 );
+        }
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+        try ( Workload workload = ClassLoaderHelper.loadWorkload( args[0] ) )
+        {
+            operationTypeToClassMapping = workload.operationTypeToClassMapping();
+        }
+        List<File> resultsLogs = new ArrayList<>();
+        for ( int i = 2; i < args.length; i++ )
+        {
+            resultsLogs.add( new File( args[i] ) );
+        }
+        WorkloadResultsSnapshot mergedResults = merge(
+                resultsLogs,
+                operationTypeToClassMapping,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new Log4jLoggingServiceFactory( false )
+        );
+        try ( OutputStream outputStream = new FileOutputStream( new File( args[1] ) ) )
+        {
+            MetricsManager.export( mergedResults, new JsonWorkloadMetricsFormatter(), outputStream, Charsets.UTF_8 );
+        }
+    }
+
+    /**
+     * Time unit of metrics is the unit of execution durations in results logs, which must all use the same unit
+     */
+    public static WorkloadResultsSnapshot merge( List<File> resultsLogs,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            long highestExpectedRuntimeDurationAsNano,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        Map<String,Integer> operationNameToType = new HashMap<>();
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                operationNameToType.put( operationNames[operationType], operationType );
+            }
+        }
+
+        TimeUnit unit = null;
+        MetricsManager metricsManager = null;
+        for ( File resultsLog : resultsLogs )
+        {
+            try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                    resultsLog,
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+            {
+                if ( false == reader.hasNext() )
+                {
+                    throw new MetricsCollectionException(
+                            format( "Results log has no headers: %s", resultsLog.getAbsolutePath() ) );
+                }
+                TimeUnit resultsLogUnit = executionDurationUnit( reader.next(), resultsLog );
+                if ( null == unit )
+                {
+                    unit = resultsLogUnit;
+                    metricsManager = new MetricsManager(
+                            new SystemTimeSource(),
+                            unit,
+                            highestExpectedRuntimeDurationAsNano,
+                            operationTypeToClassMapping,
+                            loggingServiceFactory
+                    );
+                }
+                else if ( unit != resultsLogUnit )
+                {
+                    throw new MetricsCollectionException(
+                            format( "Results logs use different time units: %s & %s", unit, resultsLogUnit ) );
+                }
+                while ( reader.hasNext() )
+                {
+                    String[] row = reader.next();
+                    Integer operationType = operationNameToType.get( row[0] );
+                    if ( null == operationType )
+                    {
+                        throw new MetricsCollectionException(
+                                format( "Unknown operation type %s in results log: %s",
+                                        row[0], resultsLog.getAbsolutePath() ) );
+                    }
+                    metricsManager.measure(
+                            Long.parseLong( row[1] ),
+                            Long.parseLong( row[2] ),
+                            unit.toNanos( Long.parseLong( row[3] ) ),
+                            operationType
+                    );
+                }
+            }
+            catch ( FileNotFoundException e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            }
+        }
+        if ( null == metricsManager )
+        {
+            throw new MetricsCollectionException( "No results logs to merge" );
+        }
+        return metricsManager.snapshot();
+    }
+
+    private static TimeUnit executionDurationUnit( String[] headers, File resultsLog )
+            throws MetricsCollectionException
+    {
+        for ( String header : headers )
+        {
+            if ( header.startsWith( EXECUTION_DURATION_COLUMN_PREFIX ) )
+            {
+                try
+                {
+                    return TimeUnit.valueOf( header.substring( EXECUTION_DURATION_COLUMN_PREFIX.length() ) );
+                }
+                catch ( IllegalArgumentException e )
+                {
+                    throw new MetricsCollectionException(
+                            format( "Unknown time unit in results log header %s: %s",
+                                    header, resultsLog.getAbsolutePath() ), e );
+                }
+            }
+        }
+        throw new MetricsCollectionException(
+                format( "Results log has no %s column: %s", EXECUTION_DURATION_COLUMN_PREFIX,
+                        resultsLog.getAbsolutePath() ) );
+    }
+}
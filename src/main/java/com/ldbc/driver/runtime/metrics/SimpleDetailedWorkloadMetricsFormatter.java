@@ -38,6 +38,14 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         double opsPerS = opsPerNs * TimeUnit.SECONDS.toNanos( 1 );
         sb.append( String.format( "%1$-" + padRightDistance + "s", "Throughput:" ) )
                 .append( FLOAT_FORMATTER.format( opsPerS ) ).append( " (op/s)\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Count:" ) )
+                .append( INTEGER_FORMATTER.format( workloadResultsSnapshot.gctBlockedCount() ) ).append( "\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Duration:" ) )
+                .append( TEMPORAL_UTIL.nanoDurationToString( workloadResultsSnapshot.gctBlockedDurationAsNano() ) )
+                .append( "\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Max Duration:" ) )
+                .append( TEMPORAL_UTIL.nanoDurationToString( workloadResultsSnapshot.gctBlockedMaxDurationAsNano() ) )
+                .append( "\n" );
         sb.append( String.format( "%1$-" + padRightDistance + "s",
                 "Start Time (" + TimeZone.getDefault().getDisplayName() + "):" ) )
                 .append( dateTimeFormat.format( workloadResultsSnapshot.startTimeAsMilli() ) ).append( "\n" );
@@ -82,6 +90,43 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        // results written before latency & start delay were recorded do not have them
+        if ( null != metric.latencyMetric() )
+        {
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency Mean:" ) )
+                    .append( FLOAT_FORMATTER.format( metric.latencyMetric().mean() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency 50th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.latencyMetric().percentile50() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency 90th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.latencyMetric().percentile90() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency 95th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.latencyMetric().percentile95() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency 99th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.latencyMetric().percentile99() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Latency Max:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.latencyMetric().max() ) ).append( "\n" );
+        }
+        if ( null != metric.startDelayMetric() )
+        {
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Start Delay Mean:" ) )
+                    .append( FLOAT_FORMATTER.format( metric.startDelayMetric().mean() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Start Delay 50th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.startDelayMetric().percentile50() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Start Delay 99th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.startDelayMetric().percentile99() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Start Delay Max:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.startDelayMetric().max() ) ).append( "\n" );
+        }
         return sb.toString();
     }
 }
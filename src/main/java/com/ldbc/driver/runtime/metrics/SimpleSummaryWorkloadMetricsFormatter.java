@@ -34,6 +34,14 @@ public class SimpleSummaryWorkloadMetricsFormatter implements WorkloadMetricsFor
         double opsPerS = opsPerNs * TimeUnit.SECONDS.toNanos( 1 );
         sb.append( String.format( "%1$-" + padRightDistance + "s", "Throughput:" ) ).append(
                 FLOAT_FORMATTER.format( opsPerS ) ).append( " (op/s)\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Count:" ) ).append(
+                INTEGER_FORMATTER.format( workloadResultsSnapshot.gctBlockedCount() ) ).append( "\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Duration:" ) ).append(
+                TEMPORAL_UTIL.nanoDurationToString( workloadResultsSnapshot.gctBlockedDurationAsNano() ) )
+                .append( "\n" );
+        sb.append( String.format( "%1$-" + padRightDistance + "s", "GCT Blocked Max Duration:" ) ).append(
+                TEMPORAL_UTIL.nanoDurationToString( workloadResultsSnapshot.gctBlockedMaxDurationAsNano() ) )
+                .append( "\n" );
         sb.append( "------------------------------------------------------------------------------\n" );
         int namePadRightDistance = 0;
         int countPadRightDistance = 0;
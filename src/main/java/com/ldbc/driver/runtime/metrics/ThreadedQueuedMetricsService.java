@@ -142,7 +142,8 @@ public class ThreadedQueuedMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         ThreadedQueuedMetricsServiceWriter metricsServiceWriter =
-                new ThreadedQueuedMetricsServiceWriter( initiatedEvents, queueEventSubmitter, timeSource );
+                new ThreadedQueuedMetricsServiceWriter( initiatedEvents, queueEventSubmitter, timeSource,
+                        threadedQueuedMetricsServiceThread.gctBlockedMetricsManager() );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -152,16 +153,19 @@ public class ThreadedQueuedMetricsService implements MetricsService
         private final AtomicLong initiatedEvents;
         private final QueueEventSubmitter<ThreadedQueuedMetricsEvent> queueEventSubmitter;
         private final TimeSource timeSource;
+        private final GctBlockedMetricsManager gctBlockedMetricsManager;
 
         private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
 
         private ThreadedQueuedMetricsServiceWriter( AtomicLong initiatedEvents,
                 QueueEventSubmitter<ThreadedQueuedMetricsEvent> queueEventSubmitter,
-                TimeSource timeSource )
+                TimeSource timeSource,
+                GctBlockedMetricsManager gctBlockedMetricsManager )
         {
             this.initiatedEvents = initiatedEvents;
             this.queueEventSubmitter = queueEventSubmitter;
             this.timeSource = timeSource;
+            this.gctBlockedMetricsManager = gctBlockedMetricsManager;
         }
 
         private void setAlreadyShutdownPolicy( AlreadyShutdownPolicy alreadyShutdownPolicy )
@@ -213,6 +217,16 @@ public class ThreadedQueuedMetricsService implements MetricsService
             }
         }
 
+
+        @Override
+        public void submitGctBlocked( long blockedDurationAsNano ) throws MetricsCollectionException
+        {
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+            gctBlockedMetricsManager.measure( blockedDurationAsNano );
+        }
         @Override
         public WorkloadStatusSnapshot status() throws MetricsCollectionException
         {
@@ -74,6 +74,11 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
     }
 
+    GctBlockedMetricsManager gctBlockedMetricsManager()
+    {
+        return metricsManager.gctBlockedMetricsManager();
+    }
+
     @Override
     public void run()
     {
@@ -117,6 +122,7 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
             try
             {
                 metricsManager.measure(
+                        submitOperationResultEvent.scheduledStartTimeAsMilli(),
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
                         submitOperationResultEvent.operationType()
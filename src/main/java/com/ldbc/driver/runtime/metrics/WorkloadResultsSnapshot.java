@@ -19,7 +19,7 @@ public class WorkloadResultsSnapshot
     private List<OperationMetricsSnapshot> metrics;
 
     @JsonProperty( value = "format_version" )
-    private int formatVersion = 3;
+    private int formatVersion = 5;
 
     @JsonProperty( value = "unit" )
     private TimeUnit unit;
@@ -39,6 +39,16 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    // operations blocked waiting for GCT to reach their dependency time stamp
+    @JsonProperty( value = "gct_blocked_count" )
+    private long gctBlockedCount;
+
+    @JsonProperty( value = "gct_blocked_duration" )
+    private long gctBlockedDurationAsUnit;
+
+    @JsonProperty( value = "gct_blocked_max_duration" )
+    private long gctBlockedMaxDurationAsUnit;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -58,6 +68,18 @@ public class WorkloadResultsSnapshot
             long latestFinishTimeAsMilli,
             long operationCount,
             TimeUnit unit )
+    {
+        this( metrics, startTimeAsMilli, latestFinishTimeAsMilli, operationCount, 0, 0, 0, unit );
+    }
+
+    public WorkloadResultsSnapshot( Map<String,OperationMetricsSnapshot> metrics,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount,
+            long gctBlockedCount,
+            long gctBlockedDurationAsNano,
+            long gctBlockedMaxDurationAsNano,
+            TimeUnit unit )
     {
         this.metrics = Lists.newArrayList( metrics.values() );
         Collections.sort( this.metrics, new OperationTypeMetricsManager.OperationMetricsNameComparator() );
@@ -66,6 +88,9 @@ public class WorkloadResultsSnapshot
         this.totalRunDurationAsUnit = unit.convert( latestFinishTimeAsMilli - startTimeAsMilli, TimeUnit.MILLISECONDS );
         this.throughput = 1000 * (operationCount / (double) unit.toMillis( totalRunDurationAsUnit ));
         this.operationCount = operationCount;
+        this.gctBlockedCount = gctBlockedCount;
+        this.gctBlockedDurationAsUnit = unit.convert( gctBlockedDurationAsNano, TimeUnit.NANOSECONDS );
+        this.gctBlockedMaxDurationAsUnit = unit.convert( gctBlockedMaxDurationAsNano, TimeUnit.NANOSECONDS );
         this.unit = unit;
     }
 
@@ -107,6 +132,24 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    /**
+     * @return number of operations that were blocked waiting for GCT, each counted once however long it waited
+     */
+    public long gctBlockedCount()
+    {
+        return gctBlockedCount;
+    }
+
+    public long gctBlockedDurationAsNano()
+    {
+        return unit.toNanos( gctBlockedDurationAsUnit );
+    }
+
+    public long gctBlockedMaxDurationAsNano()
+    {
+        return unit.toNanos( gctBlockedMaxDurationAsUnit );
+    }
+
     public String toJson()
     {
         try
@@ -131,6 +174,9 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", gctBlockedCount=" + gctBlockedCount +
+               ", gctBlockedDurationAsUnit=" + gctBlockedDurationAsUnit +
+               ", gctBlockedMaxDurationAsUnit=" + gctBlockedMaxDurationAsUnit +
                '}';
     }
 
@@ -152,6 +198,12 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( totalRunDurationAsUnit != that.totalRunDurationAsUnit )
         { return false; }
+        if ( gctBlockedCount != that.gctBlockedCount )
+        { return false; }
+        if ( gctBlockedDurationAsUnit != that.gctBlockedDurationAsUnit )
+        { return false; }
+        if ( gctBlockedMaxDurationAsUnit != that.gctBlockedMaxDurationAsUnit )
+        { return false; }
         if ( metrics != null ? !metrics.equals( that.metrics ) : that.metrics != null )
         { return false; }
         if ( unit != that.unit )
@@ -169,6 +221,9 @@ public class WorkloadResultsSnapshot
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
         result = 31 * result + (int) (totalRunDurationAsUnit ^ (totalRunDurationAsUnit >>> 32));
         result = 31 * result + (int) (operationCount ^ (operationCount >>> 32));
+        result = 31 * result + (int) (gctBlockedCount ^ (gctBlockedCount >>> 32));
+        result = 31 * result + (int) (gctBlockedDurationAsUnit ^ (gctBlockedDurationAsUnit >>> 32));
+        result = 31 * result + (int) (gctBlockedMaxDurationAsUnit ^ (gctBlockedMaxDurationAsUnit >>> 32));
         return result;
     }
 }
\ No newline at end of file
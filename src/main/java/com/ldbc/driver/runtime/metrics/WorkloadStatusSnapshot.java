@@ -1,19 +1,43 @@
 package com.ldbc.driver.runtime.metrics;
 
+import java.util.Map;
+
 public class WorkloadStatusSnapshot {
     private final long runDurationAsMilli;
     private final long operationCount;
     private final long durationSinceLastMeasurementAsMilli;
     private final double throughput;
+    private final ContinuousMetricSnapshot startDelayMetric;
+    private final Map<String, ContinuousMetricSnapshot> operationStartDelayMetrics;
+    private final long gctBlockedCount;
+    private final long gctBlockedDurationAsNano;
 
     public WorkloadStatusSnapshot(long runDurationAsMilli,
                                   long operationCount,
                                   long durationSinceLastMeasurementAsMilli,
-                                  double throughput) {
+                                  double throughput,
+                                  ContinuousMetricSnapshot startDelayMetric,
+                                  Map<String, ContinuousMetricSnapshot> operationStartDelayMetrics) {
+        this(runDurationAsMilli, operationCount, durationSinceLastMeasurementAsMilli, throughput, startDelayMetric,
+                operationStartDelayMetrics, 0, 0);
+    }
+
+    public WorkloadStatusSnapshot(long runDurationAsMilli,
+                                  long operationCount,
+                                  long durationSinceLastMeasurementAsMilli,
+                                  double throughput,
+                                  ContinuousMetricSnapshot startDelayMetric,
+                                  Map<String, ContinuousMetricSnapshot> operationStartDelayMetrics,
+                                  long gctBlockedCount,
+                                  long gctBlockedDurationAsNano) {
         this.runDurationAsMilli = runDurationAsMilli;
         this.operationCount = operationCount;
         this.durationSinceLastMeasurementAsMilli = durationSinceLastMeasurementAsMilli;
         this.throughput = throughput;
+        this.startDelayMetric = startDelayMetric;
+        this.operationStartDelayMetrics = operationStartDelayMetrics;
+        this.gctBlockedCount = gctBlockedCount;
+        this.gctBlockedDurationAsNano = gctBlockedDurationAsNano;
     }
 
     public long runDurationAsMilli() {
@@ -31,4 +55,32 @@ public class WorkloadStatusSnapshot {
     public double throughput() {
         return throughput;
     }
+
+    /**
+     * @return scheduled start time to actual start time, over all operations measured so far, null if not measured
+     */
+    public ContinuousMetricSnapshot startDelayMetric() {
+        return startDelayMetric;
+    }
+
+    /**
+     * @return scheduled start time to actual start time, by operation type name
+     */
+    public Map<String, ContinuousMetricSnapshot> operationStartDelayMetrics() {
+        return operationStartDelayMetrics;
+    }
+
+    /**
+     * @return number of operations that were blocked waiting for GCT to reach their dependency time stamp
+     */
+    public long gctBlockedCount() {
+        return gctBlockedCount;
+    }
+
+    /**
+     * @return total time operations were blocked waiting for GCT
+     */
+    public long gctBlockedDurationAsNano() {
+        return gctBlockedDurationAsNano;
+    }
 }
@@ -4,31 +4,98 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.GlobalCompletionTimeWaiter;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import static java.lang.String.format;
 
+/**
+ * Passes once GCT has reached the dependency time stamp of the operation.
+ * <p/>
+ * If GCT can be waited for (i.e., reader is a GlobalCompletionTimeWaiter) the check blocks until GCT advances far
+ * enough, so the operation may start as soon as its dependency is satisfied, rather than after Spinner sleeps between
+ * checks. To keep Spinner in control, a check blocks for at most WAIT_TIMEOUT_AS_MILLI.
+ * <p/>
+ * Operations that are blocked, i.e., GCT is below their dependency time stamp when they are checked, are submitted to
+ * the metrics service once, when they stop being blocked, with the time since they were first found to be blocked --
+ * whether the first wait succeeded or it took many checks (and timed out waits).
+ * Checks are shared by the threads of an executor, each thread checks one operation at a time.
+ */
 public class GctDependencyCheck implements SpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    static final long WAIT_TIMEOUT_AS_MILLI = 1000;
     private final GlobalCompletionTimeReader globalCompletionTimeReader;
+    // null if GCT can not be waited for
+    private final GlobalCompletionTimeWaiter globalCompletionTimeWaiter;
     private final ConcurrentErrorReporter errorReporter;
+    // null if metrics writer could not be retrieved, then blocked operations are not measured
+    private final MetricsService.MetricsServiceWriter metricsServiceWriter;
+    // operation the current thread is blocked on, if any, and since when
+    private final ThreadLocal<BlockedOperation> blockedOperation = new ThreadLocal<BlockedOperation>()
+    {
+        @Override
+        protected BlockedOperation initialValue()
+        {
+            return new BlockedOperation();
+        }
+    };
 
     public GctDependencyCheck(
             GlobalCompletionTimeReader globalCompletionTimeReader,
+            MetricsService metricsService,
             ConcurrentErrorReporter errorReporter )
     {
         this.globalCompletionTimeReader = globalCompletionTimeReader;
+        this.globalCompletionTimeWaiter = (globalCompletionTimeReader instanceof GlobalCompletionTimeWaiter)
+                                          ? (GlobalCompletionTimeWaiter) globalCompletionTimeReader
+                                          : null;
         this.errorReporter = errorReporter;
+        MetricsService.MetricsServiceWriter writer = null;
+        try
+        {
+            writer = metricsService.getWriter();
+        }
+        catch ( MetricsCollectionException e )
+        {
+            errorReporter.reportError( this,
+                    format( "Error retrieving metrics writer, operations blocked on GCT will not be measured\n%s",
+                            ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        this.metricsServiceWriter = writer;
     }
 
     @Override
     public SpinnerCheckResult doCheck( Operation operation )
     {
+        long checkStartTimeAsNano = System.nanoTime();
         try
         {
-            return (globalCompletionTimeReader.globalCompletionTimeAsMilli() >= operation.dependencyTimeStamp())
-                   ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
+            // waits usually succeed within the first check, so whether the operation was blocked is decided on entry
+            boolean blockedOnEntry =
+                    globalCompletionTimeReader.globalCompletionTimeAsMilli() < operation.dependencyTimeStamp();
+            boolean passed = false == blockedOnEntry ||
+                             (null != globalCompletionTimeWaiter &&
+                              globalCompletionTimeWaiter.waitForGlobalCompletionTime(
+                                      operation.dependencyTimeStamp(), WAIT_TIMEOUT_AS_MILLI ));
+            BlockedOperation blocked = blockedOperation.get();
+            if ( blockedOnEntry && blocked.operation != operation )
+            {
+                // first check that found this operation blocked, later checks continue the same wait
+                blocked.operation = operation;
+                blocked.startTimeAsNano = checkStartTimeAsNano;
+            }
+            if ( passed )
+            {
+                if ( blocked.operation == operation )
+                {
+                    submitBlocked( blocked );
+                }
+                return SpinnerCheckResult.PASSED;
+            }
+            return SpinnerCheckResult.STILL_CHECKING;
         }
         catch ( CompletionTimeException e )
         {
@@ -44,6 +111,11 @@ public class GctDependencyCheck implements SpinnerCheck
     @Override
     public boolean handleFailedCheck( Operation operation )
     {
+        BlockedOperation blocked = blockedOperation.get();
+        if ( blocked.operation == operation )
+        {
+            submitBlocked( blocked );
+        }
         try
         {
             // Note, GCT printed here may be a little later than GCT that was measured during check
@@ -70,4 +142,30 @@ public class GctDependencyCheck implements SpinnerCheck
             return false;
         }
     }
+
+    private void submitBlocked( BlockedOperation blocked )
+    {
+        long blockedDurationAsNano = System.nanoTime() - blocked.startTimeAsNano;
+        blocked.operation = null;
+        if ( null == metricsServiceWriter )
+        {
+            return;
+        }
+        try
+        {
+            metricsServiceWriter.submitGctBlocked( blockedDurationAsNano );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            errorReporter.reportError( this,
+                    format( "Error submitting duration of operation blocked on GCT\n%s",
+                            ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+    }
+
+    private static class BlockedOperation
+    {
+        private Operation operation = null;
+        private long startTimeAsNano = -1;
+    }
 }
@@ -4,6 +4,11 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Function2;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
 // TODO if an error policy DOES NOT terminate the benchmark and DOES NOT allow the operation to complete
 // TODO something needs to be done about DEPENDENT/GCT, because the initiated time for the operation has already been
 // reported
@@ -20,6 +25,24 @@ public class Spinner
 {
     public static final long DEFAULT_SLEEP_DURATION_10_MILLI = 10;
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
+    // when this close to scheduled start time stop parking and start yielding
+    public static final long DEFAULT_YIELD_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+    // when this close to scheduled start time stop yielding and start busy spinning
+    public static final long DEFAULT_SPIN_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 10 );
+    // upper bound on a single park, so changes to time source are noticed promptly
+    private static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    /**
+     * Strategy used while waiting for the scheduled start time of an operation
+     * SLEEP  = Thread.sleep(), for the configured sleep duration, until scheduled start time (millisecond precision)
+     * HYBRID = LockSupport.parkNanos() for coarse waits, then yield, then busy spin over the last few microseconds
+     * (sub-millisecond precision, at the cost of higher CPU utilization)
+     */
+    public enum WaitStrategy
+    {
+        SLEEP,
+        HYBRID
+    }
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
 
@@ -28,9 +51,39 @@ public class Spinner
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
-        this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+        this( timeSource, sleepDurationAsMilli, ignoreScheduleStartTimes, WaitStrategy.SLEEP );
+    }
+
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            WaitStrategy waitStrategy )
+    {
+        if ( ignoreScheduleStartTimes )
+        {
+            this.spinFun = new WaitForChecksFun( sleepDurationAsMilli );
+        }
+        else
+        {
+            switch ( waitStrategy )
+            {
+            case SLEEP:
+                this.spinFun = new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                break;
+            case HYBRID:
+                this.spinFun = new WaitForChecksAndScheduledStartTimeHybridFun(
+                        timeSource,
+                        sleepDurationAsMilli,
+                        DEFAULT_YIELD_THRESHOLD_AS_NANO,
+                        DEFAULT_SPIN_THRESHOLD_AS_NANO
+                );
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        format( "Unsupported %s: %s", WaitStrategy.class.getSimpleName(), waitStrategy ) );
+            }
+        }
     }
 
     public boolean waitForScheduledStartTime( Operation operation )
@@ -111,6 +164,58 @@ public class Spinner
         }
     }
 
+    private static class WaitForChecksAndScheduledStartTimeHybridFun implements
+            Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final TimeSource timeSource;
+        private final long sleepDurationAsMilli;
+        private final long yieldThresholdAsNano;
+        private final long spinThresholdAsNano;
+
+        private WaitForChecksAndScheduledStartTimeHybridFun(
+                TimeSource timeSource,
+                long sleepDurationAsMilli,
+                long yieldThresholdAsNano,
+                long spinThresholdAsNano )
+        {
+            this.timeSource = timeSource;
+            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.yieldThresholdAsNano = yieldThresholdAsNano;
+            this.spinThresholdAsNano = spinThresholdAsNano;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            // earliest time at which operation may start
+            // wait for checks to have all passed before allowing operation to start
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
+            {
+                powerNap( sleepDurationAsMilli );
+            }
+
+            // wait for scheduled operation start time
+            long scheduledStartTimeAsNano = operation.scheduledStartTimeAsNano();
+            long remainingAsNano;
+            while ( (remainingAsNano = scheduledStartTimeAsNano - timeSource.nowAsNano()) > 0 )
+            {
+                if ( remainingAsNano > yieldThresholdAsNano )
+                {
+                    // park can overshoot, so wake up early enough to yield/spin the remainder
+                    LockSupport.parkNanos( Math.min( remainingAsNano - yieldThresholdAsNano,
+                            MAX_PARK_DURATION_AS_NANO ) );
+                }
+                else if ( remainingAsNano > spinThresholdAsNano )
+                {
+                    Thread.yield();
+                }
+                // else busy spin
+            }
+
+            return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
+        }
+    }
+
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final long sleepDurationAsMilli;
@@ -0,0 +1,292 @@
+package com.ldbc.driver.temporal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Changes the time compression ratio over the course of a run, e.g. to show how latency degrades as throughput rises.
+ * <p/>
+ * A profile is a sequence of segments, each lasts for a duration of run time during which the time compression factor
+ * changes linearly from its start factor to its end factor (constant if both are equal). After the last segment the
+ * profile either repeats (periodic) or holds the end factor of the last segment. Factors are relative to the
+ * configured time compression ratio: effective ratio = time compression ratio * factor, e.g. factor 0.5 = 2x the
+ * throughput.
+ * <p/>
+ * Operation start times are mapped by one monotonic function of workload time, shared by all streams, so the
+ * relative order of operations, and therefore dependency & GCT semantics, is the same as with a fixed ratio.
+ * <p/>
+ * Command line forms (durations in seconds of run time):
+ * <ul>
+ * <li>step:f1,f2,...,fn:stepDuration -- each factor for stepDuration, then fn</li>
+ * <li>ramp:fromFactor:toFactor:duration -- linear change from fromFactor to toFactor, then toFactor</li>
+ * <li>spike:baseFactor:spikeFactor:spikeStart:spikeDuration -- baseFactor, spikeFactor for spikeDuration starting at
+ * spikeStart, then baseFactor</li>
+ * <li>sine:minFactor:maxFactor:period -- oscillates between maxFactor and minFactor, approximated by linear segments
+ * </li>
+ * </ul>
+ */
+public class LoadProfile
+{
+    private static final String FIELD_SEPARATOR = ":";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String STEP = "step";
+    private static final String RAMP = "ramp";
+    private static final String SPIKE = "spike";
+    private static final String SINE = "sine";
+    private static final int SINE_SEGMENTS_PER_PERIOD = 32;
+    private static final double NANO_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    private final String commandlineString;
+    private final List<Segment> segments;
+    private final boolean periodic;
+    // workload time (milliseconds) spanned by all segments
+    private final double workloadDurationAsMilli;
+
+    public static LoadProfile fromCommandlineString( String profileString ) throws TemporalException
+    {
+        String[] fields = profileString.trim().split( FIELD_SEPARATOR );
+        try
+        {
+            switch ( fields[0] )
+            {
+            case STEP:
+            {
+                assertFieldCount( profileString, fields, 3 );
+                List<Segment> segments = new ArrayList<>();
+                long stepDurationAsMilli = secondsToMilli( fields[2] );
+                for ( String factor : fields[1].split( LIST_SEPARATOR ) )
+                {
+                    double stepFactor = Double.parseDouble( factor.trim() );
+                    segments.add( new Segment( stepDurationAsMilli, stepFactor, stepFactor ) );
+                }
+                return new LoadProfile( profileString.trim(), segments, false );
+            }
+            case RAMP:
+            {
+                assertFieldCount( profileString, fields, 4 );
+                return new LoadProfile(
+                        profileString.trim(),
+                        Collections.singletonList( new Segment(
+                                secondsToMilli( fields[3] ),
+                                Double.parseDouble( fields[1] ),
+                                Double.parseDouble( fields[2] ) ) ),
+                        false
+                );
+            }
+            case SPIKE:
+            {
+                assertFieldCount( profileString, fields, 5 );
+                double baseFactor = Double.parseDouble( fields[1] );
+                double spikeFactor = Double.parseDouble( fields[2] );
+                List<Segment> segments = new ArrayList<>();
+                segments.add( new Segment( secondsToMilli( fields[3] ), baseFactor, baseFactor ) );
+                segments.add( new Segment( secondsToMilli( fields[4] ), spikeFactor, spikeFactor ) );
+                // back to base factor, which is then held
+                segments.add( new Segment( 1, baseFactor, baseFactor ) );
+                return new LoadProfile( profileString.trim(), segments, false );
+            }
+            case SINE:
+            {
+                assertFieldCount( profileString, fields, 4 );
+                double minFactor = Double.parseDouble( fields[1] );
+                double maxFactor = Double.parseDouble( fields[2] );
+                long periodAsMilli = secondsToMilli( fields[3] );
+                double midFactor = (minFactor + maxFactor) / 2;
+                double amplitude = (maxFactor - minFactor) / 2;
+                List<Segment> segments = new ArrayList<>();
+                for ( int i = 0; i < SINE_SEGMENTS_PER_PERIOD; i++ )
+                {
+                    long fromAsMilli = periodAsMilli * i / SINE_SEGMENTS_PER_PERIOD;
+                    long toAsMilli = periodAsMilli * (i + 1) / SINE_SEGMENTS_PER_PERIOD;
+                    segments.add( new Segment(
+                            toAsMilli - fromAsMilli,
+                            midFactor + amplitude * Math.cos( 2 * Math.PI * i / SINE_SEGMENTS_PER_PERIOD ),
+                            midFactor + amplitude * Math.cos( 2 * Math.PI * (i + 1) / SINE_SEGMENTS_PER_PERIOD )
+                    ) );
+                }
+                return new LoadProfile( profileString.trim(), segments, true );
+            }
+            default:
+                throw new TemporalException(
+                        format( "Unknown load profile type: %s\nExpected one of: %s, %s, %s, %s",
+                                profileString, STEP, RAMP, SPIKE, SINE ) );
+            }
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new TemporalException( format( "Load profile contains invalid number: %s", profileString ), e );
+        }
+    }
+
+    private static void assertFieldCount( String profileString, String[] fields, int expectedFieldCount )
+    {
+        if ( expectedFieldCount != fields.length )
+        {
+            throw new TemporalException(
+                    format( "Load profile must have %s fields separated by '%s', found: %s",
+                            expectedFieldCount, FIELD_SEPARATOR, profileString ) );
+        }
+    }
+
+    private static long secondsToMilli( String secondsString )
+    {
+        return Math.round( Double.parseDouble( secondsString.trim() ) * TimeUnit.SECONDS.toMillis( 1 ) );
+    }
+
+    private LoadProfile( String commandlineString, List<Segment> segments, boolean periodic )
+    {
+        this.commandlineString = commandlineString;
+        this.segments = new ArrayList<>();
+        this.periodic = periodic;
+        double workloadDurationAsMilli = 0;
+        for ( Segment segment : segments )
+        {
+            if ( segment.runDurationAsMilli < 0 )
+            {
+                throw new TemporalException(
+                        format( "Load profile durations can not be negative: %s", commandlineString ) );
+            }
+            if ( segment.runDurationAsMilli > 0 )
+            {
+                this.segments.add( segment );
+                workloadDurationAsMilli += segment.workloadDurationAsMilli();
+            }
+        }
+        if ( this.segments.isEmpty() )
+        {
+            throw new TemporalException(
+                    format( "Load profile must have at least one segment with positive duration: %s",
+                            commandlineString ) );
+        }
+        this.workloadDurationAsMilli = workloadDurationAsMilli;
+    }
+
+    /**
+     * Maps workload time to run time, for the configured time compression ratio
+     *
+     * @param workloadOffsetAsMilli duration since workload start, in original (workload) time
+     * @param timeCompressionRatio ratio the factors of the profile are relative to
+     * @return duration since run start, in nanoseconds of run time
+     */
+    public long runOffsetAsNano( long workloadOffsetAsMilli, double timeCompressionRatio )
+    {
+        // factors apply to the time compression ratio, so profile durations are scaled to workload time by it
+        double remainingWorkloadAsMilli = workloadOffsetAsMilli * timeCompressionRatio;
+        double runOffsetAsMilli = 0;
+        if ( periodic && remainingWorkloadAsMilli >= workloadDurationAsMilli )
+        {
+            double periods = Math.floor( remainingWorkloadAsMilli / workloadDurationAsMilli );
+            runOffsetAsMilli += periods * periodRunDurationAsMilli();
+            remainingWorkloadAsMilli -= periods * workloadDurationAsMilli;
+        }
+        for ( Segment segment : segments )
+        {
+            double segmentWorkloadDurationAsMilli = segment.workloadDurationAsMilli();
+            if ( remainingWorkloadAsMilli < segmentWorkloadDurationAsMilli )
+            {
+                runOffsetAsMilli += segment.runOffsetAsMilli( remainingWorkloadAsMilli );
+                return Math.round( runOffsetAsMilli * NANO_PER_MILLI );
+            }
+            runOffsetAsMilli += segment.runDurationAsMilli;
+            remainingWorkloadAsMilli -= segmentWorkloadDurationAsMilli;
+        }
+        // beyond the last segment: hold its end factor
+        runOffsetAsMilli += remainingWorkloadAsMilli * segments.get( segments.size() - 1 ).endFactor;
+        return Math.round( runOffsetAsMilli * NANO_PER_MILLI );
+    }
+
+    private double periodRunDurationAsMilli()
+    {
+        double periodRunDurationAsMilli = 0;
+        for ( Segment segment : segments )
+        {
+            periodRunDurationAsMilli += segment.runDurationAsMilli;
+        }
+        return periodRunDurationAsMilli;
+    }
+
+    public String toCommandlineString()
+    {
+        return commandlineString;
+    }
+
+    @Override
+    public String toString()
+    {
+        return toCommandlineString();
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+
+        LoadProfile that = (LoadProfile) o;
+
+        return commandlineString.equals( that.commandlineString );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return commandlineString.hashCode();
+    }
+
+    /**
+     * Factor changes linearly over run time r: f(r) = startFactor + slope * r.
+     * Workload time (already scaled by the time compression ratio) advances at rate 1/f(r), so a segment of run
+     * duration D spans the integral of 1/f(r) over [0,D] of workload time. That integral has a closed form inverse,
+     * which maps workload time back to run time.
+     */
+    private static class Segment
+    {
+        private final long runDurationAsMilli;
+        private final double startFactor;
+        private final double endFactor;
+        private final double slope;
+
+        private Segment( long runDurationAsMilli, double startFactor, double endFactor )
+        {
+            if ( startFactor <= 0 || endFactor <= 0 )
+            {
+                throw new TemporalException(
+                        format( "Load profile factors must be positive, found: %s & %s", startFactor, endFactor ) );
+            }
+            this.runDurationAsMilli = runDurationAsMilli;
+            this.startFactor = startFactor;
+            this.endFactor = endFactor;
+            this.slope = (runDurationAsMilli > 0) ? (endFactor - startFactor) / runDurationAsMilli : 0;
+        }
+
+        private double workloadDurationAsMilli()
+        {
+            if ( 0 == slope )
+            {
+                return runDurationAsMilli / startFactor;
+            }
+            else
+            {
+                return Math.log( endFactor / startFactor ) / slope;
+            }
+        }
+
+        private double runOffsetAsMilli( double workloadOffsetAsMilli )
+        {
+            if ( 0 == slope )
+            {
+                return workloadOffsetAsMilli * startFactor;
+            }
+            else
+            {
+                return startFactor * Math.expm1( slope * workloadOffsetAsMilli ) / slope;
+            }
+        }
+    }
+}
@@ -24,4 +24,9 @@ public class ManualTimeSource implements TimeSource {
     public long nowAsMilli() {
         return nowAsMilli.get();
     }
+
+    @Override
+    public long nowAsNano() {
+        return TimeUnit.MILLISECONDS.toNanos(nowAsMilli());
+    }
 }
\ No newline at end of file
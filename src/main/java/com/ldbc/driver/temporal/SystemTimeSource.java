@@ -1,6 +1,28 @@
 package com.ldbc.driver.temporal;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class SystemTimeSource implements TimeSource {
+    // System.currentTimeMillis() only has millisecond resolution, so epoch nanosecond time is derived from
+    // System.nanoTime(), anchored to wall clock time. Anchors are taken the moment the wall clock ticks over to the
+    // next millisecond, which is when its millisecond value is exact, rather than up to a millisecond late.
+    // The two clocks drift apart over long runs (and the wall clock may be adjusted), so whenever nowAsNano() no
+    // longer agrees with nowAsMilli() to within MAX_DRIFT_AS_MILLI it is re-anchored, rather than deriving
+    // nowAsMilli() from the anchored clock, which would make millisecond time stamps (results log, metrics) diverge
+    // from wall clock time.
+    // nowAsNano() never returns less than it returned before: if a re-anchor moves it backward, it holds its last value
+    // until the new anchor catches up with it.
+    private static final long MAX_DRIFT_AS_MILLI = 1;
+    private static final long MAX_ANCHOR_UNCERTAINTY_AS_NANO = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final int MAX_ANCHOR_ATTEMPTS = 10;
+
+    private final AtomicLong lastNowAsNano = new AtomicLong(Long.MIN_VALUE);
+    private volatile Anchor anchor;
+
+    public SystemTimeSource() {
+        this.anchor = newAnchor();
+    }
 
     @Override
     public long nanoSnapshot() {
@@ -9,6 +31,66 @@ public class SystemTimeSource implements TimeSource {
 
     @Override
     public long nowAsMilli() {
+        return wallClockAsMilli();
+    }
+
+    @Override
+    public long nowAsNano() {
+        Anchor anchor = this.anchor;
+        long nowAsNano = anchor.asNano + (System.nanoTime() - anchor.nanoSnapshot);
+        long driftAsMilli = TimeUnit.NANOSECONDS.toMillis(nowAsNano) - wallClockAsMilli();
+        if (driftAsMilli > MAX_DRIFT_AS_MILLI || driftAsMilli < -MAX_DRIFT_AS_MILLI) {
+            anchor = newAnchor();
+            this.anchor = anchor;
+            nowAsNano = anchor.asNano + (System.nanoTime() - anchor.nanoSnapshot);
+        }
+        long lastNowAsNano;
+        while (nowAsNano > (lastNowAsNano = this.lastNowAsNano.get())) {
+            if (this.lastNowAsNano.compareAndSet(lastNowAsNano, nowAsNano)) {
+                return nowAsNano;
+            }
+        }
+        return lastNowAsNano;
+    }
+
+    // wall clock time, exists to be overridden by tests
+    long wallClockAsMilli() {
         return System.currentTimeMillis();
     }
-}
\ No newline at end of file
+
+    private Anchor newAnchor() {
+        Anchor anchor = null;
+        long anchorUncertaintyAsNano = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < MAX_ANCHOR_ATTEMPTS && anchorUncertaintyAsNano > MAX_ANCHOR_UNCERTAINTY_AS_NANO;
+             attempt++) {
+            long startAsMilli = wallClockAsMilli();
+            long beforeTickAsNano;
+            long asMilli;
+            long nanoSnapshot = System.nanoTime();
+            // spin until wall clock ticks over, at most one wall clock tick
+            do {
+                beforeTickAsNano = nanoSnapshot;
+                asMilli = wallClockAsMilli();
+                nanoSnapshot = System.nanoTime();
+            }
+            while (asMilli == startAsMilli);
+            // wall clock ticked over between the last two readings, if the thread was descheduled (or anything else
+            // delayed it) in between, the anchor may be late by that long, so try again on the next tick
+            if (nanoSnapshot - beforeTickAsNano < anchorUncertaintyAsNano) {
+                anchor = new Anchor(nanoSnapshot, TimeUnit.MILLISECONDS.toNanos(asMilli));
+                anchorUncertaintyAsNano = nanoSnapshot - beforeTickAsNano;
+            }
+        }
+        return anchor;
+    }
+
+    private static class Anchor {
+        private final long nanoSnapshot;
+        private final long asNano;
+
+        private Anchor(long nanoSnapshot, long asNano) {
+            this.nanoSnapshot = nanoSnapshot;
+            this.asNano = asNano;
+        }
+    }
+}
@@ -7,4 +7,8 @@ public interface TimeSource {
 
     // Avoid object creation where possible
     long nowAsMilli();
-}
\ No newline at end of file
+
+    // Avoid object creation where possible
+    // Same epoch as nowAsMilli(), but with sub-millisecond resolution
+    long nowAsNano();
+}
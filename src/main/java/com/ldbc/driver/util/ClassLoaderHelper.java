@@ -1,5 +1,7 @@
 package com.ldbc.driver.util;
 
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.BatchOperationHandler;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.OperationException;
@@ -81,6 +83,38 @@ public class ClassLoaderHelper
         }
     }
 
+    public static AsyncOperationHandler loadAsyncOperationHandler(
+            Class<? extends AsyncOperationHandler> asyncOperationHandlerClass ) throws OperationException
+    {
+        try
+        {
+            AsyncOperationHandler asyncOperationHandler = asyncOperationHandlerClass.getConstructor().newInstance();
+            return asyncOperationHandler;
+        }
+        catch ( Exception e )
+        {
+            throw new OperationException(
+                    format( "Error creating AsyncOperationHandler [%s]", asyncOperationHandlerClass.getName() ),
+                    e );
+        }
+    }
+
+    public static BatchOperationHandler loadBatchOperationHandler(
+            Class<? extends BatchOperationHandler> batchOperationHandlerClass ) throws OperationException
+    {
+        try
+        {
+            BatchOperationHandler batchOperationHandler = batchOperationHandlerClass.getConstructor().newInstance();
+            return batchOperationHandler;
+        }
+        catch ( Exception e )
+        {
+            throw new OperationException(
+                    format( "Error creating BatchOperationHandler [%s]", batchOperationHandlerClass.getName() ),
+                    e );
+        }
+    }
+
     /**
      * Helper Methods
      */
@@ -15,6 +15,8 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.csv.TimedCsvFileIndex;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
@@ -37,7 +39,6 @@ import org.codehaus.jackson.type.TypeReference;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
@@ -51,6 +52,9 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -61,6 +65,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private List<File> forumUpdateOperationFiles = new ArrayList<>();
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> personUpdateOperationFiles = new ArrayList<>();
+    // update files executed by other driver instances, only their first time stamps are read
+    private List<File> otherPartitionsForumUpdateOperationFiles = new ArrayList<>();
+    private List<File> otherPartitionsPersonUpdateOperationFiles = new ArrayList<>();
 
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
     private File readOperation1File;
@@ -101,6 +108,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private boolean useUpdateStreamIndex;
+    private int updateParserThreads;
+    private ExecutorService updateParserExecutor = null;
+    private int partitionId;
+    private int partitionCount;
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -126,6 +138,27 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     missingPropertyParameters.toString() ) );
         }
 
+        String partitionIdString = params.get( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_ID );
+        String partitionCountString = params.get( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT );
+        try
+        {
+            partitionId = (null == partitionIdString)
+                          ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_PARTITION_ID
+                          : Integer.parseInt( partitionIdString.trim() );
+            partitionCount = (null == partitionCountString)
+                             ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_PARTITION_COUNT
+                             : Integer.parseInt( partitionCountString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( "Unable to parse partition ID or partition count", e );
+        }
+        if ( partitionCount < 1 || partitionId < 0 || partitionId >= partitionCount )
+        {
+            throw new WorkloadException( format( "%s must be in interval [0,%s) but was: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.PARTITION_ID, partitionCount, partitionId ) );
+        }
+
         if ( params.containsKey( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY ) )
         {
             String updatesDirectoryPath =
@@ -141,15 +174,25 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 throw new WorkloadException( format( "Updates directory is not a directory\nDirectory: %s",
                         updatesDirectory.getAbsolutePath() ) );
             }
-            forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration
-                    .forumUpdateFilesInDirectory( updatesDirectory );
-            personUpdateOperationFiles =
+            List<File> allForumUpdateOperationFiles =
+                    LdbcSnbInteractiveWorkloadConfiguration.forumUpdateFilesInDirectory( updatesDirectory );
+            List<File> allPersonUpdateOperationFiles =
                     LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory( updatesDirectory );
+            forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration.updateFilesInPartition(
+                    allForumUpdateOperationFiles, partitionId, partitionCount, true );
+            personUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration.updateFilesInPartition(
+                    allPersonUpdateOperationFiles, partitionId, partitionCount, true );
+            otherPartitionsForumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration.updateFilesInPartition(
+                    allForumUpdateOperationFiles, partitionId, partitionCount, false );
+            otherPartitionsPersonUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration.updateFilesInPartition(
+                    allPersonUpdateOperationFiles, partitionId, partitionCount, false );
         }
         else
         {
             forumUpdateOperationFiles = new ArrayList<>();
             personUpdateOperationFiles = new ArrayList<>();
+            otherPartitionsForumUpdateOperationFiles = new ArrayList<>();
+            otherPartitionsPersonUpdateOperationFiles = new ArrayList<>();
         }
 
         File parametersDir =
@@ -402,6 +445,19 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Invalid parser: " + parserString );
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+        String useUpdateStreamIndexString = params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_INDEX );
+        this.useUpdateStreamIndex = (null == useUpdateStreamIndexString)
+                                    ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_INDEX
+                                    : Boolean.parseBoolean( useUpdateStreamIndexString.trim() );
+        String updateParserThreadsString = params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_PARSER_THREADS );
+        this.updateParserThreads = (null == updateParserThreadsString)
+                                   ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_PARSER_THREADS
+                                   : Integer.parseInt( updateParserThreadsString.trim() );
+        if ( updateParserThreads < 1 )
+        {
+            throw new WorkloadException( format( "%s must be positive, but was: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.UPDATE_PARSER_THREADS, updateParserThreads ) );
+        }
         this.compressionRatio = Double.parseDouble(
                 params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
         );
@@ -424,6 +480,96 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             readOperationFileReader.close();
         }
+
+        if ( null != updateParserExecutor )
+        {
+            updateParserExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compiles all update streams of the workload into binary format (read with UpdateStreamParser.BINARY), next to
+     * the update stream files
+     *
+     * @return number of operations compiled
+     */
+    public long compileUpdateStreams( LoggingService loggingService ) throws WorkloadException
+    {
+        // all partitions are compiled, so the compiled update streams can be shared by every driver instance
+        List<File> updateOperationFiles = new ArrayList<>();
+        updateOperationFiles.addAll( personUpdateOperationFiles );
+        updateOperationFiles.addAll( forumUpdateOperationFiles );
+        updateOperationFiles.addAll( otherPartitionsPersonUpdateOperationFiles );
+        updateOperationFiles.addAll( otherPartitionsForumUpdateOperationFiles );
+        long operationCount = 0;
+        for ( File updateOperationFile : updateOperationFiles )
+        {
+            File binaryFile = WriteEventStreamWriterBinary.binaryFileFor( updateOperationFile );
+            long startTimeAsMilli = System.currentTimeMillis();
+            long fileOperationCount;
+            try
+            {
+                fileOperationCount = WriteEventStreamWriterBinary.compile( updateOperationFile, binaryFile );
+            }
+            catch ( IOException e )
+            {
+                throw new WorkloadException( format( "Error compiling update stream: %s",
+                        updateOperationFile.getAbsolutePath() ), e );
+            }
+            operationCount += fileOperationCount;
+            loggingService.info( format( "Compiled %s operations in %s ms: %s --> %s",
+                    fileOperationCount,
+                    System.currentTimeMillis() - startTimeAsMilli,
+                    updateOperationFile.getAbsolutePath(),
+                    binaryFile.getAbsolutePath() ) );
+        }
+        return operationCount;
+    }
+
+    private ExecutorService updateParserExecutor()
+    {
+        if ( null == updateParserExecutor )
+        {
+            ThreadFactory threadFactory = new ThreadFactory()
+            {
+                private int count = 0;
+
+                @Override
+                public Thread newThread( Runnable runnable )
+                {
+                    Thread thread = new Thread(
+                            runnable,
+                            ParallelWriteEventStreamReader.class.getSimpleName() + "-thread(" + count++ + ")"
+                    );
+                    thread.setDaemon( true );
+                    return thread;
+                }
+            };
+            updateParserExecutor = Executors.newFixedThreadPool( updateParserThreads, threadFactory );
+        }
+        return updateParserExecutor;
+    }
+
+    /**
+     * Reads only the first line of the update stream, so it does not depend on the configured parser
+     *
+     * @return scheduled start time of first operation in update stream, or Long.MAX_VALUE if it is empty
+     */
+    private long firstTimeStampOfUpdateStream( File updateOperationsFile ) throws WorkloadException
+    {
+        try ( SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
+                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            Iterator<Operation> updateOperations = WriteEventStreamReaderRegex.create( csvFileReader );
+            return (updateOperations.hasNext())
+                   ? updateOperations.next().scheduledStartTimeAsMilli()
+                   : Long.MAX_VALUE;
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException(
+                    "Unable to read first time stamp of update stream: " + updateOperationsFile.getAbsolutePath(), e );
+        }
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
@@ -441,14 +587,25 @@ public class LdbcSnbInteractiveWorkload extends Workload
         case CHAR_SEEKER:
         {
             int bufferSize = 1 * 1024 * 1024;
+            if ( useUpdateStreamIndex )
+            {
+                SeekableWriteEventStream seekableWriteEventStream = new SeekableWriteEventStream(
+                        updateOperationsFile,
+                        TimedCsvFileIndex.loadOrCreate(
+                                updateOperationsFile,
+                                TimedCsvFileIndex.DEFAULT_CHECKPOINT_INTERVAL,
+                                '|'
+                        ),
+                        false,
+                        bufferSize
+                );
+                return Tuple.<Iterator<Operation>,Closeable>tuple2( seekableWriteEventStream,
+                        seekableWriteEventStream );
+            }
 //                BufferedCharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new FileReader
 // (updateOperationsFile)), bufferSize);
-            BufferedCharSeeker charSeeker = new BufferedCharSeeker(
-                    Readables.wrap(
-                            new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                    ),
-                    bufferSize
-            );
+            BufferedCharSeeker charSeeker =
+                    new BufferedCharSeeker( Readables.mappedFile( updateOperationsFile ), bufferSize );
             Extractors extractors = new Extractors( ';', ',' );
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
                     WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
@@ -456,6 +613,21 @@ public class LdbcSnbInteractiveWorkload extends Workload
         case CHAR_SEEKER_THREAD:
         {
             int bufferSize = 1 * 1024 * 1024;
+            if ( useUpdateStreamIndex )
+            {
+                SeekableWriteEventStream seekableWriteEventStream = new SeekableWriteEventStream(
+                        updateOperationsFile,
+                        TimedCsvFileIndex.loadOrCreate(
+                                updateOperationsFile,
+                                TimedCsvFileIndex.DEFAULT_CHECKPOINT_INTERVAL,
+                                '|'
+                        ),
+                        true,
+                        bufferSize
+                );
+                return Tuple.<Iterator<Operation>,Closeable>tuple2( seekableWriteEventStream,
+                        seekableWriteEventStream );
+            }
             BufferedCharSeeker charSeeker = new BufferedCharSeeker(
                     ThreadAheadReadable.threadAhead(
                             Readables.wrap(
@@ -469,6 +641,36 @@ public class LdbcSnbInteractiveWorkload extends Workload
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
                     WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
         }
+        case CHAR_SEEKER_PARALLEL:
+        {
+            ParallelWriteEventStreamReader parallelReader = new ParallelWriteEventStreamReader(
+                    updateOperationsFile,
+                    updateParserExecutor(),
+                    ParallelWriteEventStreamReader.DEFAULT_CHUNK_SIZE,
+                    updateParserThreads + 1
+            );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( parallelReader, parallelReader );
+        }
+        case BINARY:
+        {
+            File binaryFile = WriteEventStreamWriterBinary.binaryFileFor( updateOperationsFile );
+            if ( false == binaryFile.exists() )
+            {
+                throw new WorkloadException( format( "Compiled update stream does not exist: %s\n" +
+                                                     "Compile update streams with: -%s",
+                        binaryFile.getAbsolutePath(), ConsoleAndFileDriverConfiguration.COMPILE_UPDATE_STREAMS_ARG ) );
+            }
+            WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary( binaryFile );
+            if ( false == binaryReader.isCompiledFrom( updateOperationsFile ) )
+            {
+                binaryReader.close();
+                throw new WorkloadException( format( "Compiled update stream is not compiled from: %s\n" +
+                                                     "Update stream changed since it was compiled, recompile with: -%s",
+                        updateOperationsFile.getAbsolutePath(),
+                        ConsoleAndFileDriverConfiguration.COMPILE_UPDATE_STREAMS_ARG ) );
+            }
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( binaryReader, binaryReader );
+        }
         }
         SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
@@ -530,33 +732,49 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     );
                     continue;
                 }
-                PeekingIterator<Operation> unfilteredPersonUpdateOperations =
-                        Iterators.peekingIterator( personUpdateOperationsParser );
-
-                try
+                Iterator<Operation> filteredPersonUpdateOperations;
+                if ( personUpdateOperationsParser instanceof SeekableWriteEventStream )
                 {
-                    if ( unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli() <
-                         workloadStartTimeAsMilli )
+                    // not wrapped, so it remains seekable. no filter needed, it only contains LdbcUpdate1AddPerson
+                    SeekableWriteEventStream seekablePersonUpdateOperations =
+                            (SeekableWriteEventStream) personUpdateOperationsParser;
+                    if ( seekablePersonUpdateOperations.firstTimeStamp() < workloadStartTimeAsMilli )
                     {
-                        workloadStartTimeAsMilli = unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        workloadStartTimeAsMilli = seekablePersonUpdateOperations.firstTimeStamp();
                     }
+                    filteredPersonUpdateOperations = seekablePersonUpdateOperations;
                 }
-                catch ( NoSuchElementException e )
+                else
                 {
-                    // do nothing, exception just means that stream was empty
-                }
+                    PeekingIterator<Operation> unfilteredPersonUpdateOperations =
+                            Iterators.peekingIterator( personUpdateOperationsParser );
 
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
+                    try
+                    {
+                        if ( unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli() <
+                             workloadStartTimeAsMilli )
+                        {
+                            workloadStartTimeAsMilli =
+                                    unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        }
+                    }
+                    catch ( NoSuchElementException e )
                     {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
+                        // do nothing, exception just means that stream was empty
                     }
-                };
-                Iterator<Operation> filteredPersonUpdateOperations =
-                        Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
+
+                    // Filter Write Operations
+                    Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
+                    {
+                        @Override
+                        public boolean apply( Operation operation )
+                        {
+                            return enabledWriteOperationTypes.contains( operation.getClass() );
+                        }
+                    };
+                    filteredPersonUpdateOperations =
+                            Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
+                }
 
                 Set<Class<? extends Operation>> dependentPersonUpdateOperationTypes = Sets.newHashSet();
                 Set<Class<? extends Operation>> dependencyPersonUpdateOperationTypes =
@@ -574,6 +792,12 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         personUpdateChildOperationGenerator
                 );
             }
+            // read streams of every driver instance start at the same time, regardless of its update streams
+            for ( File otherPartitionPersonUpdateOperationFile : otherPartitionsPersonUpdateOperationFiles )
+            {
+                workloadStartTimeAsMilli = Math.min( workloadStartTimeAsMilli,
+                        firstTimeStampOfUpdateStream( otherPartitionPersonUpdateOperationFile ) );
+            }
         }
 
         /*
@@ -618,33 +842,6 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     );
                     continue;
                 }
-                PeekingIterator<Operation> unfilteredForumUpdateOperations =
-                        Iterators.peekingIterator( forumUpdateOperationsParser );
-
-                try
-                {
-                    if ( unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli() < workloadStartTimeAsMilli )
-                    {
-                        workloadStartTimeAsMilli = unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli();
-                    }
-                }
-                catch ( NoSuchElementException e )
-                {
-                    // do nothing, exception just means that stream was empty
-                }
-
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
-                    {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
-                    }
-                };
-                Iterator<Operation> filteredForumUpdateOperations =
-                        Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
-
                 Set<Class<? extends Operation>> dependentForumUpdateOperationTypes =
                         Sets.<Class<? extends Operation>>newHashSet(
                                 LdbcUpdate2AddPostLike.class,
@@ -655,6 +852,51 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                 LdbcUpdate7AddComment.class,
                                 LdbcUpdate8AddFriendship.class
                         );
+
+                Iterator<Operation> filteredForumUpdateOperations;
+                if ( forumUpdateOperationsParser instanceof SeekableWriteEventStream &&
+                     enabledWriteOperationTypes.containsAll( dependentForumUpdateOperationTypes ) )
+                {
+                    // not wrapped, so it remains seekable. no filter needed, all its operation types are enabled
+                    SeekableWriteEventStream seekableForumUpdateOperations =
+                            (SeekableWriteEventStream) forumUpdateOperationsParser;
+                    if ( seekableForumUpdateOperations.firstTimeStamp() < workloadStartTimeAsMilli )
+                    {
+                        workloadStartTimeAsMilli = seekableForumUpdateOperations.firstTimeStamp();
+                    }
+                    filteredForumUpdateOperations = seekableForumUpdateOperations;
+                }
+                else
+                {
+                    PeekingIterator<Operation> unfilteredForumUpdateOperations =
+                            Iterators.peekingIterator( forumUpdateOperationsParser );
+
+                    try
+                    {
+                        if ( unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli() <
+                             workloadStartTimeAsMilli )
+                        {
+                            workloadStartTimeAsMilli =
+                                    unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        }
+                    }
+                    catch ( NoSuchElementException e )
+                    {
+                        // do nothing, exception just means that stream was empty
+                    }
+
+                    // Filter Write Operations
+                    Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
+                    {
+                        @Override
+                        public boolean apply( Operation operation )
+                        {
+                            return enabledWriteOperationTypes.contains( operation.getClass() );
+                        }
+                    };
+                    filteredForumUpdateOperations =
+                            Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
+                }
                 Set<Class<? extends Operation>> dependencyForumUpdateOperationTypes = Sets.newHashSet();
 
                 ChildOperationGenerator forumUpdateChildOperationGenerator = null;
@@ -667,6 +909,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         forumUpdateChildOperationGenerator
                 );
             }
+            for ( File otherPartitionForumUpdateOperationFile : otherPartitionsForumUpdateOperationFiles )
+            {
+                workloadStartTimeAsMilli = Math.min( workloadStartTimeAsMilli,
+                        firstTimeStampOfUpdateStream( otherPartitionForumUpdateOperationFile ) );
+            }
         }
 
         if ( Long.MAX_VALUE == workloadStartTimeAsMilli )
@@ -696,14 +943,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation1File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation1File.getAbsolutePath() ),
@@ -754,14 +996,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation2File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation2File.getAbsolutePath() ),
@@ -812,14 +1049,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation3File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation3File.getAbsolutePath() ),
@@ -873,14 +1105,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation4File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation4File.getAbsolutePath() ),
@@ -932,14 +1159,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation5File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation5File.getAbsolutePath() ),
@@ -990,14 +1212,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation6File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation6File.getAbsolutePath() ),
@@ -1048,14 +1265,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation7File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation7File.getAbsolutePath() ),
@@ -1105,14 +1317,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation8File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation8File.getAbsolutePath() ),
@@ -1162,14 +1369,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation9File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation9File.getAbsolutePath() ),
@@ -1220,14 +1422,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation10File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation10File.getAbsolutePath() ),
@@ -1278,14 +1475,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation11File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation11File.getAbsolutePath() ),
@@ -1337,14 +1529,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation12File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation12File.getAbsolutePath() ),
@@ -1395,14 +1582,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation13File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation13File.getAbsolutePath() ),
@@ -1453,14 +1635,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
             CharSeeker charSeeker;
             try
             {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
+                charSeeker = new BufferedCharSeeker( Readables.mappedFile( readOperation14File ), bufferSize );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation14File.getAbsolutePath() ),
@@ -1538,6 +1715,15 @@ public class LdbcSnbInteractiveWorkload extends Workload
         Iterator<Operation> asynchronousDependencyStreams = gf.mergeSortOperationsByTimeStamp(
                 asynchronousDependencyStreamsList.toArray( new Iterator[asynchronousDependencyStreamsList.size()] )
         );
+        /*
+         * Keep only the read operations of this driver instance, every instance executes the same read streams
+         */
+        for ( int i = 0; i < asynchronousNonDependencyStreamsList.size(); i++ )
+        {
+            asynchronousNonDependencyStreamsList.set( i,
+                    gf.partition( asynchronousNonDependencyStreamsList.get( i ), partitionId, partitionCount ) );
+        }
+
         /*
          * Merge all non dependency asynchronous operation streams, ordered by operation start times
          */
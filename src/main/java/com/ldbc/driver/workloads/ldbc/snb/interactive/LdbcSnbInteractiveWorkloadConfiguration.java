@@ -11,7 +11,9 @@ import com.ldbc.driver.util.MapUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,15 +40,33 @@ public class LdbcSnbInteractiveWorkloadConfiguration
     public final static String UPDATE_INTERLEAVE = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_interleave";
 
     // The parser implementation to use when reading update events
+    // BINARY reads update streams compiled ahead of time ([update stream file].bin), see -cus/--compile_update_streams
+    // CHAR_SEEKER_PARALLEL splits update streams into line-aligned chunks & parses them on a pool of threads
     public enum UpdateStreamParser
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        CHAR_SEEKER_PARALLEL,
+        BINARY
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
     public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    // Read update streams using a sidecar index ([update stream file].index, created if missing), so skipping to the
+    // workload offset (e.g., past warmup) seeks instead of parsing. Applies to CHAR_SEEKER & CHAR_SEEKER_THREAD parsers
+    public final static String UPDATE_STREAM_INDEX = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_stream_index";
+    public final static boolean DEFAULT_UPDATE_STREAM_INDEX = false;
+    // Number of threads parsing update streams, shared by all update streams. Applies to CHAR_SEEKER_PARALLEL parser
+    public final static String UPDATE_PARSER_THREADS = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser_threads";
+    public final static int DEFAULT_UPDATE_PARSER_THREADS = Runtime.getRuntime().availableProcessors();
+    // Number of driver instances the workload is split across, and which of them this is, in [0,partition_count).
+    // Every instance executes every partition_count-th update stream file (person & forum files of the same stream
+    // go to the same instance) and every partition_count-th operation of each read operation stream
+    public final static String PARTITION_ID = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "partition_id";
+    public final static int DEFAULT_PARTITION_ID = 0;
+    public final static String PARTITION_COUNT = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "partition_count";
+    public final static int DEFAULT_PARTITION_COUNT = 1;
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
@@ -526,4 +546,25 @@ public class LdbcSnbInteractiveWorkloadConfiguration
     {
         return FileUtils.filesWithSuffixInDirectory( directory, "_person.csv" );
     }
+
+    /**
+     * Files are ordered by name, so every driver instance makes the same assignment
+     *
+     * @return every partitionCount-th file, starting from file partitionId, or every file not in that partition
+     */
+    public static List<File> updateFilesInPartition( List<File> updateFiles, int partitionId, int partitionCount,
+            boolean inPartition )
+    {
+        List<File> sortedUpdateFiles = new ArrayList<>( updateFiles );
+        Collections.sort( sortedUpdateFiles );
+        List<File> updateFilesInPartition = new ArrayList<>();
+        for ( int i = 0; i < sortedUpdateFiles.size(); i++ )
+        {
+            if ( (i % partitionCount == partitionId) == inPartition )
+            {
+                updateFilesInPartition.add( sortedUpdateFiles.get( i ) );
+            }
+        }
+        return updateFilesInPartition;
+    }
 }
@@ -0,0 +1,221 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.String.format;
+
+/**
+ * Update stream parsed in parallel: the file is split into line-aligned chunks, which are decoded (with
+ * WriteEventStreamReaderCharSeeker) on the given executor, and operations are returned in file order.
+ * <p/>
+ * At most chunksInFlight chunks are read ahead of the chunk being consumed, bounding memory use.
+ * The executor is not owned by the reader, it may be shared by the readers of many update streams.
+ */
+public class ParallelWriteEventStreamReader implements Iterator<Operation>, Closeable
+{
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int LINE_END_SCAN_SIZE = 4 * 1024;
+    private static final int SEEKER_BUFFER_SIZE = 1 * 1024 * 1024;
+
+    private final File updateOperationsFile;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final int chunksInFlight;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final Queue<Future<List<Operation>>> chunks = new ArrayDeque<>();
+    private long nextChunkStart = 0;
+    private Iterator<Operation> operations = Collections.emptyIterator();
+    private boolean closed = false;
+
+    public ParallelWriteEventStreamReader(
+            File updateOperationsFile,
+            ExecutorService executor,
+            int chunkSize,
+            int chunksInFlight ) throws IOException
+    {
+        if ( chunkSize < 1 || chunksInFlight < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Chunk size (%s) and chunks in flight (%s) must be positive", chunkSize, chunksInFlight ) );
+        }
+        this.updateOperationsFile = updateOperationsFile;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.chunksInFlight = chunksInFlight;
+        this.randomAccessFile = new RandomAccessFile( updateOperationsFile, "r" );
+        this.channel = randomAccessFile.getChannel();
+        this.fileSize = channel.size();
+        submitChunks();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while ( false == operations.hasNext() )
+        {
+            Future<List<Operation>> chunk = chunks.poll();
+            if ( null == chunk )
+            {
+                return false;
+            }
+            submitChunks();
+            try
+            {
+                operations = chunk.get().iterator();
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException(
+                        format( "Interrupted while parsing: %s", updateOperationsFile.getAbsolutePath() ), e );
+            }
+            catch ( ExecutionException e )
+            {
+                throw new GeneratorException(
+                        format( "Error parsing: %s", updateOperationsFile.getAbsolutePath() ), e.getCause() );
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "Update stream has no more operations" );
+        }
+        return operations.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
+    }
+
+    private void submitChunks()
+    {
+        try
+        {
+            while ( chunks.size() < chunksInFlight && nextChunkStart < fileSize )
+            {
+                final long chunkStart = nextChunkStart;
+                final long chunkEnd = lineEndAtOrAfter( chunkStart + chunkSize );
+                chunks.add( executor.submit( new Callable<List<Operation>>()
+                {
+                    @Override
+                    public List<Operation> call() throws Exception
+                    {
+                        return parseChunk( chunkStart, chunkEnd );
+                    }
+                } ) );
+                nextChunkStart = chunkEnd;
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error reading: %s", updateOperationsFile.getAbsolutePath() ), e );
+        }
+    }
+
+    /**
+     * @return position after first line end at or after position, or end of file if there is none
+     */
+    private long lineEndAtOrAfter( long position ) throws IOException
+    {
+        ByteBuffer scanBuffer = ByteBuffer.allocate( LINE_END_SCAN_SIZE );
+        long scanPosition = position - 1;
+        while ( scanPosition < fileSize )
+        {
+            scanBuffer.clear();
+            int read = channel.read( scanBuffer, scanPosition );
+            if ( read < 0 )
+            {
+                break;
+            }
+            for ( int i = 0; i < read; i++ )
+            {
+                if ( '\n' == scanBuffer.get( i ) )
+                {
+                    return scanPosition + i + 1;
+                }
+            }
+            scanPosition += read;
+        }
+        return fileSize;
+    }
+
+    private List<Operation> parseChunk( long chunkStart, long chunkEnd ) throws IOException
+    {
+        // positional reads do not change channel position, so chunks may be read concurrently
+        byte[] bytes = new byte[(int) (chunkEnd - chunkStart)];
+        ByteBuffer buffer = ByteBuffer.wrap( bytes );
+        while ( buffer.hasRemaining() )
+        {
+            if ( channel.read( buffer, chunkStart + buffer.position() ) < 0 )
+            {
+                throw new IOException(
+                        format( "Unexpected end of file at %s, in: %s",
+                                chunkStart + buffer.position(), updateOperationsFile.getAbsolutePath() ) );
+            }
+        }
+        try ( BufferedCharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap( new InputStreamReader( new ByteArrayInputStream( bytes ), Charsets.UTF_8 ) ),
+                SEEKER_BUFFER_SIZE
+        ) )
+        {
+            Iterator<Operation> chunkOperations =
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+            List<Operation> operations = new ArrayList<>();
+            while ( chunkOperations.hasNext() )
+            {
+                operations.add( chunkOperations.next() );
+            }
+            return operations;
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        for ( Future<List<Operation>> chunk : chunks )
+        {
+            chunk.cancel( false );
+        }
+        chunks.clear();
+        randomAccessFile.close();
+    }
+}
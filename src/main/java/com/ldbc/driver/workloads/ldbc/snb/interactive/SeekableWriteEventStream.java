@@ -0,0 +1,162 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SeekableOperationStream;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.TimedCsvFileIndex;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Update stream read with WriteEventStreamReaderCharSeeker, which uses the index of the update stream file to seek:
+ * the file is reopened at the byte offset of the checkpoint, so operations before it are never parsed.
+ */
+public class SeekableWriteEventStream implements SeekableOperationStream, Closeable
+{
+    private final File updateOperationsFile;
+    private final TimedCsvFileIndex index;
+    private final boolean threadAhead;
+    private final int bufferSize;
+    private CharSeeker charSeeker = null;
+    private Iterator<Operation> operations = null;
+    private long operationOffset = 0;
+
+    public SeekableWriteEventStream(
+            File updateOperationsFile,
+            TimedCsvFileIndex index,
+            boolean threadAhead,
+            int bufferSize ) throws IOException
+    {
+        this.updateOperationsFile = updateOperationsFile;
+        this.index = index;
+        this.threadAhead = threadAhead;
+        this.bufferSize = bufferSize;
+        open( 0 );
+    }
+
+    private void open( long byteOffset ) throws IOException
+    {
+        CharReadable readable;
+        if ( threadAhead )
+        {
+            FileInputStream inputStream = new FileInputStream( updateOperationsFile );
+            inputStream.getChannel().position( byteOffset );
+            readable = ThreadAheadReadable.threadAhead(
+                    Readables.wrap( new InputStreamReader( inputStream, Charsets.UTF_8 ) ),
+                    bufferSize
+            );
+        }
+        else
+        {
+            readable = Readables.mappedFile( updateOperationsFile, byteOffset );
+        }
+        charSeeker = new BufferedCharSeeker( readable, bufferSize );
+        operations = WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return operations.hasNext();
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == operations.hasNext() )
+        {
+            throw new NoSuchElementException( "Update stream has no more operations" );
+        }
+        operationOffset++;
+        return operations.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
+    }
+
+    /**
+     * @return time stamp (scheduled start time) of first operation, -1 if stream is empty
+     */
+    public long firstTimeStamp()
+    {
+        return index.firstTimeStamp();
+    }
+
+    @Override
+    public long operationCount()
+    {
+        return index.rowCount();
+    }
+
+    @Override
+    public int checkpointCount()
+    {
+        return index.checkpointCount();
+    }
+
+    @Override
+    public long checkpointOperationOffset( int checkpoint )
+    {
+        return index.checkpointRowOffset( checkpoint );
+    }
+
+    @Override
+    public long checkpointTimeStamp( int checkpoint )
+    {
+        return index.checkpointTimeStamp( checkpoint );
+    }
+
+    @Override
+    public long operationOffset()
+    {
+        return operationOffset;
+    }
+
+    @Override
+    public void seekToCheckpoint( int checkpoint ) throws WorkloadException
+    {
+        long checkpointOperationOffset = index.checkpointRowOffset( checkpoint );
+        if ( checkpointOperationOffset < operationOffset )
+        {
+            throw new WorkloadException(
+                    format( "Can not seek backwards, from operation %s to %s, in: %s",
+                            operationOffset, checkpointOperationOffset, updateOperationsFile.getAbsolutePath() ) );
+        }
+        try
+        {
+            charSeeker.close();
+            open( index.checkpointByteOffset( checkpoint ) );
+        }
+        catch ( IOException e )
+        {
+            throw new WorkloadException(
+                    format( "Error seeking to operation %s in: %s",
+                            checkpointOperationOffset, updateOperationsFile.getAbsolutePath() ), e );
+        }
+        operationOffset = checkpointOperationOffset;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        charSeeker.close();
+    }
+}
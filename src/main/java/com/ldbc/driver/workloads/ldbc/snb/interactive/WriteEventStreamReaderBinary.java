@@ -0,0 +1,347 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Reads update streams compiled by WriteEventStreamWriterBinary, through a memory-mapped file.
+ * <p/>
+ * Files larger than the mapping size are mapped one region at a time, a new region is mapped (starting at the next
+ * record) whenever the next record does not fit in the remainder of the current one.
+ */
+public class WriteEventStreamReaderBinary implements Iterator<Operation>, Closeable
+{
+    public static final int DEFAULT_MAPPING_SIZE = 256 * 1024 * 1024;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_LENGTH_SIZE = 4;
+
+    private final File binaryFile;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int mappingSize;
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private MappedByteBuffer mapping;
+    private long mappingStart;
+    private byte[] stringBytes = new byte[256];
+
+    public WriteEventStreamReaderBinary( File binaryFile ) throws IOException
+    {
+        this( binaryFile, DEFAULT_MAPPING_SIZE );
+    }
+
+    public WriteEventStreamReaderBinary( File binaryFile, int mappingSize ) throws IOException
+    {
+        this.binaryFile = binaryFile;
+        this.randomAccessFile = new RandomAccessFile( binaryFile, "r" );
+        this.channel = randomAccessFile.getChannel();
+        this.fileSize = channel.size();
+        this.mappingSize = mappingSize;
+        if ( fileSize < HEADER_SIZE )
+        {
+            close();
+            throw new IOException( format( "Not a compiled update stream: %s", binaryFile.getAbsolutePath() ) );
+        }
+        map( 0 );
+        int magic = mapping.getInt();
+        int version = mapping.getInt();
+        if ( WriteEventStreamWriterBinary.MAGIC != magic || WriteEventStreamWriterBinary.VERSION != version )
+        {
+            close();
+            throw new IOException( format( "Not a compiled update stream, or compiled by other version: %s",
+                    binaryFile.getAbsolutePath() ) );
+        }
+        this.sourceLength = mapping.getLong();
+        this.sourceLastModified = mapping.getLong();
+    }
+
+    /**
+     * @return true if binary file was compiled from csv file as it is now, false if csv file changed since, or binary
+     * file has no source file
+     */
+    public boolean isCompiledFrom( File updateStreamCsvFile )
+    {
+        return WriteEventStreamWriterBinary.UNKNOWN_SOURCE != sourceLength &&
+               updateStreamCsvFile.length() == sourceLength &&
+               updateStreamCsvFile.lastModified() == sourceLastModified;
+    }
+
+    private void map( long start ) throws IOException
+    {
+        mappingStart = start;
+        mapping = channel.map( FileChannel.MapMode.READ_ONLY, start, Math.min( mappingSize, fileSize - start ) );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return mappingStart + mapping.position() < fileSize;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "Update stream has no more operations" );
+        }
+        try
+        {
+            long recordStart = mappingStart + mapping.position();
+            if ( fileSize - recordStart < RECORD_LENGTH_SIZE )
+            {
+                throw new GeneratorException( format( "Truncated record at %s, in: %s",
+                        recordStart, binaryFile.getAbsolutePath() ) );
+            }
+            if ( mapping.remaining() < RECORD_LENGTH_SIZE )
+            {
+                map( recordStart );
+            }
+            int recordLength = mapping.getInt( mapping.position() );
+            if ( recordLength < 0 || fileSize - recordStart < RECORD_LENGTH_SIZE + (long) recordLength )
+            {
+                throw new GeneratorException( format( "Truncated record at %s, in: %s",
+                        recordStart, binaryFile.getAbsolutePath() ) );
+            }
+            if ( mapping.remaining() < RECORD_LENGTH_SIZE + recordLength )
+            {
+                if ( RECORD_LENGTH_SIZE + recordLength > mappingSize )
+                {
+                    throw new GeneratorException( format( "Record of %s bytes is larger than mapping size %s, in: %s",
+                            recordLength, mappingSize, binaryFile.getAbsolutePath() ) );
+                }
+                map( mappingStart + mapping.position() );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Error mapping: %s", binaryFile.getAbsolutePath() ), e );
+        }
+        mapping.getInt();
+        return decode();
+    }
+
+    private Operation decode()
+    {
+        byte eventType = mapping.get();
+        long scheduledStartTimeAsMilli = mapping.getLong();
+        long dependencyTimeAsMilli = mapping.getLong();
+        Operation operation;
+        switch ( eventType )
+        {
+        case 1:
+        {
+            long personId = mapping.getLong();
+            String firstName = readString();
+            String lastName = readString();
+            String gender = readString();
+            Date birthday = new Date( mapping.getLong() );
+            Date creationDate = new Date( mapping.getLong() );
+            String locationIp = readString();
+            String browserUsed = readString();
+            long cityId = mapping.getLong();
+            List<String> languages = readStrings();
+            List<String> emails = readStrings();
+            List<Long> tagIds = readLongs();
+            List<LdbcUpdate1AddPerson.Organization> studyAts = readOrganizations();
+            List<LdbcUpdate1AddPerson.Organization> workAts = readOrganizations();
+            operation = new LdbcUpdate1AddPerson(
+                    personId,
+                    firstName,
+                    lastName,
+                    gender,
+                    birthday,
+                    creationDate,
+                    locationIp,
+                    browserUsed,
+                    cityId,
+                    languages,
+                    emails,
+                    tagIds,
+                    studyAts,
+                    workAts );
+            break;
+        }
+        case 2:
+        {
+            long personId = mapping.getLong();
+            long postId = mapping.getLong();
+            Date creationDate = new Date( mapping.getLong() );
+            operation = new LdbcUpdate2AddPostLike( personId, postId, creationDate );
+            break;
+        }
+        case 3:
+        {
+            long personId = mapping.getLong();
+            long commentId = mapping.getLong();
+            Date creationDate = new Date( mapping.getLong() );
+            operation = new LdbcUpdate3AddCommentLike( personId, commentId, creationDate );
+            break;
+        }
+        case 4:
+        {
+            long forumId = mapping.getLong();
+            String forumTitle = readString();
+            Date creationDate = new Date( mapping.getLong() );
+            long moderatorPersonId = mapping.getLong();
+            List<Long> tagIds = readLongs();
+            operation = new LdbcUpdate4AddForum( forumId, forumTitle, creationDate, moderatorPersonId, tagIds );
+            break;
+        }
+        case 5:
+        {
+            long forumId = mapping.getLong();
+            long personId = mapping.getLong();
+            Date joinDate = new Date( mapping.getLong() );
+            operation = new LdbcUpdate5AddForumMembership( forumId, personId, joinDate );
+            break;
+        }
+        case 6:
+        {
+            long postId = mapping.getLong();
+            String imageFile = readString();
+            Date creationDate = new Date( mapping.getLong() );
+            String locationIp = readString();
+            String browserUsed = readString();
+            String language = readString();
+            String content = readString();
+            int length = mapping.getInt();
+            long authorPersonId = mapping.getLong();
+            long forumId = mapping.getLong();
+            long countryId = mapping.getLong();
+            List<Long> tagIds = readLongs();
+            operation = new LdbcUpdate6AddPost(
+                    postId,
+                    imageFile,
+                    creationDate,
+                    locationIp,
+                    browserUsed,
+                    language,
+                    content,
+                    length,
+                    authorPersonId,
+                    forumId,
+                    countryId,
+                    tagIds );
+            break;
+        }
+        case 7:
+        {
+            long commentId = mapping.getLong();
+            Date creationDate = new Date( mapping.getLong() );
+            String locationIp = readString();
+            String browserUsed = readString();
+            String content = readString();
+            int length = mapping.getInt();
+            long authorPersonId = mapping.getLong();
+            long countryId = mapping.getLong();
+            long replyToPostId = mapping.getLong();
+            long replyToCommentId = mapping.getLong();
+            List<Long> tagIds = readLongs();
+            operation = new LdbcUpdate7AddComment(
+                    commentId,
+                    creationDate,
+                    locationIp,
+                    browserUsed,
+                    content,
+                    length,
+                    authorPersonId,
+                    countryId,
+                    replyToPostId,
+                    replyToCommentId,
+                    tagIds );
+            break;
+        }
+        case 8:
+        {
+            long person1Id = mapping.getLong();
+            long person2Id = mapping.getLong();
+            Date creationDate = new Date( mapping.getLong() );
+            operation = new LdbcUpdate8AddFriendship( person1Id, person2Id, creationDate );
+            break;
+        }
+        default:
+            throw new GeneratorException( format( "Unknown event type %s in: %s",
+                    eventType, binaryFile.getAbsolutePath() ) );
+        }
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( dependencyTimeAsMilli );
+        return operation;
+    }
+
+    private String readString()
+    {
+        int length = mapping.getInt();
+        if ( length > stringBytes.length )
+        {
+            stringBytes = new byte[Math.max( length, stringBytes.length * 2 )];
+        }
+        mapping.get( stringBytes, 0, length );
+        return new String( stringBytes, 0, length, Charsets.UTF_8 );
+    }
+
+    private List<String> readStrings()
+    {
+        int count = mapping.getInt();
+        List<String> values = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            values.add( readString() );
+        }
+        return values;
+    }
+
+    private List<Long> readLongs()
+    {
+        int count = mapping.getInt();
+        List<Long> values = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            values.add( mapping.getLong() );
+        }
+        return values;
+    }
+
+    private List<LdbcUpdate1AddPerson.Organization> readOrganizations()
+    {
+        int count = mapping.getInt();
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            long organizationId = mapping.getLong();
+            int year = mapping.getInt();
+            organizations.add( new LdbcUpdate1AddPerson.Organization( organizationId, year ) );
+        }
+        return organizations;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        // mapping is released when it is garbage collected
+        randomAccessFile.close();
+    }
+}
@@ -0,0 +1,297 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Compiles update streams into the binary format read by WriteEventStreamReaderBinary, so they do not need to be
+ * parsed at run time.
+ * <p/>
+ * File: MAGIC (int), VERSION (int), source length (long), source last modified (long), then one record per event,
+ * in stream order. Source length and last modified are those of the csv file the stream was compiled from, so a
+ * binary file that is older than its csv file can be detected, they are -1 when there is no source file.
+ * <p/>
+ * Record: length (int, of the record after this field), event type (byte, as in the CSV format), scheduled start time
+ * (long), dependency time (long), then the event fields in the order of the CSV format.
+ * Dates are encoded as milliseconds (long), strings as byte length (int) followed by UTF-8 bytes, lists as element
+ * count (int) followed by elements, organizations as organization id (long) followed by year (int).
+ */
+public class WriteEventStreamWriterBinary
+{
+    public static final int MAGIC = 0x1DBC5EB5;
+    public static final int VERSION = 2;
+    public static final long UNKNOWN_SOURCE = -1;
+    public static final String BINARY_FILE_SUFFIX = ".bin";
+    private static final String CSV_FILE_SUFFIX = ".csv";
+
+    /**
+     * @return compiled file for update stream csv file, e.g., updateStream_0_0_forum.csv -> updateStream_0_0_forum.bin
+     */
+    public static File binaryFileFor( File updateStreamCsvFile )
+    {
+        String name = updateStreamCsvFile.getName();
+        if ( name.endsWith( CSV_FILE_SUFFIX ) )
+        {
+            name = name.substring( 0, name.length() - CSV_FILE_SUFFIX.length() );
+        }
+        return new File( updateStreamCsvFile.getParentFile(), name + BINARY_FILE_SUFFIX );
+    }
+
+    /**
+     * Parses update stream csv file and writes it, in binary format, to binary file
+     * <p/>
+     * Binary file is written to a temporary file first, then moved to binary file, so an interrupted compile never
+     * leaves a partial binary file behind
+     *
+     * @return number of operations written
+     */
+    public static long compile( File updateStreamCsvFile, File binaryFile ) throws IOException, WorkloadException
+    {
+        // taken before parsing, so a csv file modified during compile does not match the binary file afterwards
+        long sourceLength = updateStreamCsvFile.length();
+        long sourceLastModified = updateStreamCsvFile.lastModified();
+        int bufferSize = 1 * 1024 * 1024;
+        try ( BufferedCharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap(
+                        new InputStreamReader( new FileInputStream( updateStreamCsvFile ), Charsets.UTF_8 )
+                ),
+                bufferSize
+        ) )
+        {
+            return write(
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' ),
+                    binaryFile,
+                    sourceLength,
+                    sourceLastModified
+            );
+        }
+    }
+
+    /**
+     * Writes operations, in binary format, to binary file, which then has no source file
+     *
+     * @return number of operations written
+     */
+    public static long write( Iterator<Operation> operations, File binaryFile ) throws IOException, WorkloadException
+    {
+        return write( operations, binaryFile, UNKNOWN_SOURCE, UNKNOWN_SOURCE );
+    }
+
+    private static long write( Iterator<Operation> operations, File binaryFile, long sourceLength,
+            long sourceLastModified ) throws IOException, WorkloadException
+    {
+        File temporaryFile =
+                File.createTempFile( binaryFile.getName(), ".tmp", binaryFile.getAbsoluteFile().getParentFile() );
+        try
+        {
+            long operationCount = writeTo( operations, temporaryFile, sourceLength, sourceLastModified );
+            Files.move( temporaryFile.toPath(), binaryFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+            return operationCount;
+        }
+        finally
+        {
+            // only still exists if writing or moving failed
+            Files.deleteIfExists( temporaryFile.toPath() );
+        }
+    }
+
+    private static long writeTo( Iterator<Operation> operations, File file, long sourceLength,
+            long sourceLastModified ) throws IOException, WorkloadException
+    {
+        long operationCount = 0;
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream( 1024 );
+        DataOutputStream record = new DataOutputStream( recordBytes );
+        try ( DataOutputStream out =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ), 1 << 16 ) ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( sourceLength );
+            out.writeLong( sourceLastModified );
+            while ( operations.hasNext() )
+            {
+                recordBytes.reset();
+                encode( operations.next(), record );
+                record.flush();
+                out.writeInt( recordBytes.size() );
+                recordBytes.writeTo( out );
+                operationCount++;
+            }
+        }
+        return operationCount;
+    }
+
+    private static void encode( Operation operation, DataOutputStream record ) throws IOException, WorkloadException
+    {
+        switch ( operation.type() )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+        {
+            LdbcUpdate1AddPerson update = (LdbcUpdate1AddPerson) operation;
+            writeHeader( 1, update, record );
+            record.writeLong( update.personId() );
+            writeString( update.personFirstName(), record );
+            writeString( update.personLastName(), record );
+            writeString( update.gender(), record );
+            record.writeLong( update.birthday().getTime() );
+            record.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), record );
+            writeString( update.browserUsed(), record );
+            record.writeLong( update.cityId() );
+            writeStrings( update.languages(), record );
+            writeStrings( update.emails(), record );
+            writeLongs( update.tagIds(), record );
+            writeOrganizations( update.studyAt(), record );
+            writeOrganizations( update.workAt(), record );
+            return;
+        }
+        case LdbcUpdate2AddPostLike.TYPE:
+        {
+            LdbcUpdate2AddPostLike update = (LdbcUpdate2AddPostLike) operation;
+            writeHeader( 2, update, record );
+            record.writeLong( update.personId() );
+            record.writeLong( update.postId() );
+            record.writeLong( update.creationDate().getTime() );
+            return;
+        }
+        case LdbcUpdate3AddCommentLike.TYPE:
+        {
+            LdbcUpdate3AddCommentLike update = (LdbcUpdate3AddCommentLike) operation;
+            writeHeader( 3, update, record );
+            record.writeLong( update.personId() );
+            record.writeLong( update.commentId() );
+            record.writeLong( update.creationDate().getTime() );
+            return;
+        }
+        case LdbcUpdate4AddForum.TYPE:
+        {
+            LdbcUpdate4AddForum update = (LdbcUpdate4AddForum) operation;
+            writeHeader( 4, update, record );
+            record.writeLong( update.forumId() );
+            writeString( update.forumTitle(), record );
+            record.writeLong( update.creationDate().getTime() );
+            record.writeLong( update.moderatorPersonId() );
+            writeLongs( update.tagIds(), record );
+            return;
+        }
+        case LdbcUpdate5AddForumMembership.TYPE:
+        {
+            LdbcUpdate5AddForumMembership update = (LdbcUpdate5AddForumMembership) operation;
+            writeHeader( 5, update, record );
+            record.writeLong( update.forumId() );
+            record.writeLong( update.personId() );
+            record.writeLong( update.joinDate().getTime() );
+            return;
+        }
+        case LdbcUpdate6AddPost.TYPE:
+        {
+            LdbcUpdate6AddPost update = (LdbcUpdate6AddPost) operation;
+            writeHeader( 6, update, record );
+            record.writeLong( update.postId() );
+            writeString( update.imageFile(), record );
+            record.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), record );
+            writeString( update.browserUsed(), record );
+            writeString( update.language(), record );
+            writeString( update.content(), record );
+            record.writeInt( update.length() );
+            record.writeLong( update.authorPersonId() );
+            record.writeLong( update.forumId() );
+            record.writeLong( update.countryId() );
+            writeLongs( update.tagIds(), record );
+            return;
+        }
+        case LdbcUpdate7AddComment.TYPE:
+        {
+            LdbcUpdate7AddComment update = (LdbcUpdate7AddComment) operation;
+            writeHeader( 7, update, record );
+            record.writeLong( update.commentId() );
+            record.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), record );
+            writeString( update.browserUsed(), record );
+            writeString( update.content(), record );
+            record.writeInt( update.length() );
+            record.writeLong( update.authorPersonId() );
+            record.writeLong( update.countryId() );
+            record.writeLong( update.replyToPostId() );
+            record.writeLong( update.replyToCommentId() );
+            writeLongs( update.tagIds(), record );
+            return;
+        }
+        case LdbcUpdate8AddFriendship.TYPE:
+        {
+            LdbcUpdate8AddFriendship update = (LdbcUpdate8AddFriendship) operation;
+            writeHeader( 8, update, record );
+            record.writeLong( update.person1Id() );
+            record.writeLong( update.person2Id() );
+            record.writeLong( update.creationDate().getTime() );
+            return;
+        }
+        default:
+            throw new WorkloadException( format( "Not an update operation: %s", operation ) );
+        }
+    }
+
+    private static void writeHeader( int eventType, Operation operation, DataOutputStream record ) throws IOException
+    {
+        record.writeByte( eventType );
+        record.writeLong( operation.scheduledStartTimeAsMilli() );
+        record.writeLong( operation.dependencyTimeStamp() );
+    }
+
+    private static void writeString( String value, DataOutputStream record ) throws IOException
+    {
+        byte[] bytes = value.getBytes( Charsets.UTF_8 );
+        record.writeInt( bytes.length );
+        record.write( bytes );
+    }
+
+    private static void writeStrings( List<String> values, DataOutputStream record ) throws IOException
+    {
+        record.writeInt( values.size() );
+        for ( String value : values )
+        {
+            writeString( value, record );
+        }
+    }
+
+    private static void writeLongs( List<Long> values, DataOutputStream record ) throws IOException
+    {
+        record.writeInt( values.size() );
+        for ( Long value : values )
+        {
+            record.writeLong( value );
+        }
+    }
+
+    private static void writeOrganizations( List<LdbcUpdate1AddPerson.Organization> organizations,
+            DataOutputStream record ) throws IOException
+    {
+        record.writeInt( organizations.size() );
+        for ( LdbcUpdate1AddPerson.Organization organization : organizations )
+        {
+            record.writeLong( organization.organizationId() );
+            record.writeInt( organization.year() );
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1Factory;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class OffsetAndLimitedOperationStreamsTest
+{
+    @Test
+    public void shouldSelectSameOperationsAsTwoPassLimitRegardlessOfOrderInWhichStreamsAreRead()
+            throws WorkloadException
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<Operation> stream0 = Lists.<Operation>newArrayList(
+                new TimedNamedOperation1( 0l, 0l, 0l, "0-1" ),
+                new TimedNamedOperation1( 1l, 1l, 0l, "0-2" ),
+                new TimedNamedOperation1( 2l, 2l, 0l, "0-3" ),
+                new TimedNamedOperation1( 6l, 6l, 0l, "0-4" )
+        );
+        List<Operation> stream1 = Lists.<Operation>newArrayList(
+                new TimedNamedOperation1( 0l, 0l, 0l, "1-1" ),
+                new TimedNamedOperation1( 3l, 3l, 0l, "1-2" ),
+                new TimedNamedOperation1( 4l, 4l, 0l, "1-3" )
+        );
+        List<Operation> stream2 = Lists.<Operation>newArrayList(
+                new TimedNamedOperation1( 1l, 1l, 0l, "2-1" ),
+                new TimedNamedOperation1( 3l, 3l, 0l, "2-2" ),
+                new TimedNamedOperation1( 4l, 4l, 0l, "2-3" )
+        );
+        List<Operation> stream3 = Lists.newArrayList();
+        Iterator<Operation> stream4 = gf.limit(
+                new TimedNamedOperation1Factory(
+                        gf.incrementing( 10l, 1l ),
+                        gf.constant( 0l ),
+                        gf.constant( "4-x" )
+                ),
+                1000000
+        );
+        List<ChildOperationGenerator> childOperationGenerators = Lists.newArrayList( null, null, null, null, null );
+        OffsetAndLimitedOperationStreams offsetAndLimitedOperationStreams = new OffsetAndLimitedOperationStreams(
+                Lists.newArrayList(
+                        stream0.iterator(),
+                        stream1.iterator(),
+                        stream2.iterator(),
+                        stream3.iterator(),
+                        stream4
+                ),
+                childOperationGenerators,
+                2,
+                5,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( getClass().getSimpleName() )
+        );
+
+        // When
+        long minimumTimeStamp = offsetAndLimitedOperationStreams.skipOffsetAndRetrieveMinimumTimeStamp();
+        List<String> selected4 = names( offsetAndLimitedOperationStreams.selectedOperationsFor( 4 ) );
+        List<String> selected3 = names( offsetAndLimitedOperationStreams.selectedOperationsFor( 3 ) );
+        List<String> selected2 = names( offsetAndLimitedOperationStreams.selectedOperationsFor( 2 ) );
+        List<String> selected1 = names( offsetAndLimitedOperationStreams.selectedOperationsFor( 1 ) );
+        List<String> selected0 = names( offsetAndLimitedOperationStreams.selectedOperationsFor( 0 ) );
+
+        // Then
+        assertThat( minimumTimeStamp, is( 1l ) );
+        assertThat( selected0, equalTo( (List<String>) Lists.newArrayList( "0-2", "0-3" ) ) );
+        assertThat( selected1, equalTo( (List<String>) Lists.newArrayList( "1-2" ) ) );
+        assertThat( selected2, equalTo( (List<String>) Lists.newArrayList( "2-1", "2-2" ) ) );
+        assertThat( selected3.isEmpty(), is( true ) );
+        assertThat( selected4.isEmpty(), is( true ) );
+        // streams are not read further than needed to select operations
+        assertThat( Iterators.size( stream4 ), is( 1000000 - 1 ) );
+    }
+
+    @Test
+    public void shouldSelectSameOperationsWhenSomeStreamsSkipOffsetBySeeking() throws WorkloadException
+    {
+        Random random = new Random( 42 );
+        for ( int run = 0; run < 20; run++ )
+        {
+            // Given
+            List<List<Operation>> operationsForStream = new ArrayList<>();
+            for ( int i = 0; i < 5; i++ )
+            {
+                List<Operation> operations = new ArrayList<>();
+                long timeStamp = random.nextInt( 5 );
+                int operationCount = random.nextInt( 60 );
+                for ( int j = 0; j < operationCount; j++ )
+                {
+                    // steps of 0 create ties, within and across streams
+                    timeStamp = timeStamp + random.nextInt( 4 );
+                    operations.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, i + "-" + j ) );
+                }
+                operationsForStream.add( operations );
+            }
+            // streams 0 & 2 are not seekable, 2 has a child operation generator
+            List<ChildOperationGenerator> childOperationGenerators =
+                    Lists.<ChildOperationGenerator>newArrayList(
+                            null, null, new EveryThirdTimeStampChildOperationGenerator(), null, null );
+            long offset = random.nextInt( 200 );
+            long limit = random.nextInt( 100 );
+
+            // When
+            List<List<String>> expectedSelected = selectAll(
+                    operationsForStream, childOperationGenerators, offset, limit, new boolean[5] );
+            List<List<String>> selected = selectAll(
+                    operationsForStream, childOperationGenerators, offset, limit,
+                    new boolean[]{false, true, true, true, true} );
+
+            // Then
+            assertThat( format( "offset %s limit %s", offset, limit ), selected, equalTo( expectedSelected ) );
+        }
+    }
+
+    @Test
+    public void shouldFailRatherThanBufferMoreThanMaxBufferedOperationCount() throws WorkloadException
+    {
+        // Given
+        List<Operation> stream0 = new ArrayList<>();
+        List<Operation> stream1 = new ArrayList<>();
+        for ( long timeStamp = 0; timeStamp < 100; timeStamp++ )
+        {
+            stream0.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, "0-" + timeStamp ) );
+            stream1.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, "1-" + timeStamp ) );
+        }
+        OffsetAndLimitedOperationStreams offsetAndLimitedOperationStreams = new OffsetAndLimitedOperationStreams(
+                Lists.newArrayList( stream0.iterator(), stream1.iterator() ),
+                Lists.<ChildOperationGenerator>newArrayList( null, null ),
+                0,
+                200,
+                10,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( getClass().getSimpleName() )
+        );
+        offsetAndLimitedOperationStreams.skipOffsetAndRetrieveMinimumTimeStamp();
+        Iterator<Operation> selected0 = offsetAndLimitedOperationStreams.selectedOperationsFor( 0 );
+        Iterator<Operation> selected1 = offsetAndLimitedOperationStreams.selectedOperationsFor( 1 );
+
+        // When
+        // streams read alternately, buffers stay small
+        for ( int i = 0; i < 50; i++ )
+        {
+            selected0.next();
+            selected1.next();
+        }
+        // stream 1 not read, its operations are buffered while stream 0 is read
+        int readCount = 0;
+        boolean exceptionThrown = false;
+        try
+        {
+            while ( selected0.hasNext() )
+            {
+                selected0.next();
+                readCount++;
+            }
+        }
+        catch ( GeneratorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        // first read does not pass an operation of stream 1, each of the next 10 reads buffers one
+        assertThat( readCount, is( 11 ) );
+    }
+
+    @Test
+    public void shouldBufferWithoutLimitWhenMaxBufferedOperationCountIsZero() throws WorkloadException
+    {
+        // Given
+        List<Operation> stream0 = new ArrayList<>();
+        List<Operation> stream1 = new ArrayList<>();
+        for ( long timeStamp = 0; timeStamp < 100; timeStamp++ )
+        {
+            stream0.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, "0-" + timeStamp ) );
+            stream1.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, "1-" + timeStamp ) );
+        }
+        OffsetAndLimitedOperationStreams offsetAndLimitedOperationStreams = new OffsetAndLimitedOperationStreams(
+                Lists.newArrayList( stream0.iterator(), stream1.iterator() ),
+                Lists.<ChildOperationGenerator>newArrayList( null, null ),
+                0,
+                200,
+                0,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( getClass().getSimpleName() )
+        );
+        offsetAndLimitedOperationStreams.skipOffsetAndRetrieveMinimumTimeStamp();
+        Iterator<Operation> selected0 = offsetAndLimitedOperationStreams.selectedOperationsFor( 0 );
+        Iterator<Operation> selected1 = offsetAndLimitedOperationStreams.selectedOperationsFor( 1 );
+
+        // When
+        // stream 0 read to the end before stream 1 is read, e.g., as when ignoring scheduled start times
+        List<String> names0 = names( selected0 );
+        List<String> names1 = names( selected1 );
+
+        // Then
+        assertThat( names0.size(), is( 100 ) );
+        assertThat( names1.size(), is( 100 ) );
+        assertThat( names1.get( 99 ), equalTo( "1-99" ) );
+    }
+
+    private static List<List<String>> selectAll(
+            List<List<Operation>> operationsForStream,
+            List<ChildOperationGenerator> childOperationGenerators,
+            long offset,
+            long limit,
+            boolean[] seekable ) throws WorkloadException
+    {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        for ( int i = 0; i < operationsForStream.size(); i++ )
+        {
+            streams.add( (seekable[i]) ? new ListSeekableOperationStream( operationsForStream.get( i ), 4 )
+                                       : operationsForStream.get( i ).iterator() );
+        }
+        List<ChildOperationGenerator> freshChildOperationGenerators = new ArrayList<>();
+        for ( ChildOperationGenerator childOperationGenerator : childOperationGenerators )
+        {
+            freshChildOperationGenerators.add(
+                    (null == childOperationGenerator) ? null : new EveryThirdTimeStampChildOperationGenerator() );
+        }
+        OffsetAndLimitedOperationStreams offsetAndLimitedOperationStreams = new OffsetAndLimitedOperationStreams(
+                streams,
+                freshChildOperationGenerators,
+                offset,
+                limit,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor(
+                        OffsetAndLimitedOperationStreamsTest.class.getSimpleName() )
+        );
+        offsetAndLimitedOperationStreams.skipOffsetAndRetrieveMinimumTimeStamp();
+        List<List<String>> selected = new ArrayList<>();
+        for ( int i = 0; i < streams.size(); i++ )
+        {
+            selected.add( names( offsetAndLimitedOperationStreams.selectedOperationsFor( i ) ) );
+        }
+        return selected;
+    }
+
+    private static class EveryThirdTimeStampChildOperationGenerator implements ChildOperationGenerator
+    {
+        @Override
+        public double initialState()
+        {
+            return 2;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+        {
+            return (state > 0 && operation.timeStamp() % 3 == 0)
+                   ? new TimedNamedOperation1( operation.timeStamp(), operation.timeStamp(), 0l, "child" )
+                   : null;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState - 1;
+        }
+    }
+
+    private static class ListSeekableOperationStream implements SeekableOperationStream
+    {
+        private final List<Operation> operations;
+        private final int checkpointInterval;
+        private int operationOffset = 0;
+
+        private ListSeekableOperationStream( List<Operation> operations, int checkpointInterval )
+        {
+            this.operations = operations;
+            this.checkpointInterval = checkpointInterval;
+        }
+
+        @Override
+        public long operationCount()
+        {
+            return operations.size();
+        }
+
+        @Override
+        public int checkpointCount()
+        {
+            return (operations.size() + checkpointInterval - 1) / checkpointInterval;
+        }
+
+        @Override
+        public long checkpointOperationOffset( int checkpoint )
+        {
+            return checkpoint * checkpointInterval;
+        }
+
+        @Override
+        public long checkpointTimeStamp( int checkpoint )
+        {
+            return operations.get( checkpoint * checkpointInterval ).timeStamp();
+        }
+
+        @Override
+        public long operationOffset()
+        {
+            return operationOffset;
+        }
+
+        @Override
+        public void seekToCheckpoint( int checkpoint ) throws WorkloadException
+        {
+            operationOffset = checkpoint * checkpointInterval;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return operationOffset < operations.size();
+        }
+
+        @Override
+        public Operation next()
+        {
+            return operations.get( operationOffset++ );
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static List<String> names( Iterator<Operation> operations )
+    {
+        List<String> names = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            names.add( ((TimedNamedOperation1) operations.next()).name() );
+        }
+        return names;
+    }
+}
@@ -9,6 +9,7 @@ import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.WorkloadFactory;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
@@ -186,6 +187,52 @@ public class WorkloadStreamsTest
         assertThat( secondBlocking2NonDependencyOperation.dependencyTimeStamp(), is( 100010l ) );
     }
 
+    @Test
+    public void shouldPerformTimeOffsetAndLoadProfileCorrectlyAcrossAllStreams() throws WorkloadException
+    {
+        long offset = TimeUnit.SECONDS.toMillis( 100 );
+        // 2x faster for first 500 ms of run (first 1000 ms of workload), 4x faster after
+        WorkloadStreams workloadStreamsBefore = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                getWorkloadStreams(),
+                0l + offset,
+                1.0,
+                LoadProfile.fromCommandlineString( "step:0.5,0.25:0.5" ),
+                new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) ) );
+
+        Operation firstAsyncDependencyOperation =
+                workloadStreamsBefore.asynchronousStream().dependencyOperations().next();
+        Operation secondAsyncDependencyOperation =
+                workloadStreamsBefore.asynchronousStream().dependencyOperations().next();
+        assertThat( firstAsyncDependencyOperation.scheduledStartTimeAsMilli(), is( 0l + offset ) );
+        assertThat( secondAsyncDependencyOperation.scheduledStartTimeAsMilli(), is( 5l + offset ) );
+        assertThat( secondAsyncDependencyOperation.timeStamp(), is( 10l ) );
+
+        Operation firstAsyncNonDependencyOperation =
+                workloadStreamsBefore.asynchronousStream().nonDependencyOperations().next();
+        Operation secondAsyncNonDependencyOperation =
+                workloadStreamsBefore.asynchronousStream().nonDependencyOperations().next();
+        assertThat( firstAsyncNonDependencyOperation.scheduledStartTimeAsMilli(), is( 1l + offset ) );
+        assertThat( secondAsyncNonDependencyOperation.scheduledStartTimeAsMilli(), is( 51l + offset ) );
+
+        Operation firstBlocking1DependencyOperation =
+                workloadStreamsBefore.blockingStreamDefinitions().get( 0 ).dependencyOperations().next();
+        Operation secondBlocking1DependencyOperation =
+                workloadStreamsBefore.blockingStreamDefinitions().get( 0 ).dependencyOperations().next();
+        assertThat( firstBlocking1DependencyOperation.scheduledStartTimeAsMilli(), is( 2l + offset ) );
+        // 500 ms for first 1000 ms of workload, remaining 4 ms at 4x
+        assertThat( secondBlocking1DependencyOperation.scheduledStartTimeAsMilli(), is( 501l + offset ) );
+        assertThat( secondBlocking1DependencyOperation.timeStamp(), is( 1004l ) );
+
+        Operation firstBlocking2DependencyOperation =
+                workloadStreamsBefore.blockingStreamDefinitions().get( 1 ).dependencyOperations().next();
+        Operation secondBlocking2DependencyOperation =
+                workloadStreamsBefore.blockingStreamDefinitions().get( 1 ).dependencyOperations().next();
+        assertThat( firstBlocking2DependencyOperation.scheduledStartTimeAsMilli(), is( 4l + offset ) );
+        assertThat( secondBlocking2DependencyOperation.scheduledStartTimeAsMilli(), is( 2752l + offset ) );
+        assertThat( secondBlocking2DependencyOperation.timeStamp(), is( 10008l ) );
+        assertThat( secondBlocking2DependencyOperation.dependencyTimeStamp(), is( 10008l ) );
+    }
+
     @Test
     public void shouldPerformTimeOffsetAndCompressionCorrectly() throws WorkloadException
     {
@@ -0,0 +1,200 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LocalControlService;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.simple.InsertOperation;
+import com.ldbc.driver.workloads.simple.ReadModifyWriteOperation;
+import com.ldbc.driver.workloads.simple.ReadOperation;
+import com.ldbc.driver.workloads.simple.ScanOperation;
+import com.ldbc.driver.workloads.simple.SimpleWorkload;
+import com.ldbc.driver.workloads.simple.UpdateOperation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ThroughputSearchModeTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldNotExecuteAnyWriteMoreThanOnceAcrossProbes() throws Exception
+    {
+        // Given
+        DuplicateRejectingDb.INSERT_COUNT.set( 0 );
+        DuplicateRejectingDb.DUPLICATE_INSERT_COUNT.set( 0 );
+        int probeCount = 3;
+        long operationCount = 100;
+        Map<String,String> params = new HashMap<>();
+        params.put( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                temporaryFolder.newFolder().getAbsolutePath() );
+        params.put( ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_PROBES_ARG, Integer.toString( probeCount ) );
+        params.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "0.01" );
+        params.put( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "20" );
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DuplicateRejectingDb.class.getName(),
+                SimpleWorkload.class.getName(),
+                operationCount
+        ).applyArgs( params );
+        ControlService controlService = new LocalControlService(
+                timeSource.nowAsMilli(),
+                configuration,
+                new Log4jLoggingServiceFactory( false ),
+                timeSource
+        );
+
+        // When
+        ThroughputSearchResult result;
+        try
+        {
+            ThroughputSearchMode throughputSearchMode = new ThroughputSearchMode( controlService, timeSource, 42 );
+            throughputSearchMode.init();
+            result = throughputSearchMode.startExecutionAndAwaitCompletion();
+        }
+        finally
+        {
+            controlService.shutdown();
+        }
+
+        // Then
+        assertThat( result.probes().size(), equalTo( probeCount ) );
+        for ( ThroughputSearchResult.Probe probe : result.probes() )
+        {
+            assertThat( probe.toString(), probe.operationCount(), equalTo( operationCount ) );
+        }
+        assertThat( DuplicateRejectingDb.DUPLICATE_INSERT_COUNT.get(), equalTo( 0l ) );
+        // inserts of all probes were applied, not only those of the first probe
+        assertThat( DuplicateRejectingDb.INSERT_COUNT.get() > operationCount / 5, is( true ) );
+    }
+
+    /**
+     * Like a database with a unique key constraint, inserting a key that already exists fails
+     */
+    public static class DuplicateRejectingDb extends Db
+    {
+        private static final Object RESULT = "";
+        private static final Map<String,Iterator<Byte>> MAP_RESULT = new HashMap<>();
+        private static final Vector<Map<String,Iterator<Byte>>> VECTOR_RESULT = new Vector<>();
+        static final AtomicLong INSERT_COUNT = new AtomicLong( 0 );
+        static final AtomicLong DUPLICATE_INSERT_COUNT = new AtomicLong( 0 );
+
+        private KeysConnectionState connectionState = null;
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( InsertOperation.class, InsertOperationHandler.class );
+            registerOperationHandler( ReadOperation.class, ReadOperationHandler.class );
+            registerOperationHandler( UpdateOperation.class, UpdateOperationHandler.class );
+            registerOperationHandler( ScanOperation.class, ScanOperationHandler.class );
+            registerOperationHandler( ReadModifyWriteOperation.class, ReadModifyWriteOperationHandler.class );
+            connectionState = new KeysConnectionState();
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+
+        private static class KeysConnectionState extends DbConnectionState
+        {
+            private final Set<String> keys = Collections.newSetFromMap( new ConcurrentHashMap<String,Boolean>() );
+
+            @Override
+            public void close() throws IOException
+            {
+            }
+        }
+
+        public static class InsertOperationHandler implements OperationHandler<InsertOperation,KeysConnectionState>
+        {
+            @Override
+            public void executeOperation( InsertOperation operation, KeysConnectionState connectionState,
+                    ResultReporter resultReporter ) throws DbException
+            {
+                if ( false == connectionState.keys.add( operation.key() ) )
+                {
+                    DUPLICATE_INSERT_COUNT.incrementAndGet();
+                    throw new DbException( format( "Key already exists: %s", operation.key() ) );
+                }
+                INSERT_COUNT.incrementAndGet();
+                resultReporter.report( 0, RESULT, operation );
+            }
+        }
+
+        public static class ReadOperationHandler implements OperationHandler<ReadOperation,KeysConnectionState>
+        {
+            @Override
+            public void executeOperation( ReadOperation operation, KeysConnectionState connectionState,
+                    ResultReporter resultReporter ) throws DbException
+            {
+                resultReporter.report( 0, MAP_RESULT, operation );
+            }
+        }
+
+        public static class UpdateOperationHandler implements OperationHandler<UpdateOperation,KeysConnectionState>
+        {
+            @Override
+            public void executeOperation( UpdateOperation operation, KeysConnectionState connectionState,
+                    ResultReporter resultReporter ) throws DbException
+            {
+                resultReporter.report( 0, RESULT, operation );
+            }
+        }
+
+        public static class ScanOperationHandler implements OperationHandler<ScanOperation,KeysConnectionState>
+        {
+            @Override
+            public void executeOperation( ScanOperation operation, KeysConnectionState connectionState,
+                    ResultReporter resultReporter ) throws DbException
+            {
+                resultReporter.report( 0, VECTOR_RESULT, operation );
+            }
+        }
+
+        public static class ReadModifyWriteOperationHandler
+                implements OperationHandler<ReadModifyWriteOperation,KeysConnectionState>
+        {
+            @Override
+            public void executeOperation( ReadModifyWriteOperation operation, KeysConnectionState connectionState,
+                    ResultReporter resultReporter ) throws DbException
+            {
+                resultReporter.report( 0, RESULT, operation );
+            }
+        }
+    }
+}
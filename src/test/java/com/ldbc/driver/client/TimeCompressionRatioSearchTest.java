@@ -0,0 +1,77 @@
+package com.ldbc.driver.client;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TimeCompressionRatioSearchTest
+{
+    @Test
+    public void shouldRampUpThroughputThenBisectToWithinResolutionOfLowestSustainableRatio()
+    {
+        // Given
+        double lowestSustainableRatio = 0.3;
+        TimeCompressionRatioSearch search =
+                new TimeCompressionRatioSearch( 1.0, 20, TimeCompressionRatioSearch.DEFAULT_RESOLUTION );
+
+        // When
+        List<Double> probedRatios = probeUntilDone( search, lowestSustainableRatio );
+
+        // Then
+        assertThat( probedRatios.subList( 0, 3 ).toString(), equalTo( "[1.0, 0.5, 0.25]" ) );
+        assertThat( search.lowestPassingRatio() >= lowestSustainableRatio, is( true ) );
+        assertThat( search.lowestPassingRatio() <=
+                    lowestSustainableRatio * (1 + TimeCompressionRatioSearch.DEFAULT_RESOLUTION), is( true ) );
+        assertThat( probedRatios.size() < 20, is( true ) );
+    }
+
+    @Test
+    public void shouldRampDownThroughputWhenInitialRatioFails()
+    {
+        // Given
+        double lowestSustainableRatio = 3.0;
+        TimeCompressionRatioSearch search =
+                new TimeCompressionRatioSearch( 1.0, 3, TimeCompressionRatioSearch.DEFAULT_RESOLUTION );
+
+        // When
+        List<Double> probedRatios = probeUntilDone( search, lowestSustainableRatio );
+
+        // Then
+        assertThat( probedRatios.toString(), equalTo( "[1.0, 2.0, 4.0]" ) );
+        assertThat( search.lowestPassingRatio(), equalTo( 4.0 ) );
+        assertThat( search.probeCount(), is( 3 ) );
+    }
+
+    @Test
+    public void shouldReturnNullWhenNoProbePasses()
+    {
+        // Given
+        TimeCompressionRatioSearch search =
+                new TimeCompressionRatioSearch( 1.0, 2, TimeCompressionRatioSearch.DEFAULT_RESOLUTION );
+
+        // When
+        List<Double> probedRatios = probeUntilDone( search, Double.MAX_VALUE );
+
+        // Then
+        assertThat( probedRatios.toString(), equalTo( "[1.0, 2.0]" ) );
+        assertThat( search.lowestPassingRatio(), is( nullValue() ) );
+    }
+
+    private static List<Double> probeUntilDone( TimeCompressionRatioSearch search, double lowestSustainableRatio )
+    {
+        List<Double> probedRatios = new ArrayList<>();
+        while ( search.hasNext() )
+        {
+            double ratio = search.next();
+            probedRatios.add( ratio );
+            search.report( ratio, ratio >= lowestSustainableRatio );
+        }
+        return probedRatios;
+    }
+}
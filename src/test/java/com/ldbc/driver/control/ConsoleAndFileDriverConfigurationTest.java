@@ -2,8 +2,16 @@ package com.ldbc.driver.control;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
 import org.junit.Test;
 
@@ -110,6 +118,22 @@ public class ConsoleAndFileDriverConfigurationTest
         boolean ignoreScheduledStartTimes = true;
         long warmupCount = 5;
         long skipCount = 6;
+        Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+        int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+        DefaultQueues.BoundedQueueType executorQueueType =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+        int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+        long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+        List<OperationExecutorPartition> executorPartitions =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+        int throughputSearchProbes = ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_PROBES_DEFAULT;
+        LoadProfile loadProfile = ConsoleAndFileDriverConfiguration.LOAD_PROFILE_DEFAULT;
+        boolean compileUpdateStreams = false;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        String peerAddress = null;
+        long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
         Map<String,String> paramsMap = new HashMap<>();
 
         ConsoleAndFileDriverConfiguration configurationBefore = new ConsoleAndFileDriverConfiguration(
@@ -131,7 +155,21 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
+                executorQueueSize,
+                executorQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                executorPartitions,
+                throughputSearchProbes,
+                loadProfile,
+                compileUpdateStreams,
+                completionTimeServiceType,
+                peerAddress,
+                maxBufferedOperations
         );
 
         DriverConfiguration configurationAfter =
@@ -558,12 +596,34 @@ public class ConsoleAndFileDriverConfigurationTest
                 is( ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_DEFAULT ) );
         assertThat( configurationFromParams.spinnerSleepDurationAsMilli(),
                 is( ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_DEFAULT ) );
+        assertThat( configurationFromParams.spinnerWaitStrategy(),
+                is( ConsoleAndFileDriverConfiguration.SPINNER_WAIT_STRATEGY_DEFAULT ) );
+        assertThat( configurationFromParams.operationExecutorType(),
+                is( ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT ) );
+        assertThat( configurationFromParams.maxOutstandingOperations(),
+                is( ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT ) );
+        assertThat( configurationFromParams.executorQueueSize(),
+                is( ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT ) );
+        assertThat( configurationFromParams.executorQueueType(),
+                is( ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT ) );
+        assertThat( configurationFromParams.batchSize(),
+                is( ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT ) );
+        assertThat( configurationFromParams.batchMaxWaitAsMilli(),
+                is( ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT ) );
+        assertThat( configurationFromParams.executorPartitions(),
+                is( ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT ) );
+        assertThat( configurationFromParams.throughputSearchProbes(),
+                is( ConsoleAndFileDriverConfiguration.THROUGHPUT_SEARCH_PROBES_DEFAULT ) );
+        assertThat( configurationFromParams.loadProfile(),
+                is( ConsoleAndFileDriverConfiguration.LOAD_PROFILE_DEFAULT ) );
+        assertThat( configurationFromParams.compileUpdateStreams(),
+                is( ConsoleAndFileDriverConfiguration.COMPILE_UPDATE_STREAMS_DEFAULT ) );
         assertThat( configurationFromParams.warmupCount(),
                 is( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_DEFAULT ) );
     }
 
     @Test
-    public void shouldReturnSameAsConstructedWith()
+    public void shouldReturnSameAsConstructedWith() throws OperationExecutorException
     {
         Map<String,String> paramsMap = new HashMap<>();
         String name = "name";
@@ -585,6 +645,21 @@ public class ConsoleAndFileDriverConfigurationTest
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 10;
         long skipCount = 100;
+        Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.HYBRID;
+        OperationExecutorType operationExecutorType = OperationExecutorType.TIMING_WHEEL;
+        int maxOutstandingOperations = 10;
+        int executorQueueSize = 100;
+        DefaultQueues.BoundedQueueType executorQueueType = DefaultQueues.BoundedQueueType.RING;
+        int batchSize = 50;
+        long batchMaxWaitAsMilli = 5;
+        List<OperationExecutorPartition> executorPartitions = Lists.newArrayList(
+                new OperationExecutorPartition( Lists.newArrayList( "LdbcQuery9", "LdbcQuery14" ), 2, 10 ) );
+        int throughputSearchProbes = 8;
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "ramp:1:0.25:60" );
+        boolean compileUpdateStreams = false;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        String peerAddress = null;
+        long maxBufferedOperations = 1000000;
 
         ConsoleAndFileDriverConfiguration params = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -605,7 +680,21 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
+                executorQueueSize,
+                executorQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                executorPartitions,
+                throughputSearchProbes,
+                loadProfile,
+                compileUpdateStreams,
+                completionTimeServiceType,
+                peerAddress,
+                maxBufferedOperations
         );
 
         assertThat( params.asMap(), equalTo( paramsMap ) );
@@ -626,6 +715,230 @@ public class ConsoleAndFileDriverConfigurationTest
         assertThat( params.shouldPrintHelpString(), equalTo( printHelp ) );
         assertThat( params.ignoreScheduledStartTimes(), equalTo( ignoreScheduledStartTimes ) );
         assertThat( params.spinnerSleepDurationAsMilli(), equalTo( spinnerSleepDuration ) );
+        assertThat( params.spinnerWaitStrategy(), equalTo( spinnerWaitStrategy ) );
+        assertThat( params.operationExecutorType(), equalTo( operationExecutorType ) );
+        assertThat( params.maxOutstandingOperations(), equalTo( maxOutstandingOperations ) );
+        assertThat( params.executorQueueSize(), equalTo( executorQueueSize ) );
+        assertThat( params.executorQueueType(), equalTo( executorQueueType ) );
+        assertThat( params.batchSize(), equalTo( batchSize ) );
+        assertThat( params.batchMaxWaitAsMilli(), equalTo( batchMaxWaitAsMilli ) );
+        assertThat( params.executorPartitions(), equalTo( executorPartitions ) );
+        assertThat( params.throughputSearchProbes(), equalTo( throughputSearchProbes ) );
+        assertThat( params.loadProfile(), equalTo( loadProfile ) );
+        assertThat( params.compileUpdateStreams(), equalTo( compileUpdateStreams ) );
+        assertThat( params.maxBufferedOperations(), equalTo( maxBufferedOperations ) );
+    }
+
+    @Test
+    public void shouldParseExecutorPartitionsAndWriteThemBackOut() throws DriverConfigurationException
+    {
+        // Given
+        String executorPartitionsString = "LdbcQuery9,LdbcQuery14:4:100|LdbcShortQuery1PersonProfile:8:1000";
+        ConsoleAndFileDriverConfiguration configurationBefore =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+
+        // When
+        DriverConfiguration configurationAfter = configurationBefore.applyArg(
+                ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_ARG, executorPartitionsString );
+
+        // Then
+        List<OperationExecutorPartition> executorPartitions = configurationAfter.executorPartitions();
+        assertThat( executorPartitions.size(), is( 2 ) );
+        assertThat( executorPartitions.get( 0 ).operationTypes(),
+                equalTo( (List<String>) Lists.newArrayList( "LdbcQuery9", "LdbcQuery14" ) ) );
+        assertThat( executorPartitions.get( 0 ).threadCount(), is( 4 ) );
+        assertThat( executorPartitions.get( 0 ).queueSize(), is( 100 ) );
+        assertThat( executorPartitions.get( 1 ).operationTypes(),
+                equalTo( (List<String>) Lists.newArrayList( "LdbcShortQuery1PersonProfile" ) ) );
+        assertThat( executorPartitions.get( 1 ).threadCount(), is( 8 ) );
+        assertThat( executorPartitions.get( 1 ).queueSize(), is( 1000 ) );
+        assertThat( configurationAfter.asMap().get( ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_ARG ),
+                equalTo( executorPartitionsString ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromArgs(
+                ((ConsoleAndFileDriverConfiguration) configurationAfter).toArgs() ),
+                equalTo( configurationAfter ) );
+    }
+
+    @Test
+    public void shouldParseLoadProfileAndWriteItBackOut() throws DriverConfigurationException
+    {
+        // Given
+        String loadProfileString = "step:1,0.5,0.25:30";
+        ConsoleAndFileDriverConfiguration configurationBefore =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+
+        // When
+        DriverConfiguration configurationAfter = configurationBefore.applyArg(
+                ConsoleAndFileDriverConfiguration.LOAD_PROFILE_ARG, loadProfileString );
+
+        // Then
+        assertThat( configurationBefore.loadProfile(), is( nullValue() ) );
+        assertThat( configurationAfter.loadProfile(),
+                equalTo( LoadProfile.fromCommandlineString( loadProfileString ) ) );
+        assertThat( configurationAfter.asMap().get( ConsoleAndFileDriverConfiguration.LOAD_PROFILE_ARG ),
+                equalTo( loadProfileString ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromArgs(
+                ((ConsoleAndFileDriverConfiguration) configurationAfter).toArgs() ),
+                equalTo( configurationAfter ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromArgs(
+                ((ConsoleAndFileDriverConfiguration) configurationBefore).toArgs() ),
+                equalTo( (DriverConfiguration) configurationBefore ) );
+    }
+
+    @Test
+    public void shouldParseCompileUpdateStreamsFlagAndWriteItBackOut() throws DriverConfigurationException
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configurationBefore =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+        List<String> args = Lists.newArrayList( configurationBefore.toArgs() );
+        args.add( "-" + ConsoleAndFileDriverConfiguration.COMPILE_UPDATE_STREAMS_ARG );
+
+        // When
+        ConsoleAndFileDriverConfiguration configurationAfter =
+                ConsoleAndFileDriverConfiguration.fromArgs( args.toArray( new String[args.size()] ) );
+
+        // Then
+        assertThat( configurationBefore.compileUpdateStreams(), is( false ) );
+        assertThat( configurationAfter.compileUpdateStreams(), is( true ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromArgs( configurationAfter.toArgs() ),
+                equalTo( configurationAfter ) );
+    }
+
+    @Test
+    public void shouldParseMaxBufferedOperationsAndWriteItBackOut() throws DriverConfigurationException
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configurationBefore =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+
+        // When
+        DriverConfiguration configurationAfter = configurationBefore.applyArg(
+                ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_ARG, "1000000" );
+
+        // Then
+        assertThat( configurationBefore.maxBufferedOperations(), equalTo( 0l ) );
+        assertThat( configurationAfter.maxBufferedOperations(), equalTo( 1000000l ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromArgs(
+                ((ConsoleAndFileDriverConfiguration) configurationAfter).toArgs() ),
+                equalTo( configurationAfter ) );
+        assertThat( ConsoleAndFileDriverConfiguration.fromParamsMap( configurationAfter.asMap() ),
+                equalTo( configurationAfter ) );
+    }
+
+    @Test
+    public void shouldRejectOperationTypeThatIsInMoreThanOnePartition() throws DriverConfigurationException
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_ARG, "LdbcQuery9:4:100|LdbcQuery9:2:10" );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldRejectExecutorPartitionsForExecutorsThatDoNotSupportThem() throws DriverConfigurationException
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+        String executorPartitions = "LdbcQuery9:4:100";
+
+        for ( OperationExecutorType operationExecutorType : OperationExecutorType.values() )
+        {
+            Map<String,String> params = new HashMap<>();
+            params.put( ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+            params.put( ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_ARG, executorPartitions );
+
+            // When
+            boolean appliedExceptionThrown = false;
+            try
+            {
+                configuration.applyArgs( params );
+            }
+            catch ( DriverConfigurationException e )
+            {
+                appliedExceptionThrown = true;
+            }
+            boolean parsedExceptionThrown = false;
+            Map<String,String> paramsMap = configuration.asMap();
+            paramsMap.putAll( params );
+            try
+            {
+                ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap );
+            }
+            catch ( DriverConfigurationException e )
+            {
+                parsedExceptionThrown = true;
+            }
+
+            // Then
+            boolean supported = OperationExecutorType.THREAD_POOL.equals( operationExecutorType ) ||
+                                OperationExecutorType.TIMING_WHEEL.equals( operationExecutorType );
+            assertThat( operationExecutorType.name(), appliedExceptionThrown, is( false == supported ) );
+            assertThat( operationExecutorType.name(), parsedExceptionThrown, is( false == supported ) );
+        }
+    }
+
+    @Test
+    public void shouldRejectPartitionedWorkloadWithoutPeers() throws DriverConfigurationException
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 100 );
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            configuration.applyArg( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, "2" );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        // one partition needs no peers
+        configuration.applyArg( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, "1" );
+        Map<String,String> partitionedWithPeerIds = new HashMap<>();
+        partitionedWithPeerIds.put( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, "2" );
+        partitionedWithPeerIds.put( ConsoleAndFileDriverConfiguration.PEER_IDS_ARG, "peer1" );
+        configuration.applyArgs( partitionedWithPeerIds );
+        Map<String,String> partitionedWithPeerAddress = new HashMap<>();
+        partitionedWithPeerAddress.put( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, "2" );
+        partitionedWithPeerAddress.put( ConsoleAndFileDriverConfiguration.PEER_ADDRESS_ARG, "localhost:9999" );
+        configuration.applyArgs( partitionedWithPeerAddress );
+
+        // When
+        exceptionThrown = false;
+        Map<String,String> paramsMap = configuration.asMap();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT, "2" );
+        try
+        {
+            ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
     }
 
     @Test
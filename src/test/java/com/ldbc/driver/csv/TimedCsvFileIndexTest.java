@@ -0,0 +1,107 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimedCsvFileIndexTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldIndexRowCountTimeStampsAndCheckpoints() throws IOException
+    {
+        // Given
+        String rows = "" +
+                      "10|1|a\n" +
+                      "12|2|bb\n" +
+                      "12|3|ccc\n" +
+                      "15|4|dddd\n" +
+                      "20|5|e\n" +
+                      "\n" +
+                      "99|6|after empty row\n";
+        File csvFile = temporaryFolder.newFile( "stream.csv" );
+        Files.write( csvFile.toPath(), rows.getBytes( Charsets.UTF_8 ) );
+
+        // When
+        TimedCsvFileIndex index = TimedCsvFileIndex.create( csvFile, 2, '|' );
+
+        // Then
+        assertThat( index.rowCount(), is( 5l ) );
+        assertThat( index.firstTimeStamp(), is( 10l ) );
+        assertThat( index.lastTimeStamp(), is( 20l ) );
+        assertThat( index.checkpointCount(), is( 3 ) );
+        assertThat( index.checkpointRowOffset( 1 ), is( 2l ) );
+        assertThat( index.checkpointTimeStamp( 0 ), is( 10l ) );
+        assertThat( index.checkpointTimeStamp( 1 ), is( 12l ) );
+        assertThat( index.checkpointTimeStamp( 2 ), is( 20l ) );
+        assertThat( rows.substring( (int) index.checkpointByteOffset( 1 ) ).startsWith( "12|3|ccc" ), is( true ) );
+        assertThat( rows.substring( (int) index.checkpointByteOffset( 2 ) ).startsWith( "20|5|e" ), is( true ) );
+    }
+
+    @Test
+    public void shouldWriteIndexToSidecarFileAndRecreateItWhenCsvFileChanges() throws IOException
+    {
+        // Given
+        File csvFile = temporaryFolder.newFile( "stream.csv" );
+        Files.write( csvFile.toPath(), "1|a\n2|b\n3|c\n".getBytes( Charsets.UTF_8 ) );
+
+        // When
+        TimedCsvFileIndex created = TimedCsvFileIndex.loadOrCreate( csvFile, 2, '|' );
+        TimedCsvFileIndex loaded = TimedCsvFileIndex.read( TimedCsvFileIndex.indexFileFor( csvFile ) );
+
+        // Then
+        assertThat( TimedCsvFileIndex.indexFileFor( csvFile ).exists(), is( true ) );
+        assertThat( loaded.isIndexOf( csvFile ), is( true ) );
+        assertThat( loaded.rowCount(), equalTo( created.rowCount() ) );
+        assertThat( loaded.lastTimeStamp(), equalTo( created.lastTimeStamp() ) );
+        assertThat( loaded.checkpointCount(), equalTo( created.checkpointCount() ) );
+        assertThat( loaded.checkpointByteOffset( 1 ), equalTo( created.checkpointByteOffset( 1 ) ) );
+
+        // When
+        Files.write( csvFile.toPath(), "1|a\n2|b\n3|c\n4|d\n".getBytes( Charsets.UTF_8 ) );
+        TimedCsvFileIndex recreated = TimedCsvFileIndex.loadOrCreate( csvFile, 2, '|' );
+
+        // Then
+        assertThat( recreated.rowCount(), is( 4l ) );
+        assertThat( TimedCsvFileIndex.read( TimedCsvFileIndex.indexFileFor( csvFile ) ).rowCount(), is( 4l ) );
+    }
+
+    @Test
+    public void shouldRecreateIndexWhenSidecarFileIsTruncated() throws IOException
+    {
+        // Given
+        File csvFile = temporaryFolder.newFile( "stream.csv" );
+        Files.write( csvFile.toPath(), "1|a\n2|b\n3|c\n4|d\n5|e\n".getBytes( Charsets.UTF_8 ) );
+        File indexFile = TimedCsvFileIndex.indexFileFor( csvFile );
+        TimedCsvFileIndex.loadOrCreate( csvFile, 2, '|' );
+        for ( long truncatedLength : new long[]{indexFile.length() - 1, indexFile.length() - 16, 10, 0} )
+        {
+            try ( RandomAccessFile file = new RandomAccessFile( indexFile, "rw" ) )
+            {
+                file.setLength( truncatedLength );
+            }
+
+            // When
+            TimedCsvFileIndex index = TimedCsvFileIndex.loadOrCreate( csvFile, 2, '|' );
+
+            // Then
+            assertThat( index.rowCount(), is( 5l ) );
+            assertThat( index.checkpointCount(), is( 3 ) );
+            assertThat( TimedCsvFileIndex.read( indexFile ).rowCount(), is( 5l ) );
+        }
+        // nothing but csv file and index file, temporary files were moved to index file
+        assertThat( temporaryFolder.getRoot().list().length, is( 2 ) );
+    }
+}
@@ -0,0 +1,108 @@
+package com.ldbc.driver.csv.charseeker;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.testutils.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MappedFileReadableTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldDecodeSameAsInputStreamReaderForAnyMappingAndReadSize() throws IOException
+    {
+        // Given
+        String text = "" +
+                      "1|ascii|Coll\u00E8ge de France|\u0420\u043E\u0441\u0441\u0438\u044F\n" +
+                      "2|\u4E2D\u6587|\uD83D\uDE00\uD83D\uDE01|end\n" +
+                      "3|\u00E9\u00E9\u00E9\uD83D\uDE02\u20AC\n";
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), text.getBytes( Charsets.UTF_8 ) );
+
+        for ( int mappingSize : new int[]{4, 5, 7, 16, MappedFileReadable.DEFAULT_MAPPING_SIZE} )
+        {
+            for ( int readSize : new int[]{1, 2, 3, 64} )
+            {
+                // When
+                String read = readAll( new MappedFileReadable( file, 0, mappingSize ), readSize );
+
+                // Then
+                assertThat( "mapping size " + mappingSize + ", read size " + readSize, read, equalTo( text ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReplaceMalformedInputAsInputStreamReaderDoes() throws IOException
+    {
+        // Given
+        byte[] bytes = new byte[]{'a', (byte) 0xFF, 'b', (byte) 0xC3, 'c', (byte) 0xE2, (byte) 0x82};
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), bytes );
+
+        // When
+        String read = readAll( new MappedFileReadable( file, 0, 4 ), 64 );
+
+        // Then
+        assertThat( read, equalTo( readAll( Readables.wrap(
+                new InputStreamReader( new FileInputStream( file ), Charsets.UTF_8 ) ), 64 ) ) );
+    }
+
+    @Test
+    public void shouldStartReadingAtPositionAndReturnEndOfFile() throws IOException
+    {
+        // Given
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), "0123456789".getBytes( Charsets.UTF_8 ) );
+        File emptyFile = temporaryFolder.newFile();
+
+        // When / Then
+        assertThat( readAll( Readables.mappedFile( file, 4 ), 3 ), equalTo( "456789" ) );
+        assertThat( readAll( Readables.mappedFile( file, 10 ), 3 ), equalTo( "" ) );
+        CharReadable readable = Readables.mappedFile( emptyFile );
+        assertThat( readable.read( new char[8], 0, 8 ), is( -1 ) );
+        readable.close();
+    }
+
+    @Test
+    public void shouldReadUpdateStreamSameAsInputStreamReader() throws IOException
+    {
+        // Given
+        File updateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+
+        // When
+        String mapped = readAll( Readables.mappedFile( updateStreamFile ), 1024 * 1024 );
+        String expected = readAll( Readables.wrap(
+                new InputStreamReader( new FileInputStream( updateStreamFile ), Charsets.UTF_8 ) ), 1024 * 1024 );
+
+        // Then
+        assertThat( mapped, equalTo( expected ) );
+    }
+
+    private static String readAll( CharReadable readable, int readSize ) throws IOException
+    {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[readSize + 1];
+        int read;
+        // offset of 1, so reading into middle of buffer is also exercised
+        while ( -1 != (read = readable.read( buffer, 1, readSize )) )
+        {
+            sb.append( buffer, 1, read );
+        }
+        readable.close();
+        return sb.toString();
+    }
+}
@@ -1,10 +1,20 @@
 package com.ldbc.driver.generator;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -175,6 +185,128 @@ public class OrderedMultiGeneratorTest {
         }
     }
 
+    @Test
+    public void shouldMergeInKeyThenGeneratorOrderForAnyGeneratorCount() {
+        Random random = new Random(42);
+        for (int generatorCount = 0; generatorCount <= 33; generatorCount++) {
+            for (int lookaheadDistance : new int[]{1, 2, 5}) {
+                // Given
+                List<List<long[]>> streams = randomStreams(random, generatorCount, lookaheadDistance > 1);
+                List<long[]> expected = new ArrayList<>();
+                for (List<long[]> stream : streams) {
+                    expected.addAll(stream);
+                }
+                // stable, so elements with equal keys remain in generator order, then stream order
+                Collections.sort(expected, new KeyComparator());
+
+                // When
+                Iterator<long[]> keyMerged =
+                        new OrderedMultiGenerator<>(new KeyFunction(), lookaheadDistance, iterators(streams));
+                Iterator<long[]> comparatorMerged =
+                        new OrderedMultiGenerator<>(new KeyComparator(), lookaheadDistance, iterators(streams));
+
+                // Then
+                assertThat(Lists.newArrayList(keyMerged), equalTo(expected));
+                assertThat(Lists.newArrayList(comparatorMerged), equalTo(expected));
+            }
+        }
+    }
+
+    @Ignore
+    @Test
+    public void mergePerformanceTest() {
+        TimeSource timeSource = new SystemTimeSource();
+        int elementCount = 10000000;
+        int repetitions = 5;
+        for (int generatorCount : new int[]{1, 2, 4, 8, 16, 32, 64, 128}) {
+            List<List<long[]>> streams = new ArrayList<>();
+            for (int i = 0; i < generatorCount; i++) {
+                streams.add(new ArrayList<long[]>());
+            }
+            Random random = new Random(42);
+            for (int i = 0; i < elementCount; i++) {
+                streams.get(random.nextInt(generatorCount)).add(new long[]{i, 0, 0});
+            }
+            long keyDurationAsNano = 0;
+            long comparatorDurationAsNano = 0;
+            long guavaDurationAsNano = 0;
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                long startTimeAsNano = timeSource.nanoSnapshot();
+                drain(new OrderedMultiGenerator<>(new KeyFunction(), 1, iterators(streams)));
+                keyDurationAsNano += timeSource.nanoSnapshot() - startTimeAsNano;
+
+                startTimeAsNano = timeSource.nanoSnapshot();
+                drain(new OrderedMultiGenerator<>(new KeyComparator(), 1, iterators(streams)));
+                comparatorDurationAsNano += timeSource.nanoSnapshot() - startTimeAsNano;
+
+                startTimeAsNano = timeSource.nanoSnapshot();
+                drain(Iterators.mergeSorted(Lists.newArrayList(iterators(streams)), new KeyComparator()));
+                guavaDurationAsNano += timeSource.nanoSnapshot() - startTimeAsNano;
+            }
+            long elements = (long) elementCount * repetitions;
+            System.out.println(String.format("k=%s: key=%.1f ns/op, comparator=%.1f ns/op, guava=%.1f ns/op",
+                    generatorCount,
+                    keyDurationAsNano / (double) elements,
+                    comparatorDurationAsNano / (double) elements,
+                    guavaDurationAsNano / (double) elements));
+        }
+    }
+
+    // elements are {key, generator, position in generator}
+    private static List<List<long[]>> randomStreams(Random random, int generatorCount, boolean outOfOrder) {
+        List<List<long[]>> streams = new ArrayList<>();
+        for (int generator = 0; generator < generatorCount; generator++) {
+            List<long[]> stream = new ArrayList<>();
+            int length = random.nextInt(50);
+            long key = 0;
+            for (int position = 0; position < length; position++) {
+                // few distinct keys, so there are many ties, within and between generators
+                key += random.nextInt(3);
+                stream.add(new long[]{key, generator, position});
+            }
+            if (outOfOrder) {
+                // elements are at most one place from their sorted position
+                for (int position = 0; position + 1 < length; position += 2) {
+                    if (random.nextBoolean()) {
+                        Collections.swap(stream, position, position + 1);
+                    }
+                }
+            }
+            streams.add(stream);
+        }
+        return streams;
+    }
+
+    private static Iterator<long[]>[] iterators(List<List<long[]>> streams) {
+        Iterator<long[]>[] iterators = new Iterator[streams.size()];
+        for (int i = 0; i < streams.size(); i++) {
+            iterators[i] = streams.get(i).iterator();
+        }
+        return iterators;
+    }
+
+    private static long drain(Iterator<long[]> iterator) {
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next()[0];
+        }
+        return sum;
+    }
+
+    private static class KeyFunction implements OrderedMultiGenerator.KeyFunction<long[]> {
+        @Override
+        public long keyOf(long[] element) {
+            return element[0];
+        }
+    }
+
+    private static class KeyComparator implements Comparator<long[]> {
+        @Override
+        public int compare(long[] element1, long[] element2) {
+            return Long.compare(element1[0], element2[0]);
+        }
+    }
+
     private static class IntegerComparator implements Comparator<Integer> {
         @Override
         public int compare(Integer i1, Integer i2) {
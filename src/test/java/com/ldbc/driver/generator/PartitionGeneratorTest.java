@@ -0,0 +1,58 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PartitionGeneratorTest {
+    private final GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42l));
+
+    @Test
+    public void shouldReturnEveryPartitionCountItemStartingFromPartitionId() {
+        assertEquals(Lists.newArrayList(0l, 3l, 6l, 9l), Lists.newArrayList(gf.partition(zeroToNine(), 0, 3)));
+        assertEquals(Lists.newArrayList(1l, 4l, 7l), Lists.newArrayList(gf.partition(zeroToNine(), 1, 3)));
+        assertEquals(Lists.newArrayList(2l, 5l, 8l), Lists.newArrayList(gf.partition(zeroToNine(), 2, 3)));
+    }
+
+    @Test
+    public void shouldReturnOriginalGeneratorForSinglePartition() {
+        assertEquals(Lists.newArrayList(zeroToNine()), Lists.newArrayList(gf.partition(zeroToNine(), 0, 1)));
+    }
+
+    @Test
+    public void shouldReturnEveryItemExactlyOnceAcrossPartitions() {
+        // Given
+        int partitionCount = 4;
+        List<Long> items = Lists.newArrayList(gf.limit(gf.incrementing(0l, 1l), 101));
+
+        // When
+        List<Long> partitionedItems = new ArrayList<>();
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            partitionedItems.addAll(Lists.newArrayList(gf.partition(items.iterator(), partitionId, partitionCount)));
+        }
+
+        // Then
+        Collections.sort(partitionedItems);
+        assertEquals(items, partitionedItems);
+    }
+
+    @Test
+    public void shouldReturnNothingForPartitionBeyondLastItem() {
+        assertEquals(0, Lists.newArrayList(gf.partition(gf.limit(gf.incrementing(0l, 1l), 2), 3, 4)).size());
+    }
+
+    @Test(expected = GeneratorException.class)
+    public void shouldNotAllowPartitionIdOutsidePartitionCount() {
+        gf.partition(gf.incrementing(0l, 1l), 2, 2);
+    }
+
+    private Iterator<Long> zeroToNine() {
+        return gf.limit(gf.incrementing(0l, 1l), 10);
+    }
+}
@@ -8,6 +8,12 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.testutils.TestUtils;
@@ -338,6 +344,43 @@ public class TimeMappingOperationGeneratorTest
         assertThat( offsetAndCompressedOperations.get( 10 ).dependencyTimeStamp(), equalTo( 0l ) );
     }
 
+    @Test
+    public void shouldOffsetAndCompressWithSubMillisecondPrecision()
+    {
+        // Given
+        Iterator<Operation> operations = gf.limit(
+                new TimedNamedOperation1Factory(
+                        // start times
+                        gf.incrementing( 0l, 1l ),
+                        // dependency times
+                        gf.incrementing( 0l, 0l ),
+                        // names
+                        gf.constant( "name1" )
+                ),
+                5
+        );
+
+        // When
+        long newStartTime = 10l;
+        Double compressionRatio = 0.25;
+        List<Operation> offsetAndCompressedOperations = ImmutableList
+                .copyOf( gf.timeOffsetAndCompress( operations, newStartTime, compressionRatio ) );
+
+        // Then
+        assertThat( offsetAndCompressedOperations.size(), is( 5 ) );
+        assertThat( offsetAndCompressedOperations.get( 0 ).scheduledStartTimeAsNano(), equalTo( 10_000_000l ) );
+        assertThat( offsetAndCompressedOperations.get( 1 ).scheduledStartTimeAsNano(), equalTo( 10_250_000l ) );
+        assertThat( offsetAndCompressedOperations.get( 2 ).scheduledStartTimeAsNano(), equalTo( 10_500_000l ) );
+        assertThat( offsetAndCompressedOperations.get( 3 ).scheduledStartTimeAsNano(), equalTo( 10_750_000l ) );
+        assertThat( offsetAndCompressedOperations.get( 4 ).scheduledStartTimeAsNano(), equalTo( 11_000_000l ) );
+        // millisecond start times are rounded to nearest millisecond
+        assertThat( offsetAndCompressedOperations.get( 0 ).scheduledStartTimeAsMilli(), equalTo( 10l ) );
+        assertThat( offsetAndCompressedOperations.get( 1 ).scheduledStartTimeAsMilli(), equalTo( 10l ) );
+        assertThat( offsetAndCompressedOperations.get( 2 ).scheduledStartTimeAsMilli(), equalTo( 11l ) );
+        assertThat( offsetAndCompressedOperations.get( 3 ).scheduledStartTimeAsMilli(), equalTo( 11l ) );
+        assertThat( offsetAndCompressedOperations.get( 4 ).scheduledStartTimeAsMilli(), equalTo( 11l ) );
+    }
+
     @Test
     public void shouldNotBreakTheMonotonicallyIncreasingScheduledStartTimesOfOperationsFromLdbcWorkload()
             throws WorkloadException, IOException, DriverConfigurationException
@@ -365,6 +408,22 @@ public class TimeMappingOperationGeneratorTest
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 0;
         long skipCount = 0;
+        Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+        int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+        DefaultQueues.BoundedQueueType executorQueueType =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+        int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+        long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+        List<OperationExecutorPartition> executorPartitions =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+        int throughputSearchProbes = 0;
+        LoadProfile loadProfile = null;
+        boolean compileUpdateStreams = false;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        String peerAddress = null;
+        long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
         ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -385,7 +444,21 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
+                executorQueueSize,
+                executorQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                executorPartitions,
+                throughputSearchProbes,
+                loadProfile,
+                compileUpdateStreams,
+                completionTimeServiceType,
+                peerAddress,
+                maxBufferedOperations
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
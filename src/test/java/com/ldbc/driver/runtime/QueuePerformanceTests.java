@@ -12,6 +12,11 @@ import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.testutils.TestUtils;
@@ -19,6 +24,7 @@ import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
+import java.util.List;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -31,9 +37,11 @@ import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -96,6 +104,22 @@ public class QueuePerformanceTests
         boolean ignoreScheduledStartTimes = false;
         long warmupCount = 0;
         long skipCount = 0;
+        Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+        int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+        DefaultQueues.BoundedQueueType executorQueueType =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+        int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+        long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+        List<OperationExecutorPartition> executorPartitions =
+                ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+        int throughputSearchProbes = 0;
+        LoadProfile loadProfile = null;
+        boolean compileUpdateStreams = false;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+        String peerAddress = null;
+        long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
         DriverConfiguration config = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -116,7 +140,21 @@ public class QueuePerformanceTests
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
+                executorQueueSize,
+                executorQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                executorPartitions,
+                throughputSearchProbes,
+                loadProfile,
+                compileUpdateStreams,
+                completionTimeServiceType,
+                peerAddress,
+                maxBufferedOperations
         );
 
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
@@ -317,6 +355,73 @@ public class QueuePerformanceTests
         System.out.println( "SynchronousQueue(blocking) = \t\t\t" + synchronousQueueBlockingItemsPerMs + " item/ms" );
     }
 
+    @Ignore
+    @Test
+    public void compareHandOffCostOfExecutorWorkQueueImplementations() throws InterruptedException
+    {
+        int operationCount = 1000000;
+        int experimentCount = 5;
+        int[] threadCounts = new int[]{1, 4};
+        int queueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        for ( int threadCount : threadCounts )
+        {
+            for ( DefaultQueues.BoundedQueueType queueType : DefaultQueues.BoundedQueueType.values() )
+            {
+                // warmup
+                executorHandOffPerformanceTest( operationCount, threadCount, queueType, queueSize );
+                long totalDurationAsNano = 0l;
+                for ( int i = 0; i < experimentCount; i++ )
+                {
+                    totalDurationAsNano = totalDurationAsNano +
+                                          executorHandOffPerformanceTest( operationCount, threadCount, queueType,
+                                                  queueSize );
+                }
+                System.out.println(
+                        format( "%s(threads=%s) = \t%s ns/operation",
+                                queueType.name(),
+                                threadCount,
+                                totalDurationAsNano / ((long) operationCount * experimentCount) ) );
+            }
+        }
+    }
+
+    public long executorHandOffPerformanceTest( int operationCount,
+            int threadCount,
+            DefaultQueues.BoundedQueueType queueType,
+            int queueSize ) throws InterruptedException
+    {
+        final CountDownLatch completed = new CountDownLatch( operationCount );
+        Runnable operation = new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                completed.countDown();
+            }
+        };
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                DefaultQueues.<Runnable>newAlwaysBlockingBounded( queueType, queueSize )
+        );
+        threadPoolExecutor.prestartAllCoreThreads();
+
+        long startTimeAsNano = System.nanoTime();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            threadPoolExecutor.execute( operation );
+        }
+        completed.await();
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+
+        threadPoolExecutor.shutdown();
+        threadPoolExecutor.awaitTermination( 1, TimeUnit.MINUTES );
+        return durationAsNano;
+    }
+
     public long nonBlockingQueuePerformanceTest( final int queueItemCount, final Queue<Integer> queue )
             throws InterruptedException
     {
@@ -0,0 +1,330 @@
+package com.ldbc.driver.runtime;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class RingBufferBlockingQueueTest
+{
+    @Test
+    public void shouldReturnElementsInInsertionOrderAndRejectOffersWhenFull()
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 3 );
+
+        // When
+        boolean offered1 = queue.offer( 1 );
+        boolean offered2 = queue.offer( 2 );
+        boolean offered3 = queue.offer( 3 );
+        boolean offered4 = queue.offer( 4 );
+
+        // Then
+        assertThat( offered1 && offered2 && offered3, is( true ) );
+        assertThat( offered4, is( false ) );
+        assertThat( queue.size(), is( 3 ) );
+        assertThat( queue.remainingCapacity(), is( 0 ) );
+        assertThat( queue.peek(), equalTo( 1 ) );
+        assertThat( queue.poll(), equalTo( 1 ) );
+        assertThat( queue.offer( 4 ), is( true ) );
+        assertThat( queue.poll(), equalTo( 2 ) );
+        assertThat( queue.poll(), equalTo( 3 ) );
+        assertThat( queue.poll(), equalTo( 4 ) );
+        assertThat( queue.poll(), is( nullValue() ) );
+        assertThat( queue.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldWrapAroundManyTimes()
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 7 );
+
+        // When/Then
+        for ( int i = 0; i < 1000; i++ )
+        {
+            assertThat( queue.offer( i ), is( true ) );
+            assertThat( queue.offer( -i ), is( true ) );
+            assertThat( queue.poll(), equalTo( i ) );
+            assertThat( queue.poll(), equalTo( -i ) );
+        }
+        assertThat( queue.size(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldDrainAllElements()
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 10 );
+        for ( int i = 0; i < 5; i++ )
+        {
+            queue.offer( i );
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        int drainedCount = queue.drainTo( drained );
+
+        // Then
+        assertThat( drainedCount, is( 5 ) );
+        assertThat( drained.toString(), equalTo( "[0, 1, 2, 3, 4]" ) );
+        assertThat( queue.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldIterateOverElementsBetweenHeadAndTail()
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 3 );
+        for ( int i = 0; i < 5; i++ )
+        {
+            queue.offer( i );
+            if ( i >= 2 )
+            {
+                queue.poll();
+            }
+        }
+
+        // When
+        List<Integer> iterated = new ArrayList<>();
+        for ( Integer element : queue )
+        {
+            iterated.add( element );
+        }
+
+        // Then
+        assertThat( iterated.toString(), equalTo( "[3, 4]" ) );
+        assertThat( queue.toString(), equalTo( "[3, 4]" ) );
+        assertThat( queue.contains( 4 ), is( true ) );
+        assertThat( queue.contains( 2 ), is( false ) );
+        assertThat( new RingBufferBlockingQueue<Integer>( 1 ).toString(), equalTo( "[]" ) );
+    }
+
+    @Test
+    public void shouldIterateOverSnapshotWhileQueueIsModified()
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 3 );
+        queue.offer( 1 );
+        queue.offer( 2 );
+        Iterator<Integer> iterator = queue.iterator();
+
+        // When
+        queue.poll();
+        queue.offer( 3 );
+
+        // Then
+        List<Integer> iterated = new ArrayList<>();
+        while ( iterator.hasNext() )
+        {
+            iterated.add( iterator.next() );
+        }
+        assertThat( iterated.toString(), equalTo( "[1, 2]" ) );
+        assertThat( queue.toString(), equalTo( "[2, 3]" ) );
+    }
+
+    @Test
+    public void shouldTimeOutWhenEmptyOrFull() throws InterruptedException
+    {
+        // Given
+        BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 1 );
+
+        // When/Then
+        assertThat( queue.poll( 10, TimeUnit.MILLISECONDS ), is( nullValue() ) );
+        assertThat( queue.offer( 1, 10, TimeUnit.MILLISECONDS ), is( true ) );
+        assertThat( queue.offer( 2, 10, TimeUnit.MILLISECONDS ), is( false ) );
+        assertThat( queue.poll( 10, TimeUnit.MILLISECONDS ), equalTo( 1 ) );
+    }
+
+    @Test
+    public void shouldDeliverEveryElementExactlyOnceWithConcurrentProducersAndConsumers() throws InterruptedException
+    {
+        // Given
+        final int producerCount = 4;
+        final int consumerCount = 4;
+        final int elementsPerProducer = 100000;
+        final BlockingQueue<Integer> queue = new RingBufferBlockingQueue<>( 16 );
+        final AtomicLongArray deliveries = new AtomicLongArray( producerCount * elementsPerProducer );
+        final AtomicLong consumedCount = new AtomicLong( 0 );
+        final AtomicLong interruptedThreadCount = new AtomicLong( 0 );
+        final int terminate = -1;
+        List<Thread> threads = new ArrayList<>();
+        for ( int p = 0; p < producerCount; p++ )
+        {
+            final int producerId = p;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for ( int i = 0; i < elementsPerProducer; i++ )
+                        {
+                            queue.put( producerId * elementsPerProducer + i );
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        Thread.currentThread().interrupt();
+                        interruptedThreadCount.incrementAndGet();
+                    }
+                }
+            } );
+        }
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        int element;
+                        while ( terminate != (element = queue.take()) )
+                        {
+                            deliveries.incrementAndGet( element );
+                            consumedCount.incrementAndGet();
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        Thread.currentThread().interrupt();
+                        interruptedThreadCount.incrementAndGet();
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( int p = 0; p < producerCount; p++ )
+        {
+            threads.get( p ).join();
+        }
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            queue.put( terminate );
+        }
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            threads.get( producerCount + c ).join();
+        }
+
+        // Then
+        assertThat( interruptedThreadCount.get(), is( 0l ) );
+        assertThat( consumedCount.get(), is( (long) producerCount * elementsPerProducer ) );
+        for ( int i = 0; i < deliveries.length(); i++ )
+        {
+            assertThat( deliveries.get( i ), is( 1l ) );
+        }
+        assertThat( queue.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldWorkAsAlwaysBlockingThreadPoolWorkQueue() throws InterruptedException
+    {
+        // Given
+        int taskCount = 10000;
+        final CountDownLatch completed = new CountDownLatch( taskCount );
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                2,
+                2,
+                0,
+                TimeUnit.MILLISECONDS,
+                DefaultQueues.<Runnable>newAlwaysBlockingBounded( DefaultQueues.BoundedQueueType.RING, 4 )
+        );
+
+        // When
+        for ( int i = 0; i < taskCount; i++ )
+        {
+            // would be rejected if offer() did not block while the queue is full
+            threadPoolExecutor.execute(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            completed.countDown();
+                        }
+                    }
+            );
+        }
+
+        // Then
+        assertThat( completed.await( 10, TimeUnit.SECONDS ), is( true ) );
+        threadPoolExecutor.shutdown();
+        assertThat( threadPoolExecutor.awaitTermination( 10, TimeUnit.SECONDS ), is( true ) );
+    }
+
+    @Test
+    public void shouldReturnQueuedTasksOnThreadPoolShutdownNow() throws InterruptedException
+    {
+        // Given
+        int queuedTaskCount = 4;
+        final CountDownLatch started = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                DefaultQueues.<Runnable>newAlwaysBlockingBounded( DefaultQueues.BoundedQueueType.RING, 4 )
+        );
+        threadPoolExecutor.execute(
+                new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        started.countDown();
+                        try
+                        {
+                            release.await();
+                        }
+                        catch ( InterruptedException e )
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+        );
+        assertThat( started.await( 10, TimeUnit.SECONDS ), is( true ) );
+        for ( int i = 0; i < queuedTaskCount; i++ )
+        {
+            threadPoolExecutor.execute(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                        }
+                    }
+            );
+        }
+
+        // When
+        List<Runnable> notStartedTasks = threadPoolExecutor.shutdownNow();
+
+        // Then
+        assertThat( notStartedTasks.size(), is( queuedTaskCount ) );
+        assertThat( threadPoolExecutor.getQueue().isEmpty(), is( true ) );
+        assertThat( threadPoolExecutor.awaitTermination( 10, TimeUnit.SECONDS ), is( true ) );
+    }
+}
@@ -17,6 +17,8 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
@@ -32,6 +34,7 @@ import com.ldbc.driver.workloads.dummy.TimedNamedOperation3;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1763,7 +1766,15 @@ public class WorkloadRunnerComplexScenarioTests
         boolean ignoreScheduledStartTime = false;
         long statusDisplayIntervalAsMilli = 0;
         long spinnerSleepDurationAsMilli = SPINNER_SLEEP_DURATION_AS_MILLI;
+        Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+        OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+        int maxOutstandingOperations = 1000;
         int operationHandlerExecutorsBoundedQueueSize = 100;
+        DefaultQueues.BoundedQueueType operationHandlerExecutorsBoundedQueueType =
+                DefaultQueues.BoundedQueueType.LINKED;
+        int batchSize = 1;
+        long batchMaxWaitAsMilli = 0;
+        List<OperationExecutorPartition> executorPartitions = new ArrayList<>();
         boolean detailedStatus = false;
         LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( detailedStatus );
         WorkloadRunner runner = new WorkloadRunner(
@@ -1777,8 +1788,15 @@ public class WorkloadRunnerComplexScenarioTests
                 threadCount,
                 statusDisplayIntervalAsMilli,
                 spinnerSleepDurationAsMilli,
+                spinnerWaitStrategy,
+                operationExecutorType,
+                maxOutstandingOperations,
                 ignoreScheduledStartTime,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                operationHandlerExecutorsBoundedQueueType,
+                batchSize,
+                batchMaxWaitAsMilli,
+                executorPartitions
         );
         return new WorkloadRunnerThread( runner, errorReporter );
     }
@@ -22,11 +22,16 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.temporal.TimeSource;
@@ -116,6 +121,22 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -136,7 +157,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -210,8 +245,15 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxOutstandingOperations(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().executorQueueType(),
+                    controlService.configuration().batchSize(),
+                    controlService.configuration().batchMaxWaitAsMilli(),
+                    controlService.configuration().executorPartitions() );
 
             runner.getFuture().get();
             csvResultsLogWriter.close();
@@ -321,6 +363,22 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -341,7 +399,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -413,8 +485,15 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxOutstandingOperations(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().executorQueueType(),
+                    controlService.configuration().batchSize(),
+                    controlService.configuration().batchMaxWaitAsMilli(),
+                    controlService.configuration().executorPartitions() );
 
             runner.getFuture().get();
 
@@ -544,6 +623,22 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 100;
             long skipCount = 10;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -564,7 +659,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -636,8 +745,15 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxOutstandingOperations(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().executorQueueType(),
+                    controlService.configuration().batchSize(),
+                    controlService.configuration().batchMaxWaitAsMilli(),
+                    controlService.configuration().executorPartitions() );
 
             runner.getFuture().get();
 
@@ -814,6 +930,22 @@ public class WorkloadRunnerTest
             boolean ignoreScheduledStartTimes = true;
             long warmupCount = 100;
             long skipCount = 10;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -834,7 +966,21 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -898,8 +1044,15 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    controlService.configuration().spinnerWaitStrategy(),
+                    controlService.configuration().operationExecutorType(),
+                    controlService.configuration().maxOutstandingOperations(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.configuration().executorQueueType(),
+                    controlService.configuration().batchSize(),
+                    controlService.configuration().batchMaxWaitAsMilli(),
+                    controlService.configuration().executorPartitions() );
 
             runner.getFuture().get();
 
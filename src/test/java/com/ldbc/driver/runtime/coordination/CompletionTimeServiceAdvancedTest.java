@@ -74,6 +74,7 @@ public class CompletionTimeServiceAdvancedTest {
         int testRepetitions = 5;
         long totalTestDurationForSynchronousCompletionTimeService;
         long totalTestDurationForThreadedCompletionTimeService;
+        long totalTestDurationForDisruptorCompletionTimeService;
 
         for (int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2) {
 
@@ -96,9 +97,20 @@ public class CompletionTimeServiceAdvancedTest {
                 totalTestDurationForThreadedCompletionTimeService += parallelCompletionTimeServiceTest(completionTimeService, otherPeerId, errorReporter, workerThreads);
                 completionTimeService.shutdown();
             }
-            System.out.printf("\t%s=%s\n",
+            System.out.printf("\t%s=%s",
                     ThreadedQueuedCompletionTimeService.class.getSimpleName(),
                     TEMPORAL_UTIL.milliDurationToString(totalTestDurationForThreadedCompletionTimeService / testRepetitions));
+
+            totalTestDurationForDisruptorCompletionTimeService = 0;
+            for (int i = 0; i < testRepetitions; i++) {
+                CompletionTimeService completionTimeService =
+                        completionTimeServiceAssistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+                totalTestDurationForDisruptorCompletionTimeService += parallelCompletionTimeServiceTest(completionTimeService, otherPeerId, errorReporter, workerThreads);
+                completionTimeService.shutdown();
+            }
+            System.out.printf("\t%s=%s\n",
+                    DisruptorCompletionTimeService.class.getSimpleName(),
+                    TEMPORAL_UTIL.milliDurationToString(totalTestDurationForDisruptorCompletionTimeService / testRepetitions));
         }
     }
 
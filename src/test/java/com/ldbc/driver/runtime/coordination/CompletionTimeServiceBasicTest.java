@@ -50,6 +50,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = new HashSet<>();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            shouldBehavePredictablyAfterInstantiation(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     public void shouldBehavePredictablyAfterInstantiation(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
         // instantiated completion time service
@@ -96,6 +114,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldAdvanceGctWhenWriterSubmitInitiatedAndCompletedTimesWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = new HashSet<>();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            shouldAdvanceGctWhenWriterSubmitInitiatedAndCompletedTimes(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     public void shouldAdvanceGctWhenWriterSubmitInitiatedAndCompletedTimes(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
         LocalCompletionTimeWriter writer1 = completionTimeService.newLocalCompletionTimeWriter();
@@ -151,6 +187,25 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithDisruptorImplementation() throws CompletionTimeException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = new HashSet<>();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+
+        // Then
+        try {
+            shouldReturnAllWriters(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     public void shouldReturnAllWriters(CompletionTimeService completionTimeService) throws CompletionTimeException {
         // Given
         // instantiated completion time service
@@ -206,6 +261,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoLocalITNoLocalCTNoExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = new HashSet<>();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnNullWhenNoLocalITNoLocalCTNoExternalCT(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     // LocalIT = none, LocalCT = none, ExternalCT = none --> null
     public void doShouldReturnNullWhenNoLocalITNoLocalCTNoExternalCT(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -252,6 +325,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTAndNoExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = new HashSet<>();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnNullWhenSomeITAndNoCTAndNoExternalCT(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     // LocalIT = some, LocalCT = none, ExternalCT = none --> null
     public void doShouldReturnNullWhenSomeITAndNoCTAndNoExternalCT(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -298,6 +389,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoLocalITAndNoLocalCTAndSomeExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet("other");
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnNullWhenNoLocalITAndNoLocalCTAndSomeExternalCT(completionTimeService, "other");
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     //  LocalIT = none, LocalCT = none, ExternalCT = some --> null
     public void doShouldReturnNullWhenNoLocalITAndNoLocalCTAndSomeExternalCT(CompletionTimeService completionTimeService, String otherPeerId) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -344,6 +453,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeLocalITAndSomeLocalCTAndNoExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnNullWhenSomeLocalITAndSomeLocalCTAndNoExternalCT(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     //  LocalIT = some, LocalCT = some, ExternalCT = none --> null
     public void doShouldReturnNullWhenSomeLocalITAndSomeLocalCTAndNoExternalCT(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -391,6 +518,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeLocalITAndNoLocalCTAndSomeExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet("other");
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnNullWhenSomeLocalITAndNoLocalCTAndSomeExternalCT(completionTimeService, "other");
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     //  LocalIT = 1, LocalCT = none, ExternalCT = 2 --> null
     public void doShouldReturnNullWhenSomeLocalITAndNoLocalCTAndSomeExternalCT(CompletionTimeService completionTimeService, String otherPeerId) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -439,6 +584,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnGCTWhenLowerLCTThanExternalCTWithDisruptorImplementation() throws CompletionTimeException, ExecutionException, InterruptedException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet("other");
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnLCTWhenLowerLCTThanExternalCT(completionTimeService, "other");
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     //  LocalIT = 1, LocalCT = 1, ExternalCT = 2 --> 1
     public void doShouldReturnLCTWhenLowerLCTThanExternalCT(CompletionTimeService completionTimeService, String otherPeerId) throws CompletionTimeException, ExecutionException, InterruptedException, TimeoutException {
         // Given
@@ -491,6 +654,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnExternalCTWhenLowerLCTThanExternalCTWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet("other");
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnExternalCTWhenLowerLCTThanExternalCT(completionTimeService, "other");
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     //  LocalIT = 2, LocalCT = 2, ExternalCT =  --> 1
     public void doShouldReturnExternalCTWhenLowerLCTThanExternalCT(CompletionTimeService completionTimeService, String otherPeerId) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
@@ -543,6 +724,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeersWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeers(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     public void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeers(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
         LocalCompletionTimeWriter localCompletionTimeWriter = completionTimeService.newLocalCompletionTimeWriter();
@@ -689,6 +888,24 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeersWithDuplicateTimesWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet();
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeersWithDuplicateTimes(completionTimeService);
+        } finally {
+            completionTimeService.shutdown();
+        }
+    }
+
     public void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhenNoPeersWithDuplicateTimes(CompletionTimeService completionTimeService) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
         LocalCompletionTimeWriter localCompletionTimeWriter = completionTimeService.newLocalCompletionTimeWriter();
@@ -807,6 +1024,28 @@ public class CompletionTimeServiceBasicTest {
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithDisruptorImplementation() throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        Set<String> peerIds = Sets.newHashSet("other");
+        CompletionTimeService completionTimeService =
+                assistant.newDisruptorCompletionTimeServiceFromPeerIds(timeSource, peerIds, errorReporter);
+
+        // Then
+        try {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes(completionTimeService, "other");
+        } finally {
+            try {
+                completionTimeService.shutdown();
+            } catch (Throwable e) {
+                // do nothing, exception is expected because test was trying to force an error
+            }
+        }
+    }
+
     public void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes(CompletionTimeService completionTimeService, String otherPeerId) throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException {
         // Given
         LocalCompletionTimeWriter localCompletionTimeWriter = completionTimeService.newLocalCompletionTimeWriter();
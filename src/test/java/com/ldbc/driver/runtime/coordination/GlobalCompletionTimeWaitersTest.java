@@ -0,0 +1,94 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GlobalCompletionTimeWaitersTest {
+    @Test
+    public void shouldNotBlockWhenGctHasAlreadyReachedTime() {
+        // Given
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters();
+
+        // When
+        waiters.advance(10);
+
+        // Then
+        assertThat(waiters.await(5, TimeUnit.MINUTES.toMillis(1)), is(true));
+        assertThat(waiters.await(10, TimeUnit.MINUTES.toMillis(1)), is(true));
+        assertThat(waiters.hasWaiters(), is(false));
+    }
+
+    @Test
+    public void shouldNeverDecreaseGct() {
+        // Given
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters();
+
+        // When
+        waiters.advance(10);
+        waiters.advance(5);
+
+        // Then
+        assertThat(waiters.globalCompletionTimeAsMilli(), is(10l));
+    }
+
+    @Test
+    public void shouldReturnFalseWhenTimeoutExpiresBeforeGctReachesTime() {
+        // Given
+        GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters();
+        waiters.advance(4);
+
+        // When
+        boolean reached = waiters.await(5, 10);
+
+        // Then
+        assertThat(reached, is(false));
+        assertThat(waiters.hasWaiters(), is(false));
+    }
+
+    @Test
+    public void shouldWakeOnlyWaitersWhoseTimeGctHasReached() throws Exception {
+        // Given
+        final GlobalCompletionTimeWaiters waiters = new GlobalCompletionTimeWaiters();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> waitFor5 = executor.submit(awaitFun(waiters, 5));
+            Future<Boolean> waitFor10 = executor.submit(awaitFun(waiters, 10));
+            while (false == waiters.hasWaiters()) {
+                Thread.sleep(1);
+            }
+
+            // When
+            waiters.advance(7);
+
+            // Then
+            assertThat(waitFor5.get(10, TimeUnit.SECONDS), is(true));
+            assertThat(waitFor10.isDone(), is(false));
+
+            // When
+            waiters.advance(10);
+
+            // Then
+            assertThat(waitFor10.get(10, TimeUnit.SECONDS), is(true));
+            assertThat(waiters.hasWaiters(), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<Boolean> awaitFun(final GlobalCompletionTimeWaiters waiters, final long timeAsMilli) {
+        return new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return waiters.await(timeAsMilli, TimeUnit.MINUTES.toMillis(1));
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class InitiatedTimeRunsTrackerTest {
+    @Test
+    public void shouldTrackCompletionTimeAsTimesAreSubmitted() throws CompletionTimeException {
+        // begins as scenario in docs/lct_scenario.txt
+        InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
+        assertThat(tracker.completionTimeAsMilli(), is(-1l));
+        assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), is(-1l));
+
+        tracker.addInitiatedTime(1);
+        tracker.addCompletedTime(1);
+        assertThat(tracker.completionTimeAsMilli(), is(-1l));
+        assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), is(1l));
+
+        tracker.addInitiatedTime(2);
+        assertThat(tracker.completionTimeAsMilli(), is(1l));
+        assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), is(2l));
+
+        tracker.addInitiatedTime(2);
+        tracker.addInitiatedTime(3);
+        tracker.addCompletedTime(3);
+        tracker.addCompletedTime(2);
+        assertThat(tracker.completionTimeAsMilli(), is(1l));
+        assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), is(2l));
+
+        tracker.addCompletedTime(2);
+        assertThat(tracker.completionTimeAsMilli(), is(2l));
+        assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), is(3l));
+        assertThat(tracker.uncompletedInitiatedTimes(), is(0));
+    }
+
+    @Test(expected = CompletionTimeException.class)
+    public void shouldThrowExceptionWhenInitiatedTimeIsLowerThanPrevious() throws CompletionTimeException {
+        InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
+        tracker.addInitiatedTime(2);
+        tracker.addInitiatedTime(1);
+    }
+
+    @Test(expected = CompletionTimeException.class)
+    public void shouldThrowExceptionWhenCompletedTimeWasNeverInitiated() throws CompletionTimeException {
+        InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
+        tracker.addInitiatedTime(1);
+        tracker.addInitiatedTime(3);
+        tracker.addCompletedTime(2);
+    }
+
+    @Test(expected = CompletionTimeException.class)
+    public void shouldThrowExceptionWhenTimeIsCompletedMoreOftenThanInitiated() throws CompletionTimeException {
+        InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
+        tracker.addInitiatedTime(1);
+        tracker.addInitiatedTime(1);
+        tracker.addInitiatedTime(2);
+        tracker.addCompletedTime(1);
+        tracker.addCompletedTime(1);
+        tracker.addCompletedTime(1);
+    }
+
+    @Test
+    public void shouldTrackSameTimesAsMultisetTrackersForRandomSubmissions() throws CompletionTimeException {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            InitiatedTimeRunsTracker tracker = new InitiatedTimeRunsTracker();
+            LocalCompletionTimeStateManager.LocalInitiatedTimeTracker initiatedTimeTracker =
+                    LocalCompletionTimeStateManager.LocalInitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+            LocalCompletionTimeStateManager.LocalCompletedTimeTracker completedTimeTracker =
+                    LocalCompletionTimeStateManager.LocalCompletedTimeTrackerImpl.createUsingTreeMultiSet();
+            long expectedCompletionTime = -1;
+            long time = 0;
+            List<Long> uncompleted = new ArrayList<>();
+            // enough uncompleted times to make ring grow, in later runs
+            int maxUncompleted = 10 + run * 200;
+            for (int i = 0; i < 20000; i++) {
+                long expectedLowestInitiatedTime;
+                if (uncompleted.size() < maxUncompleted && (uncompleted.isEmpty() || random.nextBoolean())) {
+                    time += random.nextInt(3);
+                    uncompleted.add(time);
+                    tracker.addInitiatedTime(time);
+                    expectedLowestInitiatedTime =
+                            initiatedTimeTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli(time);
+                } else {
+                    // mostly complete oldest, sometimes any
+                    int index = (random.nextInt(4) == 0) ? random.nextInt(uncompleted.size()) : 0;
+                    long completedTime = uncompleted.remove(index);
+                    tracker.addCompletedTime(completedTime);
+                    expectedLowestInitiatedTime =
+                            initiatedTimeTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli(completedTime);
+                    completedTimeTracker.addCompletedTimeAsMilli(completedTime);
+                }
+                long highestRemoved =
+                        completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved(expectedLowestInitiatedTime);
+                if (-1 != highestRemoved) {
+                    expectedCompletionTime = highestRemoved;
+                }
+
+                assertThat(tracker.lastKnownLowestInitiatedTimeAsMilli(), equalTo(expectedLowestInitiatedTime));
+                assertThat(tracker.completionTimeAsMilli(), equalTo(expectedCompletionTime));
+                assertThat(tracker.uncompletedInitiatedTimes(), equalTo(initiatedTimeTracker.uncompletedInitiatedTimes()));
+            }
+        }
+    }
+}
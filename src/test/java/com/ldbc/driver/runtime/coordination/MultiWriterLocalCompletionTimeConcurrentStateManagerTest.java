@@ -12,8 +12,11 @@ import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -1682,6 +1685,73 @@ public class MultiWriterLocalCompletionTimeConcurrentStateManagerTest {
         assertThat(reader.localCompletionTimeAsMilli(), is(900l));
     }
 
+    @Test
+    public void shouldAdvanceMonotonicallyWhenWritersCompleteTimesFromOtherThreads() throws CompletionTimeException, InterruptedException {
+        // Given
+        final long timesPerWriter = 100000;
+        int writerCount = 4;
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MultiWriterLocalCompletionTimeConcurrentStateManager multiWriterLocalCompletionTimeConcurrentStateManager =
+                new MultiWriterLocalCompletionTimeConcurrentStateManager();
+        LocalCompletionTimeReader reader = multiWriterLocalCompletionTimeConcurrentStateManager;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            final LocalCompletionTimeWriter writer = multiWriterLocalCompletionTimeConcurrentStateManager.newLocalCompletionTimeWriter();
+            final BlockingQueue<Long> initiatedTimes = new LinkedBlockingQueue<>();
+            // as with executors, times are initiated by one thread and completed by another
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (long time = 1; time <= timesPerWriter; time++) {
+                            writer.submitLocalInitiatedTime(time);
+                            initiatedTimes.put(time);
+                        }
+                    } catch (Exception e) {
+                        errorReporter.reportError(this, ConcurrentErrorReporter.stackTraceToString(e));
+                    }
+                }
+            });
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (long i = 1; i <= timesPerWriter; i++) {
+                            writer.submitLocalCompletedTime(initiatedTimes.take());
+                        }
+                    } catch (Exception e) {
+                        errorReporter.reportError(this, ConcurrentErrorReporter.stackTraceToString(e));
+                    }
+                }
+            });
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long previousLocalCompletionTimeAsMilli = -1;
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (Thread thread : threads) {
+                running = running || thread.isAlive();
+            }
+            long localCompletionTimeAsMilli = reader.localCompletionTimeAsMilli();
+            // Then
+            assertThat(localCompletionTimeAsMilli >= previousLocalCompletionTimeAsMilli, is(true));
+            previousLocalCompletionTimeAsMilli = localCompletionTimeAsMilli;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(errorReporter.toString(), errorReporter.errorEncountered(), is(false));
+        assertThat(reader.lastKnownLowestInitiatedTimeAsMilli(), is(timesPerWriter));
+        assertThat(reader.localCompletionTimeAsMilli(), is(timesPerWriter - 1));
+    }
+
     boolean waitForLocalCompletionTimeWriterThread(long timeoutDurationAsMilli, LocalCompletionTimeWriterThread thread) throws CompletionTimeException {
         TimeSource timeSource = new SystemTimeSource();
         long endTimeAsMilli = timeSource.nowAsMilli() + timeoutDurationAsMilli;
@@ -0,0 +1,102 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PeerFramesTest {
+    @Test
+    public void shouldReadWrittenFrames() throws CompletionTimeException {
+        // Given
+        ByteBuffer buffer = ByteBuffer.allocate(PeerFrames.MAX_FRAME_LENGTH * 4);
+        PeerFrames.writeHello(buffer, "localhost:9001", 1);
+        PeerFrames.writeCompletionTime(buffer, 42);
+        PeerFrames.writeHeartbeat(buffer);
+        PeerFrames.writeCompletionTime(buffer, Long.MAX_VALUE);
+        PeerFrames.writeFinished(buffer);
+        RecordingFrameHandler handler = new RecordingFrameHandler();
+
+        // When
+        buffer.flip();
+        PeerFrames.readFrames(buffer, handler);
+
+        // Then
+        assertThat(buffer.remaining(), is(0));
+        assertThat(handler.frames.toString(), equalTo(
+                "[HELLO localhost:9001 1, COMPLETION_TIME 42, HEARTBEAT, COMPLETION_TIME " + Long.MAX_VALUE +
+                        ", FINISHED]"));
+    }
+
+    @Test
+    public void shouldReadFramesThatArriveOneByteAtATime() throws CompletionTimeException {
+        // Given
+        ByteBuffer written = ByteBuffer.allocate(PeerFrames.MAX_FRAME_LENGTH * 4);
+        PeerFrames.writeHello(written, "peer", 7);
+        PeerFrames.writeCompletionTime(written, 1234567890123l);
+        PeerFrames.writeFinished(written);
+        written.flip();
+        ByteBuffer received = ByteBuffer.allocate(PeerFrames.MAX_FRAME_LENGTH * 4);
+        RecordingFrameHandler handler = new RecordingFrameHandler();
+
+        // When
+        while (written.hasRemaining()) {
+            received.put(written.get());
+            received.flip();
+            PeerFrames.readFrames(received, handler);
+            received.compact();
+        }
+
+        // Then
+        assertThat(received.position(), is(0));
+        assertThat(handler.frames.toString(), equalTo("[HELLO peer 7, COMPLETION_TIME 1234567890123, FINISHED]"));
+    }
+
+    @Test(expected = CompletionTimeException.class)
+    public void shouldFailOnUnknownFrameType() throws CompletionTimeException {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 99);
+        buffer.flip();
+        PeerFrames.readFrames(buffer, new RecordingFrameHandler());
+    }
+
+    @Test(expected = CompletionTimeException.class)
+    public void shouldFailOnUnexpectedMagicNumber() throws CompletionTimeException {
+        ByteBuffer buffer = ByteBuffer.allocate(PeerFrames.MAX_FRAME_LENGTH);
+        buffer.put(PeerFrames.HELLO);
+        buffer.putInt(PeerFrames.MAGIC + 1);
+        buffer.putInt(1);
+        buffer.putShort((short) 0);
+        buffer.flip();
+        PeerFrames.readFrames(buffer, new RecordingFrameHandler());
+    }
+
+    private static class RecordingFrameHandler implements PeerFrames.FrameHandler {
+        private final List<String> frames = new ArrayList<>();
+
+        @Override
+        public void onHello(String peerId, int session) {
+            frames.add("HELLO " + peerId + " " + session);
+        }
+
+        @Override
+        public void onCompletionTime(long timeAsMilli) {
+            frames.add("COMPLETION_TIME " + timeAsMilli);
+        }
+
+        @Override
+        public void onHeartbeat() {
+            frames.add("HEARTBEAT");
+        }
+
+        @Override
+        public void onFinished() {
+            frames.add("FINISHED");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Sets;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TcpPeerCommunicatorTest {
+    private static final long HEARTBEAT_PERIOD_AS_MILLI = 50;
+    private static final long FAILURE_TIMEOUT_AS_MILLI = 1000;
+    private static final long CONNECT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis(20);
+    private static final long WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis(20);
+
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+
+    @Test
+    public void shouldAdvanceGlobalCompletionTimeFromCompletionTimesOfPeers()
+            throws CompletionTimeException, IOException {
+        // Given
+        String addressA = freeLoopbackAddress();
+        String addressB = freeLoopbackAddress();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService serviceA =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressB));
+        CompletionTimeService serviceB =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressA));
+        TcpPeerCommunicator communicatorA = newCommunicator(addressA, addressB, serviceA, errorReporter);
+        TcpPeerCommunicator communicatorB = newCommunicator(addressB, addressA, serviceB, errorReporter);
+        try {
+            // When
+            submitTimes(serviceA.newLocalCompletionTimeWriter(), 10);
+            submitTimes(serviceB.newLocalCompletionTimeWriter(), 20);
+            communicatorA.start();
+            communicatorB.start();
+
+            // Then
+            assertThat(waitForGlobalCompletionTime(serviceA, 9, errorReporter), is(true));
+            assertThat(waitForGlobalCompletionTime(serviceB, 9, errorReporter), is(true));
+            assertThat(serviceA.globalCompletionTimeAsMilli(), is(9l));
+            assertThat(serviceB.globalCompletionTimeAsMilli(), is(9l));
+            assertThat(errorReporter.toString(), errorReporter.errorEncountered(), is(false));
+        } finally {
+            communicatorA.shutdown();
+            communicatorB.shutdown();
+            serviceA.shutdown();
+            serviceB.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNoLongerBeBoundByPeerAfterItFinishes() throws CompletionTimeException, IOException {
+        // Given
+        String addressA = freeLoopbackAddress();
+        String addressB = freeLoopbackAddress();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService serviceA =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressB));
+        CompletionTimeService serviceB =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressA));
+        TcpPeerCommunicator communicatorA = newCommunicator(addressA, addressB, serviceA, errorReporter);
+        TcpPeerCommunicator communicatorB = newCommunicator(addressB, addressA, serviceB, errorReporter);
+        try {
+            submitTimes(serviceA.newLocalCompletionTimeWriter(), 10);
+            submitTimes(serviceB.newLocalCompletionTimeWriter(), 20);
+            communicatorA.start();
+            communicatorB.start();
+            assertThat(waitForGlobalCompletionTime(serviceB, 9, errorReporter), is(true));
+
+            // When
+            communicatorA.finish();
+
+            // Then
+            assertThat(waitForGlobalCompletionTime(serviceB, 19, errorReporter), is(true));
+            assertThat(serviceB.globalCompletionTimeAsMilli(), is(19l));
+            // finished peer is not considered to have failed
+            Thread.sleep(FAILURE_TIMEOUT_AS_MILLI * 2);
+            assertThat(errorReporter.toString(), errorReporter.errorEncountered(), is(false));
+        } catch (InterruptedException e) {
+            throw new CompletionTimeException("Interrupted while waiting", e);
+        } finally {
+            communicatorA.shutdown();
+            communicatorB.shutdown();
+            serviceA.shutdown();
+            serviceB.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportPeerThatNeverConnects() throws CompletionTimeException, IOException {
+        // Given
+        String addressA = freeLoopbackAddress();
+        String addressB = freeLoopbackAddress();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService serviceA =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressB));
+        TcpPeerCommunicator communicatorA = new TcpPeerCommunicator(
+                timeSource,
+                addressA,
+                Sets.newHashSet(addressB),
+                1,
+                serviceA.localCompletionTimeReader(),
+                serviceA,
+                errorReporter,
+                TcpPeerCommunicator.DEFAULT_SEND_INTERVAL_AS_MILLI,
+                HEARTBEAT_PERIOD_AS_MILLI,
+                FAILURE_TIMEOUT_AS_MILLI,
+                500
+        );
+        try {
+            // When
+            communicatorA.start();
+
+            // Then
+            assertThat(waitForError(errorReporter), is(true));
+        } finally {
+            communicatorA.shutdown();
+            serviceA.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportPeerThatStopsWithoutFinishing() throws CompletionTimeException, IOException {
+        // Given
+        String addressA = freeLoopbackAddress();
+        String addressB = freeLoopbackAddress();
+        ConcurrentErrorReporter errorReporterA = new ConcurrentErrorReporter();
+        ConcurrentErrorReporter errorReporterB = new ConcurrentErrorReporter();
+        CompletionTimeService serviceA =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressB));
+        CompletionTimeService serviceB =
+                assistant.newSynchronizedConcurrentCompletionTimeServiceFromPeerIds(Sets.newHashSet(addressA));
+        TcpPeerCommunicator communicatorA = newCommunicator(addressA, addressB, serviceA, errorReporterA);
+        TcpPeerCommunicator communicatorB = newCommunicator(addressB, addressA, serviceB, errorReporterB);
+        try {
+            submitTimes(serviceA.newLocalCompletionTimeWriter(), 10);
+            submitTimes(serviceB.newLocalCompletionTimeWriter(), 20);
+            communicatorA.start();
+            communicatorB.start();
+            assertThat(waitForGlobalCompletionTime(serviceA, 9, errorReporterA), is(true));
+
+            // When
+            communicatorB.shutdown();
+
+            // Then
+            assertThat(waitForError(errorReporterA), is(true));
+            assertThat(errorReporterB.toString(), errorReporterB.errorEncountered(), is(false));
+        } finally {
+            communicatorA.shutdown();
+            serviceA.shutdown();
+            serviceB.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldExchangeCompletionTimesBetweenDriverProcesses() throws IOException, InterruptedException {
+        // Given
+        int processCount = 3;
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < processCount; i++) {
+            addresses.add(freeLoopbackAddress());
+        }
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+
+        // When
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (int i = 0; i < processCount; i++) {
+                List<String> peerAddresses = new ArrayList<>(addresses);
+                peerAddresses.remove(i);
+                processes.add(new ProcessBuilder(
+                        java,
+                        "-cp",
+                        classPath,
+                        PeerProcess.class.getName(),
+                        addresses.get(i),
+                        Joiner.on(",").join(peerAddresses),
+                        Integer.toString(100 * (i + 1))
+                ).inheritIO().start());
+            }
+
+            // Then
+            for (Process process : processes) {
+                assertThat(process.waitFor(), is(0));
+            }
+        } finally {
+            for (Process process : processes) {
+                process.destroy();
+            }
+        }
+    }
+
+    /**
+     * Driver process stand-in: submits local times, then waits until GCT reflects times of all peers.
+     * Arguments: own address, comma separated peer addresses, last local time.
+     * Exits with status 0 on success.
+     */
+    public static class PeerProcess {
+        public static void main(String[] args) throws Exception {
+            String myAddress = args[0];
+            Set<String> peerAddresses = new HashSet<>(Sets.newHashSet(args[1].split(",")));
+            int lastTime = Integer.parseInt(args[2]);
+            TimeSource timeSource = new SystemTimeSource();
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            CompletionTimeService completionTimeService = new CompletionTimeServiceAssistant()
+                    .newThreadedQueuedConcurrentCompletionTimeServiceFromPeerIds(
+                            timeSource, peerAddresses, errorReporter);
+            submitTimes(completionTimeService.newLocalCompletionTimeWriter(), lastTime);
+            TcpPeerCommunicator communicator = new TcpPeerCommunicator(
+                    timeSource,
+                    myAddress,
+                    peerAddresses,
+                    1,
+                    completionTimeService.localCompletionTimeReader(),
+                    completionTimeService,
+                    errorReporter
+            );
+            communicator.start();
+            // lowest peer submits times up to 100, peers that finish first no longer hold back GCT of others
+            boolean advanced = new CompletionTimeServiceAssistant().waitForGlobalCompletionTime(
+                    timeSource,
+                    99,
+                    TimeUnit.SECONDS.toMillis(60),
+                    completionTimeService,
+                    errorReporter);
+            communicator.finish();
+            completionTimeService.shutdown();
+            if (false == advanced || errorReporter.errorEncountered()) {
+                System.err.println(myAddress + " failed\n" + errorReporter.toString());
+                System.exit(1);
+            }
+            System.exit(0);
+        }
+    }
+
+    private TcpPeerCommunicator newCommunicator(String myAddress,
+                                                String peerAddress,
+                                                CompletionTimeService completionTimeService,
+                                                ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
+        return new TcpPeerCommunicator(
+                timeSource,
+                myAddress,
+                Sets.newHashSet(peerAddress),
+                1,
+                completionTimeService.localCompletionTimeReader(),
+                completionTimeService,
+                errorReporter,
+                TcpPeerCommunicator.DEFAULT_SEND_INTERVAL_AS_MILLI,
+                HEARTBEAT_PERIOD_AS_MILLI,
+                FAILURE_TIMEOUT_AS_MILLI,
+                CONNECT_TIMEOUT_AS_MILLI
+        );
+    }
+
+    private static void submitTimes(LocalCompletionTimeWriter writer, long lastTimeAsMilli)
+            throws CompletionTimeException {
+        for (long timeAsMilli = 0; timeAsMilli <= lastTimeAsMilli; timeAsMilli++) {
+            writer.submitLocalInitiatedTime(timeAsMilli);
+            writer.submitLocalCompletedTime(timeAsMilli);
+        }
+    }
+
+    private boolean waitForGlobalCompletionTime(CompletionTimeService completionTimeService,
+                                                long globalCompletionTimeAsMilli,
+                                                ConcurrentErrorReporter errorReporter)
+            throws CompletionTimeException {
+        return assistant.waitForGlobalCompletionTime(
+                timeSource,
+                globalCompletionTimeAsMilli,
+                WAIT_TIMEOUT_AS_MILLI,
+                completionTimeService,
+                errorReporter);
+    }
+
+    private boolean waitForError(ConcurrentErrorReporter errorReporter) throws CompletionTimeException {
+        long timeoutTimeAsMilli = timeSource.nowAsMilli() + WAIT_TIMEOUT_AS_MILLI;
+        while (false == errorReporter.errorEncountered() && timeSource.nowAsMilli() < timeoutTimeAsMilli) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new CompletionTimeException("Interrupted while waiting for error", e);
+            }
+        }
+        return errorReporter.errorEncountered();
+    }
+
+    private static String freeLoopbackAddress() throws IOException {
+        InetAddress loopback = InetAddress.getByName("127.0.0.1");
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, loopback)) {
+            return "127.0.0.1:" + serverSocket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncOperationExecutorTest
+{
+    @Test
+    public void shouldKeepMoreOperationsInFlightThanThereAreThreads() throws Exception
+    {
+        // Given
+        int threadCount = 1;
+        int maxOutstandingOperations = 100;
+        int operationCount = 100;
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        AsyncDb db = new AsyncDb();
+        OperationExecutor executor = asyncOperationExecutor(
+                threadCount, maxOutstandingOperations, db, metricsService, errorReporter );
+
+        // When
+        long startTimeAsMilli = System.currentTimeMillis();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperationAt( startTimeAsMilli ) );
+        }
+        waitForCompletion( executor );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( db.connectionState().maxInFlight() > threadCount, is( true ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotExceedMaxOutstandingOperations() throws Exception
+    {
+        // Given
+        int threadCount = 4;
+        int maxOutstandingOperations = 5;
+        int operationCount = 50;
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        AsyncDb db = new AsyncDb();
+        OperationExecutor executor = asyncOperationExecutor(
+                threadCount, maxOutstandingOperations, db, metricsService, errorReporter );
+
+        // When
+        long startTimeAsMilli = System.currentTimeMillis();
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperationAt( startTimeAsMilli ) );
+        }
+        waitForCompletion( executor );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( db.connectionState().maxInFlight() <= maxOutstandingOperations, is( true ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldExecuteOperationsWithSynchronousHandlers() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Db db = new DummyDb();
+        OperationExecutor executor = asyncOperationExecutor( 1, 10, db, metricsService, errorReporter );
+
+        // When
+        long startTimeAsMilli = System.currentTimeMillis();
+        executor.execute( nothingOperationAt( startTimeAsMilli ) );
+        executor.execute( nothingOperationAt( startTimeAsMilli + 50 ) );
+        waitForCompletion( executor );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( metricsService.count(), is( 2l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotQueueChildOperationsBehindOperationsWaitingForTheirStartTime() throws Exception
+    {
+        // Given
+        int threadCount = 1;
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        AsyncDb db = new AsyncDb();
+        OperationExecutor executor = asyncOperationExecutor(
+                threadCount, 10, db, metricsService, errorReporter, new OneChildOperationGenerator() );
+
+        // When
+        long startTimeAsMilli = System.currentTimeMillis();
+        executor.execute( nothingOperationAt( startTimeAsMilli ) );
+        // keeps the only worker thread waiting for its scheduled start time
+        executor.execute( nothingOperationAt( startTimeAsMilli + 3000 ) );
+        long timeoutAsMilli = startTimeAsMilli + 1500;
+        while ( metricsService.count() < 2 && System.currentTimeMillis() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( metricsService.count(), is( 2l ) );
+        waitForCompletion( executor );
+        assertThat( metricsService.count(), is( 4l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotCountOperationsThatFailedToStartAsUncompleted() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        AsyncDb db = new AsyncDb();
+        OperationExecutor executor = asyncOperationExecutor( 1, 10, db, metricsService, errorReporter );
+        // no handler is registered for this operation type
+        Operation operation = new TimedNamedOperation2( System.currentTimeMillis(), 0l, 0l, "no handler" );
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.execute( operation );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        long startTimeAsMilli = System.currentTimeMillis();
+        executor.shutdown( 5000l );
+        assertThat( System.currentTimeMillis() - startTimeAsMilli < 5000, is( true ) );
+        db.close();
+    }
+
+    private static OperationExecutor asyncOperationExecutor( int threadCount,
+            int maxOutstandingOperations,
+            Db db,
+            DummyCountingMetricsService metricsService,
+            ConcurrentErrorReporter errorReporter ) throws DbException
+    {
+        return asyncOperationExecutor( threadCount, maxOutstandingOperations, db, metricsService, errorReporter,
+                null );
+    }
+
+    private static OperationExecutor asyncOperationExecutor( int threadCount,
+            int maxOutstandingOperations,
+            Db db,
+            DummyCountingMetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            ChildOperationGenerator childOperationGenerator ) throws DbException
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        Spinner spinner = new Spinner( timeSource, 1, false );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new AsyncOperationExecutor(
+                threadCount,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                maxOutstandingOperations,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    private static Operation nothingOperationAt( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private static void waitForCompletion( OperationExecutor executor )
+    {
+        long timeoutAsMilli = System.currentTimeMillis() + 10000;
+        while ( executor.uncompletedOperationHandlerCount() > 0 && System.currentTimeMillis() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+    }
+
+    public static class AsyncDb extends Db
+    {
+        private AsyncDbConnectionState connectionState = null;
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerAsyncOperationHandler( NothingOperation.class, AsyncNothingOperationHandler.class );
+            registerOperationHandler( TimedNamedOperation1.class, ChildOperationHandler.class );
+            connectionState = new AsyncDbConnectionState();
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+            connectionState.close();
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+
+        AsyncDbConnectionState connectionState()
+        {
+            return connectionState;
+        }
+    }
+
+    static class AsyncDbConnectionState extends DbConnectionState
+    {
+        private final ScheduledExecutorService completionService = Executors.newScheduledThreadPool( 2 );
+        private final AtomicInteger inFlight = new AtomicInteger( 0 );
+        private final AtomicInteger maxInFlight = new AtomicInteger( 0 );
+
+        int maxInFlight()
+        {
+            return maxInFlight.get();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            completionService.shutdownNow();
+        }
+    }
+
+    public static class AsyncNothingOperationHandler
+            implements AsyncOperationHandler<NothingOperation,AsyncDbConnectionState>
+    {
+        private static final long QUERY_DURATION_AS_MILLI = 50;
+
+        @Override
+        public ListenableFuture<?> executeOperationAsync( final NothingOperation operation,
+                final AsyncDbConnectionState connectionState,
+                final ResultReporter resultReporter ) throws DbException
+        {
+            int inFlight = connectionState.inFlight.incrementAndGet();
+            int maxInFlight;
+            while ( inFlight > (maxInFlight = connectionState.maxInFlight.get()) )
+            {
+                connectionState.maxInFlight.compareAndSet( maxInFlight, inFlight );
+            }
+            final SettableFuture<Object> completionHandle = SettableFuture.create();
+            connectionState.completionService.schedule(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            connectionState.inFlight.decrementAndGet();
+                            try
+                            {
+                                resultReporter.report( 0, new DummyResult(), operation );
+                                completionHandle.set( null );
+                            }
+                            catch ( DbException e )
+                            {
+                                completionHandle.setException( e );
+                            }
+                        }
+                    },
+                    QUERY_DURATION_AS_MILLI,
+                    TimeUnit.MILLISECONDS
+            );
+            return completionHandle;
+        }
+    }
+
+    public static class ChildOperationHandler implements OperationHandler<TimedNamedOperation1,DbConnectionState>
+    {
+        @Override
+        public void executeOperation( TimedNamedOperation1 operation, DbConnectionState connectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            resultReporter.report( 0, new DummyResult(), operation );
+        }
+    }
+
+    // every NothingOperation has one TimedNamedOperation1 child
+    private static class OneChildOperationGenerator implements ChildOperationGenerator
+    {
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+        {
+            if ( NothingOperation.class.equals( operation.getClass() ) )
+            {
+                return new TimedNamedOperation1( actualStartTimeAsMilli, actualStartTimeAsMilli, 0, "child" );
+            }
+            else
+            {
+                return null;
+            }
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.BatchOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BatchingSameThreadOperationExecutorTest
+{
+    @Test
+    public void shouldCoalesceOperationsUpToMaxBatchSizeAndReportEveryOperation() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        BatchDb db = new BatchDb();
+        BatchingSameThreadOperationExecutor executor =
+                batchingOperationExecutor( 4, 10, db, metricsService, errorReporter );
+        long startTimeAsMilli = System.currentTimeMillis();
+
+        // When
+        for ( int i = 0; i < 10; i++ )
+        {
+            executor.execute( nothingOperationAt( startTimeAsMilli, i + 1, 0 ) );
+        }
+        long uncompletedBeforeFlush = executor.uncompletedOperationHandlerCount();
+        executor.flush();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( db.connectionState().batchSizes().toString(), equalTo( "[4, 4, 2]" ) );
+        assertThat( uncompletedBeforeFlush, is( 2l ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( 10l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotCoalesceOperationsScheduledFurtherApartThanMaxBatchWait() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        BatchDb db = new BatchDb();
+        long maxBatchWaitAsMilli = 10;
+        BatchingSameThreadOperationExecutor executor =
+                batchingOperationExecutor( 100, maxBatchWaitAsMilli, db, metricsService, errorReporter );
+        long startTimeAsMilli = System.currentTimeMillis();
+
+        // When
+        executor.execute( nothingOperationAt( startTimeAsMilli, 1, 0 ) );
+        executor.execute( nothingOperationAt( startTimeAsMilli + maxBatchWaitAsMilli, 2, 0 ) );
+        executor.execute( nothingOperationAt( startTimeAsMilli + maxBatchWaitAsMilli + 1, 3, 0 ) );
+        executor.flush();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( db.connectionState().batchSizes().toString(), equalTo( "[2, 1]" ) );
+        assertThat( metricsService.count(), is( 3l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotCoalesceOperationThatDependsOnOperationsOfBatch() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        BatchDb db = new BatchDb();
+        BatchingSameThreadOperationExecutor executor =
+                batchingOperationExecutor( 100, 10, db, metricsService, errorReporter );
+        long startTimeAsMilli = System.currentTimeMillis();
+
+        // When
+        executor.execute( nothingOperationAt( startTimeAsMilli, 5, 0 ) );
+        executor.execute( nothingOperationAt( startTimeAsMilli, 6, 4 ) );
+        // depends on first operation of current batch
+        executor.execute( nothingOperationAt( startTimeAsMilli, 7, 5 ) );
+        executor.execute( nothingOperationAt( startTimeAsMilli, 8, 6 ) );
+        executor.flush();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( db.connectionState().batchSizes().toString(), equalTo( "[2, 2]" ) );
+        assertThat( metricsService.count(), is( 4l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    @Test
+    public void shouldNotCountOperationAsUncompletedWhenFlushOfPreviousBatchFails() throws Exception
+    {
+        // Given
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        BatchDb db = new BatchDb();
+        long maxBatchWaitAsMilli = 10;
+        BatchingSameThreadOperationExecutor executor = batchingOperationExecutor( 100, maxBatchWaitAsMilli, db,
+                metricsService, errorReporter, new FailingChildOperationGenerator() );
+        long startTimeAsMilli = System.currentTimeMillis();
+        executor.execute( nothingOperationAt( startTimeAsMilli, 1, 0 ) );
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            // can not join batch, so batch is flushed first, and child operation generation fails
+            executor.execute( nothingOperationAt( startTimeAsMilli + maxBatchWaitAsMilli + 1, 2, 0 ) );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        executor.shutdown( 1000l );
+        db.close();
+    }
+
+    private static BatchingSameThreadOperationExecutor batchingOperationExecutor( int maxBatchSize,
+            long maxBatchWaitAsMilli,
+            Db db,
+            DummyCountingMetricsService metricsService,
+            ConcurrentErrorReporter errorReporter ) throws DbException
+    {
+        return batchingOperationExecutor( maxBatchSize, maxBatchWaitAsMilli, db, metricsService, errorReporter,
+                null );
+    }
+
+    private static BatchingSameThreadOperationExecutor batchingOperationExecutor( int maxBatchSize,
+            long maxBatchWaitAsMilli,
+            Db db,
+            DummyCountingMetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            ChildOperationGenerator childOperationGenerator ) throws DbException
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        Spinner spinner = new Spinner( timeSource, 1, false );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new BatchingSameThreadOperationExecutor(
+                maxBatchSize,
+                maxBatchWaitAsMilli,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    private static Operation nothingOperationAt( long scheduledStartTimeAsMilli,
+            long timeStamp,
+            long dependencyTimeStamp )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( timeStamp );
+        operation.setDependencyTimeStamp( dependencyTimeStamp );
+        return operation;
+    }
+
+    public static class BatchDb extends Db
+    {
+        private BatchDbConnectionState connectionState = null;
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, NothingOperationHandler.class );
+            registerBatchOperationHandler( NothingOperation.class, NothingBatchOperationHandler.class );
+            connectionState = new BatchDbConnectionState();
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+
+        BatchDbConnectionState connectionState()
+        {
+            return connectionState;
+        }
+    }
+
+    static class BatchDbConnectionState extends DbConnectionState
+    {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        List<Integer> batchSizes()
+        {
+            return batchSizes;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+        }
+    }
+
+    public static class NothingOperationHandler implements OperationHandler<NothingOperation,BatchDbConnectionState>
+    {
+        @Override
+        public void executeOperation( NothingOperation operation, BatchDbConnectionState connectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            connectionState.batchSizes.add( 1 );
+            resultReporter.report( 0, new DummyResult(), operation );
+        }
+    }
+
+    public static class NothingBatchOperationHandler implements BatchOperationHandler<BatchDbConnectionState>
+    {
+        @Override
+        public void executeOperations( List<Operation> operations, BatchDbConnectionState connectionState,
+                List<ResultReporter> resultReporters ) throws DbException
+        {
+            connectionState.batchSizes.add( operations.size() );
+            for ( int i = 0; i < operations.size(); i++ )
+            {
+                resultReporters.get( i ).report( 0, new DummyResult(), operations.get( i ) );
+            }
+        }
+    }
+
+    private static class FailingChildOperationGenerator implements ChildOperationGenerator
+    {
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+        {
+            throw new WorkloadException( "Child operation generation failed" );
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState;
+        }
+    }
+}
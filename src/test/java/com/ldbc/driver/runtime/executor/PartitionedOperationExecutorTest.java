@@ -0,0 +1,178 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PartitionedOperationExecutorTest
+{
+    @Test
+    public void blockedPartitionShouldNotStarveOperationsOfOtherPartitions() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        db.setNameAllowedValue( "slow", false );
+
+        List<OperationExecutorPartition> partitions = Lists.newArrayList(
+                new OperationExecutorPartition( Lists.newArrayList( TimedNamedOperation1.class.getSimpleName() ), 1,
+                        10 )
+        );
+        PartitionedOperationExecutor executor = new PartitionedOperationExecutor(
+                partitions,
+                1,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                DefaultQueues.BoundedQueueType.LINKED,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        // When
+        long nowAsMilli = timeSource.nowAsMilli();
+        for ( int i = 0; i < 3; i++ )
+        {
+            executor.execute( new TimedNamedOperation1( nowAsMilli, nowAsMilli, 0, "slow" ) );
+        }
+        for ( int i = 0; i < 5; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( nowAsMilli );
+            operation.setTimeStamp( nowAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        while ( executor.uncompletedOperationHandlerCount() > 3 )
+        {
+            // wait for operations of default partition, the blocked partition must not hold them up
+            Spinner.powerNap( 10 );
+        }
+        String partitionStatus = executor.partitionStatusString();
+
+        // Then
+        assertThat( metricsService.count(), is( 5l ) );
+        assertThat( partitionStatus, partitionStatus,
+                containsString( "TimedNamedOperation1: Queued 2/10, Busy Threads 1/1 (100%), Uncompleted 3" ) );
+        assertThat( partitionStatus, partitionStatus,
+                containsString( "default: Queued 0/1000, Busy Threads 0/1 (0%), Uncompleted 0" ) );
+
+        // When
+        db.setNameAllowedValue( "slow", true );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( 8l ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
+    @Test
+    public void shouldRejectOperationTypeThatIsInMoreThanOnePartition() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        DummyDb db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        List<OperationExecutorPartition> partitions = Lists.newArrayList(
+                OperationExecutorPartition.fromCommandlineString( "NothingOperation,TimedNamedOperation1:1:10" ),
+                OperationExecutorPartition.fromCommandlineString( "TimedNamedOperation1:1:10" )
+        );
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            new PartitionedOperationExecutor(
+                    partitions,
+                    1,
+                    DefaultQueues.DEFAULT_BOUND_1000,
+                    DefaultQueues.BoundedQueueType.LINKED,
+                    db,
+                    streamDefinition,
+                    new DummyLocalCompletionTimeWriter(),
+                    new DummyGlobalCompletionTimeReader(),
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    new DummyCountingMetricsService(),
+                    streamDefinition.childOperationGenerator()
+            );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        db.close();
+    }
+}
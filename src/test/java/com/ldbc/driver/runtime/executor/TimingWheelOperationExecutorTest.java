@@ -0,0 +1,287 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.ManualTimeSource;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimingWheelOperationExecutorTest
+{
+    @Test
+    public void shouldOnlyPassOperationsToDelegateOnceTheyAreDue() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingOperationExecutor delegate = new RecordingOperationExecutor();
+        long tickDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 1 );
+        int wheelSize = 4;
+        OperationExecutor executor = new TimingWheelOperationExecutor(
+                delegate,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                timeSource,
+                errorReporter,
+                tickDurationAsNano,
+                wheelSize
+        );
+
+        // scheduled start times span more than one rotation of the wheel
+        Operation operation1 = nothingOperationAt( 2 );
+        Operation operation2 = nothingOperationAt( 5 );
+        Operation operation3 = nothingOperationAt( 6 );
+        Operation operation4 = nothingOperationAt( 6 );
+
+        // When
+        executor.execute( operation1 );
+        executor.execute( operation2 );
+        executor.execute( operation3 );
+        executor.execute( operation4 );
+
+        // Then
+        Spinner.powerNap( 50 );
+        assertThat( delegate.executed(), equalTo( operations() ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 4l ) );
+
+        timeSource.setNowFromMilli( 3 );
+        waitForDelegateToReceive( delegate, 1 );
+        assertThat( delegate.executed(), equalTo( operations( operation1 ) ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 3l ) );
+
+        timeSource.setNowFromMilli( 6 );
+        waitForDelegateToReceive( delegate, 2 );
+        Spinner.powerNap( 50 );
+        assertThat( delegate.executed(), equalTo( operations( operation1, operation2 ) ) );
+
+        timeSource.setNowFromMilli( 7 );
+        waitForDelegateToReceive( delegate, 4 );
+        assertThat( delegate.executed(), equalTo( operations( operation1, operation2, operation3, operation4 ) ) );
+
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldPassOperationsToDelegateImmediatelyAfterClockJumpsPastWholeRotation() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        RecordingOperationExecutor delegate = new RecordingOperationExecutor();
+        OperationExecutor executor = new TimingWheelOperationExecutor(
+                delegate,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS.toNanos( 1 ),
+                4
+        );
+        Operation operation1 = nothingOperationAt( 10 );
+        Operation operation2 = nothingOperationAt( 1000 );
+        Operation operation3 = nothingOperationAt( 2000 );
+
+        // When
+        executor.execute( operation1 );
+        executor.execute( operation2 );
+        executor.execute( operation3 );
+        timeSource.setNowFromMilli( 1500 );
+
+        // Then
+        waitForDelegateToReceive( delegate, 2 );
+        Spinner.powerNap( 50 );
+        assertThat( delegate.executed(), equalTo( operations( operation1, operation2 ) ) );
+
+        timeSource.setNowFromMilli( 2001 );
+        waitForDelegateToReceive( delegate, 3 );
+        assertThat( delegate.executed(), equalTo( operations( operation1, operation2, operation3 ) ) );
+
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new TimingWheelOperationExecutor(
+                new ThreadPoolOperationExecutor(
+                        threadCount,
+                        boundedQueueSize,
+                        db,
+                        streamDefinition,
+                        dummyLocalCompletionTimeWriter,
+                        dummyGlobalCompletionTimeReader,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator()
+                ),
+                boundedQueueSize,
+                timeSource,
+                errorReporter
+        );
+
+        Operation operation1 = new NothingOperation();
+        operation1.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 100l );
+        operation1.setTimeStamp( operation1.scheduledStartTimeAsMilli() );
+        operation1.setDependencyTimeStamp( 0l );
+
+        Operation operation2 = new NothingOperation();
+        operation2.setScheduledStartTimeAsMilli( operation1.scheduledStartTimeAsMilli() + 100l );
+        operation2.setTimeStamp( operation2.scheduledStartTimeAsMilli() );
+        operation2.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( operation1 );
+        executor.execute( operation2 );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( 2l ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        OperationExecutor executor = new TimingWheelOperationExecutor(
+                new RecordingOperationExecutor(),
+                DefaultQueues.DEFAULT_BOUND_1000,
+                new SystemTimeSource(),
+                errorReporter
+        );
+
+        // When
+        executor.shutdown( 1000l );
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.shutdown( 1000l );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static Operation nothingOperationAt( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private static List<Operation> operations( Operation... operations )
+    {
+        List<Operation> operationList = new ArrayList<>();
+        Collections.addAll( operationList, operations );
+        return operationList;
+    }
+
+    private static void waitForDelegateToReceive( RecordingOperationExecutor delegate, int count )
+    {
+        long timeoutAsMilli = System.currentTimeMillis() + 5000;
+        while ( delegate.executed().size() < count && System.currentTimeMillis() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+    }
+
+    private static class RecordingOperationExecutor implements OperationExecutor
+    {
+        private final List<Operation> executed = new ArrayList<>();
+
+        @Override
+        synchronized public void execute( Operation operation ) throws OperationExecutorException
+        {
+            executed.add( operation );
+        }
+
+        @Override
+        public void shutdown( long waitAsMilli ) throws OperationExecutorException
+        {
+        }
+
+        @Override
+        public void flush() throws OperationExecutorException
+        {
+        }
+
+        @Override
+        public long uncompletedOperationHandlerCount()
+        {
+            return 0;
+        }
+
+        synchronized List<Operation> executed()
+        {
+            return new ArrayList<>( executed );
+        }
+    }
+}
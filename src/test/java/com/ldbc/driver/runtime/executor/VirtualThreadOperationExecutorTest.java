@@ -0,0 +1,246 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandler;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyLocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+public class VirtualThreadOperationExecutorTest
+{
+    // set by the jdk21 build profile, so that virtual thread tests fail instead of being skipped on those JVMs
+    private static final String REQUIRE_VIRTUAL_THREADS = "ldbc.driver.test.require_virtual_threads";
+
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        assumeVirtualThreadsAreSupported();
+
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        OperationExecutor executor = virtualThreadOperationExecutor( timeSource, errorReporter, metricsService );
+
+        int operationCount = 100;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( scheduledStartTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldMeasurePinningOfHandlerThreadsToTheirCarrier() throws Exception
+    {
+        assumeVirtualThreadsAreSupported();
+
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        VirtualThreadOperationExecutor executor =
+                virtualThreadOperationExecutor( new PinningDb(), timeSource, errorReporter, metricsService );
+        assumeThat( executor.isPinningMeasured(), is( true ) );
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0l );
+        executor.execute( operation );
+        executor.shutdown( 5000l );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( executor.pinnedCount() >= 1, is( true ) );
+        long minPinnedDurationAsNano = TimeUnit.MILLISECONDS.toNanos( SlowInitialization.SLEEP_AS_MILLI );
+        assertThat( executor.pinnedDurationAsNano() >= minPinnedDurationAsNano, is( true ) );
+    }
+
+    @Test
+    public void executorShouldFailToStartWhenVirtualThreadsAreNotSupported() throws Exception
+    {
+        assumeThat( Boolean.getBoolean( REQUIRE_VIRTUAL_THREADS ), is( false ) );
+        assumeThat( VirtualThreadOperationExecutor.isSupported(), is( false ) );
+
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+
+        // When
+        boolean exceptionThrown = false;
+        try
+        {
+            virtualThreadOperationExecutor( timeSource, errorReporter, metricsService );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        // Then
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    private static void assumeVirtualThreadsAreSupported()
+    {
+        if ( Boolean.getBoolean( REQUIRE_VIRTUAL_THREADS ) )
+        {
+            assertThat( VirtualThreadOperationExecutor.isSupported(), is( true ) );
+        }
+        else
+        {
+            assumeThat( VirtualThreadOperationExecutor.isSupported(), is( true ) );
+        }
+    }
+
+    private static VirtualThreadOperationExecutor virtualThreadOperationExecutor( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        return virtualThreadOperationExecutor( new DummyDb(), timeSource, errorReporter, metricsService );
+    }
+
+    private static VirtualThreadOperationExecutor virtualThreadOperationExecutor( Db db,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        Spinner spinner = new Spinner( timeSource, 1, false );
+        LocalCompletionTimeWriter dummyLocalCompletionTimeWriter = new DummyLocalCompletionTimeWriter();
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new VirtualThreadOperationExecutor(
+                DefaultQueues.DEFAULT_BOUND_1000,
+                db,
+                streamDefinition,
+                dummyLocalCompletionTimeWriter,
+                dummyGlobalCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    public static class PinningDb extends Db
+    {
+        private final DbConnectionState connectionState = new DbConnectionState()
+        {
+            @Override
+            public void close() throws IOException
+            {
+            }
+        };
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, PinningNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+    }
+
+    public static class PinningNothingOperationHandler implements OperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public void executeOperation( NothingOperation operation, DbConnectionState connectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            // blocking during class initialization pins a virtual thread to its carrier, on all Java versions
+            resultReporter.report( SlowInitialization.SLEEP_AS_MILLI, new DummyResult(), operation );
+        }
+    }
+
+    private static class SlowInitialization
+    {
+        private static final int SLEEP_AS_MILLI = sleep( 50 );
+
+        private static int sleep( int sleepAsMilli )
+        {
+            try
+            {
+                Thread.sleep( sleepAsMilli );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return sleepAsMilli;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+public class VirtualThreadPinningMonitorTest
+{
+    @Test
+    public void shouldCountEventsAndSumTheirDurations() throws Exception
+    {
+        // Given
+        // jdk.VirtualThreadPinned only exists on Java 21 or newer, jdk.ThreadSleep is consumed the same way
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor( "jdk.ThreadSleep" );
+        assumeThat( monitor.isMeasured(), is( true ) );
+        int sleepCount = 3;
+        long sleepAsMilli = 20;
+
+        // When
+        for ( int i = 0; i < sleepCount; i++ )
+        {
+            Thread.sleep( sleepAsMilli );
+        }
+        // events are consumed asynchronously, at least once per second
+        long timeoutAsMilli = System.currentTimeMillis() + 10000;
+        while ( monitor.count() < sleepCount && System.currentTimeMillis() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 100 );
+        }
+        monitor.stop();
+
+        // Then
+        assertThat( monitor.count() >= sleepCount, is( true ) );
+        assertThat( monitor.durationAsNano() >= sleepCount * TimeUnit.MILLISECONDS.toNanos( sleepAsMilli ),
+                is( true ) );
+    }
+}
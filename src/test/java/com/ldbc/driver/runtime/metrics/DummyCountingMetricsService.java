@@ -11,7 +11,7 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
 
     public DummyCountingMetricsService() {
         metrics = new HashMap<>();
-        metrics.put("default", new OperationMetricsSnapshot(null, null, 0, null));
+        metrics.put("default", new OperationMetricsSnapshot(null, null, 0, null, null, null));
     }
 
     @Override
@@ -24,13 +24,17 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
         count++;
     }
 
+    @Override
+    public void submitGctBlocked(long blockedDurationAsNano) throws MetricsCollectionException {
+    }
+
     public long count() {
         return count;
     }
 
     @Override
     public WorkloadStatusSnapshot status() throws MetricsCollectionException {
-        return new WorkloadStatusSnapshot(-1, count, -1, 0);
+        return new WorkloadStatusSnapshot(-1, count, -1, 0, null, new HashMap<String, ContinuousMetricSnapshot>());
     }
 
     @Override
@@ -0,0 +1,206 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HdrHistogramMetricsServiceTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = metricsService( errorReporter, null );
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = metricsService( errorReporter, null );
+        try
+        {
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldMergeMeasurementsOfAllThreads() throws InterruptedException, MetricsCollectionException
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final MetricsService metricsService = metricsService( errorReporter, null );
+        final int threadCount = 8;
+        final int operationsPerThread = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            final long actualStartTimeOffsetAsMilli = i;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+                        for ( int j = 0; j < operationsPerThread; j++ )
+                        {
+                            int operationType = (0 == j % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                            writer.submitOperationResult( operationType, 10, 10 + actualStartTimeOffsetAsMilli,
+                                    TimeUnit.MILLISECONDS.toNanos( 1 + (j / 2) % 100 ), 0, 10 );
+                        }
+                    }
+                    catch ( MetricsCollectionException e )
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+        WorkloadResultsSnapshot results = metricsService.getWriter().results();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( results.totalOperationCount(), equalTo( (long) threadCount * operationsPerThread ) );
+        assertThat( results.startTimeAsMilli(), equalTo( 10l ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( 10l + (threadCount - 1) + 100 ) );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            assertThat( operationMetrics.count(), equalTo( (long) threadCount * operationsPerThread / 2 ) );
+            assertThat( operationMetrics.runTimeMetric().min(), equalTo( 1l ) );
+            assertThat( operationMetrics.runTimeMetric().max(), equalTo( 100l ) );
+            assertThat( operationMetrics.startDelayMetric().max(), equalTo( (long) threadCount - 1 ) );
+        }
+    }
+
+    @Test
+    public void shouldRecordDurationsAboveHighestExpectedAsHighestExpected() throws MetricsCollectionException
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = metricsService( errorReporter, null );
+        MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+
+        // When
+        writer.submitOperationResult( LdbcQuery1.TYPE, 1, 2,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO * 2, 0, 1 );
+        WorkloadResultsSnapshot results = writer.results();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( results.totalOperationCount(), equalTo( 1l ) );
+    }
+
+    @Test
+    public void shouldWriteEveryOperationResultToResultsLog() throws IOException, MetricsCollectionException
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        File resultsLog = temporaryFolder.newFile();
+        SimpleCsvFileWriter csvResultsLogWriter =
+                new SimpleCsvFileWriter( resultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        MetricsService metricsService = metricsService( errorReporter, csvResultsLogWriter );
+        MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+
+        // When
+        writer.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 3 ), 4, 5 );
+        writer.submitOperationResult( LdbcQuery2.TYPE, 6, 7, TimeUnit.MILLISECONDS.toNanos( 8 ), 9, 10 );
+        metricsService.shutdown();
+        csvResultsLogWriter.close();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        List<String> rows = new ArrayList<>();
+        try ( SimpleCsvFileReader reader =
+                      new SimpleCsvFileReader( resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            while ( reader.hasNext() )
+            {
+                StringBuilder row = new StringBuilder();
+                for ( String column : reader.next() )
+                {
+                    row.append( column ).append( " " );
+                }
+                rows.add( row.toString().trim() );
+            }
+        }
+        assertThat( rows.size(), equalTo( 2 ) );
+        assertThat( rows.get( 0 ), equalTo( LdbcQuery1.class.getSimpleName() + " 1 2 3 4 5" ) );
+        assertThat( rows.get( 1 ), equalTo( LdbcQuery2.class.getSimpleName() + " 6 7 8 9 10" ) );
+    }
+
+    private MetricsService metricsService( ConcurrentErrorReporter errorReporter,
+            SimpleCsvFileWriter csvResultsLogWriter ) throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                csvResultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+}
@@ -10,6 +10,8 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -32,23 +34,55 @@ public class MetricsManagerTest
         );
 
         Operation operation1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        long operation1ScheduledStartTimeAsMilli = 2;
         long operation1ActualStartTimeAsMilli = 2;
         long operation1RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 1 );
 
         Operation operation2 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        long operation2ScheduledStartTimeAsMilli = 3;
         long operation2ActualStartTimeAsMilli = 8;
         long operation2RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 3 );
 
         Operation operation3 = DummyLdbcSnbInteractiveOperationInstances.read2();
+        long operation3ScheduledStartTimeAsMilli = 12;
         long operation3ActualStartTimeAsMilli = 11;
         long operation3RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 5 );
 
-        metricsManager.measure( operation1ActualStartTimeAsMilli, operation1RunDurationAsNano, operation1.type() );
-        metricsManager.measure( operation2ActualStartTimeAsMilli, operation2RunDurationAsNano, operation2.type() );
-        metricsManager.measure( operation3ActualStartTimeAsMilli, operation3RunDurationAsNano, operation3.type() );
+        metricsManager.measure( operation1ScheduledStartTimeAsMilli, operation1ActualStartTimeAsMilli,
+                operation1RunDurationAsNano, operation1.type() );
+        metricsManager.measure( operation2ScheduledStartTimeAsMilli, operation2ActualStartTimeAsMilli,
+                operation2RunDurationAsNano, operation2.type() );
+        metricsManager.measure( operation3ScheduledStartTimeAsMilli, operation3ActualStartTimeAsMilli,
+                operation3RunDurationAsNano, operation3.type() );
 
         WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
+
+        Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+        for ( OperationMetricsSnapshot metric : snapshot.allMetrics() )
+        {
+            metricsByName.put( metric.name(), metric );
+        }
+        OperationMetricsSnapshot operation1And2Metrics = metricsByName.get( operation1.getClass().getSimpleName() );
+        // runtime excludes the time operation 2 started behind schedule
+        assertThat( operation1And2Metrics.runTimeMetric().max(), equalTo( 3l ) );
+        // latency includes it: 5 ms late + 3 ms run time
+        assertThat( operation1And2Metrics.latencyMetric().min(), equalTo( 1l ) );
+        assertThat( operation1And2Metrics.latencyMetric().max(), equalTo( 8l ) );
+        OperationMetricsSnapshot operation3Metrics = metricsByName.get( operation3.getClass().getSimpleName() );
+        // started ahead of schedule, latency equals runtime
+        assertThat( operation3Metrics.latencyMetric().max(), equalTo( 5l ) );
+        assertThat( operation3Metrics.startDelayMetric().max(), equalTo( 0l ) );
+        assertThat( operation1And2Metrics.startDelayMetric().min(), equalTo( 0l ) );
+        assertThat( operation1And2Metrics.startDelayMetric().max(), equalTo( 5l ) );
+
+        WorkloadStatusSnapshot status = metricsManager.status();
+        assertThat( status.startDelayMetric().count(), equalTo( 3l ) );
+        assertThat( status.startDelayMetric().max(), equalTo( 5l ) );
+        assertThat( status.operationStartDelayMetrics().get( operation1.getClass().getSimpleName() ).max(),
+                equalTo( 5l ) );
+        assertThat( status.operationStartDelayMetrics().get( operation3.getClass().getSimpleName() ).max(),
+                equalTo( 0l ) );
     }
 }
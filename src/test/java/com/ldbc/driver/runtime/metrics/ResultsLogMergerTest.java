@@ -0,0 +1,103 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ResultsLogMergerTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldComputeMetricsOfAllOperationsInAllResultsLogs() throws IOException, MetricsCollectionException
+    {
+        // Given
+        File resultsLog1 = resultsLog( TimeUnit.MILLISECONDS,
+                new String[]{LdbcQuery1.class.getSimpleName(), "2", "2", "1", "0", "2"},
+                new String[]{LdbcQuery2.class.getSimpleName(), "12", "11", "5", "0", "12"}
+        );
+        File resultsLog2 = resultsLog( TimeUnit.MILLISECONDS,
+                new String[]{LdbcQuery1.class.getSimpleName(), "3", "8", "3", "0", "3"}
+        );
+
+        // When
+        WorkloadResultsSnapshot snapshot = ResultsLogMerger.merge(
+                Lists.newArrayList( resultsLog1, resultsLog2 ),
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new Log4jLoggingServiceFactory( false )
+        );
+
+        // Then
+        assertThat( snapshot.totalOperationCount(), equalTo( 3l ) );
+        assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
+        assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
+        Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+        for ( OperationMetricsSnapshot metric : snapshot.allMetrics() )
+        {
+            metricsByName.put( metric.name(), metric );
+        }
+        OperationMetricsSnapshot query1Metrics = metricsByName.get( LdbcQuery1.class.getSimpleName() );
+        assertThat( query1Metrics.count(), equalTo( 2l ) );
+        assertThat( query1Metrics.runTimeMetric().min(), equalTo( 1l ) );
+        assertThat( query1Metrics.runTimeMetric().max(), equalTo( 3l ) );
+        assertThat( query1Metrics.latencyMetric().max(), equalTo( 8l ) );
+        OperationMetricsSnapshot query2Metrics = metricsByName.get( LdbcQuery2.class.getSimpleName() );
+        assertThat( query2Metrics.count(), equalTo( 1l ) );
+        assertThat( query2Metrics.runTimeMetric().max(), equalTo( 5l ) );
+    }
+
+    @Test( expected = MetricsCollectionException.class )
+    public void shouldNotMergeResultsLogsWithDifferentTimeUnits() throws IOException, MetricsCollectionException
+    {
+        ResultsLogMerger.merge(
+                Lists.newArrayList(
+                        resultsLog( TimeUnit.MILLISECONDS,
+                                new String[]{LdbcQuery1.class.getSimpleName(), "2", "2", "1", "0", "2"} ),
+                        resultsLog( TimeUnit.MICROSECONDS,
+                                new String[]{LdbcQuery1.class.getSimpleName(), "2", "2", "1", "0", "2"} )
+                ),
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new Log4jLoggingServiceFactory( false )
+        );
+    }
+
+    private File resultsLog( TimeUnit unit, String[]... rows ) throws IOException
+    {
+        File resultsLog = temporaryFolder.newFile();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( resultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    "operation_type",
+                    "scheduled_start_time_" + TimeUnit.MILLISECONDS.name(),
+                    "actual_start_time_" + TimeUnit.MILLISECONDS.name(),
+                    "execution_duration_" + unit.name(),
+                    "result_code",
+                    "original_start_time"
+            );
+            for ( String[] row : rows )
+            {
+                writer.writeRow( row );
+            }
+        }
+        return resultsLog;
+    }
+}
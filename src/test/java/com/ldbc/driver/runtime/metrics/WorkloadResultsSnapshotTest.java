@@ -66,14 +66,41 @@ public class WorkloadResultsSnapshotTest {
                 runTimePercentile90,
                 runTimePercentile95,
                 runTimePercentile99);
+        ContinuousMetricSnapshot latencyMetric = new ContinuousMetricSnapshot(
+                Integer.toString(seed++),
+                runTimeUnit,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++);
+        ContinuousMetricSnapshot startDelayMetric = new ContinuousMetricSnapshot(
+                Integer.toString(seed++),
+                runTimeUnit,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++);
 
         Map<String, OperationMetricsSnapshot> metrics = new HashMap<>();
-        metrics.put(Integer.toString(seed++), new OperationMetricsSnapshot(operationName, operationDurationUnit, operationCount, runTimeMetric));
+        metrics.put(Integer.toString(seed++), new OperationMetricsSnapshot(operationName, operationDurationUnit, operationCount, runTimeMetric,
+                latencyMetric, startDelayMetric));
 
         long operationStartTime = seed++;
         long operationLatestFinishTime = seed++;
         long count = seed++;
+        long gctBlockedCount = seed++;
+        long gctBlockedDurationAsNano = TimeUnit.SECONDS.toNanos(seed++);
+        long gctBlockedMaxDurationAsNano = TimeUnit.SECONDS.toNanos(seed++);
         TimeUnit unit = timeUnit4;
-        return new WorkloadResultsSnapshot(metrics, operationStartTime, operationLatestFinishTime, count, unit);
+        return new WorkloadResultsSnapshot(metrics, operationStartTime, operationLatestFinishTime, count,
+                gctBlockedCount, gctBlockedDurationAsNano, gctBlockedMaxDurationAsNano, unit);
     }
 }
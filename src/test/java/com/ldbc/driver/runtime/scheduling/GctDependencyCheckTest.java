@@ -2,10 +2,24 @@ package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.DummyGlobalCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.LocalCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -25,7 +39,7 @@ public class GctDependencyCheckTest
 
         // When
         GctDependencyCheck gctDependencyCheck =
-                new GctDependencyCheck( dummyGlobalCompletionTimeReader, errorReporter );
+                new GctDependencyCheck( dummyGlobalCompletionTimeReader, new DummyCountingMetricsService(), errorReporter );
 
         // Then
         // GCT is clearly before Dependency Time
@@ -48,4 +62,166 @@ public class GctDependencyCheckTest
         dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( 10 );
         assertThat( gctDependencyCheck.doCheck( operation ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
     }
+
+    @Test
+    public void shouldBlockUntilGctReachesDependencyTimeWhenGctCanBeWaitedFor() throws Exception
+    {
+        // Given
+        final Operation operation = new TimedNamedOperation1( 0, 0, 5, null );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService = new CompletionTimeServiceAssistant()
+                .newSynchronizedConcurrentCompletionTimeServiceFromPeerIds( new HashSet<String>() );
+        LocalCompletionTimeWriter writer = completionTimeService.newLocalCompletionTimeWriter();
+        final GctDependencyCheck gctDependencyCheck =
+                new GctDependencyCheck( completionTimeService, new DummyCountingMetricsService(), errorReporter );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            writer.submitLocalInitiatedTime( 4 );
+            writer.submitLocalInitiatedTime( 6 );
+            writer.submitLocalCompletedTime( 4 );
+
+            // When
+            Future<SpinnerCheck.SpinnerCheckResult> result = executor.submit(
+                    new Callable<SpinnerCheck.SpinnerCheckResult>()
+                    {
+                        @Override
+                        public SpinnerCheck.SpinnerCheckResult call()
+                        {
+                            return gctDependencyCheck.doCheck( operation );
+                        }
+                    } );
+            Thread.sleep( 50 );
+
+            // Then
+            // GCT is 4, dependency time is 5
+            assertThat( result.isDone(), is( false ) );
+
+            // When
+            writer.submitLocalCompletedTime( 6 );
+            writer.submitLocalInitiatedTime( 7 );
+
+            // Then
+            // GCT is 6, check returns without waiting for its timeout
+            long startTimeAsMilli = System.currentTimeMillis();
+            assertThat( result.get( 10, TimeUnit.SECONDS ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+            assertThat( System.currentTimeMillis() - startTimeAsMilli < GctDependencyCheck.WAIT_TIMEOUT_AS_MILLI,
+                    is( true ) );
+            assertThat( errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+            completionTimeService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldSubmitBlockedOperationToMetricsOnceNoMatterHowOftenItIsChecked()
+    {
+        // Given
+        Operation operation1 = new TimedNamedOperation1( 0, 0, 5, null );
+        Operation operation2 = new TimedNamedOperation1( 0, 0, 8, null );
+        DummyGlobalCompletionTimeReader dummyGlobalCompletionTimeReader = new DummyGlobalCompletionTimeReader();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        GctBlockedRecordingMetricsService metricsService = new GctBlockedRecordingMetricsService();
+        GctDependencyCheck gctDependencyCheck =
+                new GctDependencyCheck( dummyGlobalCompletionTimeReader, metricsService, errorReporter );
+
+        // When
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( 5 );
+
+        // Then
+        // operation was never blocked
+        assertThat( gctDependencyCheck.doCheck( operation1 ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( metricsService.gctBlockedCount, is( 0 ) );
+
+        // When
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertThat( gctDependencyCheck.doCheck( operation2 ),
+                    is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+        }
+
+        // Then
+        // operation is still blocked
+        assertThat( metricsService.gctBlockedCount, is( 0 ) );
+
+        // When
+        dummyGlobalCompletionTimeReader.setGlobalCompletionTimeAsMilli( 8 );
+
+        // Then
+        assertThat( gctDependencyCheck.doCheck( operation2 ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( metricsService.gctBlockedCount, is( 1 ) );
+        assertThat( gctDependencyCheck.doCheck( operation2 ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( metricsService.gctBlockedCount, is( 1 ) );
+        assertThat( errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldSubmitBlockedOperationToMetricsWhenFirstWaitForGctSucceeds() throws Exception
+    {
+        // Given
+        final Operation operation = new TimedNamedOperation1( 0, 0, 5, null );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        GctBlockedRecordingMetricsService metricsService = new GctBlockedRecordingMetricsService();
+        CompletionTimeService completionTimeService = new CompletionTimeServiceAssistant()
+                .newSynchronizedConcurrentCompletionTimeServiceFromPeerIds( new HashSet<String>() );
+        LocalCompletionTimeWriter writer = completionTimeService.newLocalCompletionTimeWriter();
+        final GctDependencyCheck gctDependencyCheck =
+                new GctDependencyCheck( completionTimeService, metricsService, errorReporter );
+        final CountDownLatch checkStarted = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            writer.submitLocalInitiatedTime( 4 );
+            writer.submitLocalInitiatedTime( 6 );
+            writer.submitLocalCompletedTime( 4 );
+
+            // When
+            // GCT is 4, dependency time is 5
+            Future<SpinnerCheck.SpinnerCheckResult> result = executor.submit(
+                    new Callable<SpinnerCheck.SpinnerCheckResult>()
+                    {
+                        @Override
+                        public SpinnerCheck.SpinnerCheckResult call()
+                        {
+                            checkStarted.countDown();
+                            return gctDependencyCheck.doCheck( operation );
+                        }
+                    } );
+            // executor thread may start late, blocked duration is only known to include sleep once check started
+            checkStarted.await();
+            Thread.sleep( 50 );
+            writer.submitLocalCompletedTime( 6 );
+            writer.submitLocalInitiatedTime( 7 );
+
+            // Then
+            // the only check blocked, then passed well within its timeout
+            assertThat( result.get( 10, TimeUnit.SECONDS ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+            assertThat( metricsService.gctBlockedCount, is( 1 ) );
+            assertThat( metricsService.gctBlockedDurationAsNano >= TimeUnit.MILLISECONDS.toNanos( 50 ), is( true ) );
+            assertThat( metricsService.gctBlockedDurationAsNano < TimeUnit.MILLISECONDS.toNanos(
+                    GctDependencyCheck.WAIT_TIMEOUT_AS_MILLI ), is( true ) );
+            assertThat( errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+            completionTimeService.shutdown();
+        }
+    }
+
+    private static class GctBlockedRecordingMetricsService extends DummyCountingMetricsService
+    {
+        private volatile int gctBlockedCount = 0;
+        private volatile long gctBlockedDurationAsNano = 0;
+
+        @Override
+        public void submitGctBlocked( long blockedDurationAsNano ) throws MetricsCollectionException
+        {
+            gctBlockedCount++;
+            gctBlockedDurationAsNano += blockedDurationAsNano;
+        }
+    }
 }
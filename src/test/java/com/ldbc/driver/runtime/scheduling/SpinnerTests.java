@@ -155,6 +155,51 @@ public class SpinnerTests
         spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
     }
 
+    @Test
+    public void shouldPassWhenNoCheckAndStartTimeArrivesWithHybridWaitStrategy() throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 0l;
+        Spinner spinner = new Spinner(
+                timeSource,
+                spinnerSleepDuration,
+                ignoreScheduledStartTime,
+                Spinner.WaitStrategy.HYBRID
+        );
+
+        long scheduledStartTime = 10l;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+
+        SpinningThread spinningThread = new SpinningThread( spinner, operation );
+
+        // When
+        spinningThread.start();
+
+        // Then
+        // should not return before start time
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime - 1 );
+
+        // should not return before start time
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime );
+
+        // should return when start time reached
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( true ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+    }
+
     private static class SpinningThread extends Thread
     {
         private final Spinner spinner;
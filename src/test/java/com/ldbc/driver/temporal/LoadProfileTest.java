@@ -0,0 +1,137 @@
+package com.ldbc.driver.temporal;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LoadProfileTest
+{
+    private static final long NANO_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    @Test
+    public void constantProfileShouldEqualFixedTimeCompressionRatio()
+    {
+        // Given
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "step:1:10" );
+        double timeCompressionRatio = 0.5;
+
+        // When/Then
+        for ( long workloadOffsetAsMilli = 0; workloadOffsetAsMilli < 100_000; workloadOffsetAsMilli += 999 )
+        {
+            assertThat( loadProfile.runOffsetAsNano( workloadOffsetAsMilli, timeCompressionRatio ),
+                    is( Math.round( workloadOffsetAsMilli * timeCompressionRatio * NANO_PER_MILLI ) ) );
+        }
+    }
+
+    @Test
+    public void stepProfileShouldHoldEachFactorForStepDurationThenHoldLastFactor()
+    {
+        // Given
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "step:1,0.5:10" );
+
+        // When/Then
+        // first 10 seconds of run: factor 1, spans 10 seconds of workload
+        assertThat( loadProfile.runOffsetAsNano( 4_000, 1.0 ), is( 4_000 * NANO_PER_MILLI ) );
+        assertThat( loadProfile.runOffsetAsNano( 10_000, 1.0 ), is( 10_000 * NANO_PER_MILLI ) );
+        // next 10 seconds of run: factor 0.5, spans 20 seconds of workload
+        assertThat( loadProfile.runOffsetAsNano( 20_000, 1.0 ), is( 15_000 * NANO_PER_MILLI ) );
+        assertThat( loadProfile.runOffsetAsNano( 30_000, 1.0 ), is( 20_000 * NANO_PER_MILLI ) );
+        // beyond last step: factor 0.5 is held
+        assertThat( loadProfile.runOffsetAsNano( 50_000, 1.0 ), is( 30_000 * NANO_PER_MILLI ) );
+        // durations are run time, so with ratio 0.1 first step spans 100 seconds of workload
+        assertThat( loadProfile.runOffsetAsNano( 100_000, 0.1 ), is( 10_000 * NANO_PER_MILLI ) );
+        assertThat( loadProfile.runOffsetAsNano( 300_000, 0.1 ), is( 20_000 * NANO_PER_MILLI ) );
+    }
+
+    @Test
+    public void rampProfileShouldReachEndOfRampAfterRampDuration()
+    {
+        // Given
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "ramp:1:0.5:10" );
+        // workload time spanned by ramp: integral of 1/f(r) over 10 seconds of run, f(r) = 1 - 0.05 * r
+        long rampWorkloadDurationAsMilli = Math.round( 10_000 * Math.log( 2 ) / 0.5 );
+
+        // When
+        long rampEndAsNano = loadProfile.runOffsetAsNano( rampWorkloadDurationAsMilli, 1.0 );
+        long afterRampAsNano = loadProfile.runOffsetAsNano( rampWorkloadDurationAsMilli + 2_000, 1.0 );
+
+        // Then
+        assertThat( Math.abs( rampEndAsNano - 10_000 * NANO_PER_MILLI ) < NANO_PER_MILLI, is( true ) );
+        assertThat( Math.abs( afterRampAsNano - rampEndAsNano - 1_000 * NANO_PER_MILLI ) < NANO_PER_MILLI,
+                is( true ) );
+    }
+
+    @Test
+    public void spikeProfileShouldReturnToBaseFactorAfterSpike()
+    {
+        // Given
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "spike:1:0.1:10:1" );
+
+        // When/Then
+        assertThat( loadProfile.runOffsetAsNano( 10_000, 1.0 ), is( 10_000 * NANO_PER_MILLI ) );
+        // spike: 1 second of run spans 10 seconds of workload
+        assertThat( loadProfile.runOffsetAsNano( 20_000, 1.0 ), is( 11_000 * NANO_PER_MILLI ) );
+        assertThat( loadProfile.runOffsetAsNano( 25_000, 1.0 ), is( 16_000 * NANO_PER_MILLI ) );
+    }
+
+    @Test
+    public void sineProfileShouldRepeatEveryPeriod()
+    {
+        // Given
+        LoadProfile loadProfile = LoadProfile.fromCommandlineString( "sine:0.25:1:8" );
+        long periodAsNano = 8_000 * NANO_PER_MILLI;
+        long workloadTimeOfFirstPeriodAsMilli = 0;
+        while ( loadProfile.runOffsetAsNano( workloadTimeOfFirstPeriodAsMilli + 1, 1.0 ) <= periodAsNano )
+        {
+            workloadTimeOfFirstPeriodAsMilli++;
+        }
+
+        // When
+        long firstOffsetAsNano = loadProfile.runOffsetAsNano( 1_000, 1.0 );
+        long secondOffsetAsNano = loadProfile.runOffsetAsNano( 1_000 + workloadTimeOfFirstPeriodAsMilli, 1.0 );
+
+        // Then
+        assertThat( Math.abs( secondOffsetAsNano - firstOffsetAsNano - periodAsNano ) < NANO_PER_MILLI, is( true ) );
+    }
+
+    @Test
+    public void everyProfileShouldBeMonotonic()
+    {
+        for ( String profile : new String[]{"step:1,0.5,2:3", "ramp:2:0.1:5", "ramp:0.1:2:5", "spike:1:0.2:2:2",
+                                           "sine:0.1:2:4"} )
+        {
+            // Given
+            LoadProfile loadProfile = LoadProfile.fromCommandlineString( profile );
+            long previousAsNano = -1;
+
+            // When/Then
+            for ( long workloadOffsetAsMilli = 0; workloadOffsetAsMilli < 60_000; workloadOffsetAsMilli += 7 )
+            {
+                long runOffsetAsNano = loadProfile.runOffsetAsNano( workloadOffsetAsMilli, 1.0 );
+                assertThat( profile + " at " + workloadOffsetAsMilli, runOffsetAsNano > previousAsNano, is( true ) );
+                previousAsNano = runOffsetAsNano;
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidProfiles()
+    {
+        for ( String profile : new String[]{"", "flat:1:10", "step:1", "ramp:1:0:10", "ramp:1:x:10", "step:1:-1"} )
+        {
+            boolean exceptionThrown = false;
+            try
+            {
+                LoadProfile.fromCommandlineString( profile );
+            }
+            catch ( TemporalException e )
+            {
+                exceptionThrown = true;
+            }
+            assertThat( profile, exceptionThrown, is( true ) );
+        }
+    }
+}
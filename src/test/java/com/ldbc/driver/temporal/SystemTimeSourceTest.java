@@ -0,0 +1,83 @@
+package com.ldbc.driver.temporal;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class SystemTimeSourceTest {
+    @Test
+    public void shouldKeepNanoTimeInAgreementWithMilliTime() throws InterruptedException {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+
+        for (int i = 0; i < 100; i++) {
+            // When
+            long beforeAsMilli = timeSource.nowAsMilli();
+            long nowAsMilli = TimeUnit.NANOSECONDS.toMillis(timeSource.nowAsNano());
+            long afterAsMilli = timeSource.nowAsMilli();
+
+            // Then
+            assertThat(beforeAsMilli - 2, lessThanOrEqualTo(nowAsMilli));
+            assertThat(nowAsMilli, lessThanOrEqualTo(afterAsMilli + 2));
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void shouldAnchorNanoTimeToWallClockWithSubMillisecondAccuracy() {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        int sampleCount = 10000;
+
+        // When
+        int behindWallClockCount = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            long beforeAsMilli = timeSource.nowAsMilli();
+            long nowAsMilli = TimeUnit.NANOSECONDS.toMillis(timeSource.nowAsNano());
+            if (nowAsMilli < beforeAsMilli) {
+                behindWallClockCount++;
+            }
+        }
+
+        // Then
+        // anchored up to a millisecond late, nano time is behind wall clock in about half of the samples, on average
+        assertThat(behindWallClockCount, lessThanOrEqualTo(sampleCount / 10));
+    }
+
+    @Test
+    public void shouldNeverMoveNanoTimeBackwardWhenReAnchoring() {
+        // Given
+        AdjustableWallClockTimeSource timeSource = new AdjustableWallClockTimeSource();
+        long beforeAdjustmentAsNano = timeSource.nowAsNano();
+
+        // When
+        timeSource.offsetAsMilli = -50;
+        long afterAdjustmentAsNano = timeSource.nowAsNano();
+
+        // Then
+        assertThat(beforeAdjustmentAsNano, lessThanOrEqualTo(afterAdjustmentAsNano));
+        long previousAsNano = afterAdjustmentAsNano;
+        long endAsMilli = System.currentTimeMillis() + 200;
+        while (System.currentTimeMillis() < endAsMilli) {
+            long nowAsNano = timeSource.nowAsNano();
+            assertThat(previousAsNano, lessThanOrEqualTo(nowAsNano));
+            previousAsNano = nowAsNano;
+        }
+        // new anchor has caught up, nano time agrees with adjusted wall clock again
+        long nowAsMilli = TimeUnit.NANOSECONDS.toMillis(timeSource.nowAsNano());
+        assertThat(nowAsMilli, lessThanOrEqualTo(timeSource.nowAsMilli() + 2));
+        assertThat(timeSource.nowAsMilli() - 2, lessThanOrEqualTo(nowAsMilli));
+    }
+
+    private static class AdjustableWallClockTimeSource extends SystemTimeSource {
+        private volatile long offsetAsMilli = 0;
+
+        @Override
+        long wallClockAsMilli() {
+            return System.currentTimeMillis() + offsetAsMilli;
+        }
+    }
+}
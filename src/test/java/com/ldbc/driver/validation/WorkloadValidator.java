@@ -6,6 +6,7 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
@@ -90,9 +91,26 @@ public class WorkloadValidator
         }
 
         operationCount = 0;
-        while ( operationsPass1.hasNext() )
+        while ( true )
         {
-            Operation operation = operationsPass1.next();
+            // streams are offset and limited while they are read, so invalid operations may only be found here
+            Operation operation;
+            try
+            {
+                if ( false == operationsPass1.hasNext() )
+                {
+                    break;
+                }
+                operation = operationsPass1.next();
+            }
+            catch ( GeneratorException e )
+            {
+                return new WorkloadValidationResult(
+                        ResultType.UNEXPECTED,
+                        format( "Error retrieving operations from workload\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) )
+                );
+            }
             operationCount++;
 
             // Operation has time stamp
@@ -1,11 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.PeekingIterator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -20,7 +25,10 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -853,4 +861,93 @@ public class InteractiveWorkloadTest extends WorkloadTest
         // either interleaves or frequencies need to be provided
         assertTrue( exceptionThrown );
     }
+
+    @Test
+    public void shouldSplitOperationsAcrossPartitionsSuchThatTogetherTheyAreTheUnpartitionedWorkload() throws Exception
+    {
+        // Given
+        int partitionCount = 3;
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        long lastTimeStampAsMilli;
+        try ( Workload workload = partitionWorkload( 0, 1 ) )
+        {
+            Iterator<Operation> operations = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                    gf, workload.streams( gf, false ) );
+            lastTimeStampAsMilli = Iterators.get( operations, 5000 ).timeStamp();
+        }
+        List<String> unpartitionedOperations = operationsUntil( partitionWorkload( 0, 1 ), lastTimeStampAsMilli );
+
+        // When
+        List<String> partitionedOperations = new ArrayList<>();
+        for ( int partitionId = 0; partitionId < partitionCount; partitionId++ )
+        {
+            List<String> partitionOperations =
+                    operationsUntil( partitionWorkload( partitionId, partitionCount ), lastTimeStampAsMilli );
+            assertTrue( partitionOperations.size() < unpartitionedOperations.size() );
+            partitionedOperations.addAll( partitionOperations );
+        }
+
+        // Then
+        Collections.sort( unpartitionedOperations );
+        Collections.sort( partitionedOperations );
+        assertThat( partitionedOperations, equalTo( unpartitionedOperations ) );
+    }
+
+    private Workload partitionWorkload( int partitionId, int partitionCount ) throws Exception
+    {
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                1
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "1.0"
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATE_INTERLEAVE,
+                "10"
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                // partitioned workloads require peers, but workload streams are created without running the driver
+                ConsoleAndFileDriverConfiguration.PEER_ADDRESS_ARG,
+                "localhost:9999"
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARTITION_ID,
+                Integer.toString( partitionId )
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARTITION_COUNT,
+                Integer.toString( partitionCount )
+        );
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        return workload;
+    }
+
+    private List<String> operationsUntil( Workload workload, long lastTimeStampAsMilli ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<String> operations = new ArrayList<>();
+        try
+        {
+            PeekingIterator<Operation> operationStream = Iterators.peekingIterator(
+                    WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                            gf, workload.streams( gf, false ) ) );
+            while ( operationStream.hasNext() && operationStream.peek().timeStamp() <= lastTimeStampAsMilli )
+            {
+                Operation operation = operationStream.next();
+                operations.add( operation.timeStamp() + " " + operation.scheduledStartTimeAsMilli() + " " +
+                                operation.toString() );
+            }
+        }
+        finally
+        {
+            workload.close();
+        }
+        return operations;
+    }
 }
@@ -1,21 +1,37 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
+import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.csv.TimedCsvFileIndex;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.testutils.TestUtils;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -23,6 +39,8 @@ import static org.junit.Assert.assertThat;
 
 public class InteractiveWriteEventStreamReaderTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldParseAllEventTypesWithWriteEventStreamReaderRegex_DATE() throws IOException, ParseException {
@@ -45,6 +63,200 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderBinary_DATE() throws IOException, ParseException, WorkloadException {
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        File binaryFile = temporaryFolder.newFile();
+        WriteEventStreamWriterBinary.write(
+                WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|'), binaryFile);
+        charSeeker.close();
+        WriteEventStreamReaderBinary writeEventStreamReader = new WriteEventStreamReaderBinary(binaryFile);
+        doShouldParseAllEventTypes(writeEventStreamReader);
+        writeEventStreamReader.close();
+    }
+
+    @Test
+    public void shouldReadSameOperationsFromCompiledUpdateStreamsAsFromCsv() throws IOException, WorkloadException {
+        for (String updateStreamFileName : new String[]{"updateStream_0_0_forum.csv", "updateStream_0_0_person.csv"}) {
+            // Given
+            File updateStreamFile = TestUtils.getResource("/snb/interactive/" + updateStreamFileName);
+            File binaryFile = new File(temporaryFolder.getRoot(),
+                    WriteEventStreamWriterBinary.binaryFileFor(updateStreamFile).getName());
+
+            // When
+            long operationCount = WriteEventStreamWriterBinary.compile(updateStreamFile, binaryFile);
+
+            // Then
+            CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(
+                    new InputStreamReader(new FileInputStream(updateStreamFile), Charsets.UTF_8)));
+            Iterator<Operation> csvOperations =
+                    WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+            // small mapping, so records are read across many mappings
+            WriteEventStreamReaderBinary binaryOperations = new WriteEventStreamReaderBinary(binaryFile, 4096);
+            long count = 0;
+            while (csvOperations.hasNext()) {
+                Operation csvOperation = csvOperations.next();
+                assertThat(binaryOperations.hasNext(), is(true));
+                Operation binaryOperation = binaryOperations.next();
+                assertThat(binaryOperation, equalTo(csvOperation));
+                assertThat(binaryOperation.scheduledStartTimeAsMilli(), is(csvOperation.scheduledStartTimeAsMilli()));
+                assertThat(binaryOperation.timeStamp(), is(csvOperation.timeStamp()));
+                assertThat(binaryOperation.dependencyTimeStamp(), is(csvOperation.dependencyTimeStamp()));
+                count++;
+            }
+            assertThat(binaryOperations.hasNext(), is(false));
+            assertThat(count, is(operationCount));
+            charSeeker.close();
+            binaryOperations.close();
+        }
+    }
+
+    @Test
+    public void shouldNotBeCompiledFromUpdateStreamThatChangedSinceCompile() throws IOException, WorkloadException {
+        // Given
+        File updateStreamFile = temporaryFolder.newFile("updateStream_0_0_forum.csv");
+        Files.copy(TestUtils.getResource("/snb/interactive/updateStream_0_0_forum.csv").toPath(),
+                updateStreamFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        File binaryFile = WriteEventStreamWriterBinary.binaryFileFor(updateStreamFile);
+        WriteEventStreamWriterBinary.compile(updateStreamFile, binaryFile);
+
+        // When
+        WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary(binaryFile);
+        boolean compiledFromBeforeChange = binaryReader.isCompiledFrom(updateStreamFile);
+        binaryReader.close();
+        assertThat(updateStreamFile.setLastModified(updateStreamFile.lastModified() - 10000), is(true));
+        binaryReader = new WriteEventStreamReaderBinary(binaryFile);
+        boolean compiledFromAfterChange = binaryReader.isCompiledFrom(updateStreamFile);
+        binaryReader.close();
+
+        // Then
+        assertThat(compiledFromBeforeChange, is(true));
+        assertThat(compiledFromAfterChange, is(false));
+        // nothing but csv file and binary file, temporary file was moved to binary file
+        assertThat(temporaryFolder.getRoot().list().length, is(2));
+    }
+
+    @Test
+    public void shouldNotBeCompiledFromAnyUpdateStreamWhenWrittenWithoutSource() throws IOException, WorkloadException {
+        // Given
+        File updateStreamFile = TestUtils.getResource("/snb/interactive/updateStream_0_0_forum.csv");
+        File binaryFile = temporaryFolder.newFile();
+        WriteEventStreamWriterBinary.write(new ArrayList<Operation>().iterator(), binaryFile);
+
+        // When
+        WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary(binaryFile);
+
+        // Then
+        assertThat(binaryReader.isCompiledFrom(updateStreamFile), is(false));
+        assertThat(binaryReader.hasNext(), is(false));
+        binaryReader.close();
+    }
+
+    @Test
+    public void shouldFailWithGeneratorExceptionOnTruncatedBinaryFile() throws IOException, WorkloadException {
+        // Given
+        File updateStreamFile = TestUtils.getResource("/snb/interactive/updateStream_0_0_forum.csv");
+        File binaryFile = temporaryFolder.newFile();
+        WriteEventStreamWriterBinary.compile(updateStreamFile, binaryFile);
+        try (RandomAccessFile file = new RandomAccessFile(binaryFile, "rw")) {
+            file.setLength(file.length() - 10);
+        }
+        WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary(binaryFile, 4096);
+
+        // When
+        GeneratorException exception = null;
+        try {
+            while (binaryReader.hasNext()) {
+                binaryReader.next();
+            }
+        } catch (GeneratorException e) {
+            exception = e;
+        } finally {
+            binaryReader.close();
+        }
+
+        // Then
+        assertThat(exception != null, is(true));
+    }
+
+    @Test
+    public void shouldReadSameOperationsInSameOrderWithParallelReaderAsWithCharSeeker() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        String[] updateStreamFileNames = new String[]{"updateStream_0_0_forum.csv", "updateStream_0_0_person.csv"};
+        try {
+            for (String updateStreamFileName : updateStreamFileNames) {
+                File updateStreamFile = TestUtils.getResource("/snb/interactive/" + updateStreamFileName);
+                // small chunks, so stream is split into many chunks, and chunk boundaries fall within lines
+                for (int chunkSize : new int[]{1, 1000, 64 * 1024, ParallelWriteEventStreamReader.DEFAULT_CHUNK_SIZE}) {
+                    // Given
+                    CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(
+                            new InputStreamReader(new FileInputStream(updateStreamFile), Charsets.UTF_8)));
+                    Iterator<Operation> expectedOperations =
+                            WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+
+                    // When
+                    ParallelWriteEventStreamReader parallelOperations =
+                            new ParallelWriteEventStreamReader(updateStreamFile, executor, chunkSize, 5);
+
+                    // Then
+                    long count = 0;
+                    while (expectedOperations.hasNext()) {
+                        Operation expectedOperation = expectedOperations.next();
+                        assertThat(parallelOperations.hasNext(), is(true));
+                        Operation operation = parallelOperations.next();
+                        assertThat(operation, equalTo(expectedOperation));
+                        assertThat(operation.timeStamp(), is(expectedOperation.timeStamp()));
+                        assertThat(operation.dependencyTimeStamp(), is(expectedOperation.dependencyTimeStamp()));
+                        count++;
+                    }
+                    assertThat(parallelOperations.hasNext(), is(false));
+                    assertThat(count > 0, is(true));
+                    charSeeker.close();
+                    parallelOperations.close();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldSeekToCheckpointsOfUpdateStreamIndex() throws IOException, WorkloadException {
+        // Given
+        File updateStreamFile = TestUtils.getResource("/snb/interactive/updateStream_0_0_forum.csv");
+        TimedCsvFileIndex index = TimedCsvFileIndex.create(updateStreamFile, 1000, '|');
+        List<Operation> operations = new ArrayList<>();
+        try (SeekableWriteEventStream stream = new SeekableWriteEventStream(updateStreamFile, index, false, 1024)) {
+            while (stream.hasNext()) {
+                operations.add(stream.next());
+            }
+        }
+        assertThat(index.rowCount(), is((long) operations.size()));
+        assertThat(index.firstTimeStamp(), is(operations.get(0).timeStamp()));
+        assertThat(index.lastTimeStamp(), is(operations.get(operations.size() - 1).timeStamp()));
+
+        for (boolean threadAhead : new boolean[]{false, true}) {
+            try (SeekableWriteEventStream stream =
+                         new SeekableWriteEventStream(updateStreamFile, index, threadAhead, 1024)) {
+                // When
+                stream.next();
+                stream.seekToCheckpoint(3);
+
+                // Then
+                assertThat(stream.operationOffset(), is(3000l));
+                assertThat(stream.next(), equalTo(operations.get(3000)));
+                stream.seekToCheckpoint(index.checkpointCount() - 1);
+                int remaining = 0;
+                while (stream.hasNext()) {
+                    assertThat(stream.next(), equalTo(operations.get((int) stream.operationOffset() - 1)));
+                    remaining++;
+                }
+                assertThat((long) remaining, is(index.rowCount() - (index.checkpointCount() - 1) * 1000l));
+            }
+        }
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;
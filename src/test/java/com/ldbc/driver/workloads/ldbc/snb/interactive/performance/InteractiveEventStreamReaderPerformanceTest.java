@@ -4,8 +4,10 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedFileReadable;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
@@ -1104,6 +1106,61 @@ public class InteractiveEventStreamReaderPerformanceTest
         }
     }
 
+    @Ignore
+    @Test
+    public void forumCsvUpdateStreamReadingMappedVersusThreadAheadPerformanceTest() throws IOException
+    {
+        File parentStreamsDir = new File( "/Users/alexaverbuch/hadoopTempDir/output/social_network/" );
+        File forumUpdateStream = new File( parentStreamsDir, "snb/interactive/updateStream_0_0_forum.csv" );
+
+        {
+            // warm up file system
+            SimpleCsvFileReader simpleCsvFileReader = new SimpleCsvFileReader( forumUpdateStream,
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+            readingStreamPerformanceTest( simpleCsvFileReader );
+            simpleCsvFileReader.close();
+        }
+
+        int repetitions = 5;
+        int MB = 1024 * 1024;
+        List<Integer> bufferSizes = Lists.newArrayList( 1 * MB, 4 * MB, 16 * MB );
+        for ( int bufferSize : bufferSizes )
+        {
+            for ( boolean mapped : new boolean[]{false, true} )
+            {
+                long lines = 0;
+                long startTimeAsMilli = timeSource.nowAsMilli();
+                for ( int i = 0; i < repetitions; i++ )
+                {
+                    CharReadable readable = (mapped)
+                                            ? Readables.mappedFile( forumUpdateStream )
+                                            : ThreadAheadReadable.threadAhead( Readables.wrap( new InputStreamReader(
+                                                    new FileInputStream( forumUpdateStream ), Charsets.UTF_8 ) ),
+                                                    bufferSize );
+                    CharSeeker charSeeker = new BufferedCharSeeker( readable, bufferSize );
+                    Iterator<Operation> writeEventStreamReader =
+                            WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+                    lines += readingStreamPerformanceTest( writeEventStreamReader );
+                    charSeeker.close();
+                }
+                long endTimeAsMilli = timeSource.nowAsMilli();
+                long durationAsMilli = (endTimeAsMilli - startTimeAsMilli) / repetitions;
+                lines = lines / repetitions;
+
+                System.out.println(
+                        format( "%s took %s to read %s line: %s lines/s",
+                                WriteEventStreamReaderCharSeeker.class.getSimpleName() + "-" +
+                                ((mapped) ? MappedFileReadable.class.getSimpleName()
+                                          : ThreadAheadReadable.class.getSimpleName()) + "-" + bufferSize,
+                                TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                                numberFormatter.format( lines ),
+                                numberFormatter.format( 1000 * (double) lines / durationAsMilli )
+                        )
+                );
+            }
+        }
+    }
+
     public long readingStreamPerformanceTest( Iterator parser ) throws FileNotFoundException
     {
         long lines = 0;
@@ -13,10 +13,16 @@ import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeServiceType;
+import com.ldbc.driver.runtime.executor.OperationExecutorPartition;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.LoadProfile;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.temporal.TimeSource;
@@ -124,6 +130,22 @@ public class InteractiveWorkloadPerformanceTest
             boolean ignoreScheduledStartTimes = true;
             long warmupCount = 0;
             long skipCount = 0;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -144,7 +166,21 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -290,6 +326,22 @@ public class InteractiveWorkloadPerformanceTest
             boolean ignoreScheduledStartTimes = false;
             long warmupCount = 0;
             long skipCount = 0;
+            Spinner.WaitStrategy spinnerWaitStrategy = Spinner.WaitStrategy.SLEEP;
+            OperationExecutorType operationExecutorType = OperationExecutorType.THREAD_POOL;
+            int maxOutstandingOperations = ConsoleAndFileDriverConfiguration.MAX_OUTSTANDING_OPERATIONS_DEFAULT;
+            int executorQueueSize = ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_SIZE_DEFAULT;
+            DefaultQueues.BoundedQueueType executorQueueType =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_DEFAULT;
+            int batchSize = ConsoleAndFileDriverConfiguration.BATCH_SIZE_DEFAULT;
+            long batchMaxWaitAsMilli = ConsoleAndFileDriverConfiguration.BATCH_MAX_WAIT_DEFAULT;
+            List<OperationExecutorPartition> executorPartitions =
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_PARTITIONS_DEFAULT;
+            int throughputSearchProbes = 0;
+            LoadProfile loadProfile = null;
+            boolean compileUpdateStreams = false;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.THREADED_QUEUED;
+            String peerAddress = null;
+            long maxBufferedOperations = ConsoleAndFileDriverConfiguration.MAX_BUFFERED_OPERATIONS_DEFAULT;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -310,7 +362,21 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    spinnerWaitStrategy,
+                    operationExecutorType,
+                    maxOutstandingOperations,
+                    executorQueueSize,
+                    executorQueueType,
+                    batchSize,
+                    batchMaxWaitAsMilli,
+                    executorPartitions,
+                    throughputSearchProbes,
+                    loadProfile,
+                    compileUpdateStreams,
+                    completionTimeServiceType,
+                    peerAddress,
+                    maxBufferedOperations
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration